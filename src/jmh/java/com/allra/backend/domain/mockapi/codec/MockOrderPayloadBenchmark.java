@@ -0,0 +1,83 @@
+package com.allra.backend.domain.mockapi.codec;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.allra.backend.domain.mockapi.dto.MockApiOrderDto;
+import com.allra.backend.domain.product.entity.ProductEntity;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * ✅ MockOrderPayloadBenchmark (./gradlew jmh)
+ *
+ * 주문 생성 요청 1건(상품 3개)의 직렬화 + 역직렬화 비용 비교
+ * - legacyJson : 기존 방식 (ProductEntity 목록을 JSON 으로 전송)
+ * - leanJson   : MockOrderLineItem(productId, quantity, unitPrice) 목록, JSON
+ * - leanCbor   : MockOrderLineItem 목록, CBOR
+ * 본문 크기(bytes)는 setUp 에서 한 번 출력하고, 할당량은 gc 프로파일러(gc.alloc.rate.norm)로 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MockOrderPayloadBenchmark {
+
+    /** 변경 전 주문 생성 요청 형태 (비교용) */
+    public record LegacyOrderCreateRequest(Long userId, List<ProductEntity> products, Long amount) {
+    }
+
+    private MockPgCodec codec;
+    private LegacyOrderCreateRequest legacy;
+    private MockApiOrderDto.MockOrderCreateRequestDto lean;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        codec = new MockPgCodec(new ObjectMapper().findAndRegisterModules());
+
+        LocalDateTime now = LocalDateTime.now();
+        legacy = new LegacyOrderCreateRequest(1L, List.of(
+                ProductEntity.builder().id(1L).name("상품 A").brand("브랜드").category("식품").price(10000).stock(100).soldOut(false).createdAt(now).build(),
+                ProductEntity.builder().id(2L).name("상품 B").brand("브랜드").category("식품").price(20000).stock(100).soldOut(false).createdAt(now).build(),
+                ProductEntity.builder().id(3L).name("상품 C").brand("브랜드").category("생활").price(5000).stock(100).soldOut(false).createdAt(now).build()),
+                35000L);
+        lean = new MockApiOrderDto.MockOrderCreateRequestDto(1L, List.of(
+                new MockApiOrderDto.MockOrderLineItem(1L, 1, 10000),
+                new MockApiOrderDto.MockOrderLineItem(2L, 1, 20000),
+                new MockApiOrderDto.MockOrderLineItem(3L, 1, 5000)),
+                35000L);
+
+        System.out.printf("%n[payload bytes] legacyJson=%d, leanJson=%d, leanCbor=%d%n",
+                codec.write(MockPgWireFormat.JSON, legacy).length,
+                codec.write(MockPgWireFormat.JSON, lean).length,
+                codec.write(MockPgWireFormat.CBOR, lean).length);
+    }
+
+    @Benchmark
+    public LegacyOrderCreateRequest legacyJson() throws IOException {
+        return roundTrip(MockPgWireFormat.JSON, legacy, LegacyOrderCreateRequest.class);
+    }
+
+    @Benchmark
+    public MockApiOrderDto.MockOrderCreateRequestDto leanJson() throws IOException {
+        return roundTrip(MockPgWireFormat.JSON, lean, MockApiOrderDto.MockOrderCreateRequestDto.class);
+    }
+
+    @Benchmark
+    public MockApiOrderDto.MockOrderCreateRequestDto leanCbor() throws IOException {
+        return roundTrip(MockPgWireFormat.CBOR, lean, MockApiOrderDto.MockOrderCreateRequestDto.class);
+    }
+
+    private <T> T roundTrip(MockPgWireFormat format, T value, Class<T> type) throws IOException {
+        return codec.read(format, codec.write(format, value), type);
+    }
+}
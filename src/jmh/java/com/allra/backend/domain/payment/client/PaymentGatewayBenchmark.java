@@ -0,0 +1,106 @@
+package com.allra.backend.domain.payment.client;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.allra.backend.domain.mockapi.codec.MockPgCodec;
+import com.allra.backend.domain.mockapi.dto.MockApiOrderDto;
+import com.allra.backend.domain.mockapi.dto.MockApiPaymentDto;
+import com.allra.backend.domain.mockapi.dto.MockPgProfileDto;
+import com.allra.backend.domain.mockapi.server.MockPgServer;
+import com.allra.backend.domain.mockapi.service.MockApiService;
+import com.allra.backend.domain.mockapi.service.MockPaymentCompletionScheduler;
+import com.allra.backend.domain.mockapi.service.MockPaymentStatusStore;
+import com.allra.backend.domain.mockapi.service.MockPgCallbackClient;
+import com.allra.backend.domain.mockapi.service.MockPgProfileService;
+import com.allra.backend.global.id.SnowflakeIdGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+
+/**
+ * ✅ PaymentGatewayBenchmark (./gradlew jmh)
+ *
+ * 체크아웃 1건(주문 생성 → 결제 요청 → 결과 조회)의 PG 전송 비용 비교
+ * - http      : HttpPaymentGatewayClient → 루프백 HTTP → MockPgServer(Reactor Netty) → MockApiService
+ * - inProcess : InProcessPaymentGatewayClient → MockApiService 직접 호출
+ * 두 경로 모두 같은 MockApiService 를 사용하고, Mock PG 응답 지연은 0 으로 둔다.
+ * 지연은 평균 / 분위수(SampleTime), 할당량은 gc 프로파일러의 gc.alloc.rate.norm (B/op) 으로 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PaymentGatewayBenchmark {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private MockPaymentCompletionScheduler completionScheduler;
+    private MockPgServer server;
+    private PaymentGatewayClient http;
+    private PaymentGatewayClient inProcess;
+    private List<MockApiOrderDto.MockOrderLineItem> items;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        MockPgProfileService profileService = new MockPgProfileService("fast");
+        profileService.apply(MockPgProfileDto.Profile.builder()
+                .name("benchmark")
+                .responseLatency(MockPgProfileDto.Latency.fixed(0))
+                .completionLatency(MockPgProfileDto.Latency.fixed(0))
+                .build());
+        completionScheduler = new MockPaymentCompletionScheduler(Duration.ofMillis(10), 512, 0);
+        MockPaymentStatusStore statusStore = new MockPaymentStatusStore(
+                200_000, Duration.ofMinutes(1), Duration.ofMinutes(10), new SimpleMeterRegistry());
+        MockApiService mockApiService = new MockApiService(
+                completionScheduler, profileService, statusStore, new SnowflakeIdGenerator(1),
+                MockPgCallbackClient.disabled());
+
+        server = new MockPgServer(mockApiService, profileService, new MockPgCodec(new ObjectMapper().findAndRegisterModules()),
+                Validation.buildDefaultValidatorFactory().getValidator(), 0, 0, 8192, Duration.ofSeconds(60));
+        int port = server.start().port();
+
+        http = new HttpPaymentGatewayClient(WebClient.builder().baseUrl("http://localhost:" + port).build());
+        inProcess = new InProcessPaymentGatewayClient(mockApiService);
+
+        items = List.of(
+                new MockApiOrderDto.MockOrderLineItem(1L, 1, 10000),
+                new MockApiOrderDto.MockOrderLineItem(2L, 1, 20000),
+                new MockApiOrderDto.MockOrderLineItem(3L, 1, 5000));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.stop();
+        completionScheduler.stop();
+    }
+
+    @Benchmark
+    public MockApiPaymentDto.MockPayResponse http() {
+        return checkout(http);
+    }
+
+    @Benchmark
+    public MockApiPaymentDto.MockPayResponse inProcess() {
+        return checkout(inProcess);
+    }
+
+    private MockApiPaymentDto.MockPayResponse checkout(PaymentGatewayClient client) {
+        return client.createOrder(new MockApiOrderDto.MockOrderCreateRequestDto(1L, items, 35000L))
+                .flatMap(order -> client.requestPayment(new MockApiPaymentDto.MockPayRequest(order.getOrderId(), 35000))
+                        .then(client.getPaymentResult(order.getOrderId())))
+                .block(TIMEOUT);
+    }
+}
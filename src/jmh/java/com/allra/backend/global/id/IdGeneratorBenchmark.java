@@ -0,0 +1,58 @@
+package com.allra.backend.global.id;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * ✅ IdGeneratorBenchmark (./gradlew jmh)
+ *
+ * 주문번호 생성 처리량 비교 (build.gradle 의 jmh.threads 만큼 동시 실행)
+ * - legacyOrderId    : 기존 방식 (매번 DateTimeFormatter 생성 + Math.random 6자리)
+ * - timeOrdered*     : SnowflakeIdGenerator
+ * - monotonic*       : MonotonicIdGenerator
+ * 할당량은 -prof gc 옵션으로 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IdGeneratorBenchmark {
+
+    private final IdGenerator timeOrdered = new SnowflakeIdGenerator(1);
+    private final IdGenerator monotonic = new MonotonicIdGenerator(1);
+
+    @Benchmark
+    public String legacyOrderId() {
+        String date = LocalDateTime.now()
+                .format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
+        int random = (int) (Math.random() * 900000) + 100000;
+        return "ORD_" + date + "_" + random;
+    }
+
+    @Benchmark
+    public long timeOrderedId() {
+        return timeOrdered.nextId();
+    }
+
+    @Benchmark
+    public String timeOrderedOrderId() {
+        return timeOrdered.next("ORD_");
+    }
+
+    @Benchmark
+    public long monotonicId() {
+        return monotonic.nextId();
+    }
+
+    @Benchmark
+    public String monotonicOrderId() {
+        return monotonic.next("ORD_");
+    }
+}
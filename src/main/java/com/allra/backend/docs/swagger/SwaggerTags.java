@@ -191,9 +191,13 @@ public final class SwaggerTags {
         • 사용자는 최소 1개 이상의 상품을 장바구니에 담아야 합니다.<br>
         • <b>장바구니 내 상품 중 하나라도 재고가 부족하면 주문 생성이 거부됩니다.</b><br><br>
 
+        🔁 <b>재시도 (Idempotency-Key)</b><br>
+        • <code>Idempotency-Key</code> 헤더를 보내면 같은 키의 재요청은 주문을 다시 만들지 않고 최초 응답을 반환합니다.<br>
+        • 최초 요청이 처리 중이면 <code>409 Conflict</code>, 다른 사용자 ID 에 같은 키를 쓰면 <code>409 Conflict</code><br><br>
+
         ✅ <b>요청 예시</b>: <code>POST /api/orders/{userId}</code><br>
         ✅ <b>응답 예시</b>:<pre>{
-        "orderId": "ORD_20251109_123456",
+        "orderId": "ORD_034JWT9G00C00",
         "status": "CREATED",
         "message": "Order created successfully"
         }</pre>
@@ -213,6 +217,10 @@ public final class SwaggerTags {
         ⚠️ <b>사전 조건</b><br>
         • 주문 상태가 <code>CREATED</code> 여야 결제 요청이 가능합니다.<br><br>
 
+        🔁 <b>재시도 (Idempotency-Key)</b><br>
+        • <code>Idempotency-Key</code> 헤더를 보내면 같은 키의 재요청은 PG 를 다시 호출하지 않고 최초 응답을 반환합니다.<br>
+        • 동시에 들어온 중복 요청도 한 번만 처리되며, 실패한 요청은 저장되지 않아 같은 키로 재시도할 수 있습니다.<br><br>
+
         ✅ <b>요청 예시</b>: <code>POST /api/orders/{orderId}/payment</code><br>
         ✅ <b>응답 예시</b>:<pre>{
         "status": "PENDING",
@@ -223,7 +231,9 @@ public final class SwaggerTags {
 
     public static final String ORDER_PAYMENT_RESULT_DESC = """
         🔄 <b>결제 결과 조회 (Check Payment Result)</b><br>
-        Mock 결제 API에서 현재 결제 상태를 조회하고 DB 상태를 동기화합니다.<br><br>
+        결제 결과는 PG 결과 통지(<code>/api/payments/callback</code>)로 반영되며,<br>
+        이 API는 통지가 누락된 경우를 위한 보조 경로입니다.<br>
+        이미 종료된 주문은 Mock API 호출 없이 DB 결과를 반환합니다.<br><br>
 
         ⚙️ <b>처리 절차</b><br>
         • Mock API(<code>/api/mock/payment/result/{orderId}</code>)를 호출<br>
@@ -244,20 +254,39 @@ public final class SwaggerTags {
         }</pre>
         """;
 
+    public static final String ORDER_PAYMENT_EVENTS_DESC = """
+        📡 <b>결제 결과 대기 (Payment Events, SSE)</b><br>
+        연결을 유지하다가 결제가 최종 상태가 되면 이벤트 1건을 보내고 종료합니다.<br><br>
+
+        ⚙️ <b>처리 절차</b><br>
+        • 이미 종료된 주문 → 즉시 현재 결과 전송<br>
+        • 진행 중인 주문 → <code>SUCCESS</code> / <code>FAILED</code> / <code>CANCELED</code> 로 바뀌는 즉시 전송<br>
+        • 대기 시간(<code>payment.events.timeout</code>) 초과 → <code>PENDING</code> 전송 후 종료 (재연결 필요)<br><br>
+
+        ✅ <b>요청 예시</b>: <code>GET /api/orders/{orderId}/payment/events</code> (Accept: text/event-stream)<br>
+        ✅ <b>응답 예시</b>:<pre>id:ORD_034R1408C0C00
+        event:payment-status
+        data:{"status":"SUCCESS","transactionId":"txn_034R1408C0C01","message":"..."}</pre>
+        """;
+
     public static final String ORDER_CANCEL_DESC = """
         ❌ <b>주문 취소 (Cancel Order)</b><br>
         특정 주문을 취소하고, 결제 로그에 <code>CANCELED</code> 상태를 기록합니다.<br><br>
 
         ⚙️ <b>처리 절차</b><br>
+        • 이미 종료된 주문(<code>SUCCESS / FAILED / CANCELED</code>)은 PG 호출 없이 <code>400</code> (P011)<br>
         • Mock API(<code>/api/mock/order/cancel</code>) 호출<br>
         • 현재 결제 상태에 따라 취소 가능 여부를 판별<br>
-        └ <code>PENDING / SUCCESS</code> → 취소 가능<br>
-        └ <code>FAILED</code> → 취소 불가<br>
-        • 취소 성공 시 PaymentLog에 <code>CANCELED</code> 로그 추가<br>
-        • OrderEntity 상태를 <code>CANCELED</code> 로 동기화<br><br>
+        └ <code>PENDING</code> → 취소 가능 (<code>CANCELED</code>)<br>
+        └ <code>FAILED</code> → 취소 불가 (<code>CANNOT_CANCEL</code>, 주문 상태 변경 없음)<br>
+        └ 결제 요청 전(<code>CREATED</code>) 주문 → PG 결제 없음(<code>NOT_FOUND</code>), 주문만 <code>CANCELED</code><br>
+        • 취소 요청 결과를 PaymentLog에 추가<br>
+        • PG 가 <code>CANCELED</code> 를 반환한 경우에만 주문을 <code>CANCELED</code> 로 종료하고 재고 예약 해제<br>
+        &nbsp;&nbsp;(주문을 잠근 뒤 반영하므로 그 사이 도착한 결제 결과와 겹치지 않음)<br><br>
 
         ⚠️ <b>사전 조건</b><br>
-        • 주문은 결제 완료(SUCCESS) 또는 진행 중(PENDING) 상태여야 취소 가능<br><br>
+        • 주문은 결제 전(CREATED) 또는 진행 중(PENDING) 상태여야 취소 가능<br>
+        • 결제 완료(SUCCESS) 주문의 취소(환불)는 지원하지 않음<br><br>
 
         ✅ <b>요청 예시</b>: <code>POST /api/orders/{orderId}/cancel</code><br>
         ✅ <b>응답 예시</b>:<pre>{
@@ -266,6 +295,26 @@ public final class SwaggerTags {
         }</pre>
         """;
 
+    public static final String ORDER_HISTORY_DESC = """
+        📜 <b>주문 내역 조회 (Order History)</b><br>
+        사용자의 주문을 최신순(<code>orderDate DESC, orderId DESC</code>)으로 <code>size</code> 건씩 조회합니다.<br><br>
+
+        ⚙️ <b>커서 페이지네이션</b><br>
+        • 첫 페이지는 <code>cursor</code> 없이 요청<br>
+        • 다음 페이지는 응답의 <code>cursorInfo.nextCursor</code> 를 <code>cursor</code> 로 전달<br>
+        • <code>hasNext = false</code> 이면 마지막 페이지 (<code>nextCursor = null</code>)<br>
+        • <code>size</code> 기본 20, 최대 100 / 전체 건수는 제공하지 않음<br><br>
+
+        ✅ <b>요청 예시</b>: <code>GET /api/users/1/orders?size=20</code><br>
+        ✅ <b>응답 예시</b>:<pre>{
+        "row": [
+          { "orderId": 42, "mockOrderId": "ORD_034T5J6980C00", "status": "SUCCESS",
+            "orderDate": "2025-11-05T13:08:21", "totalPrice": 159000, "itemCount": 2 }
+        ],
+        "cursorInfo": { "size": 20, "hasNext": true, "nextCursor": "MjAyNS0xMS0wNVQxMzowODoyMV80Mg" }
+        }</pre>
+        """;
+
 
 
     /* ==========================================================
@@ -290,35 +339,20 @@ public final class SwaggerTags {
 
     public static final String MOCK_ORDER_CREATE_DESC = """
         📦 <b>Mock 주문 생성</b><br>
-        - 사용자 ID(<code>userId</code>), 상품 목록(<code>products</code>), 총 결제 금액(<code>amount</code>)을 기반으로 주문을 생성합니다.<br>
-        - 요청 시 주문번호(<code>ORD_yyyyMMdd_HHmmss_random</code>)가 자동 생성되며, 상태는 항상 <code>CREATED</code>로 반환됩니다.<br><br>
+        - 사용자 ID(<code>userId</code>), 주문 상품(<code>items</code>: 상품 ID / 수량 / 주문 시점 단가), 총 결제 금액(<code>amount</code>)을 기반으로 주문을 생성합니다.<br>
+        - 요청 시 주문번호(<code>ORD_</code> + 13자리 Base32, 시간순 정렬)가 자동 생성되며, 상태는 항상 <code>CREATED</code>로 반환됩니다.<br>
+        - <code>Content-Type</code> / <code>Accept</code> 를 <code>application/cbor</code> 로 보내면 CBOR(바이너리)로 주고받습니다. (기본 JSON)<br><br>
 
         ⚙️ <b>요청 유효성 규칙</b><br>
         • <code>userId</code>가 null 또는 0 이하 → <code>INVALID_USER</code><br>
-        • <code>products</code>가 비어있거나 null → <code>INVALID_PRODUCT_LIST</code><br><br>
+        • <code>items</code>가 비어있거나 null → <code>INVALID_PRODUCT_LIST</code><br><br>
 
         📤 <b>Request Example</b><br>
         <pre>{
         "userId": 1,
-        "products": [
-            {
-            "id": 1,
-            "name": "티셔츠",
-            "brand": "나이키",
-            "category": "의류",
-            "price": 45000,
-            "stock": 5,
-            "soldOut": false
-            },
-            {
-            "id": 2,
-            "name": "운동화",
-            "brand": "아디다스",
-            "category": "신발",
-            "price": 90000,
-            "stock": 3,
-            "soldOut": false
-            }
+        "items": [
+            { "productId": 1, "quantity": 1, "unitPrice": 45000 },
+            { "productId": 2, "quantity": 1, "unitPrice": 90000 }
         ],
         "amount": 135000
         }</pre><br>
@@ -326,7 +360,7 @@ public final class SwaggerTags {
         📥 <b>Response Example</b><br>
         ✅ <i>정상 요청</i><br>
         <pre>{
-        "orderId": "ORD_20251110_003247_171169",
+        "orderId": "ORD_034R1408C0C00",
         "status": "CREATED",
         "message": "Order created successfully for userId=1 with 2 product(s). Total amount: 135000"
         }</pre><br>
@@ -358,7 +392,7 @@ public final class SwaggerTags {
 
         📤 <b>Request Example</b><br>
         <pre>{
-        "orderId": "ORD_20251110_003247_171169",
+        "orderId": "ORD_034R1408C0C00",
         "amount": 135000
         }</pre><br>
 
@@ -367,7 +401,7 @@ public final class SwaggerTags {
         <pre>{
         "status": "PENDING",
         "transactionId": "txn_5f3a6b82",
-        "message": "Payment request for orderId=ORD_20251110_003247_171169 received. Processing..."
+        "message": "Payment request for orderId=ORD_034R1408C0C00 received. Processing..."
         }</pre>
         
         ❌ <i>유효하지 않은 주문번호</i><br>
@@ -402,14 +436,60 @@ public final class SwaggerTags {
         <pre>{
         "status": "SUCCESS",
         "transactionId": "txn_5f3a6b82",
-        "message": "Payment status for orderId=ORD_20251110_003247_171169 is SUCCESS"
+        "message": "Payment status for orderId=ORD_034R1408C0C00 is SUCCESS"
         }</pre>
 
         ❌ <i>주문 ID 미존재</i><br>
         <pre>{
         "status": "NOT_FOUND",
-        "transactionId": "txn_ORD_20251110_003247_171169",
-        "message": "Payment status for orderId=ORD_20251110_003247_171169 is NOT_FOUND"
+        "transactionId": "txn_034R1408C0C01",
+        "message": "Payment status for orderId=ORD_034R1408C0C00 is NOT_FOUND"
+        }</pre>
+        """;
+
+    public static final String MOCK_PAYMENT_RESULTS_DESC = """
+        🔍 <b>Mock 결제 상태 일괄 조회</b><br>
+        - 여러 주문번호(<code>orderIds</code>)의 현재 결제 상태를 한 번의 요청으로 반환합니다.<br>
+        - 결과는 요청 순서대로 반환되며, 존재하지 않는 주문은 <code>NOT_FOUND</code> 입니다.<br><br>
+
+        📤 <b>Request Example</b><br>
+        <pre>{
+        "orderIds": ["ORD_034R1408C0C00", "ORD_034R15RHW0C00"]
+        }</pre>
+
+        📥 <b>Response Example</b><br>
+        <pre>{
+        "results": [
+            { "orderId": "ORD_034R1408C0C00", "status": "SUCCESS", "transactionId": "txn_034R1408C0C01", "message": "..." },
+            { "orderId": "ORD_034R15RHW0C00", "status": "PENDING", "transactionId": "txn_034R15RHW0C01", "message": "..." }
+        ]
+        }</pre>
+        """;
+
+    public static final String MOCK_PROFILE_DESC = """
+        🎛️ <b>Mock PG 프로파일 (지연 / 장애 주입)</b><br>
+        - 모든 Mock API 응답에 현재 프로파일의 지연 / 5xx / 타임아웃 / 느린 본문이 적용됩니다.<br>
+        - 변경은 즉시 다음 요청부터 반영되며, 서버 재시작 시 <code>mockapi.profile.active</code> 로 초기화됩니다.<br><br>
+
+        📦 <b>프리셋</b><br>
+        • <code>default</code> : 즉시 응답, 8~15초 후 완료, 실패 20%<br>
+        • <code>fast</code> : 즉시 응답, 0.5초 후 완료<br>
+        • <code>slow-tail</code> : 응답 50~150ms, 1% 는 3초<br>
+        • <code>brownout</code> : 로그 정규 지연(중앙값 800ms) + 5xx 10% + 타임아웃 5% + 느린 본문 5%<br>
+        • <code>outage</code> : 5xx 90% + 타임아웃 10%<br><br>
+
+        ⏱️ <b>지연 분포 (<code>type</code>)</b><br>
+        • <code>FIXED</code>(fixedMs) / <code>UNIFORM</code>(minMs~maxMs) / <code>LOG_NORMAL</code>(medianMs, sigma, capMs) / <code>TAIL</code>(minMs~maxMs, tailPercent % 는 tailMs)<br><br>
+
+        📤 <b>Request Example</b> (<code>PUT /api/mock/admin/profile</code>)<br>
+        <pre>{
+        "name": "custom",
+        "responseLatency": { "type": "LOG_NORMAL", "medianMs": 300, "sigma": 0.5, "capMs": 5000 },
+        "completionLatency": { "type": "UNIFORM", "minMs": 1000, "maxMs": 3000 },
+        "failureRate": 0.2,
+        "errorRate": 0.05, "errorStatus": 503,
+        "timeoutRate": 0.01, "timeoutMs": 30000,
+        "slowBodyRate": 0.02, "slowBodyMs": 5000
         }</pre>
         """;
 
@@ -426,26 +506,26 @@ public final class SwaggerTags {
 
     📤 <b>Request Example</b><br>
     <pre>{
-      "orderId": "ORD_20251110_003247_171169"
+      "orderId": "ORD_034R1408C0C00"
     }</pre><br>
 
     📥 <b>Response Example</b><br>
     ✅ <i>성공 (PENDING / SUCCESS 상태 취소 시)</i><br>
     <pre>{
       "status": "CANCELED",
-      "message": "Order canceled successfully for orderId=ORD_20251110_003247_171169"
+      "message": "Order canceled successfully for orderId=ORD_034R1408C0C00"
     }</pre>
     
     ❌ <i>취소 불가 (FAILED 상태)</i><br>
     <pre>{
       "status": "CANNOT_CANCEL",
-      "message": "OrderId=ORD_20251110_003247_171169 cannot be canceled because payment has already failed."
+      "message": "OrderId=ORD_034R1408C0C00 cannot be canceled because payment has already failed."
     }</pre>
     
     ❌ <i>존재하지 않는 주문</i><br>
     <pre>{
       "status": "NOT_FOUND",
-      "message": "OrderId=ORD_20251110_003247_171169 not found. Cancel request ignored."
+      "message": "OrderId=ORD_034R1408C0C00 not found. Cancel request ignored."
     }</pre>
     """;
 
@@ -469,7 +549,7 @@ public final class SwaggerTags {
         ✅ <b>응답 예시</b>: <pre>[
             {
                 "order": { "id": 1001 },
-                "transactionId": "ORD_20251110_003247_171169",
+                "transactionId": "ORD_034R1408C0C00",
                 "status": "CREATED",
                 "message": "Order created successfully",
                 "createdAt": "2025-11-10T14:00:00"
@@ -484,4 +564,40 @@ public final class SwaggerTags {
         ]</pre><br>
         반환 형식: <code>ApiResponseDto&lt;List&lt;PaymentLogEntity&gt;&gt;</code>
         """;
+
+    public static final String PAYMENT_CALLBACK_DESC = """
+        📬 <b>PG 결제 결과 통지 (Payment Callback)</b><br>
+        PG사가 비동기 결제 처리를 마친 뒤 결과를 전달하는 웹훅입니다.<br><br>
+
+        ⚙️ <b>처리 절차</b><br>
+        • <code>X-Payment-Callback-Secret</code> 헤더 검증 (불일치 시 <code>P007</code>)<br>
+        • 상태별 동작:<br>
+        └ <code>SUCCESS</code> → 재고 차감 + 장바구니 비움 + 주문 확정<br>
+        └ <code>FAILED</code> / <code>CANCELED</code> → 주문 종료<br>
+        • 이미 종료된 주문은 변경하지 않습니다. (중복 통지 무시)<br><br>
+
+        ✅ <b>요청 예시</b>: <code>POST /api/payments/callback</code><pre>{
+        "orderId": "ORD_034R1408C0C00",
+        "status": "SUCCESS",
+        "transactionId": "txn_034R1408C0C01",
+        "message": "Payment status for orderId=ORD_034R1408C0C00 is SUCCESS"
+        }</pre>
+        """;
+
+    /* ==========================================================
+    * 📊 재고 분할 API (핫 상품)
+    * ========================================================== */
+    public static final String INVENTORY_NAME = "📊 재고 분할 API";
+    public static final String INVENTORY_DESC =
+            "<b>주문이 몰리는 상품(핫 상품)의 재고를 여러 카운터 행으로 나누는 운영 API</b><br>" +
+            "분할된 상품은 주문마다 임의의 분할 행에서 차감하여 상품 행 1개에 잠금 대기가 몰리지 않습니다.";
+
+    public static final String INVENTORY_SHARD_DESC = """
+        📊 <b>상품 재고 분할 / 병합</b><br>
+        - <code>PUT</code> : 판매 가능 재고를 <code>count</code> 개 분할 행으로 나눕니다. (이미 분할된 상품은 병합 후 다시 분할)<br>
+        - <code>DELETE</code> : 분할 행의 재고 / 예약을 상품 행으로 합치고 분할을 해제합니다.<br>
+        - 결제 대기 중인 예약은 함께 옮겨지며, 모든 분할 행의 재고가 0 이 되면 품절로 표시됩니다.<br><br>
+        ✅ <b>요청 예시</b>: <code>PUT /api/inventory/products/1/shards?count=8</code><br>
+        ✅ <b>응답 형식</b>: <code>ApiResponseDto&lt;ShardStatusResponseDto&gt;</code>
+        """;
 }
@@ -27,6 +27,22 @@ public class CartRepository {
     private final JPAQueryFactory queryFactory;
 	private final EntityManager entityManager;
 
+    /**
+     * 주문 생성용 장바구니 조회
+     * - cart, cart_item 만 조인 (상품은 ID 만 사용하고, 상품 정보는 IN 조회로 한 번에 따로 읽음)
+     */
+    public List<CartEntity> findUserCartsWithItemsByUserId(Long userId) {
+        QCartEntity cart = QCartEntity.cartEntity;
+        QCartItemEntity item = QCartItemEntity.cartItemEntity;
+
+        return queryFactory
+                .selectFrom(cart)
+                .distinct()
+                .leftJoin(cart.items, item).fetchJoin()
+                .where(cart.user.id.eq(userId))
+                .fetch();
+    }
+
     /**
      * 사용자 장바구니 조회
      * - cart, cart_item, product 조인
@@ -0,0 +1,96 @@
+package com.allra.backend.domain.idempotency.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 멱등 키 기록 엔티티 (IdempotencyRecordEntity)
+ *
+ * Idempotency-Key 헤더로 들어온 요청의 처리 상태와 응답을 저장합니다.
+ * - (scope, idempotency_key) 유니크 제약으로 노드가 여러 대여도 최초 요청 1건만 처리
+ * - 요청 식별값(fingerprint)이 다르면 같은 키를 다른 요청에 재사용한 것으로 보고 거절
+ * - 만료 시각이 지나면 정리 대상
+ */
+@Entity
+@Table(
+  name = "idempotency_record",
+  uniqueConstraints = @UniqueConstraint(name = "uk_idempotency_scope_key", columnNames = {"scope", "idempotency_key"}),
+  indexes = @Index(name = "idx_idempotency_expires_at", columnList = "expires_at")
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IdempotencyRecordEntity {
+
+    /** 기록 ID (PK) */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** 적용 작업 */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "scope", nullable = false, length = 30)
+    private IdempotencyScope scope;
+
+    /** 클라이언트가 보낸 Idempotency-Key */
+    @Column(name = "idempotency_key", nullable = false, length = 100)
+    private String idempotencyKey;
+
+    /** 요청 식별값 (예: userId=1, orderId=ORD_xxx) */
+    @Column(name = "fingerprint", nullable = false, length = 200)
+    private String fingerprint;
+
+    /** 처리 상태 */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    @Builder.Default
+    private IdempotencyStatus status = IdempotencyStatus.IN_PROGRESS;
+
+    /** 저장된 응답 (JSON) */
+    @Lob
+    @Column(name = "response_body")
+    private String responseBody;
+
+    /** 생성 시각 */
+    @Builder.Default
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    /** 만료 시각 (IN_PROGRESS : 처리 제한 시간, COMPLETED : 응답 보관 기간) */
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    // ==============================
+    // 🧩 비즈니스 로직
+    // ==============================
+
+    /** 처리 완료 및 응답 저장 */
+    public void complete(String responseBody, LocalDateTime expiresAt) {
+        this.status = IdempotencyStatus.COMPLETED;
+        this.responseBody = responseBody;
+        this.expiresAt = expiresAt;
+    }
+
+    /** 만료 여부 (처리 중 노드 장애로 남은 IN_PROGRESS 도 만료 후 재처리 허용) */
+    public boolean isExpired(LocalDateTime now) {
+        return expiresAt.isBefore(now);
+    }
+}
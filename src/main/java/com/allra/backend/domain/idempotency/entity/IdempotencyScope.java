@@ -0,0 +1,12 @@
+package com.allra.backend.domain.idempotency.entity;
+
+/**
+ * 멱등 키 적용 대상 작업
+ * - 같은 키라도 작업이 다르면 별개의 요청으로 취급한다.
+ */
+public enum IdempotencyScope {
+    /** 주문 생성 (POST /api/orders/{userId}) */
+    ORDER_CREATE,
+    /** 결제 요청 (POST /api/orders/{orderId}/payment) */
+    PAYMENT_REQUEST
+}
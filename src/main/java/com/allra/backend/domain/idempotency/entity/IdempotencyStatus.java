@@ -0,0 +1,11 @@
+package com.allra.backend.domain.idempotency.entity;
+
+/**
+ * 멱등 키 처리 상태
+ * - IN_PROGRESS : 최초 요청 처리 중 (같은 키의 다른 요청은 409)
+ * - COMPLETED   : 처리 완료, 저장된 응답을 재사용
+ */
+public enum IdempotencyStatus {
+    IN_PROGRESS,
+    COMPLETED
+}
@@ -0,0 +1,30 @@
+package com.allra.backend.domain.idempotency.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.allra.backend.domain.idempotency.entity.IdempotencyRecordEntity;
+import com.allra.backend.domain.idempotency.entity.IdempotencyScope;
+
+/**
+ * IdempotencyRecordRepository
+ *
+ * 멱등 키 기록(idempotency_record) 조회 및 만료 정리.
+ */
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecordEntity, Long> {
+
+    /** 작업 + 키로 기록 조회 */
+    Optional<IdempotencyRecordEntity> findByScopeAndIdempotencyKey(IdempotencyScope scope, String idempotencyKey);
+
+    /** 만료된 기록 일괄 삭제 (트랜잭션 안에서 호출) */
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecordEntity r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
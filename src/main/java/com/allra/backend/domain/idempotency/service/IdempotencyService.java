@@ -0,0 +1,238 @@
+package com.allra.backend.domain.idempotency.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.allra.backend.domain.idempotency.entity.IdempotencyRecordEntity;
+import com.allra.backend.domain.idempotency.entity.IdempotencyScope;
+import com.allra.backend.domain.idempotency.entity.IdempotencyStatus;
+import com.allra.backend.domain.idempotency.repository.IdempotencyRecordRepository;
+import com.allra.backend.global.exception.BusinessException;
+import com.allra.backend.global.transaction.JpaExecutor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * IdempotencyService
+ *
+ * Idempotency-Key 헤더 기반 중복 요청 제거.
+ * ---------------------------------------------------------
+ * 1️. 로컬 캐시 : 같은 노드의 같은 키 요청은 하나의 실행(Mono.cache)을 공유
+ *               → 동시에 들어온 중복 요청도 PG 호출 1번으로 합쳐지고, 완료 후 local-ttl 동안 DB 조회 없이 응답
+ * 2️. DB 기록  : (scope, key) 유니크 행을 IN_PROGRESS 로 선점한 요청만 실제 작업 수행
+ *               → 다른 노드의 중복 요청은 저장된 응답(COMPLETED) 또는 409(IN_PROGRESS)
+ * 3️. 완료     : 응답을 JSON 으로 저장하고 COMPLETED 로 변경 (ttl 동안 보관)
+ * 4️. 실패     : 작업이 실패하면 선점 행을 삭제하여 같은 키로 재시도 가능 (오류 응답은 저장하지 않음)
+ *               작업 성공 후 응답 저장만 실패하면 행을 지우지 않고 IN_PROGRESS 만료(in-progress-timeout)까지 둠
+ * ---------------------------------------------------------
+ * 키가 없으면 기존과 동일하게 매번 실행한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IdempotencyService {
+
+    /** 요청 헤더 이름 */
+    public static final String HEADER = "Idempotency-Key";
+
+    private static final int MAX_KEY_LENGTH = 100;
+
+    /** 응답 저장 재시도 횟수 */
+    private static final int COMPLETE_RETRIES = 2;
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final JpaExecutor jpaExecutor;
+    private final ObjectMapper objectMapper;
+
+    /** 노드 내 실행 공유 캐시 (scope:key → 실행 결과) */
+    private final Map<String, LocalEntry> localCache = new ConcurrentHashMap<>();
+
+    @Value("${idempotency.local-ttl:PT1M}")
+    private Duration localTtl = Duration.ofMinutes(1);
+
+    @Value("${idempotency.ttl:PT24H}")
+    private Duration ttl = Duration.ofHours(24);
+
+    @Value("${idempotency.in-progress-timeout:PT5M}")
+    private Duration inProgressTimeout = Duration.ofMinutes(5);
+
+    /**
+     * 멱등 실행
+     *
+     * @param scope       적용 작업
+     * @param key         Idempotency-Key (없으면 그대로 실행)
+     * @param fingerprint 요청 식별값 (같은 키를 다른 요청에 재사용했는지 판단)
+     * @param type        응답 타입 (저장된 JSON 복원용)
+     * @param action      실제 작업
+     */
+    public <T> Mono<T> execute(IdempotencyScope scope, String key, String fingerprint,
+                               Class<T> type, Supplier<Mono<T>> action) {
+
+        if (key == null || key.isBlank()) {
+            return Mono.defer(action);
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            return Mono.error(new BusinessException(HEADER + " 는 " + MAX_KEY_LENGTH + "자 이하여야 합니다."));
+        }
+
+        String cacheKey = scope + ":" + key;
+        return Mono.defer(() -> {
+            long now = System.nanoTime();
+            LocalEntry entry = localCache.compute(cacheKey, (k, existing) ->
+                    existing != null && !existing.isExpired(now)
+                            ? existing
+                            : new LocalEntry(fingerprint,
+                                    Mono.defer(() -> executeOnce(scope, key, fingerprint, type, action)).cache(),
+                                    now + localTtl.toNanos()));
+
+            if (!entry.fingerprint().equals(fingerprint)) {
+                return Mono.error(new BusinessException("다른 요청에 이미 사용된 Idempotency-Key 입니다."));
+            }
+            return entry.result()
+                    .cast(type)
+                    // 실패한 실행은 캐시하지 않음 → 같은 키로 재시도 가능
+                    .doOnError(e -> localCache.remove(cacheKey, entry));
+        });
+    }
+
+    /** DB 선점 → 작업 실행 → 응답 저장 (선점 실패 시 저장된 응답 반환) */
+    private <T> Mono<T> executeOnce(IdempotencyScope scope, String key, String fingerprint,
+                                    Class<T> type, Supplier<Mono<T>> action) {
+
+        return jpaExecutor.inTransaction(() -> claim(scope, key, fingerprint))
+                .onErrorMap(DataIntegrityViolationException.class, e -> inProgress())
+                .flatMap(claim -> claim.storedResponse() != null
+                        ? Mono.just(readResponse(claim.storedResponse(), type))
+                        : action.get()
+                                // 작업 실패만 선점 해제 (응답 저장 실패는 작업이 이미 끝났으므로 해제하지 않음)
+                                .onErrorResume(e -> jpaExecutor.inTransaction(() -> {
+                                    idempotencyRecordRepository.deleteById(claim.recordId());
+                                    return null;
+                                }).then(Mono.error(e)))
+                                .flatMap(response -> saveResponse(claim.recordId(), response)));
+    }
+
+    /**
+     * 작업 성공 후 응답 저장
+     * - 저장 실패 시 COMPLETE_RETRIES 회 다시 시도
+     * - 그래도 실패하면 응답은 그대로 돌려주고 IN_PROGRESS 행을 남김
+     *   → 같은 키 재요청은 in-progress-timeout 동안 409, 이후 만료되어 다시 선점 가능 (작업을 중복 실행하지 않음)
+     */
+    private <T> Mono<T> saveResponse(Long recordId, T response) {
+        return jpaExecutor.inTransaction(() -> {
+                    complete(recordId, response);
+                    return response;
+                })
+                .retryWhen(Retry.max(COMPLETE_RETRIES))
+                .onErrorResume(e -> {
+                    log.warn("[Idempotency] 응답 저장 실패, 처리 중 기록을 만료까지 유지 - recordId={}, error={}",
+                            recordId, e.getMessage());
+                    return Mono.just(response);
+                });
+    }
+
+    /**
+     * 키 선점
+     * - 기록이 없거나 만료됐으면 IN_PROGRESS 행 저장 (동시 저장은 유니크 제약 위반 → 409)
+     * - 완료된 기록이면 저장된 응답 반환
+     */
+    private Claim claim(IdempotencyScope scope, String key, String fingerprint) {
+        LocalDateTime now = LocalDateTime.now();
+
+        IdempotencyRecordEntity existing = idempotencyRecordRepository
+                .findByScopeAndIdempotencyKey(scope, key)
+                .orElse(null);
+
+        if (existing != null) {
+            if (!existing.isExpired(now)) {
+                if (!existing.getFingerprint().equals(fingerprint)) {
+                    throw new BusinessException("다른 요청에 이미 사용된 Idempotency-Key 입니다.");
+                }
+                if (existing.getStatus() == IdempotencyStatus.COMPLETED) {
+                    return new Claim(existing.getId(), existing.getResponseBody());
+                }
+                throw inProgress();
+            }
+            idempotencyRecordRepository.delete(existing);
+            idempotencyRecordRepository.flush();
+        }
+
+        IdempotencyRecordEntity record = idempotencyRecordRepository.saveAndFlush(
+                IdempotencyRecordEntity.builder()
+                        .scope(scope)
+                        .idempotencyKey(key)
+                        .fingerprint(fingerprint)
+                        .status(IdempotencyStatus.IN_PROGRESS)
+                        .createdAt(now)
+                        .expiresAt(now.plus(inProgressTimeout))
+                        .build());
+        return new Claim(record.getId(), null);
+    }
+
+    /** 응답 저장 및 COMPLETED 처리 */
+    private void complete(Long recordId, Object response) {
+        String body = writeResponse(response);
+        idempotencyRecordRepository.findById(recordId)
+                .ifPresent(record -> record.complete(body, LocalDateTime.now().plus(ttl)));
+    }
+
+    /**
+     * 만료 기록 정리
+     * - DB : 보관 기간이 지난 COMPLETED, 처리 제한 시간이 지난 IN_PROGRESS
+     * - 로컬 캐시 : local-ttl 이 지난 항목
+     */
+    @Scheduled(fixedDelayString = "${idempotency.cleanup-interval-ms:60000}")
+    public void evictExpired() {
+        long now = System.nanoTime();
+        localCache.values().removeIf(entry -> entry.isExpired(now));
+
+        Integer deleted = jpaExecutor.inTransaction(
+                () -> idempotencyRecordRepository.deleteExpired(LocalDateTime.now())).block();
+        if (deleted != null && deleted > 0) {
+            log.debug("[Idempotency] 만료 기록 {}건 삭제", deleted);
+        }
+    }
+
+    private BusinessException inProgress() {
+        return new BusinessException("같은 Idempotency-Key 요청이 처리 중입니다. 잠시 후 다시 시도해 주세요.");
+    }
+
+    private String writeResponse(Object response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("멱등 응답 직렬화 실패", e);
+        }
+    }
+
+    private <T> T readResponse(String body, Class<T> type) {
+        try {
+            return objectMapper.readValue(body, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("멱등 응답 역직렬화 실패", e);
+        }
+    }
+
+    /** 선점 결과 (storedResponse 가 있으면 이미 완료된 요청) */
+    private record Claim(Long recordId, String storedResponse) {}
+
+    /** 로컬 캐시 항목 */
+    private record LocalEntry(String fingerprint, Mono<?> result, long expiresAtNanos) {
+        boolean isExpired(long now) {
+            return now - expiresAtNanos > 0;
+        }
+    }
+}
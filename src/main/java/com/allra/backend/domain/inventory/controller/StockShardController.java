@@ -0,0 +1,66 @@
+package com.allra.backend.domain.inventory.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.allra.backend.docs.swagger.SwaggerTags;
+import com.allra.backend.domain.inventory.dto.StockShardDto;
+import com.allra.backend.domain.inventory.service.StockShardService;
+import com.allra.backend.global.dto.ApiResponseDto;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * StockShardController
+ *
+ * 핫 상품 재고 분할 / 병합 운영 API.
+ * 한정 판매 등 주문이 한 상품에 몰리기 전에 분할하고, 끝나면 병합합니다.
+ */
+@RestController
+@RequestMapping("/api/inventory/products/{productId}/shards")
+@RequiredArgsConstructor
+@Tag(name = SwaggerTags.INVENTORY_NAME, description = SwaggerTags.INVENTORY_DESC)
+public class StockShardController {
+
+    private final StockShardService stockShardService;
+
+    /** 분할 현황 조회 */
+    @GetMapping
+    @Operation(
+        summary = "상품 재고 분할 현황",
+        description = SwaggerTags.INVENTORY_SHARD_DESC
+    )
+    public ApiResponseDto<StockShardDto.ShardStatusResponseDto> getStatus(@PathVariable Long productId) {
+        return ApiResponseDto.success(HttpStatus.OK.getReasonPhrase(), stockShardService.getStatus(productId));
+    }
+
+    /** 재고 분할 (count 개 분할 행) */
+    @PutMapping
+    @Operation(
+        summary = "상품 재고 분할",
+        description = SwaggerTags.INVENTORY_SHARD_DESC
+    )
+    public ApiResponseDto<StockShardDto.ShardStatusResponseDto> enable(
+            @PathVariable Long productId,
+            @RequestParam(defaultValue = "8") int count) {
+        return ApiResponseDto.success(HttpStatus.OK.getReasonPhrase(), stockShardService.enable(productId, count));
+    }
+
+    /** 재고 병합 (분할 해제) */
+    @DeleteMapping
+    @Operation(
+        summary = "상품 재고 병합",
+        description = SwaggerTags.INVENTORY_SHARD_DESC
+    )
+    public ApiResponseDto<StockShardDto.ShardStatusResponseDto> disable(@PathVariable Long productId) {
+        return ApiResponseDto.success(HttpStatus.OK.getReasonPhrase(), stockShardService.disable(productId));
+    }
+}
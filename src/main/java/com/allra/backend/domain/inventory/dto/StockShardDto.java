@@ -0,0 +1,51 @@
+package com.allra.backend.domain.inventory.dto;
+
+import java.util.List;
+
+import com.allra.backend.domain.inventory.entity.ProductStockShardEntity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * StockShardDto
+ * 재고 분할(핫 상품) 관련 DTO 클래스
+ */
+public class StockShardDto {
+
+    /** 상품 재고 분할 상태 응답 DTO (상품 행 + 분할 행 합계) */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ShardStatusResponseDto {
+        private Long productId;
+        private int shardCount;     // 0 = 분할 안 함
+        private int stock;          // 상품 행 + 분할 행 재고 합계
+        private int reserved;       // 상품 행 + 분할 행 예약 합계
+        private int availableStock; // 판매 가능 수량 (stock - reserved)
+        private boolean soldOut;
+        private List<ShardResponseDto> shards;
+    }
+
+    /** 분할 행 응답 DTO */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ShardResponseDto {
+        private int shardNo;
+        private int stock;
+        private int reserved;
+
+        public static ShardResponseDto fromEntity(ProductStockShardEntity shard) {
+            return ShardResponseDto.builder()
+                    .shardNo(shard.getShardNo())
+                    .stock(shard.getStock())
+                    .reserved(shard.getReserved())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.allra.backend.domain.inventory.entity;
+
+import com.allra.backend.domain.product.entity.ProductEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 재고 분할 행 엔티티 (ProductStockShardEntity)
+ *
+ * 주문이 몰리는 상품(핫 상품)의 판매 가능 재고를 N 개 카운터 행으로 나눠 담는다.
+ * - 주문마다 임의의 분할 행을 골라 조건부 UPDATE 하므로 상품 행 1개에 잠금 대기가 몰리지 않는다.
+ * - 카운터 변경은 ProductStockRepository 의 조건부 UPDATE 로만 하고, 이 엔티티는 생성 / 조회 / 병합에 사용한다.
+ * - 모든 분할 행의 stock 이 0 이 되면 product.sold_out 을 갱신한다.
+ */
+@Entity
+@Table(
+  name = "product_stock_shard",
+  uniqueConstraints = @UniqueConstraint(name = "uk_product_stock_shard", columnNames = {"product_id", "shard_no"})
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductStockShardEntity {
+
+    /** 분할 행 ID (PK) */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** 상품 (FK: product.id) */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "product_id", nullable = false)
+    private ProductEntity product;
+
+    /** 분할 행 번호 (0 ~ stock_shards - 1) */
+    @Column(name = "shard_no", nullable = false)
+    private int shardNo;
+
+    /** 분할 재고 수량 */
+    @Column(name = "stock", nullable = false)
+    private int stock;
+
+    /** 분할 행에서 결제 대기 중 예약된 수량 */
+    @Column(name = "reserved", nullable = false)
+    private int reserved;
+}
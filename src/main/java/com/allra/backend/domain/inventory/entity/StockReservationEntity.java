@@ -0,0 +1,106 @@
+package com.allra.backend.domain.inventory.entity;
+
+import java.time.LocalDateTime;
+
+import com.allra.backend.domain.order.entity.OrderEntity;
+import com.allra.backend.domain.product.entity.ProductEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 재고 예약 엔티티 (StockReservationEntity)
+ *
+ * 주문 생성 시점에 잡아 두는 상품별 재고 홀드 (예약 원장).
+ * - HELD 동안의 수량은 product.reserved 카운터에 함께 반영되어 판매 가능 수량에서 빠진다.
+ *   (재고 분할 상품은 shard_no 가 가리키는 product_stock_shard.reserved 에 반영)
+ * - 결제 성공 시 SOLD (재고 차감), 실패 / 취소 시 RELEASED, 만료 시 EXPIRED 로 종료된다.
+ */
+@Entity
+@Table(
+  name = "stock_reservation",
+  indexes = {
+    @Index(name = "idx_stock_reservation_status_expires", columnList = "status, expires_at"),
+    @Index(name = "idx_stock_reservation_order", columnList = "order_id")
+  }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StockReservationEntity {
+
+    /** 예약 ID (PK) */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** 주문 (FK: orders.id) */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "order_id", nullable = false)
+    private OrderEntity order;
+
+    /** 상품 (FK: product.id) */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "product_id", nullable = false)
+    private ProductEntity product;
+
+    /** 분할 재고 행 번호 (product_stock_shard.shard_no, null 이면 product 행에서 예약) */
+    @Column(name = "shard_no")
+    private Integer shardNo;
+
+    /** 예약 수량 */
+    @Column(name = "quantity", nullable = false)
+    private int quantity;
+
+    /** 예약 상태 */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    @Builder.Default
+    private StockReservationStatus status = StockReservationStatus.HELD;
+
+    /** 만료 시각 (이후 결제 결과가 없으면 스위퍼가 해제) */
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    /** 생성 시각 */
+    @Builder.Default
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    /** 수정 시각 */
+    @Builder.Default
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt = LocalDateTime.now();
+
+    // ==============================
+    // 🧩 비즈니스 로직
+    // ==============================
+
+    /** 예약 종료 (SOLD / RELEASED / EXPIRED) */
+    public void close(StockReservationStatus closedStatus, LocalDateTime now) {
+        this.status = closedStatus;
+        this.updatedAt = now;
+    }
+
+    /** 상품 ID (프록시 초기화 없이 FK 값만 사용) */
+    public Long getProductId() {
+        return product.getId();
+    }
+}
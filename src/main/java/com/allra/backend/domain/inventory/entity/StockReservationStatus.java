@@ -0,0 +1,27 @@
+package com.allra.backend.domain.inventory.entity;
+
+/**
+ * 재고 예약 상태
+ *
+ * HELD → SOLD     (결제 성공, 재고 차감)
+ *      ↘ RELEASED (결제 실패 / 취소)
+ *      ↘ EXPIRED  (만료 시각 경과, 스위퍼가 해제)
+ */
+public enum StockReservationStatus {
+
+    /** HELD (주문 생성 시 예약, product.reserved 에 포함) */
+    HELD,
+
+    /** SOLD (결제 성공으로 판매 확정) */
+    SOLD,
+
+    /** RELEASED (결제 실패 / 취소로 해제) */
+    RELEASED,
+
+    /** EXPIRED (결제 결과 없이 만료되어 해제) */
+    EXPIRED;
+
+    public boolean isHeld() {
+        return this == HELD;
+    }
+}
@@ -0,0 +1,50 @@
+package com.allra.backend.domain.inventory.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.allra.backend.domain.inventory.entity.ProductStockShardEntity;
+
+import jakarta.persistence.LockModeType;
+
+/**
+ * ProductStockShardRepository
+ *
+ * 재고 분할 행(product_stock_shard) 생성 / 조회 / 병합 쿼리.
+ * 주문 중 카운터 변경은 ProductStockRepository 의 조건부 UPDATE 를 사용한다.
+ */
+@Repository
+public interface ProductStockShardRepository extends JpaRepository<ProductStockShardEntity, Long> {
+
+    /** 상품의 분할 행 조회 (분할 번호 순) */
+    @Query("SELECT s FROM ProductStockShardEntity s WHERE s.product.id = :productId ORDER BY s.shardNo")
+    List<ProductStockShardEntity> findAllByProductId(@Param("productId") Long productId);
+
+    /** 상품의 분할 행 잠금 조회 (병합 시 진행 중인 차감이 끝날 때까지 대기) */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ProductStockShardEntity s WHERE s.product.id = :productId ORDER BY s.shardNo")
+    List<ProductStockShardEntity> findAllForUpdateByProductId(@Param("productId") Long productId);
+
+    /** 상품별 분할 재고 합계 (목록 / 상세 응답용, IN 쿼리 1회) */
+    @Query("SELECT s.product.id AS productId, SUM(s.stock) AS stock, SUM(s.reserved) AS reserved "
+          + "FROM ProductStockShardEntity s WHERE s.product.id IN :productIds GROUP BY s.product.id")
+    List<ShardTotal> sumByProductIds(@Param("productIds") Collection<Long> productIds);
+
+    @Modifying
+    @Query("DELETE FROM ProductStockShardEntity s WHERE s.product.id = :productId")
+    int deleteAllByProductId(@Param("productId") Long productId);
+
+    /** 상품별 분할 재고 합계 */
+    interface ShardTotal {
+        Long getProductId();
+        Long getStock();
+        Long getReserved();
+    }
+}
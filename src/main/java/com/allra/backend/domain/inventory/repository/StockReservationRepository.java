@@ -0,0 +1,56 @@
+package com.allra.backend.domain.inventory.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.allra.backend.domain.inventory.entity.StockReservationEntity;
+
+import jakarta.persistence.LockModeType;
+
+/**
+ * StockReservationRepository
+ *
+ * 재고 예약 원장(stock_reservation) 저장 및 확정 / 해제 / 만료 정리 쿼리.
+ */
+@Repository
+public interface StockReservationRepository extends JpaRepository<StockReservationEntity, Long> {
+
+    /** 주문의 HELD 예약 조회 (확정 / 해제용, 스위퍼와 동시에 처리하지 않도록 행 잠금) */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM StockReservationEntity r WHERE r.order.id = :orderId "
+          + "AND r.status = com.allra.backend.domain.inventory.entity.StockReservationStatus.HELD ORDER BY r.id")
+    List<StockReservationEntity> findHeldForUpdateByOrderId(@Param("orderId") Long orderId);
+
+    /**
+     * 만료된 예약 배치 점유
+     * - HELD 이면서 만료 시각이 지난 행
+     * - FOR UPDATE SKIP LOCKED : 결제 결과 반영 중이거나 다른 노드가 정리 중인 행은 건너뜀
+     * - 반드시 트랜잭션 안에서 호출하고, 같은 트랜잭션에서 EXPIRED 로 변경해야 한다.
+     */
+    @Query(
+        value = "SELECT * FROM stock_reservation "
+              + "WHERE status = 'HELD' AND expires_at < :now "
+              + "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+        nativeQuery = true
+    )
+    List<StockReservationEntity> claimExpired(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /** 상품의 HELD 예약을 분할 행으로 이동 (재고 분할 시작 시, 기존 예약은 예약 수량을 넘겨받는 0번 분할 행으로) */
+    @Modifying
+    @Query("UPDATE StockReservationEntity r SET r.shardNo = :shardNo WHERE r.product.id = :productId "
+          + "AND r.status = com.allra.backend.domain.inventory.entity.StockReservationStatus.HELD")
+    int moveHeldToShard(@Param("productId") Long productId, @Param("shardNo") int shardNo);
+
+    /** 상품의 HELD 예약을 상품 행으로 이동 (재고 분할 해제 시) */
+    @Modifying
+    @Query("UPDATE StockReservationEntity r SET r.shardNo = NULL WHERE r.product.id = :productId "
+          + "AND r.status = com.allra.backend.domain.inventory.entity.StockReservationStatus.HELD")
+    int moveHeldToProductRow(@Param("productId") Long productId);
+}
@@ -0,0 +1,267 @@
+package com.allra.backend.domain.inventory.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.allra.backend.domain.inventory.entity.StockReservationEntity;
+import com.allra.backend.domain.inventory.entity.StockReservationStatus;
+import com.allra.backend.domain.inventory.repository.StockReservationRepository;
+import com.allra.backend.domain.order.entity.OrderEntity;
+import com.allra.backend.domain.order.entity.OrderItemEntity;
+import com.allra.backend.domain.product.entity.ProductEntity;
+import com.allra.backend.domain.product.repository.ProductStockRepository;
+import com.allra.backend.domain.product.repository.ProductStockRepository.ShardKey;
+import com.allra.backend.global.exception.BusinessException;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * StockReservationService
+ *
+ * 주문 생성 ~ 결제 결과 사이의 재고 예약(홀드) 원장 관리.
+ * ---------------------------------------------------------
+ * 1️. 예약 : 주문 생성 시 상품별 HELD 예약 + product.reserved 증가 (판매 가능 수량 감소, 만료 시각 기록)
+ * 2️. 확정 : 결제 성공 시 HELD → SOLD, reserved / stock 동시 차감
+ *          (예약이 이미 만료된 상품은 판매 가능 수량 조건으로 차감)
+ * 3️. 해제 : 결제 실패 / 취소 시 HELD → RELEASED, reserved 만 복원 (가져가지 않은 재고는 되돌리지 않음)
+ * 4️. 만료 : HELD 이면서 만료 시각이 지난 예약을 배치로 EXPIRED 처리 (StockReservationSweeper)
+ * ---------------------------------------------------------
+ * 상품 카운터는 잠금 없이 ProductStockRepository 의 조건부 UPDATE 로 변경하고, 영향 행 수로 부족 여부를 판단한다.
+ * 재고 분할 상품(stock_shards > 0)은 상품 행 대신 product_stock_shard 의 분할 행 카운터를 사용한다. (StockShardService)
+ * 예약 행은 상태 전이가 한 번만 일어나도록 잠근다. (주문 → 예약 순서)
+ * 모든 메서드는 호출 측 트랜잭션(JpaExecutor.inTransaction) 안에서 실행되어야 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockReservationService {
+
+    private final StockReservationRepository stockReservationRepository;
+    private final ProductStockRepository productStockRepository;
+
+    /** 예약 유지 시간 (PG 결제 대기 시간보다 충분히 길게) */
+    @Value("${inventory.reservation.ttl:PT15M}")
+    private Duration ttl = Duration.ofMinutes(15);
+
+    /**
+     * 1️. 예약
+     * - 상품별 수량을 합산해 조건부 UPDATE 1회 배치로 예약
+     * - 재고 분할 상품은 임의의 분할 행에서 예약하고, 분할 행마다 예약 행을 남김 (shard_no)
+     * - 판매 가능 수량이 부족하면 BusinessException (트랜잭션 롤백으로 주문 저장까지 취소)
+     */
+    public List<StockReservationEntity> reserve(OrderEntity order) {
+        Map<Long, ProductEntity> products = productsOf(order);
+        Map<Long, Integer> rowQuantities = new HashMap<>();
+        Map<Long, Integer> shardQuantities = new TreeMap<>();
+        quantitiesByProduct(order).forEach((productId, quantity) ->
+                (products.get(productId).isStockSharded() ? shardQuantities : rowQuantities).put(productId, quantity));
+
+        // 1. 상품 행 예약 (배치 1회)
+        List<Long> failed = productStockRepository.reserve(rowQuantities);
+        if (!failed.isEmpty()) {
+            throw outOfStockOnCheckout(order, failed);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plus(ttl);
+        List<StockReservationEntity> reservations = new ArrayList<>();
+        order.getItems().stream()
+                .filter(item -> !item.getProduct().isStockSharded())
+                .forEach(item -> reservations.add(
+                        reservation(order, item.getProduct(), null, item.getQuantity(), now, expiresAt)));
+
+        // 2. 분할 행 예약 (상품 id 순)
+        shardQuantities.forEach((productId, quantity) -> {
+            ProductEntity product = products.get(productId);
+            Map<Integer, Integer> taken =
+                    productStockRepository.reserveFromShards(productId, product.getStockShards(), quantity);
+            if (taken.isEmpty()) {
+                throw outOfStockOnCheckout(order, List.of(productId));
+            }
+            taken.forEach((shardNo, shardQuantity) ->
+                    reservations.add(reservation(order, product, shardNo, shardQuantity, now, expiresAt)));
+        });
+        return stockReservationRepository.saveAll(reservations);
+    }
+
+    /**
+     * 2️. 판매 확정 (결제 성공)
+     * - 예약분 / 예약으로 덮이지 않은 수량(만료 등)을 상품별로 나눠 한 번의 배치로 차감
+     * - 분할 행 예약분은 예약한 분할 행에서, 분할 상품의 미예약분은 임의의 분할 행에서 차감
+     * - 하나라도 부족하면 앞서 차감한 수량을 되돌리고 BusinessException (예약은 HELD 유지)
+     */
+    public void confirm(OrderEntity order) {
+        List<StockReservationEntity> held = stockReservationRepository.findHeldForUpdateByOrderId(order.getId());
+
+        // 상품별 주문 수량 / 예약 수량 (상품 행 / 분할 행)
+        Map<Long, Integer> ordered = quantitiesByProduct(order);
+        Map<Long, Integer> reserved = held.stream()
+                .collect(Collectors.groupingBy(StockReservationEntity::getProductId,
+                        Collectors.summingInt(StockReservationEntity::getQuantity)));
+        Map<Long, Integer> reservedRows = held.stream()
+                .filter(reservation -> reservation.getShardNo() == null)
+                .collect(Collectors.groupingBy(StockReservationEntity::getProductId,
+                        Collectors.summingInt(StockReservationEntity::getQuantity)));
+        Map<ShardKey, Integer> reservedShards = held.stream()
+                .filter(reservation -> reservation.getShardNo() != null)
+                .collect(Collectors.groupingBy(StockReservationService::shardKey,
+                        Collectors.summingInt(StockReservationEntity::getQuantity)));
+
+        // 예약으로 덮이지 않은 수량 (분할 여부 확인을 위해 이 경우에만 상품 로드)
+        Map<Long, Integer> uncoveredRows = new HashMap<>();
+        Map<Long, Integer> uncoveredShards = new TreeMap<>();
+        ordered.forEach((productId, quantity) -> {
+            int rest = quantity - reserved.getOrDefault(productId, 0);
+            if (rest > 0) {
+                uncoveredRows.put(productId, rest);
+            }
+        });
+        Map<Long, ProductEntity> products = uncoveredRows.isEmpty() ? Map.of() : productsOf(order);
+        if (!uncoveredRows.isEmpty()) {
+            uncoveredRows.keySet().removeIf(productId -> {
+                ProductEntity product = products.get(productId);
+                if (product.isStockSharded()) {
+                    uncoveredShards.put(productId, ordered.get(productId) - reserved.getOrDefault(productId, 0));
+                    return true;
+                }
+                return false;
+            });
+        }
+
+        // 1. 상품 행 차감 (예약분은 예약 → 판매 전환, 나머지는 판매 가능 수량 조건으로 차감)
+        List<Long> failed = productStockRepository.sell(reservedRows, uncoveredRows);
+        if (!failed.isEmpty()) {
+            throw outOfStockOnConfirm(order, failed);
+        }
+
+        // 2. 분할 행 예약분 차감
+        List<ShardKey> failedShards = productStockRepository.sellReservedShards(reservedShards);
+        if (!failedShards.isEmpty()) {
+            productStockRepository.undoSell(reservedRows, uncoveredRows);
+            throw outOfStockOnConfirm(order, failedShards.stream().map(ShardKey::productId).toList());
+        }
+
+        // 3. 분할 상품 미예약분 차감
+        Map<ShardKey, Integer> soldFromShards = new HashMap<>();
+        for (Map.Entry<Long, Integer> entry : uncoveredShards.entrySet()) {
+            Map<Integer, Integer> taken = productStockRepository.sellFromShards(
+                    entry.getKey(), products.get(entry.getKey()).getStockShards(), entry.getValue());
+            if (taken.isEmpty()) {
+                productStockRepository.undoSell(reservedRows, uncoveredRows);
+                productStockRepository.undoShardSells(reservedShards, soldFromShards);
+                throw outOfStockOnConfirm(order, List.of(entry.getKey()));
+            }
+            taken.forEach((shardNo, quantity) -> soldFromShards.put(new ShardKey(entry.getKey(), shardNo), quantity));
+        }
+
+        // 4. 분할 상품 품절 반영 (모든 분할 행의 재고가 0 이면)
+        Set<Long> shardedProductIds = new TreeSet<>(uncoveredShards.keySet());
+        reservedShards.keySet().forEach(key -> shardedProductIds.add(key.productId()));
+        if (!shardedProductIds.isEmpty()) {
+            productStockRepository.markSoldOutIfShardsEmpty(shardedProductIds);
+        }
+
+        // 5. 예약 종료
+        LocalDateTime now = LocalDateTime.now();
+        held.forEach(reservation -> reservation.close(StockReservationStatus.SOLD, now));
+    }
+
+    /** 3️. 예약 해제 (결제 실패 / 취소) */
+    public void release(OrderEntity order) {
+        List<StockReservationEntity> held = stockReservationRepository.findHeldForUpdateByOrderId(order.getId());
+        close(held, StockReservationStatus.RELEASED, LocalDateTime.now());
+    }
+
+    /**
+     * 4️. 만료 예약 배치 해제
+     *
+     * @return 해제한 예약 수 (batchSize 와 같으면 남은 예약이 더 있을 수 있음)
+     */
+    public int expireBatch(int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        List<StockReservationEntity> expired = stockReservationRepository.claimExpired(now, batchSize);
+        close(expired, StockReservationStatus.EXPIRED, now);
+        return expired.size();
+    }
+
+    /** HELD 예약 종료 + 상품 / 분할 행 예약 수량 복원 */
+    private void close(List<StockReservationEntity> reservations, StockReservationStatus closedStatus, LocalDateTime now) {
+        if (reservations.isEmpty()) {
+            return;
+        }
+        productStockRepository.release(reservations.stream()
+                .filter(reservation -> reservation.getShardNo() == null)
+                .collect(Collectors.groupingBy(StockReservationEntity::getProductId,
+                        Collectors.summingInt(StockReservationEntity::getQuantity))));
+        productStockRepository.releaseShards(reservations.stream()
+                .filter(reservation -> reservation.getShardNo() != null)
+                .collect(Collectors.groupingBy(StockReservationService::shardKey,
+                        Collectors.summingInt(StockReservationEntity::getQuantity))));
+        reservations.forEach(reservation -> reservation.close(closedStatus, now));
+        log.debug("[StockReservationService] 예약 {} - count={}", closedStatus, reservations.size());
+    }
+
+    private static StockReservationEntity reservation(OrderEntity order, ProductEntity product, Integer shardNo,
+                                                      int quantity, LocalDateTime now, LocalDateTime expiresAt) {
+        return StockReservationEntity.builder()
+                .order(order)
+                .product(product)
+                .shardNo(shardNo)
+                .quantity(quantity)
+                .expiresAt(expiresAt)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    private static ShardKey shardKey(StockReservationEntity reservation) {
+        return new ShardKey(reservation.getProductId(), reservation.getShardNo());
+    }
+
+    /** 주문 상세 → 상품 (상품 ID 기준) */
+    private static Map<Long, ProductEntity> productsOf(OrderEntity order) {
+        return order.getItems().stream()
+                .map(OrderItemEntity::getProduct)
+                .collect(Collectors.toMap(ProductEntity::getId, Function.identity(), (first, second) -> first));
+    }
+
+    private static BusinessException outOfStockOnCheckout(OrderEntity order, Collection<Long> productIds) {
+        return new BusinessException("재고가 부족한 상품이 포함되어 있어 주문을 생성할 수 없습니다. ("
+                + productNames(order, productIds) + ")");
+    }
+
+    private static BusinessException outOfStockOnConfirm(OrderEntity order, Collection<Long> productIds) {
+        return new BusinessException("상품 재고가 부족합니다: " + productNames(order, productIds));
+    }
+
+    /** 주문 상세 → 상품별 수량 합계 (같은 상품이 여러 줄이어도 UPDATE 는 1회) */
+    private static Map<Long, Integer> quantitiesByProduct(OrderEntity order) {
+        return order.getItems().stream()
+                .collect(Collectors.groupingBy(item -> item.getProduct().getId(),
+                        Collectors.summingInt(OrderItemEntity::getQuantity)));
+    }
+
+    /** 실패 상품명 (오류 메시지용) */
+    private static String productNames(OrderEntity order, Collection<Long> productIds) {
+        return order.getItems().stream()
+                .map(OrderItemEntity::getProduct)
+                .filter(product -> productIds.contains(product.getId()))
+                .map(ProductEntity::getName)
+                .distinct()
+                .collect(Collectors.joining(", "));
+    }
+}
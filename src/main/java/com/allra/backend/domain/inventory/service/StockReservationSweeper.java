@@ -0,0 +1,49 @@
+package com.allra.backend.domain.inventory.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.allra.backend.global.transaction.JpaExecutor;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * StockReservationSweeper
+ *
+ * 결제 결과 없이 만료 시각이 지난 재고 예약(HELD)을 배치 단위로 해제하는 백그라운드 작업.
+ * ---------------------------------------------------------
+ * 1️. 점유 : SELECT ... FOR UPDATE SKIP LOCKED 로 만료 예약 배치 점유
+ * 2️. 해제 : 상품별 reserved 를 id 순서 UPDATE 배치로 복원 → EXPIRED (배치당 짧은 트랜잭션 1개)
+ * 3️. 반복 : 배치가 가득 차 있으면 비워질 때까지 연속 처리
+ * ---------------------------------------------------------
+ * 결과 반영 중인 예약은 잠겨 있어 건너뛰고, 여러 노드가 동시에 실행해도 같은 예약을 두 번 해제하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "inventory.reservation.sweeper.enabled", havingValue = "true", matchIfMissing = true)
+public class StockReservationSweeper {
+
+    private final StockReservationService stockReservationService;
+    private final JpaExecutor jpaExecutor;
+
+    @Value("${inventory.reservation.sweeper.batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${inventory.reservation.sweeper.interval-ms:30000}")
+    public void sweep() {
+        int total = 0;
+        Integer released;
+        do {
+            released = jpaExecutor.inTransaction(() -> stockReservationService.expireBatch(batchSize)).block();
+            total += released != null ? released : 0;
+        } while (released != null && released == batchSize);
+
+        if (total > 0) {
+            log.info("[StockReservationSweeper] 만료 예약 해제 - count={}", total);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.allra.backend.domain.inventory.service;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.springframework.stereotype.Service;
+
+import com.allra.backend.domain.inventory.dto.StockShardDto;
+import com.allra.backend.domain.inventory.entity.ProductStockShardEntity;
+import com.allra.backend.domain.inventory.repository.ProductStockShardRepository;
+import com.allra.backend.domain.inventory.repository.StockReservationRepository;
+import com.allra.backend.domain.product.entity.ProductEntity;
+import com.allra.backend.domain.product.repository.ProductRepository;
+import com.allra.backend.global.exception.BusinessException;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * StockShardService
+ *
+ * 핫 상품 재고 분할 / 병합 (운영 작업).
+ * ---------------------------------------------------------
+ * 1️. 분할 : 상품 행의 재고 / 예약을 N 개 분할 행으로 옮김
+ *          - 판매 가능 수량은 고르게 나누고, 결제 대기 중 예약은 0번 분할 행이 넘겨받음 (HELD 예약 shard_no = 0)
+ *          - 상품 행은 stock = reserved = 0, stock_shards = N
+ * 2️. 병합 : 분할 행의 재고 / 예약을 상품 행으로 합치고 분할 행 삭제 (HELD 예약 shard_no = null)
+ * 3️. 조회 : 상품 행 + 분할 행 현황
+ * ---------------------------------------------------------
+ * 분할 후 주문 흐름은 StockReservationService → ProductStockRepository 의 분할 행 UPDATE 를 사용한다.
+ * 상품 행 → 분할 행 순서로 잠가 진행 중인 차감이 끝난 뒤 옮긴다.
+ * (같은 상품의 결제 확정과 겹쳐 교착이 나면 DB 가 한쪽을 중단하므로 다시 요청한다)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockShardService {
+
+    /** 최대 분할 수 */
+    public static final int MAX_SHARDS = 64;
+
+    private final ProductRepository productRepository;
+    private final ProductStockShardRepository productStockShardRepository;
+    private final StockReservationRepository stockReservationRepository;
+
+    /** 1️. 재고 분할 (이미 분할된 상품은 병합 후 다시 분할) */
+    @Transactional
+    public StockShardDto.ShardStatusResponseDto enable(Long productId, int shardCount) {
+        if (shardCount < 1 || shardCount > MAX_SHARDS) {
+            throw new BusinessException("분할 수는 1 ~ " + MAX_SHARDS + " 사이여야 합니다.");
+        }
+        ProductEntity product = productRepository.getByIdForUpdateOrThrow(productId);
+        if (product.isStockSharded()) {
+            merge(product);
+        }
+
+        int stock = orZero(product.getStock());
+        int reserved = orZero(product.getReserved());
+        int available = Math.max(0, stock - reserved);
+
+        // 판매 가능 수량은 고르게, 예약 수량은 0번 분할 행에
+        List<ProductStockShardEntity> shards = IntStream.range(0, shardCount)
+                .mapToObj(shardNo -> ProductStockShardEntity.builder()
+                        .product(product)
+                        .shardNo(shardNo)
+                        .stock(available / shardCount + (shardNo < available % shardCount ? 1 : 0)
+                                + (shardNo == 0 ? stock - available : 0))
+                        .reserved(shardNo == 0 ? reserved : 0)
+                        .build())
+                .toList();
+        productStockShardRepository.saveAll(shards);
+        stockReservationRepository.moveHeldToShard(productId, 0);
+
+        product.setStock(0);
+        product.setReserved(0);
+        product.setStockShards(shardCount);
+        log.info("[StockShardService] 재고 분할 - productId={}, shards={}, stock={}, reserved={}",
+                productId, shardCount, stock, reserved);
+        return status(product, shards);
+    }
+
+    /** 2️. 재고 병합 (분할 해제) */
+    @Transactional
+    public StockShardDto.ShardStatusResponseDto disable(Long productId) {
+        ProductEntity product = productRepository.getByIdForUpdateOrThrow(productId);
+        if (product.isStockSharded()) {
+            merge(product);
+            log.info("[StockShardService] 재고 병합 - productId={}, stock={}, reserved={}",
+                    productId, product.getStock(), product.getReserved());
+        }
+        return status(product, List.of());
+    }
+
+    /** 3️. 분할 현황 조회 */
+    public StockShardDto.ShardStatusResponseDto getStatus(Long productId) {
+        ProductEntity product = productRepository.getByIdOrThrow(productId);
+        return status(product, productStockShardRepository.findAllByProductId(productId));
+    }
+
+    /** 분할 행 → 상품 행 (상품 행은 잠금 조회된 상태) */
+    private void merge(ProductEntity product) {
+        List<ProductStockShardEntity> shards = productStockShardRepository.findAllForUpdateByProductId(product.getId());
+        int stock = shards.stream().mapToInt(ProductStockShardEntity::getStock).sum();
+        int reserved = shards.stream().mapToInt(ProductStockShardEntity::getReserved).sum();
+
+        stockReservationRepository.moveHeldToProductRow(product.getId());
+        productStockShardRepository.deleteAllByProductId(product.getId());
+
+        product.setStock(orZero(product.getStock()) + stock);
+        product.setReserved(orZero(product.getReserved()) + reserved);
+        product.setStockShards(0);
+        product.setSoldOut(product.getStock() == 0);
+    }
+
+    private static StockShardDto.ShardStatusResponseDto status(ProductEntity product,
+                                                              List<ProductStockShardEntity> shards) {
+        int stock = orZero(product.getStock()) + shards.stream().mapToInt(ProductStockShardEntity::getStock).sum();
+        int reserved = orZero(product.getReserved())
+                + shards.stream().mapToInt(ProductStockShardEntity::getReserved).sum();
+        return StockShardDto.ShardStatusResponseDto.builder()
+                .productId(product.getId())
+                .shardCount(orZero(product.getStockShards()))
+                .stock(stock)
+                .reserved(reserved)
+                .availableStock(stock - reserved)
+                .soldOut(Boolean.TRUE.equals(product.getSoldOut()))
+                .shards(shards.stream().map(StockShardDto.ShardResponseDto::fromEntity).toList())
+                .build();
+    }
+
+    private static int orZero(Integer value) {
+        return value != null ? value : 0;
+    }
+}
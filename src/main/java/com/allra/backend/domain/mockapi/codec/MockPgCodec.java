@@ -0,0 +1,79 @@
+package com.allra.backend.domain.mockapi.codec;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.codec.ClientCodecConfigurer;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+/**
+ * MockPgCodec
+ *
+ * Mock PG 요청 / 응답 직렬화 (JSON / CBOR).
+ * ---------------------------------------------------------
+ * 1️. 서버 : 요청은 Content-Type, 응답은 Accept 헤더로 포맷을 정한다. (MockPgResponder, MockPgServer)
+ * 2️. 클라이언트 : configure() 로 WebClient 에 CBOR 코덱과 기본 헤더를 등록한다. (HttpPaymentGatewayClient)
+ * ---------------------------------------------------------
+ * CBOR 매퍼는 애플리케이션 ObjectMapper 설정(모듈, 직렬화 옵션)을 그대로 복사해 만든다.
+ */
+@Component
+public class MockPgCodec {
+
+    private final ObjectMapper json;
+    private final ObjectMapper cbor;
+
+    public MockPgCodec(ObjectMapper objectMapper) {
+        this.json = objectMapper;
+        this.cbor = objectMapper.copyWith(new CBORFactory());
+    }
+
+    public ObjectMapper mapper(MockPgWireFormat format) {
+        return format == MockPgWireFormat.CBOR ? cbor : json;
+    }
+
+    public byte[] write(MockPgWireFormat format, Object value) {
+        try {
+            return mapper(format).writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Mock 응답 직렬화 실패", e);
+        }
+    }
+
+    public <T> T read(MockPgWireFormat format, byte[] body, Class<T> type) throws IOException {
+        return mapper(format).readValue(body, type);
+    }
+
+    /** PG 호출용 WebClient 에 전송 포맷 적용 (JSON 이면 변경 없음) */
+    public WebClient.Builder configure(WebClient.Builder builder, MockPgWireFormat format) {
+        if (format != MockPgWireFormat.CBOR) {
+            return builder;
+        }
+        return builder
+                .codecs(this::registerCbor)
+                .defaultHeader(HttpHeaders.CONTENT_TYPE, MockPgWireFormat.CBOR.mediaType().toString())
+                .defaultHeader(HttpHeaders.ACCEPT, MockPgWireFormat.CBOR.mediaType().toString());
+    }
+
+    /** configure() 와 같은 코덱 구성 (WebClient 밖에서 본문을 직렬화하는 PG 트래픽 재생용) */
+    public ExchangeStrategies exchangeStrategies(MockPgWireFormat format) {
+        if (format != MockPgWireFormat.CBOR) {
+            return ExchangeStrategies.withDefaults();
+        }
+        return ExchangeStrategies.builder()
+                .codecs(this::registerCbor)
+                .build();
+    }
+
+    private void registerCbor(ClientCodecConfigurer codecs) {
+        codecs.customCodecs().register(new Jackson2CborEncoder(cbor));
+        codecs.customCodecs().register(new Jackson2CborDecoder(cbor));
+    }
+}
@@ -0,0 +1,28 @@
+package com.allra.backend.domain.mockapi.codec;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Mock PG 전송 포맷
+ * - JSON : application/json (기본)
+ * - CBOR : application/cbor (바이너리, 필드 이름은 유지하되 숫자 / 길이를 바이트로 인코딩)
+ */
+public enum MockPgWireFormat {
+    JSON(MediaType.APPLICATION_JSON),
+    CBOR(MediaType.APPLICATION_CBOR);
+
+    private final MediaType mediaType;
+
+    MockPgWireFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    /** Content-Type / Accept 헤더 값으로 포맷 결정 (CBOR 가 명시되지 않으면 JSON) */
+    public static MockPgWireFormat of(String header) {
+        return header != null && header.contains(MediaType.APPLICATION_CBOR_VALUE) ? CBOR : JSON;
+    }
+}
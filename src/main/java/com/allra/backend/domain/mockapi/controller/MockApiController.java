@@ -1,12 +1,15 @@
 package com.allra.backend.domain.mockapi.controller;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 
 import com.allra.backend.domain.mockapi.dto.MockApiOrderDto;
 import com.allra.backend.docs.swagger.SwaggerTags;
@@ -16,6 +19,9 @@ import com.allra.backend.domain.mockapi.dto.MockApiPaymentDto;
 import com.allra.backend.domain.mockapi.service.MockApiService;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 
@@ -24,6 +30,8 @@ import lombok.RequiredArgsConstructor;
  * 
  * 외부 PG사 및 주문 서버를 시뮬레이션하는 Mock API 컨트롤러입니다.
  * 실제 결제·주문·취소 플로우를 모사하여 테스트용으로 동작합니다.
+ * 응답 지연 / 5xx / 타임아웃 / 느린 본문은 현재 Mock PG 프로파일(MockPgResponder)에 따라 주입됩니다.
+ * 요청 / 응답은 JSON 이 기본이며, Content-Type / Accept 가 application/cbor 이면 CBOR 로 주고받습니다.
  */
 @RestController
 @RequestMapping("/api/mock")
@@ -32,6 +40,7 @@ import lombok.RequiredArgsConstructor;
 public class MockApiController {
 
     private final MockApiService mockApiService;
+    private final MockPgResponder mockPgResponder;
 
     /**
      * 주문 생성 Mock API
@@ -42,10 +51,11 @@ public class MockApiController {
         summary = "Mock 주문 생성",
         description = SwaggerTags.MOCK_ORDER_CREATE_DESC
     )
-    public ResponseEntity<MockApiOrderDto.MockOrderCreateResponseDto> createOrder(
-            @RequestBody MockApiOrderDto.MockOrderCreateRequestDto request) {
-        MockApiOrderDto.MockOrderCreateResponseDto response = mockApiService.createOrder(request);
-        return ResponseEntity.ok(response);
+    @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = MockApiOrderDto.MockOrderCreateResponseDto.class)))
+    public ResponseEntity<ResponseBodyEmitter> createOrder(
+            @RequestBody MockApiOrderDto.MockOrderCreateRequestDto request,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        return mockPgResponder.respond(accept, () -> mockApiService.createOrder(request));
     }
 
     /**
@@ -58,9 +68,11 @@ public class MockApiController {
         summary = "Mock 결제 요청",
         description = SwaggerTags.MOCK_PAYMENT_DESC
     )
-    public ResponseEntity<MockApiPaymentDto.MockPayResponse> processPayment(@RequestBody MockApiPaymentDto.MockPayRequest request) {
-        MockApiPaymentDto.MockPayResponse response = mockApiService.processPayment(request);
-        return ResponseEntity.ok(response);
+    @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = MockApiPaymentDto.MockPayResponse.class)))
+    public ResponseEntity<ResponseBodyEmitter> processPayment(
+            @RequestBody MockApiPaymentDto.MockPayRequest request,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        return mockPgResponder.respond(accept, () -> mockApiService.processPayment(request));
     }
 
     /** 
@@ -70,9 +82,25 @@ public class MockApiController {
         summary = "Mock 결제 상태 조회",
         description = SwaggerTags.MOCK_PAYMENT_RESULT_DESC
     )
-    public ResponseEntity<MockApiPaymentDto.MockPayResponse> getPaymentResult(@PathVariable String orderId) {
-        MockApiPaymentDto.MockPayResponse response = mockApiService.getPaymentResult(orderId);
-        return ResponseEntity.ok(response);
+    @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = MockApiPaymentDto.MockPayResponse.class)))
+    public ResponseEntity<ResponseBodyEmitter> getPaymentResult(
+            @PathVariable String orderId,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        return mockPgResponder.respond(accept, () -> mockApiService.getPaymentResult(orderId));
+    }
+
+    /**
+     * 결제 결과 일괄 조회 Mock API (주문 N건을 한 번의 요청으로 조회) */
+    @PostMapping("/payment/results")
+    @Operation(
+        summary = "Mock 결제 상태 일괄 조회",
+        description = SwaggerTags.MOCK_PAYMENT_RESULTS_DESC
+    )
+    @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = MockApiPaymentDto.MockPayResultsResponse.class)))
+    public ResponseEntity<ResponseBodyEmitter> getPaymentResults(
+            @RequestBody MockApiPaymentDto.MockPayResultsRequest request,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        return mockPgResponder.respond(accept, () -> mockApiService.getPaymentResults(request));
     }
 
     /**
@@ -84,8 +112,10 @@ public class MockApiController {
         summary = "Mock 주문 취소",
         description = SwaggerTags.MOCK_ORDER_CANCEL_DESC
     )
-    public ResponseEntity<MockApiCancelDto.MockCancelResponse> cancelOrder(@RequestBody MockApiCancelDto.MockCancelRequest request) {
-        MockApiCancelDto.MockCancelResponse response = mockApiService.cancelOrder(request);
-        return ResponseEntity.ok(response);
+    @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = MockApiCancelDto.MockCancelResponse.class)))
+    public ResponseEntity<ResponseBodyEmitter> cancelOrder(
+            @RequestBody MockApiCancelDto.MockCancelRequest request,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        return mockPgResponder.respond(accept, () -> mockApiService.cancelOrder(request));
     }
 }
@@ -0,0 +1,76 @@
+package com.allra.backend.domain.mockapi.controller;
+
+import java.util.Collection;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.allra.backend.docs.swagger.SwaggerTags;
+import com.allra.backend.domain.mockapi.dto.MockPgProfileDto;
+import com.allra.backend.domain.mockapi.service.MockPgProfileService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * MockPgAdminController
+ *
+ * Mock PG 지연 / 장애 주입 프로파일 관리 API.
+ * 실행 중 프로파일을 바꿔 PG 장애(브라운아웃 등)를 재현하고 PaymentService 동작을 측정합니다.
+ */
+@RestController
+@RequestMapping("/api/mock/admin")
+@RequiredArgsConstructor
+@Tag(name = SwaggerTags.MOCK_NAME, description = SwaggerTags.MOCK_DESC)
+public class MockPgAdminController {
+
+    private final MockPgProfileService mockPgProfileService;
+
+    /** 현재 프로파일 조회 */
+    @GetMapping("/profile")
+    @Operation(
+        summary = "Mock PG 현재 프로파일 조회",
+        description = SwaggerTags.MOCK_PROFILE_DESC
+    )
+    public ResponseEntity<MockPgProfileDto.Profile> getProfile() {
+        return ResponseEntity.ok(mockPgProfileService.current());
+    }
+
+    /** 프리셋 목록 조회 */
+    @GetMapping("/profiles")
+    @Operation(
+        summary = "Mock PG 프리셋 목록",
+        description = SwaggerTags.MOCK_PROFILE_DESC
+    )
+    public ResponseEntity<Collection<MockPgProfileDto.Profile>> getPresets() {
+        return ResponseEntity.ok(mockPgProfileService.presets());
+    }
+
+    /** 프리셋 선택 (default / fast / slow-tail / brownout / outage) */
+    @PutMapping("/profile/{name}")
+    @Operation(
+        summary = "Mock PG 프리셋 선택",
+        description = SwaggerTags.MOCK_PROFILE_DESC
+    )
+    public ResponseEntity<MockPgProfileDto.Profile> selectPreset(@PathVariable String name) {
+        return ResponseEntity.ok(mockPgProfileService.select(name));
+    }
+
+    /** 사용자 정의 프로파일 적용 */
+    @PutMapping("/profile")
+    @Operation(
+        summary = "Mock PG 사용자 정의 프로파일 적용",
+        description = SwaggerTags.MOCK_PROFILE_DESC
+    )
+    public ResponseEntity<MockPgProfileDto.Profile> applyProfile(
+            @Valid @RequestBody MockPgProfileDto.Profile profile) {
+        return ResponseEntity.ok(mockPgProfileService.apply(profile));
+    }
+}
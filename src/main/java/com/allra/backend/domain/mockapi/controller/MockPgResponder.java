@@ -0,0 +1,109 @@
+package com.allra.backend.domain.mockapi.controller;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import com.allra.backend.domain.mockapi.codec.MockPgCodec;
+import com.allra.backend.domain.mockapi.codec.MockPgWireFormat;
+import com.allra.backend.domain.mockapi.service.MockPgFaultResponse;
+import com.allra.backend.domain.mockapi.service.MockPgProfileService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * MockPgResponder
+ *
+ * 현재 Mock PG 프로파일에 따라 응답 시점 / 상태 / 본문 전송 방식을 결정한다.
+ * ---------------------------------------------------------
+ * - NONE      : responseLatency 후 본문 전송
+ * - ERROR     : 요청을 처리하지 않고 responseLatency 후 5xx
+ * - TIMEOUT   : 요청은 처리하되 timeoutMs 동안 본문 없이 대기 후 빈 본문으로 종료
+ * - SLOW_BODY : responseLatency 후 본문을 slowBodyMs 동안 나눠 전송
+ * ---------------------------------------------------------
+ * 장애 규칙 / 본문 조각은 MockPgFaultResponse 가 정하고 (MockPgServer 와 공유), 여기서는 서블릿 응답으로 쓰기만 한다.
+ * 본문은 Accept 헤더에 따라 JSON 또는 CBOR 로 직렬화한다. (MockPgCodec)
+ * 지연은 타이머(Mono.delay)로 예약하고 실제 쓰기만 boundedElastic 에서 수행하여,
+ * 지연 중인 요청이 Tomcat 워커 스레드를 점유하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MockPgResponder {
+
+    /** 예약된 전송 시간 이후 비동기 요청 타임아웃까지 여유 */
+    private static final long EMITTER_GRACE_MS = 5000;
+
+    private final MockPgProfileService profileService;
+    private final MockPgCodec codec;
+
+    /**
+     * 프로파일을 적용해 응답
+     *
+     * @param accept  요청 Accept 헤더 (application/cbor 이면 CBOR, 그 외 JSON)
+     * @param handler 실제 Mock 처리 (ERROR 이면 호출하지 않음)
+     */
+    public ResponseEntity<ResponseBodyEmitter> respond(String accept, Supplier<?> handler) {
+        MockPgFaultResponse fault = MockPgFaultResponse.prepare(
+                profileService.nextPlan(), codec, MockPgWireFormat.of(accept), handler);
+        MediaType mediaType = fault.mediaType();
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(fault.status()).contentType(mediaType);
+
+        switch (fault.fault()) {
+            // 2️. 타임아웃 — 처리 결과를 돌려주지 않음 (PG 는 처리했지만 가맹점은 결과를 모르는 상황)
+            case TIMEOUT -> {
+                ResponseBodyEmitter emitter = new ResponseBodyEmitter(fault.hold().toMillis() + EMITTER_GRACE_MS);
+                Mono.delay(fault.hold()).subscribe(tick -> emitter.complete());
+                return response.body(emitter);
+            }
+            // 3️. 느린 본문 — 헤더 이후 본문 조각을 일정 간격으로 전송
+            case SLOW_BODY -> {
+                ResponseBodyEmitter emitter = new ResponseBodyEmitter(
+                        fault.latency().plus(fault.slowBody()).toMillis() + EMITTER_GRACE_MS);
+                fault.chunks()
+                        .publishOn(Schedulers.boundedElastic())
+                        .subscribe(chunk -> send(emitter, mediaType, chunk), emitter::completeWithError, emitter::complete);
+                return response.body(emitter);
+            }
+            // 1️. 5xx 주입 (요청 미처리) / 4️. 정상 — 지연 후 본문 전송
+            default -> {
+                ResponseBodyEmitter emitter = new ResponseBodyEmitter(fault.latency().toMillis() + EMITTER_GRACE_MS);
+                sendLater(emitter, mediaType, fault.body(), fault.latency());
+                return response.body(emitter);
+            }
+        }
+    }
+
+    /** 지연 후 본문 전체 전송 (지연이 없으면 즉시) */
+    private void sendLater(ResponseBodyEmitter emitter, MediaType mediaType, byte[] body, Duration latency) {
+        if (latency.isZero()) {
+            sendAndComplete(emitter, mediaType, body);
+            return;
+        }
+        Mono.delay(latency)
+                .publishOn(Schedulers.boundedElastic())
+                .subscribe(tick -> sendAndComplete(emitter, mediaType, body), emitter::completeWithError);
+    }
+
+    private void sendAndComplete(ResponseBodyEmitter emitter, MediaType mediaType, byte[] body) {
+        send(emitter, mediaType, body);
+        emitter.complete();
+    }
+
+    private void send(ResponseBodyEmitter emitter, MediaType mediaType, byte[] chunk) {
+        try {
+            emitter.send(chunk, mediaType);
+        } catch (IOException e) {
+            // 클라이언트가 먼저 연결을 끊은 경우 (타임아웃 등) — 정리는 서블릿 컨테이너가 처리
+            log.debug("[MockPgResponder] 응답 전송 중단 - error={}", e.getMessage());
+        }
+    }
+}
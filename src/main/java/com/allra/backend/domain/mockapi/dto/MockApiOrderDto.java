@@ -2,8 +2,6 @@ package com.allra.backend.domain.mockapi.dto;
 
 import java.util.List;
 
-import com.allra.backend.domain.product.entity.ProductEntity;
-
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -23,7 +21,7 @@ public class MockApiOrderDto {
     /**
      * 주문 생성 요청 DTO
      * - userId: 사용자 ID
-     * - productId: 상품 ID
+     * - items: 주문 상품 (상품 ID, 수량, 주문 시점 단가)
      * - amount: 상품 총액
      */
     @Data
@@ -32,10 +30,27 @@ public class MockApiOrderDto {
     @NoArgsConstructor
     public static class MockOrderCreateRequestDto {
         private Long userId;
-        private List<ProductEntity> products;
+        private List<MockOrderLineItem> items;
         private Long amount;
     }
 
+    /**
+     * 주문 상품 1건 (PG 전송용)
+     * - JPA 엔티티(ProductEntity) 대신 PG 가 필요한 값만 보낸다. (지연 로딩 / 프록시 직렬화 없음)
+     * - productId: 상품 ID
+     * - quantity: 수량
+     * - unitPrice: 주문 시점 단가 (이후 상품 가격이 바뀌어도 유지)
+     */
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class MockOrderLineItem {
+        private Long productId;
+        private int quantity;
+        private int unitPrice;
+    }
+
     /**
      * 주문 생성 응답 DTO
      * - orderId: 주문 번호
@@ -1,5 +1,7 @@
 package com.allra.backend.domain.mockapi.dto;
 
+import java.util.List;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -30,7 +32,8 @@ public class MockApiPaymentDto {
     }
 
     /**
-     * 결제 응답 DTO
+     * 결제 응답 DTO (결과 통지 본문으로도 사용)
+     * - orderId: 주문 번호
      * - status: 결제 결과 (SUCCESS / FAILED)
      * - transactionId: 트랜잭션 ID
      * - message: 처리 메시지
@@ -40,8 +43,33 @@ public class MockApiPaymentDto {
     @AllArgsConstructor
     @NoArgsConstructor
     public static class MockPayResponse {
+        private String orderId;
         private String status;
         private String transactionId;
         private String message;
     }
+
+    /**
+     * 결제 결과 일괄 조회 요청 DTO
+     * - orderIds: 조회할 주문 번호 목록
+     */
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class MockPayResultsRequest {
+        private List<String> orderIds;
+    }
+
+    /**
+     * 결제 결과 일괄 조회 응답 DTO
+     * - results: 요청 순서대로 주문별 결제 상태 (없는 주문은 NOT_FOUND)
+     */
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class MockPayResultsResponse {
+        private List<MockPayResponse> results;
+    }
 }
@@ -0,0 +1,137 @@
+package com.allra.backend.domain.mockapi.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * MockPgProfileDto
+ * Mock PG 동작 프로파일(지연 / 실패 / 장애 주입) DTO
+ *
+ * <p>
+ * 관리 API(/api/mock/admin/profile)로 조회·변경하며, 변경 즉시 다음 요청부터 적용됩니다.
+ * </p>
+ */
+public class MockPgProfileDto {
+
+    /**
+     * 지연 분포 유형
+     * - FIXED      : 항상 fixedMs
+     * - UNIFORM    : minMs ~ maxMs 균등 분포
+     * - LOG_NORMAL : 중앙값 medianMs, 표준편차 sigma 의 로그 정규 분포 (capMs 로 상한)
+     * - TAIL       : 대부분 minMs ~ maxMs, tailPercent(%) 만 tailMs (p99 꼬리 지연 재현)
+     */
+    public enum LatencyType {
+        FIXED,
+        UNIFORM,
+        LOG_NORMAL,
+        TAIL
+    }
+
+    /**
+     * 지연 분포 DTO
+     */
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Latency {
+        @NotNull(message = "지연 분포 유형은 필수입니다.")
+        private LatencyType type;
+
+        @Min(value = 0, message = "지연 시간은 0 이상이어야 합니다.")
+        private long fixedMs;
+
+        @Min(value = 0, message = "지연 시간은 0 이상이어야 합니다.")
+        private long minMs;
+
+        @Min(value = 0, message = "지연 시간은 0 이상이어야 합니다.")
+        private long maxMs;
+
+        @Min(value = 0, message = "지연 시간은 0 이상이어야 합니다.")
+        private long medianMs;
+
+        @DecimalMin(value = "0.0", message = "sigma 는 0 이상이어야 합니다.")
+        private double sigma;
+
+        @DecimalMin(value = "0.0", message = "꼬리 비율은 0~100 사이여야 합니다.")
+        @DecimalMax(value = "100.0", message = "꼬리 비율은 0~100 사이여야 합니다.")
+        private double tailPercent;
+
+        @Min(value = 0, message = "지연 시간은 0 이상이어야 합니다.")
+        private long tailMs;
+
+        /** 지연 상한 (0 이면 제한 없음) */
+        @Min(value = 0, message = "지연 시간은 0 이상이어야 합니다.")
+        private long capMs;
+
+        public static Latency fixed(long millis) {
+            return Latency.builder().type(LatencyType.FIXED).fixedMs(millis).build();
+        }
+
+        public static Latency uniform(long minMs, long maxMs) {
+            return Latency.builder().type(LatencyType.UNIFORM).minMs(minMs).maxMs(maxMs).build();
+        }
+    }
+
+    /**
+     * 프로파일 DTO
+     * - responseLatency   : Mock API HTTP 응답 지연
+     * - completionLatency : 결제 PENDING → SUCCESS / FAILED 전환 지연
+     * - failureRate       : 결제 최종 FAILED 비율
+     * - timeoutRate       : 요청은 처리하되 timeoutMs 동안 응답 본문 없이 대기 후 종료하는 비율
+     * - errorRate         : 요청을 처리하지 않고 errorStatus(5xx) 로 응답하는 비율
+     * - slowBodyRate      : 응답 헤더 이후 본문을 slowBodyMs 동안 나눠 보내는 비율
+     */
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Profile {
+        @NotBlank(message = "프로파일 이름은 필수입니다.")
+        private String name;
+
+        @Valid
+        @NotNull(message = "응답 지연 분포는 필수입니다.")
+        private Latency responseLatency;
+
+        @Valid
+        @NotNull(message = "결제 완료 지연 분포는 필수입니다.")
+        private Latency completionLatency;
+
+        @DecimalMin(value = "0.0", message = "비율은 0~1 사이여야 합니다.")
+        @DecimalMax(value = "1.0", message = "비율은 0~1 사이여야 합니다.")
+        private double failureRate;
+
+        @DecimalMin(value = "0.0", message = "비율은 0~1 사이여야 합니다.")
+        @DecimalMax(value = "1.0", message = "비율은 0~1 사이여야 합니다.")
+        private double timeoutRate;
+
+        @Min(value = 0, message = "지연 시간은 0 이상이어야 합니다.")
+        private long timeoutMs;
+
+        @DecimalMin(value = "0.0", message = "비율은 0~1 사이여야 합니다.")
+        @DecimalMax(value = "1.0", message = "비율은 0~1 사이여야 합니다.")
+        private double errorRate;
+
+        @Builder.Default
+        @Min(value = 500, message = "오류 상태 코드는 5xx 여야 합니다.")
+        @Max(value = 599, message = "오류 상태 코드는 5xx 여야 합니다.")
+        private int errorStatus = 503;
+
+        @DecimalMin(value = "0.0", message = "비율은 0~1 사이여야 합니다.")
+        @DecimalMax(value = "1.0", message = "비율은 0~1 사이여야 합니다.")
+        private double slowBodyRate;
+
+        @Min(value = 0, message = "지연 시간은 0 이상이어야 합니다.")
+        private long slowBodyMs;
+    }
+}
@@ -0,0 +1,250 @@
+package com.allra.backend.domain.mockapi.server;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+
+import com.allra.backend.domain.mockapi.codec.MockPgCodec;
+import com.allra.backend.domain.mockapi.codec.MockPgWireFormat;
+import com.allra.backend.domain.mockapi.dto.MockApiCancelDto;
+import com.allra.backend.domain.mockapi.dto.MockApiOrderDto;
+import com.allra.backend.domain.mockapi.dto.MockApiPaymentDto;
+import com.allra.backend.domain.mockapi.dto.MockPgProfileDto;
+import com.allra.backend.domain.mockapi.service.MockApiService;
+import com.allra.backend.domain.mockapi.service.MockPgFaultResponse;
+import com.allra.backend.domain.mockapi.service.MockPgProfileService;
+import com.allra.backend.global.exception.NotFoundException;
+
+import io.netty.channel.ChannelOption;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+import reactor.netty.http.server.HttpServerRoutes;
+import reactor.netty.resources.LoopResources;
+
+/**
+ * MockPgServer
+ *
+ * Mock PG 를 메인 애플리케이션(Tomcat)과 분리된 Reactor Netty 서버로 제공한다. (MockPgServerApplication 에서 기동)
+ * ---------------------------------------------------------
+ * 1️. 경로 : MockApiController / MockPgAdminController 와 동일 (/api/mock/**)
+ * 2️. 처리 : MockApiService / MockPgProfileService 를 그대로 사용 (상태 머신, 타이머 휠, 프로파일 공유)
+ * 3️. 장애 주입 : MockPgResponder 와 같은 규칙 (ERROR / TIMEOUT / SLOW_BODY — MockPgFaultResponse 공유), 지연은 타이머로 예약
+ *    포맷 : 요청은 Content-Type, 응답은 Accept 기준 JSON / CBOR (MockPgCodec)
+ * 4️. 연결 : 이벤트 루프 스레드만 사용 (연결당 스레드 없음)
+ *           - SO_BACKLOG 확대, TCP_NODELAY, keep-alive, 유휴 연결 정리(idle-timeout)
+ *           - HTTP/1.1 + h2c (HTTP/2 평문)
+ * ---------------------------------------------------------
+ * 메인 애플리케이션의 컴포넌트 스캔 대상이 아니며 (@Component 없음), 독립 실행 시에만 등록된다.
+ * 부하 테스트에서 Mock PG 가 가맹점 API 와 Tomcat 워커 스레드를 나눠 쓰지 않게 하기 위함이다.
+ */
+@Slf4j
+public class MockPgServer {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final MockApiService mockApiService;
+    private final MockPgProfileService profileService;
+    private final MockPgCodec codec;
+    private final Validator validator;
+
+    private final int port;
+    private final int eventLoopThreads;
+    private final int backlog;
+    private final Duration idleTimeout;
+
+    private LoopResources loops;
+    private DisposableServer server;
+
+    public MockPgServer(
+            MockApiService mockApiService,
+            MockPgProfileService profileService,
+            MockPgCodec codec,
+            Validator validator,
+            @Value("${mockapi.server.port:8090}") int port,
+            @Value("${mockapi.server.event-loop-threads:0}") int eventLoopThreads,
+            @Value("${mockapi.server.backlog:8192}") int backlog,
+            @Value("${mockapi.server.idle-timeout:PT60S}") Duration idleTimeout) {
+        this.mockApiService = mockApiService;
+        this.profileService = profileService;
+        this.codec = codec;
+        this.validator = validator;
+        this.port = port;
+        this.eventLoopThreads = eventLoopThreads > 0 ? eventLoopThreads : Runtime.getRuntime().availableProcessors();
+        this.backlog = backlog;
+        this.idleTimeout = idleTimeout;
+    }
+
+    /** 서버 기동 (port 가 0 이면 임의 포트) */
+    public synchronized DisposableServer start() {
+        if (server != null) {
+            return server;
+        }
+        // accept 전용 1개 + 워커 N개, 데몬 아님 (main 스레드 종료 후에도 유지)
+        loops = LoopResources.create("mock-pg", 1, eventLoopThreads, false);
+        server = HttpServer.create()
+                .port(port)
+                .runOn(loops)
+                .protocol(HttpProtocol.HTTP11, HttpProtocol.H2C)
+                .option(ChannelOption.SO_BACKLOG, backlog)
+                .option(ChannelOption.SO_REUSEADDR, true)
+                .childOption(ChannelOption.TCP_NODELAY, true)
+                .childOption(ChannelOption.SO_KEEPALIVE, true)
+                .idleTimeout(idleTimeout)
+                .route(this::routes)
+                .bindNow();
+        log.info("[MockPgServer] Mock PG 서버 기동 - port={}, eventLoopThreads={}, backlog={}",
+                server.port(), eventLoopThreads, backlog);
+        return server;
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (server != null) {
+            server.disposeNow(Duration.ofSeconds(5));
+            server = null;
+        }
+        if (loops != null) {
+            loops.disposeLater().block(Duration.ofSeconds(5));
+            loops = null;
+        }
+    }
+
+    // ==============================
+    // 🧩 라우팅 (MockApiController / MockPgAdminController 와 동일 경로)
+    // ==============================
+
+    private void routes(HttpServerRoutes routes) {
+        routes
+                .post("/api/mock/order", (request, response) ->
+                        handle(request, response, MockApiOrderDto.MockOrderCreateRequestDto.class, mockApiService::createOrder))
+                .post("/api/mock/payment", (request, response) ->
+                        handle(request, response, MockApiPaymentDto.MockPayRequest.class, mockApiService::processPayment))
+                .get("/api/mock/payment/result/{orderId}", (request, response) ->
+                        respond(request, response, () -> mockApiService.getPaymentResult(request.param("orderId"))))
+                .post("/api/mock/payment/results", (request, response) ->
+                        handle(request, response, MockApiPaymentDto.MockPayResultsRequest.class, mockApiService::getPaymentResults))
+                .post("/api/mock/order/cancel", (request, response) ->
+                        handle(request, response, MockApiCancelDto.MockCancelRequest.class, mockApiService::cancelOrder))
+                .get("/api/mock/admin/profile", (request, response) ->
+                        reply(request, response, HttpResponseStatus.OK, profileService.current()))
+                .get("/api/mock/admin/profiles", (request, response) ->
+                        reply(request, response, HttpResponseStatus.OK, profileService.presets()))
+                .put("/api/mock/admin/profile/{name}", (request, response) ->
+                        Mono.fromSupplier(() -> profileService.select(request.param("name")))
+                                .flatMap(profile -> reply(request, response, HttpResponseStatus.OK, profile))
+                                .onErrorResume(NotFoundException.class,
+                                        e -> error(request, response, HttpResponseStatus.NOT_FOUND, e.getMessage())))
+                .put("/api/mock/admin/profile", (request, response) ->
+                        read(request, MockPgProfileDto.Profile.class)
+                                .flatMap(profile -> {
+                                    String violations = validate(profile);
+                                    return violations.isEmpty()
+                                            ? reply(request, response, HttpResponseStatus.OK, profileService.apply(profile))
+                                            : error(request, response, HttpResponseStatus.BAD_REQUEST, violations);
+                                })
+                                .onErrorResume(IOException.class,
+                                        e -> error(request, response, HttpResponseStatus.BAD_REQUEST, e.getMessage())));
+    }
+
+    /** 요청 본문(JSON / CBOR) 역직렬화 후 프로파일을 적용해 응답 */
+    private <T> Mono<Void> handle(HttpServerRequest request, HttpServerResponse response,
+                                  Class<T> type, Function<T, ?> handler) {
+        return read(request, type)
+                .flatMap(body -> respond(request, response, () -> handler.apply(body)))
+                .onErrorResume(IOException.class, e -> error(request, response, HttpResponseStatus.BAD_REQUEST, e.getMessage()));
+    }
+
+    private <T> Mono<T> read(HttpServerRequest request, Class<T> type) {
+        MockPgWireFormat format = MockPgWireFormat.of(request.requestHeaders().get(HttpHeaderNames.CONTENT_TYPE));
+        return request.receive().aggregate().asByteArray()
+                .defaultIfEmpty(EMPTY)
+                .handle((bytes, sink) -> {
+                    try {
+                        sink.next(codec.read(format, bytes, type));
+                    } catch (IOException e) {
+                        sink.error(e);
+                    }
+                });
+    }
+
+    private String validate(Object target) {
+        Set<ConstraintViolation<Object>> violations = validator.validate(target);
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    // ==============================
+    // 🧩 장애 주입 응답 (MockPgFaultResponse — MockPgResponder 와 공유)
+    // ==============================
+
+    /**
+     * 프로파일을 적용해 응답
+     *
+     * @param handler 실제 Mock 처리 (ERROR 이면 호출하지 않음)
+     */
+    private Mono<Void> respond(HttpServerRequest request, HttpServerResponse response, Supplier<?> handler) {
+        MockPgFaultResponse fault = MockPgFaultResponse.prepare(profileService.nextPlan(), codec, accept(request), handler);
+
+        return switch (fault.fault()) {
+            // 2️. 타임아웃 — 헤더만 보내고 timeoutMs 동안 본문 없이 대기 후 빈 본문으로 종료
+            case TIMEOUT -> response.status(fault.status())
+                    .header(HttpHeaderNames.CONTENT_TYPE, fault.mediaType().toString())
+                    .sendHeaders()
+                    .then()
+                    .then(Mono.delay(fault.hold()))
+                    .then();
+            // 3️. 느린 본문 — 헤더 이후 본문 조각을 일정 간격으로 전송 (chunked)
+            case SLOW_BODY -> response.status(fault.status())
+                    .header(HttpHeaderNames.CONTENT_TYPE, fault.mediaType().toString())
+                    .sendByteArray(fault.chunks())
+                    .then();
+            // 1️. 5xx 주입 (요청 미처리) / 4️. 정상 — 지연 후 본문 전송
+            default -> send(response, HttpResponseStatus.valueOf(fault.status()), fault.format(), fault.body(),
+                    fault.latency());
+        };
+    }
+
+    /** 지연 후 본문 전체 전송 (지연이 없으면 즉시) */
+    private Mono<Void> send(HttpServerResponse response, HttpResponseStatus status,
+                            MockPgWireFormat format, byte[] body, Duration latency) {
+        Mono<byte[]> delayed = latency.isZero() ? Mono.just(body) : Mono.delay(latency).thenReturn(body);
+        return response.status(status)
+                .header(HttpHeaderNames.CONTENT_TYPE, format.mediaType().toString())
+                .header(HttpHeaderNames.CONTENT_LENGTH, String.valueOf(body.length))
+                .sendByteArray(delayed)
+                .then();
+    }
+
+    private Mono<Void> reply(HttpServerRequest request, HttpServerResponse response,
+                             HttpResponseStatus status, Object value) {
+        MockPgWireFormat format = accept(request);
+        return send(response, status, format, codec.write(format, value), Duration.ZERO);
+    }
+
+    private Mono<Void> error(HttpServerRequest request, HttpServerResponse response,
+                             HttpResponseStatus status, String message) {
+        return reply(request, response, status, Map.of("status", status.reasonPhrase(), "message", String.valueOf(message)));
+    }
+
+    private static MockPgWireFormat accept(HttpServerRequest request) {
+        return MockPgWireFormat.of(request.requestHeaders().get(HttpHeaderNames.ACCEPT));
+    }
+}
@@ -0,0 +1,72 @@
+package com.allra.backend.domain.mockapi.server;
+
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import com.allra.backend.domain.mockapi.codec.MockPgCodec;
+import com.allra.backend.domain.mockapi.service.MockApiService;
+import com.allra.backend.domain.mockapi.service.MockPaymentCompletionScheduler;
+import com.allra.backend.domain.mockapi.service.MockPaymentStatusStore;
+import com.allra.backend.domain.mockapi.service.MockPgCallbackClient;
+import com.allra.backend.domain.mockapi.service.MockPgProfileService;
+import com.allra.backend.global.config.IdGeneratorConfig;
+import com.allra.backend.global.config.SchedulingConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+
+/**
+ * MockPgServerApplication
+ *
+ * Mock PG 독립 실행 진입점 (./gradlew runMockPg, 기본 포트 8090)
+ * ---------------------------------------------------------
+ * 1️. 웹 서버 / JPA / 자동 설정 없이 Mock PG 에 필요한 빈만 등록 (application.yaml 의 mockapi.*, id.*, payment.callback.* 사용)
+ *    상태 저장소 만료 정리(@Scheduled)를 위해 SchedulingConfig 포함
+ * 2️. MockPgServer(Reactor Netty) 기동 후 종료 신호까지 대기
+ * ---------------------------------------------------------
+ * 메인 애플리케이션은 MOCK_BASE_URL=http://localhost:8090 으로 실행하면 이 서버를 PG 로 사용한다.
+ * @Configuration 을 붙이지 않아 메인 애플리케이션의 컴포넌트 스캔에 포함되지 않는다.
+ */
+@Import({
+        MockApiService.class,
+        MockPgCallbackClient.class,
+        MockPaymentCompletionScheduler.class,
+        MockPgProfileService.class,
+        MockPaymentStatusStore.class,
+        MockPgCodec.class,
+        IdGeneratorConfig.class,
+        SchedulingConfig.class,
+        MockPgServer.class
+})
+public class MockPgServerApplication {
+
+    @Bean
+    MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+
+    @Bean
+    ObjectMapper objectMapper() {
+        return new ObjectMapper().findAndRegisterModules();
+    }
+
+    @Bean
+    Validator validator() {
+        return Validation.buildDefaultValidatorFactory().getValidator();
+    }
+
+    public static void main(String[] args) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(MockPgServerApplication.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .run(args);
+        context.getBean(MockPgServer.class).start().onDispose().block();
+    }
+}
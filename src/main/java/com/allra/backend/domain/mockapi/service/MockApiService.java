@@ -1,36 +1,49 @@
 package com.allra.backend.domain.mockapi.service;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.Map;
-import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.springframework.stereotype.Service;
 
 import com.allra.backend.domain.mockapi.dto.MockApiOrderDto;
 import com.allra.backend.domain.mockapi.dto.MockApiPaymentDto;
 import com.allra.backend.domain.mockapi.dto.MockApiCancelDto;
+import com.allra.backend.global.id.IdGenerator;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * MockService
  *
  * 외부 PG사 및 주문 시스템을 흉내내는 Mock 서비스 클래스.
  * 결제 요청 시 PENDING(처리중) 상태를 반환하고,
- * 일정 시간 후 SUCCESS 또는 FAILED 로 자동 변경.
+ * 일정 시간 후 SUCCESS 또는 FAILED 로 자동 변경. (지연 / 실패율은 현재 Mock PG 프로파일 기준)
+ * 최종 상태가 정해지면 가맹점 통지 URL(payment.callback.url)로 결과를 POST 한다. (웹훅)
+ * 지연 완료는 MockPaymentCompletionScheduler(타이머 휠)에 예약하여 결제당 스레드를 쓰지 않는다.
  */
+@Slf4j
 @Service
+@RequiredArgsConstructor
 public class MockApiService {
 
-    /** 결제 상태를 임시 보관하는 메모리 저장소 */
-    private final Map<String, String> paymentStatusMap = new ConcurrentHashMap<>();
+    private final MockPaymentCompletionScheduler completionScheduler;
+    private final MockPgProfileService profileService;
+
+    /** 결제 상태를 임시 보관하는 메모리 저장소 (크기 제한 + TTL 만료) */
+    private final MockPaymentStatusStore paymentStatusStore;
+
+    /** 주문번호 / 거래번호 생성기 */
+    private final IdGenerator idGenerator;
+
+    /** 결과 통지(웹훅) 전송 클라이언트 (연결 / 응답 타임아웃 적용) */
+    private final MockPgCallbackClient callbackClient;
 
     /**
      * 주문 생성 Mock
-     * - userId, products(여러 상품)를 받아 주문번호를 자동 생성
+     * - userId, items(주문 상품 목록)를 받아 주문번호를 자동 생성
      * - 상태값: CREATED
-     * - 필수 검증: userId, products 리스트
+     * - 필수 검증: userId, items 리스트
      */
     public MockApiOrderDto.MockOrderCreateResponseDto createOrder(MockApiOrderDto.MockOrderCreateRequestDto request) {
 
@@ -44,7 +57,7 @@ public class MockApiService {
         }
 
         // 2️. 상품 리스트 검증
-        if (request.getProducts() == null || request.getProducts().isEmpty()) {
+        if (request.getItems() == null || request.getItems().isEmpty()) {
             return MockApiOrderDto.MockOrderCreateResponseDto.builder()
                     .orderId(null)
                     .status("INVALID_PRODUCT_LIST")
@@ -54,7 +67,7 @@ public class MockApiService {
 
         // 3️. 주문 생성 처리
         String orderId = generateOrderId();
-        int productCount = request.getProducts().size();
+        int productCount = request.getItems().size();
 
         String message = String.format(
                 "Order created successfully for userId=%d with %d product(s). Total amount: %d",
@@ -72,7 +85,7 @@ public class MockApiService {
      * 결제 처리 Mock
      *
      * - 결제 요청 시: PENDING 상태 즉시 반환
-     * - 8~15초 후 내부적으로 SUCCESS / FAILED 로 자동 전환 (비동기)
+     * - 프로파일의 완료 지연(기본 8~15초) 후 내부적으로 SUCCESS / FAILED 로 자동 전환 (비동기)
      * - 주문번호나 금액이 유효하지 않으면 즉시 실패 처리
      */
     public MockApiPaymentDto.MockPayResponse processPayment(MockApiPaymentDto.MockPayRequest request) {
@@ -83,6 +96,7 @@ public class MockApiService {
         // 1️. 주문번호(orderId) 검증
         if (orderId == null || orderId.isBlank()) {
             return MockApiPaymentDto.MockPayResponse.builder()
+                    .orderId(orderId)
                     .status("INVALID_ORDER_ID")
                     .transactionId(generateTransactionId())
                     .message("Invalid orderId. Payment cannot be processed.")
@@ -92,30 +106,35 @@ public class MockApiService {
         // 2️. 결제 금액 검증 (0 이하 금액은 즉시 실패)
         if (amount <= 0) {
             return MockApiPaymentDto.MockPayResponse.builder()
+                    .orderId(orderId)
                     .status("FAILED")
                     .transactionId(generateTransactionId())
                     .message(String.format("Payment failed immediately: invalid amount (%d)", amount))
                     .build();
         }
 
-        // 3️. 최초 요청 시: PENDING 상태 저장
-        paymentStatusMap.put(orderId, "PENDING");
-
-        // 4️. 비동기적으로 SUCCESS / FAILED 상태 전환
-        CompletableFuture.runAsync(() -> {
-            try {
-                Thread.sleep((long) (Math.random() * 7000) + 8000); // 8~15초 대기
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
+        // 3️. 최초 요청 시: PENDING 상태 등록 (이미 있으면 중복 요청 — 현재 상태 반환, 완료 재예약 없음)
+        // 4️. 완료 지연(기본 8~15초) 후 SUCCESS / FAILED 상태 전환 예약 (타이머 휠, 스레드 점유 없음)
+        try {
+            MockPaymentStatus existing = paymentStatusStore.registerPending(orderId);
+            if (existing != null) {
+                return MockApiPaymentDto.MockPayResponse.builder()
+                        .orderId(orderId)
+                        .status(existing.name())
+                        .transactionId("txn_" + orderId)
+                        .message(String.format("Payment for orderId=%s already requested. Current status is %s", orderId, existing))
+                        .build();
             }
-
-            boolean isSuccess = Math.random() < 0.8; // 80% 성공 확률
-            String result = isSuccess ? "SUCCESS" : "FAILED";
-            paymentStatusMap.put(orderId, result);
-        });
+            completionScheduler.schedule(() -> completePayment(orderId), profileService.nextCompletionDelay());
+        } catch (RejectedExecutionException e) {
+            // 저장소 또는 타이머 예약 한도 초과
+            paymentStatusStore.removePending(orderId);
+            return tooManyPayments(orderId);
+        }
 
         // 5️. 즉시 응답: 현재는 처리 중(PENDING)
         return MockApiPaymentDto.MockPayResponse.builder()
+                .orderId(orderId)
                 .status("PENDING")
                 .transactionId(generateTransactionId())
                 .message(String.format("Payment request for orderId=%s received. Processing...", orderId))
@@ -123,21 +142,59 @@ public class MockApiService {
     }
 
 
+    /**
+     * 결제 지연 완료 (타이머 휠 워커에서 실행)
+     * - 프로파일의 failureRate 확률로 FAILED, 나머지는 SUCCESS (기본 80% 성공)
+     * - 처리 중 취소된 결제는 덮어쓰지 않음 (상태 머신이 CANCELED → SUCCESS / FAILED 전이를 거절)
+     */
+    private void completePayment(String orderId) {
+        MockPaymentStatus result = profileService.nextPaymentFails() ? MockPaymentStatus.FAILED : MockPaymentStatus.SUCCESS;
+
+        if (paymentStatusStore.transition(orderId, result).applied()) {
+            notifyResult(orderId, result.name());
+        }
+    }
+
+    /** 진행 중 결제 수 한도 초과 응답 */
+    private MockApiPaymentDto.MockPayResponse tooManyPayments(String orderId) {
+        return MockApiPaymentDto.MockPayResponse.builder()
+                .orderId(orderId)
+                .status("FAILED")
+                .transactionId(generateTransactionId())
+                .message("Payment rejected: too many payments in progress.")
+                .build();
+    }
+
     /**
      * 결제 결과 조회 Mock
      * - 현재 결제 상태를 확인할 수 있음.
      * - PENDING / SUCCESS / FAILED 중 하나 반환.
      */
     public MockApiPaymentDto.MockPayResponse getPaymentResult(String orderId) {
-        String status = paymentStatusMap.getOrDefault(orderId, "NOT_FOUND");
+        MockPaymentStatus current = paymentStatusStore.get(orderId);
+        String status = current != null ? current.name() : "NOT_FOUND";
 
         return MockApiPaymentDto.MockPayResponse.builder()
+                .orderId(orderId)
                 .status(status)
                 .transactionId("txn_" + orderId)
                 .message(String.format("Payment status for orderId=%s is %s", orderId, status))
                 .build();
     }
 
+    /**
+     * 결제 결과 일괄 조회 Mock
+     * - 여러 주문번호의 현재 결제 상태를 한 번에 반환 (요청 순서 유지)
+     * - 존재하지 않는 주문은 NOT_FOUND
+     */
+    public MockApiPaymentDto.MockPayResultsResponse getPaymentResults(MockApiPaymentDto.MockPayResultsRequest request) {
+        List<String> orderIds = request.getOrderIds() != null ? request.getOrderIds() : List.of();
+
+        return MockApiPaymentDto.MockPayResultsResponse.builder()
+                .results(orderIds.stream().map(this::getPaymentResult).toList())
+                .build();
+    }
+
     /**
      * 주문 취소 Mock
      * - 단순히 취소 상태를 반환
@@ -146,46 +203,57 @@ public class MockApiService {
     public MockApiCancelDto.MockCancelResponse cancelOrder(MockApiCancelDto.MockCancelRequest request) {
         String orderId = request.getOrderId();
 
-         // 1️. 현재 결제 상태 조회
-        String currentStatus = paymentStatusMap.get(orderId);
+        // 1️. CANCELED 로 상태 전이 시도 (조회와 변경을 CAS 한 번으로 — 완료 처리와 경합해도 하나만 반영)
+        MockPaymentStatusStore.Transition transition = paymentStatusStore.transition(orderId, MockPaymentStatus.CANCELED);
 
         // 2️. 주문이 존재하지 않으면 NOT_FOUND 반환
-        if (currentStatus == null) {
+        if (transition.outcome() == MockPaymentStatusStore.Outcome.NOT_FOUND) {
             return MockApiCancelDto.MockCancelResponse.builder()
                     .status("NOT_FOUND")
                     .message(String.format("OrderId=%s not found. Cancel request ignored.", orderId))
                     .build();
         }
 
-        // 3️. 결제 실패(FAILED) 상태는 취소 불가 처리
-        if ("FAILED".equalsIgnoreCase(currentStatus)) {
+        // 3️. 결제 실패(FAILED) 상태는 취소 불가 처리 (이미 CANCELED 면 같은 응답 반환)
+        if (transition.outcome() == MockPaymentStatusStore.Outcome.ILLEGAL
+                && transition.current() != MockPaymentStatus.CANCELED) {
             return MockApiCancelDto.MockCancelResponse.builder()
                     .status("CANNOT_CANCEL")
                     .message(String.format("OrderId=%s cannot be canceled because payment has already failed.", orderId))
                     .build();
         }
 
-        // 4️. 결제 성공(SUCCESS) 또는 진행중(PENDING) 상태는 취소 가능
-        paymentStatusMap.put(orderId, "CANCELED");
-
+        // 4️. 결제 성공(SUCCESS) 또는 진행중(PENDING) 상태는 취소 완료
         return MockApiCancelDto.MockCancelResponse.builder()
                 .status("CANCELED")
                 .message(String.format("Order canceled successfully for orderId=%s", orderId))
                 .build();
     }
 
+    /**
+     * 결제 결과 통지 (웹훅)
+     * - 최종 상태 전환 시 1회 전송, 실패하면 지수 백오프로 최대 3회 재시도
+     * - 통지가 끝내 실패해도 가맹점은 결과 조회 API 로 확인할 수 있음
+     */
+    private void notifyResult(String orderId, String status) {
+        callbackClient.send(MockApiPaymentDto.MockPayResponse.builder()
+                .orderId(orderId)
+                .status(status)
+                .transactionId("txn_" + orderId)
+                .message(String.format("Payment status for orderId=%s is %s", orderId, status))
+                .build());
+    }
+
     // ============================================================
     // 내부 유틸 메서드 (고유 ID 생성)
     // ============================================================
 
+    /** 주문번호 (ORD_ + 13자리 Base32, 노드 간 충돌 없음) */
     private String generateOrderId() {
-        String date = LocalDateTime.now()
-                .format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
-        int random = (int) (Math.random() * 900000) + 100000; // 6자리 난수
-        return "ORD_" + date + "_" + random;
+        return idGenerator.next("ORD_");
     }
 
     private String generateTransactionId() {
-        return "txn_" + UUID.randomUUID().toString().substring(0, 8);
+        return idGenerator.next("txn_");
     }
 }
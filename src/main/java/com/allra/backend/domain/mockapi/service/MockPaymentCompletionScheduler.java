@@ -0,0 +1,70 @@
+package com.allra.backend.domain.mockapi.service;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * MockPaymentCompletionScheduler
+ *
+ * Mock PG 결제의 지연 완료(PENDING → SUCCESS / FAILED)를 예약하는 타이머 휠.
+ * ---------------------------------------------------------
+ * 1️. 예약 : 결제 1건당 타이머 항목 1개만 생성 (스레드 / 슬립 없음)
+ * 2️. 실행 : 전용 워커 스레드 1개가 tick 마다 만료된 항목을 실행
+ * 3️. 상한 : max-pending 을 넘는 예약은 즉시 거절 (0 이하면 제한 없음)
+ * ---------------------------------------------------------
+ * 기존 CompletableFuture.runAsync + Thread.sleep 방식은 결제 1건이 공용 ForkJoinPool 스레드를
+ * 8~15초 점유하여, 진행 중인 결제가 코어 수를 넘으면 JVM 의 다른 parallelStream / CompletableFuture 까지 멈췄다.
+ * 실행 작업은 워커 스레드를 막지 않도록 짧아야 한다. (상태 전환 + 논블로킹 통지 요청)
+ */
+@Slf4j
+@Component
+public class MockPaymentCompletionScheduler {
+
+    private final HashedWheelTimer timer;
+
+    public MockPaymentCompletionScheduler(
+            @Value("${mockapi.completion.tick-duration:PT0.1S}") Duration tickDuration,
+            @Value("${mockapi.completion.ticks-per-wheel:512}") int ticksPerWheel,
+            @Value("${mockapi.completion.max-pending:0}") long maxPending) {
+        this.timer = new HashedWheelTimer(
+                new DefaultThreadFactory("mock-pg-completion", true),
+                tickDuration.toMillis(), TimeUnit.MILLISECONDS,
+                ticksPerWheel,
+                false,
+                maxPending > 0 ? maxPending : -1);
+    }
+
+    /**
+     * 지연 작업 예약
+     *
+     * @throws java.util.concurrent.RejectedExecutionException 예약 대기 수가 상한을 넘은 경우
+     */
+    public Timeout schedule(Runnable task, Duration delay) {
+        return timer.newTimeout(timeout -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.warn("[MockPaymentCompletionScheduler] 예약 작업 실패 - error={}", e.getMessage());
+            }
+        }, delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /** 실행 대기 중인 예약 수 */
+    public long pending() {
+        return timer.pendingTimeouts();
+    }
+
+    @PreDestroy
+    public void stop() {
+        timer.stop();
+    }
+}
@@ -0,0 +1,38 @@
+package com.allra.backend.domain.mockapi.service;
+
+/**
+ * Mock PG 결제 상태 (상태 머신)
+ * - 저장소에는 문자열 대신 ordinal(3비트)로 저장된다.
+ *
+ * <pre>
+ * PENDING ──▶ SUCCESS ──▶ CANCELED
+ *    │  └───▶ FAILED
+ *    └──────▶ CANCELED
+ * </pre>
+ */
+public enum MockPaymentStatus {
+    PENDING,
+    SUCCESS,
+    FAILED,
+    CANCELED;
+
+    private static final MockPaymentStatus[] VALUES = values();
+
+    /** 최종 상태 여부 (TTL 만료 대상) */
+    public boolean isTerminal() {
+        return this != PENDING;
+    }
+
+    /** 허용된 전이인지 여부 */
+    public boolean canTransitionTo(MockPaymentStatus next) {
+        return switch (this) {
+            case PENDING -> next == SUCCESS || next == FAILED || next == CANCELED;
+            case SUCCESS -> next == CANCELED; // 결제 성공 후 취소(환불)
+            case FAILED, CANCELED -> false;
+        };
+    }
+
+    static MockPaymentStatus ofOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+}
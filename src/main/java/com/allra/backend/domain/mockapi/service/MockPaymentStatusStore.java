@@ -0,0 +1,257 @@
+package com.allra.backend.domain.mockapi.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * MockPaymentStatusStore
+ *
+ * Mock PG 결제 상태 저장소 (상태 머신 + 크기 제한 + TTL 만료).
+ * ---------------------------------------------------------
+ * 1️. 압축 저장 : 값은 [갱신 시각(초) 32비트 | 버전 24비트 | 상태 ordinal 3비트] 를 담은 Long 1개
+ * 2️. 상태 전이 : 읽기 → MockPaymentStatus.canTransitionTo 검증 → replace(key, 이전 값, 새 값) CAS 반복
+ *               (잠금 없이 경합 시 재시도, 버전이 값에 포함되어 ABA 없음, 허용되지 않은 전이는 거절)
+ * 3️. TTL 만료 : 최종 상태(SUCCESS / FAILED / CANCELED)는 terminal-ttl, PENDING 은 pending-ttl 이후 주기적으로 제거
+ * 4️. 크기 제한 : max-entries 를 넘으면 오래된 최종 상태부터 90% 까지 제거,
+ *               그래도 넘으면(전부 PENDING) 새 결제 등록을 거절
+ * 5️. 지표 : mock.payment.store.entries / mock.payment.store.estimated.bytes /
+ *           mock.payment.store.evictions{reason=ttl|size}
+ * ---------------------------------------------------------
+ * 크기 초과 정리는 한 스레드만 수행하므로 정리 중에는 잠시 max-entries 를 넘을 수 있다.
+ */
+@Slf4j
+@Component
+public class MockPaymentStatusStore {
+
+    /**
+     * 항목당 추정 메모리 (byte)
+     * - ConcurrentHashMap 노드 32 + 테이블 슬롯 8 + Long 16
+     * - 주문번호 문자열(ORD_ + Base32 13자리, 17자) 24 + byte[] 40 (+ 여유)
+     */
+    static final long ESTIMATED_BYTES_PER_ENTRY = 128;
+
+    private static final int STATUS_BITS = 3;
+    private static final int VERSION_BITS = 24;
+    private static final long STATUS_MASK = (1L << STATUS_BITS) - 1;
+    private static final long VERSION_MASK = (1L << VERSION_BITS) - 1;
+
+    /** 상태 전이 결과 */
+    public enum Outcome {
+        /** 전이 성공 */
+        APPLIED,
+        /** 결제 없음 */
+        NOT_FOUND,
+        /** 허용되지 않은 전이 (현재 상태 유지) */
+        ILLEGAL
+    }
+
+    /**
+     * 상태 전이 결과
+     * @param previous 전이 시도 시점의 상태 (NOT_FOUND 이면 null)
+     * @param version  결과 시점의 버전 (등록 시 0, 전이마다 1 증가)
+     */
+    public record Transition(Outcome outcome, MockPaymentStatus previous, MockPaymentStatus current, int version) {
+        public boolean applied() {
+            return outcome == Outcome.APPLIED;
+        }
+    }
+
+    private final Map<String, Long> entries = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private final int maxEntries;
+    private final long terminalTtlSeconds;
+    private final long pendingTtlSeconds;
+
+    private final Counter ttlEvictions;
+    private final Counter sizeEvictions;
+
+    private Clock clock = Clock.systemUTC();
+
+    public MockPaymentStatusStore(
+            @Value("${mockapi.status-store.max-entries:1000000}") int maxEntries,
+            @Value("${mockapi.status-store.terminal-ttl:PT30M}") Duration terminalTtl,
+            @Value("${mockapi.status-store.pending-ttl:PT1H}") Duration pendingTtl,
+            MeterRegistry meterRegistry) {
+        this.maxEntries = maxEntries;
+        this.terminalTtlSeconds = terminalTtl.toSeconds();
+        this.pendingTtlSeconds = pendingTtl.toSeconds();
+
+        Gauge.builder("mock.payment.store.entries", entries, Map::size)
+                .description("Mock PG 결제 상태 항목 수")
+                .register(meterRegistry);
+        Gauge.builder("mock.payment.store.estimated.bytes", this, MockPaymentStatusStore::estimatedBytes)
+                .description("Mock PG 결제 상태 저장소 추정 메모리")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.ttlEvictions = meterRegistry.counter("mock.payment.store.evictions", "reason", "ttl");
+        this.sizeEvictions = meterRegistry.counter("mock.payment.store.evictions", "reason", "size");
+    }
+
+    // ==============================
+    // 🧩 상태 조회 / 변경
+    // ==============================
+
+    /** 현재 상태 (없으면 null) */
+    public MockPaymentStatus get(String orderId) {
+        Long packed = entries.get(orderId);
+        return packed == null ? null : statusOf(packed);
+    }
+
+    /** 현재 버전 (없으면 -1) */
+    public int version(String orderId) {
+        Long packed = entries.get(orderId);
+        return packed == null ? -1 : versionOf(packed);
+    }
+
+    /**
+     * 결제 등록 (PENDING, 버전 0)
+     * - 이미 등록된 결제는 변경하지 않는다. (중복 결제 요청)
+     * @return 등록 시 null, 이미 있으면 현재 상태
+     * @throws RejectedExecutionException 크기 제한으로 등록할 수 없는 경우
+     */
+    public MockPaymentStatus registerPending(String orderId) {
+        if (entries.size() >= maxEntries && !entries.containsKey(orderId)) {
+            evictOverflow();
+            if (entries.size() >= maxEntries) {
+                throw new RejectedExecutionException("Mock payment status store is full (" + maxEntries + ")");
+            }
+        }
+        Long existing = entries.putIfAbsent(orderId, pack(MockPaymentStatus.PENDING, 0, nowSeconds()));
+        return existing == null ? null : statusOf(existing);
+    }
+
+    /**
+     * 상태 전이 (CAS)
+     * - 현재 상태에서 next 로의 전이가 허용될 때만 변경
+     * - 다른 스레드가 먼저 바꿨으면 새 값으로 다시 검증
+     */
+    public Transition transition(String orderId, MockPaymentStatus next) {
+        while (true) {
+            Long packed = entries.get(orderId);
+            if (packed == null) {
+                return new Transition(Outcome.NOT_FOUND, null, null, -1);
+            }
+            MockPaymentStatus current = statusOf(packed);
+            int version = versionOf(packed);
+            if (!current.canTransitionTo(next)) {
+                return new Transition(Outcome.ILLEGAL, current, current, version);
+            }
+            int nextVersion = (int) ((version + 1) & VERSION_MASK);
+            if (entries.replace(orderId, packed, pack(next, nextVersion, nowSeconds()))) {
+                return new Transition(Outcome.APPLIED, current, next, nextVersion);
+            }
+        }
+    }
+
+    /** 조건부 제거 (현재 값이 등록 직후 PENDING 그대로일 때만 — 등록 취소용) */
+    public boolean removePending(String orderId) {
+        Long packed = entries.get(orderId);
+        return packed != null
+                && statusOf(packed) == MockPaymentStatus.PENDING
+                && versionOf(packed) == 0
+                && entries.remove(orderId, packed);
+    }
+
+    // ==============================
+    // 🧹 만료 / 크기 제한
+    // ==============================
+
+    /** TTL 만료 항목 제거 */
+    @Scheduled(fixedDelayString = "${mockapi.status-store.sweep-interval-ms:60000}")
+    public void evictExpired() {
+        long now = nowSeconds();
+        int before = entries.size();
+        entries.values().removeIf(packed -> isExpired(packed, now));
+        int evicted = Math.max(0, before - entries.size());
+        if (evicted > 0) {
+            ttlEvictions.increment(evicted);
+            log.debug("[MockPaymentStatusStore] TTL 만료 {}건 제거", evicted);
+        }
+    }
+
+    /** 크기 초과 시 오래된 최종 상태부터 max-entries 의 90% 까지 제거 (한 스레드만 수행) */
+    private void evictOverflow() {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            evictExpired();
+            int target = (int) (maxEntries * 0.9);
+            int excess = entries.size() - target;
+            if (excess <= 0) {
+                return;
+            }
+
+            // 최종 상태 항목의 갱신 시각 중 excess 번째로 오래된 값을 기준으로 제거
+            long[] terminalTimes = entries.values().stream()
+                    .filter(packed -> statusOf(packed).isTerminal())
+                    .mapToLong(MockPaymentStatusStore::updatedAtOf)
+                    .toArray();
+            if (terminalTimes.length == 0) {
+                return;
+            }
+            Arrays.sort(terminalTimes);
+            long cutoff = terminalTimes[Math.min(excess, terminalTimes.length) - 1];
+
+            int before = entries.size();
+            entries.values().removeIf(packed -> statusOf(packed).isTerminal() && updatedAtOf(packed) <= cutoff);
+            int evicted = Math.max(0, before - entries.size());
+            sizeEvictions.increment(evicted);
+            log.info("[MockPaymentStatusStore] 크기 제한 초과 - 최종 상태 {}건 제거 (남은 항목 {})", evicted, entries.size());
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /** 현재 항목 수 */
+    public int size() {
+        return entries.size();
+    }
+
+    /** 추정 메모리 사용량 (byte) */
+    public double estimatedBytes() {
+        return (double) entries.size() * ESTIMATED_BYTES_PER_ENTRY;
+    }
+
+    private boolean isExpired(long packed, long now) {
+        long ttl = statusOf(packed).isTerminal() ? terminalTtlSeconds : pendingTtlSeconds;
+        return now - updatedAtOf(packed) > ttl;
+    }
+
+    private long nowSeconds() {
+        return clock.millis() / 1000;
+    }
+
+    private static long pack(MockPaymentStatus status, int version, long updatedAtSeconds) {
+        return (updatedAtSeconds << (VERSION_BITS + STATUS_BITS))
+                | ((version & VERSION_MASK) << STATUS_BITS)
+                | status.ordinal();
+    }
+
+    private static MockPaymentStatus statusOf(long packed) {
+        return MockPaymentStatus.ofOrdinal((int) (packed & STATUS_MASK));
+    }
+
+    private static int versionOf(long packed) {
+        return (int) ((packed >>> STATUS_BITS) & VERSION_MASK);
+    }
+
+    private static long updatedAtOf(long packed) {
+        return packed >>> (VERSION_BITS + STATUS_BITS);
+    }
+}
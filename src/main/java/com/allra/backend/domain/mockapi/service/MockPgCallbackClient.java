@@ -0,0 +1,85 @@
+package com.allra.backend.domain.mockapi.service;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.allra.backend.domain.mockapi.dto.MockApiPaymentDto;
+
+import io.netty.channel.ChannelOption;
+import lombok.extern.slf4j.Slf4j;
+import reactor.netty.http.client.HttpClient;
+import reactor.util.retry.Retry;
+
+/**
+ * MockPgCallbackClient
+ *
+ * Mock PG → 가맹점 결제 결과 통지(웹훅) 전송 클라이언트.
+ * ---------------------------------------------------------
+ * 1️. 연결 / 응답 타임아웃 : 응답 없는 가맹점 주소가 통지와 재시도를 무기한 붙잡지 않도록 제한
+ * 2️. 재시도 : 실패하면 지수 백오프로 최대 3회 (타임아웃도 실패로 재시도)
+ * 3️. 전송은 구독만 하고 기다리지 않음 (타이머 휠 워커를 막지 않음)
+ * ---------------------------------------------------------
+ * 독립 실행 Mock PG(MockPgServerApplication)에도 자동 설정 WebClient.Builder 가 없으므로 직접 구성한다.
+ */
+@Slf4j
+@Component
+public class MockPgCallbackClient {
+
+    private static final int MAX_RETRIES = 3;
+
+    /** 결과 통지 URL (비어 있으면 통지하지 않음) */
+    private final String callbackUrl;
+
+    /** 결과 통지 인증용 공유 비밀값 */
+    private final String callbackSecret;
+
+    private final WebClient webClient;
+
+    public MockPgCallbackClient(
+            @Value("${payment.callback.url:}") String callbackUrl,
+            @Value("${payment.callback.secret:}") String callbackSecret,
+            @Value("${payment.callback.connect-timeout:PT2S}") Duration connectTimeout,
+            @Value("${payment.callback.response-timeout:PT5S}") Duration responseTimeout) {
+        this.callbackUrl = callbackUrl;
+        this.callbackSecret = callbackSecret;
+
+        HttpClient httpClient = HttpClient.create()
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(responseTimeout);
+        this.webClient = WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+
+    /** 통지하지 않는 클라이언트 (테스트 / 벤치마크용) */
+    public static MockPgCallbackClient disabled() {
+        return new MockPgCallbackClient("", "", Duration.ofSeconds(1), Duration.ofSeconds(1));
+    }
+
+    public boolean isEnabled() {
+        return callbackUrl != null && !callbackUrl.isBlank();
+    }
+
+    /** 결과 통지 (비동기, 실패해도 가맹점은 결과 조회 API 로 확인 가능) */
+    public void send(MockApiPaymentDto.MockPayResponse body) {
+        if (!isEnabled()) {
+            return;
+        }
+        webClient.post()
+                .uri(callbackUrl)
+                .header("X-Payment-Callback-Secret", callbackSecret)
+                .bodyValue(body)
+                .retrieve()
+                .toBodilessEntity()
+                .retryWhen(Retry.backoff(MAX_RETRIES, Duration.ofSeconds(1)))
+                .subscribe(
+                        response -> log.info("[MockPgCallbackClient] 결과 통지 완료 - orderId={}, status={}",
+                                body.getOrderId(), body.getStatus()),
+                        e -> log.warn("[MockPgCallbackClient] 결과 통지 실패 - orderId={}, error={}",
+                                body.getOrderId(), e.getMessage()));
+    }
+}
@@ -0,0 +1,86 @@
+package com.allra.backend.domain.mockapi.service;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.springframework.http.MediaType;
+
+import com.allra.backend.domain.mockapi.codec.MockPgCodec;
+import com.allra.backend.domain.mockapi.codec.MockPgWireFormat;
+import com.allra.backend.domain.mockapi.dto.MockPgProfileDto;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * MockPgFaultResponse
+ *
+ * Mock PG 프로파일의 응답 계획(Plan)을 전송 방식과 무관한 응답 값으로 만든다.
+ * ---------------------------------------------------------
+ * 1️. ERROR     : 요청을 처리하지 않고 errorStatus + PG_ERROR 본문
+ * 2️. TIMEOUT   : 요청은 처리하되 hold(timeoutMs) 동안 본문 없이 대기 후 빈 본문으로 종료
+ * 3️. SLOW_BODY : latency 후 본문을 SLOW_BODY_CHUNKS 조각으로 나눠 slowBodyMs 동안 전송 (chunks())
+ * 4️. NONE      : latency 후 본문 전송
+ * ---------------------------------------------------------
+ * 실제 쓰기는 MockPgResponder(Servlet, ResponseBodyEmitter) / MockPgServer(Reactor Netty) 가 각자 수행한다.
+ *
+ * @param fault    주입할 장애
+ * @param status   응답 상태 코드
+ * @param format   응답 포맷 (Accept 기준)
+ * @param body     직렬화된 응답 본문 (JSON / CBOR)
+ * @param latency  본문 첫 바이트까지 지연
+ * @param hold     TIMEOUT 시 본문 없이 대기할 시간
+ * @param slowBody SLOW_BODY 시 본문 전체를 나눠 보내는 시간
+ */
+public record MockPgFaultResponse(
+        MockPgProfileService.Fault fault,
+        int status,
+        MockPgWireFormat format,
+        byte[] body,
+        Duration latency,
+        Duration hold,
+        Duration slowBody) {
+
+    /** 느린 본문 전송 시 나눌 조각 수 */
+    public static final int SLOW_BODY_CHUNKS = 10;
+
+    /**
+     * 응답 계획을 적용해 응답 준비
+     *
+     * @param handler 실제 Mock 처리 (ERROR 이면 호출하지 않음)
+     */
+    public static MockPgFaultResponse prepare(MockPgProfileService.Plan plan, MockPgCodec codec,
+                                              MockPgWireFormat format, Supplier<?> handler) {
+        MockPgProfileDto.Profile profile = plan.profile();
+
+        if (plan.fault() == MockPgProfileService.Fault.ERROR) {
+            int status = profile.getErrorStatus();
+            byte[] body = codec.write(format, Map.of(
+                    "status", "PG_ERROR",
+                    "message", "Injected HTTP " + status + " by mock profile '" + profile.getName() + "'"));
+            return new MockPgFaultResponse(plan.fault(), status, format, body, plan.latency(),
+                    Duration.ZERO, Duration.ZERO);
+        }
+
+        return new MockPgFaultResponse(plan.fault(), 200, format, codec.write(format, handler.get()), plan.latency(),
+                Duration.ofMillis(profile.getTimeoutMs()), Duration.ofMillis(profile.getSlowBodyMs()));
+    }
+
+    public MediaType mediaType() {
+        return format.mediaType();
+    }
+
+    /** latency 후 slowBody 동안 일정 간격으로 내보내는 본문 조각 (SLOW_BODY) */
+    public Flux<byte[]> chunks() {
+        int chunks = Math.max(1, Math.min(SLOW_BODY_CHUNKS, body.length));
+        int chunkSize = (body.length + chunks - 1) / chunks;
+        Duration interval = slowBody.dividedBy(chunks);
+        return Mono.delay(latency)
+                .thenMany(Flux.range(0, chunks).delayElements(interval))
+                .map(i -> Arrays.copyOfRange(body,
+                        Math.min(body.length, i * chunkSize),
+                        Math.min(body.length, (i + 1) * chunkSize)));
+    }
+}
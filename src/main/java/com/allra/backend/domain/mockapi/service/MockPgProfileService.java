@@ -0,0 +1,198 @@
+package com.allra.backend.domain.mockapi.service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.allra.backend.domain.mockapi.dto.MockPgProfileDto;
+import com.allra.backend.domain.mockapi.dto.MockPgProfileDto.Latency;
+import com.allra.backend.domain.mockapi.dto.MockPgProfileDto.Profile;
+import com.allra.backend.global.exception.NotFoundException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * MockPgProfileService
+ *
+ * Mock PG 의 지연 / 실패 / 장애 주입 프로파일 관리.
+ * ---------------------------------------------------------
+ * 1️. 기본 프로파일은 설정(mockapi.profile.active)으로 선택
+ * 2️. 실행 중 관리 API 로 프리셋 선택 또는 사용자 정의 프로파일 적용 (다음 요청부터 반영)
+ * 3️. 요청마다 현재 프로파일로 응답 계획(Plan: 장애 유형 + 지연)을 뽑는다.
+ * ---------------------------------------------------------
+ * 프리셋
+ * - default   : 기존 동작 (즉시 응답, 8~15초 후 완료, 실패 20%)
+ * - fast      : 즉시 응답, 0.5초 후 완료 (부하 테스트용)
+ * - slow-tail : 응답 50~150ms, 1% 는 3초 (p99 꼬리 지연)
+ * - brownout  : 로그 정규 응답 지연 + 5xx 10% + 타임아웃 5% + 느린 본문 5%
+ * - outage    : 대부분 5xx, 나머지 타임아웃
+ */
+@Slf4j
+@Service
+public class MockPgProfileService {
+
+    /** 요청 1건에 주입할 장애 유형 */
+    public enum Fault {
+        NONE,
+        ERROR,
+        TIMEOUT,
+        SLOW_BODY
+    }
+
+    /**
+     * 응답 계획
+     * @param latency 응답(본문 첫 바이트)까지 지연
+     */
+    public record Plan(Fault fault, Duration latency, Profile profile) {}
+
+    private final Map<String, Profile> presets = new LinkedHashMap<>();
+    private final AtomicReference<Profile> current = new AtomicReference<>();
+
+    public MockPgProfileService(@Value("${mockapi.profile.active:default}") String active) {
+        for (Profile preset : defaultPresets()) {
+            presets.put(preset.getName(), preset);
+        }
+        current.set(find(active));
+    }
+
+    /** 현재 프로파일 */
+    public Profile current() {
+        return current.get();
+    }
+
+    /** 프리셋 목록 */
+    public Collection<Profile> presets() {
+        return presets.values();
+    }
+
+    /** 프리셋 선택 */
+    public Profile select(String name) {
+        Profile profile = find(name);
+        current.set(profile);
+        log.info("[MockPgProfileService] 프로파일 변경 - {}", name);
+        return profile;
+    }
+
+    /** 사용자 정의 프로파일 적용 */
+    public Profile apply(Profile profile) {
+        current.set(profile);
+        log.info("[MockPgProfileService] 사용자 정의 프로파일 적용 - {}", profile);
+        return profile;
+    }
+
+    /** 요청 1건의 응답 계획 (장애 유형은 errorRate → timeoutRate → slowBodyRate 순으로 누적 판정) */
+    public Plan nextPlan() {
+        Profile profile = current.get();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        double roll = random.nextDouble();
+        Fault fault;
+        if (roll < profile.getErrorRate()) {
+            fault = Fault.ERROR;
+        } else if (roll < profile.getErrorRate() + profile.getTimeoutRate()) {
+            fault = Fault.TIMEOUT;
+        } else if (roll < profile.getErrorRate() + profile.getTimeoutRate() + profile.getSlowBodyRate()) {
+            fault = Fault.SLOW_BODY;
+        } else {
+            fault = Fault.NONE;
+        }
+        return new Plan(fault, Duration.ofMillis(sample(profile.getResponseLatency(), random)), profile);
+    }
+
+    /** 결제 완료(PENDING → 최종 상태) 지연 */
+    public Duration nextCompletionDelay() {
+        return Duration.ofMillis(sample(current.get().getCompletionLatency(), ThreadLocalRandom.current()));
+    }
+
+    /** 결제 최종 결과를 FAILED 로 할지 여부 */
+    public boolean nextPaymentFails() {
+        return ThreadLocalRandom.current().nextDouble() < current.get().getFailureRate();
+    }
+
+    /** 지연 분포에서 1건 추출 (ms) */
+    static long sample(Latency latency, ThreadLocalRandom random) {
+        long millis = switch (latency.getType()) {
+            case FIXED -> latency.getFixedMs();
+            case UNIFORM -> uniform(latency, random);
+            case LOG_NORMAL -> Math.round(Math.exp(
+                    Math.log(Math.max(1, latency.getMedianMs())) + latency.getSigma() * random.nextGaussian()));
+            case TAIL -> random.nextDouble() * 100 < latency.getTailPercent()
+                    ? latency.getTailMs()
+                    : uniform(latency, random);
+        };
+        return latency.getCapMs() > 0 ? Math.min(millis, latency.getCapMs()) : millis;
+    }
+
+    private static long uniform(Latency latency, ThreadLocalRandom random) {
+        long min = latency.getMinMs();
+        long max = Math.max(min, latency.getMaxMs());
+        return min == max ? min : random.nextLong(min, max + 1);
+    }
+
+    private Profile find(String name) {
+        Profile profile = presets.get(name);
+        if (profile == null) {
+            throw new NotFoundException("Mock PG 프로파일을 찾을 수 없습니다: " + name + " (사용 가능: " + presets.keySet() + ")");
+        }
+        return profile;
+    }
+
+    private static List<Profile> defaultPresets() {
+        Latency completion = Latency.uniform(8000, 15000);
+        return List.of(
+                Profile.builder()
+                        .name("default")
+                        .responseLatency(Latency.fixed(0))
+                        .completionLatency(completion)
+                        .failureRate(0.2)
+                        .build(),
+                Profile.builder()
+                        .name("fast")
+                        .responseLatency(Latency.fixed(0))
+                        .completionLatency(Latency.fixed(500))
+                        .failureRate(0.2)
+                        .build(),
+                Profile.builder()
+                        .name("slow-tail")
+                        .responseLatency(Latency.builder()
+                                .type(MockPgProfileDto.LatencyType.TAIL)
+                                .minMs(50).maxMs(150)
+                                .tailPercent(1).tailMs(3000)
+                                .build())
+                        .completionLatency(completion)
+                        .failureRate(0.2)
+                        .build(),
+                Profile.builder()
+                        .name("brownout")
+                        .responseLatency(Latency.builder()
+                                .type(MockPgProfileDto.LatencyType.LOG_NORMAL)
+                                .medianMs(800).sigma(0.7).capMs(10000)
+                                .build())
+                        .completionLatency(completion)
+                        .failureRate(0.3)
+                        .errorRate(0.1)
+                        .errorStatus(503)
+                        .timeoutRate(0.05)
+                        .timeoutMs(30000)
+                        .slowBodyRate(0.05)
+                        .slowBodyMs(5000)
+                        .build(),
+                Profile.builder()
+                        .name("outage")
+                        .responseLatency(Latency.fixed(50))
+                        .completionLatency(completion)
+                        .failureRate(1.0)
+                        .errorRate(0.9)
+                        .errorStatus(502)
+                        .timeoutRate(0.1)
+                        .timeoutMs(30000)
+                        .build());
+    }
+}
@@ -1,15 +1,21 @@
 package com.allra.backend.domain.order.controller;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
 
 import com.allra.backend.docs.swagger.SwaggerTags;
+import com.allra.backend.domain.idempotency.entity.IdempotencyScope;
+import com.allra.backend.domain.idempotency.service.IdempotencyService;
 import com.allra.backend.domain.order.service.OrderService;
 import com.allra.backend.domain.payment.dto.PaymentResultDto;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * OrderController
@@ -19,9 +25,12 @@ import lombok.RequiredArgsConstructor;
  * [Flow]
  * 1️. 주문 생성 (장바구니 기반)
  * 2️. 결제 요청 (주문 ID 기반)
- * 3️. 결제 결과 조회 (Mock API 상태 확인)
+ * 3️. 결제 결과 조회 (Mock API 상태 확인) / 결제 결과 대기 (SSE)
  * 4️. 주문 취소 (Mock API 취소 및 로그 저장)
  * ---------------------------------------------------------
+ * 모든 엔드포인트는 Mono 를 반환하여 PG 응답을 기다리는 동안
+ * 요청 스레드를 점유하지 않는다. (Spring MVC 비동기 처리)
+ * 주문 생성 / 결제 요청은 Idempotency-Key 헤더가 있으면 재시도 시 저장된 응답을 돌려준다.
  */
 @RestController
 @RequestMapping("/api/orders")
@@ -30,6 +39,7 @@ import lombok.RequiredArgsConstructor;
 public class OrderController {
 
     private final OrderService orderService;
+    private final IdempotencyService idempotencyService;
 
     /**
      * 1️. 주문 생성
@@ -38,17 +48,22 @@ public class OrderController {
      * - 장바구니 내 모든 상품 금액을 합산하여 주문 총액 계산
      * - Mock API에 주문 생성 요청
      * - 결제는 아직 진행되지 않음 (결제는 별도 요청)
+     * - Idempotency-Key 가 같으면 주문을 다시 만들지 않고 최초 응답 반환
      */
     @PostMapping("/{userId}")
     @Operation(
         summary = "주문 생성",
         description = SwaggerTags.ORDER_CREATE_DESC
     )
-    public ResponseEntity<PaymentResultDto.OrderCreateResponse> createOrder(
-            @PathVariable Long userId) {
+    public Mono<ResponseEntity<PaymentResultDto.OrderCreateResponse>> createOrder(
+            @PathVariable Long userId,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
 
-        PaymentResultDto.OrderCreateResponse response = orderService.createOrder(userId);
-        return ResponseEntity.ok(response);
+        return idempotencyService.execute(
+                        IdempotencyScope.ORDER_CREATE, idempotencyKey, "userId=" + userId,
+                        PaymentResultDto.OrderCreateResponse.class,
+                        () -> orderService.createOrder(userId))
+                .map(ResponseEntity::ok);
     }
 
     /**
@@ -56,17 +71,22 @@ public class OrderController {
      *
      * - 생성된 주문 ID를 기반으로 결제 시도
      * - Mock 결제 API 호출 → PENDING / SUCCESS / FAILED 상태 반환
+     * - Idempotency-Key 가 같으면 PG 를 다시 호출하지 않고 최초 응답 반환
      */
     @PostMapping("/{orderId}/payment")
     @Operation(
         summary = "결제 요청",
         description = SwaggerTags.ORDER_PAYMENT_REQUEST_DESC
     )
-    public ResponseEntity<PaymentResultDto.OrderResultResponse> processPayment(
-            @PathVariable String orderId) {
+    public Mono<ResponseEntity<PaymentResultDto.OrderResultResponse>> processPayment(
+            @PathVariable String orderId,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
 
-        PaymentResultDto.OrderResultResponse response = orderService.processPayment(orderId);
-        return ResponseEntity.ok(response);
+        return idempotencyService.execute(
+                        IdempotencyScope.PAYMENT_REQUEST, idempotencyKey, "orderId=" + orderId,
+                        PaymentResultDto.OrderResultResponse.class,
+                        () -> orderService.processPayment(orderId))
+                .map(ResponseEntity::ok);
     }
 
     /**
@@ -80,11 +100,33 @@ public class OrderController {
         summary = "결제 결과 조회",
         description = SwaggerTags.ORDER_PAYMENT_RESULT_DESC
     )
-    public ResponseEntity<PaymentResultDto.OrderResultResponse> checkPaymentResult(
+    public Mono<ResponseEntity<PaymentResultDto.OrderResultResponse>> checkPaymentResult(
+            @PathVariable String orderId) {
+
+        return orderService.checkPaymentResult(orderId).map(ResponseEntity::ok);
+    }
+
+    /**
+     * 3️-1. 결제 결과 대기 (SSE)
+     *
+     * - 연결을 유지하다가 주문이 SUCCESS / FAILED / CANCELED 로 바뀌면 이벤트 1건 전송 후 종료
+     * - 대기 시간 초과 시 PENDING 이벤트를 보내고 종료 (클라이언트는 재연결)
+     * - 결과 조회 API 를 반복 호출하는 폴링을 대체
+     */
+    @GetMapping(value = "/{orderId}/payment/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+        summary = "결제 결과 대기 (SSE)",
+        description = SwaggerTags.ORDER_PAYMENT_EVENTS_DESC
+    )
+    public Flux<ServerSentEvent<PaymentResultDto.OrderResultResponse>> streamPaymentEvents(
             @PathVariable String orderId) {
 
-        PaymentResultDto.OrderResultResponse response = orderService.checkPaymentResult(orderId);
-        return ResponseEntity.ok(response);
+        return orderService.awaitPaymentResult(orderId)
+                .map(result -> ServerSentEvent.builder(result)
+                        .id(orderId)
+                        .event("payment-status")
+                        .build())
+                .flux();
     }
 
     /**
@@ -99,10 +141,9 @@ public class OrderController {
         summary = "주문 취소",
         description = SwaggerTags.ORDER_CANCEL_DESC
     )
-    public ResponseEntity<PaymentResultDto.OrderCancelResponse> cancelOrder(
+    public Mono<ResponseEntity<PaymentResultDto.OrderCancelResponse>> cancelOrder(
             @PathVariable String orderId) {
 
-        PaymentResultDto.OrderCancelResponse response = orderService.cancelOrder(orderId);
-        return ResponseEntity.ok(response);
+        return orderService.cancelOrder(orderId).map(ResponseEntity::ok);
     }
 }
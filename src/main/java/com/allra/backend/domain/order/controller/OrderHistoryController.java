@@ -0,0 +1,48 @@
+package com.allra.backend.domain.order.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.allra.backend.docs.swagger.SwaggerTags;
+import com.allra.backend.domain.order.dto.OrderDto;
+import com.allra.backend.domain.order.service.OrderHistoryService;
+import com.allra.backend.global.dto.ApiResponseDto;
+import com.allra.backend.global.dto.CursorResponseDto;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * OrderHistoryController
+ *
+ * 사용자별 주문 내역 조회 API.
+ * 최신 주문부터 size 건씩 조회하며, 다음 페이지는 응답의 nextCursor 로 요청합니다.
+ */
+@RestController
+@RequestMapping("/api/users/{userId}/orders")
+@RequiredArgsConstructor
+@Tag(name = SwaggerTags.ORDER_NAME, description = SwaggerTags.ORDER_DESC)
+public class OrderHistoryController {
+
+    private final OrderHistoryService orderHistoryService;
+
+    /** 주문 내역 조회 (커서 페이지네이션) */
+    @GetMapping
+    @Operation(
+        summary = "주문 내역 조회",
+        description = SwaggerTags.ORDER_HISTORY_DESC
+    )
+    public ApiResponseDto<CursorResponseDto<OrderDto.OrderHistoryResponseDto>> getOrderHistory(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        return ApiResponseDto.success(HttpStatus.OK.getReasonPhrase(),
+                orderHistoryService.getOrderHistory(userId, cursor, size));
+    }
+}
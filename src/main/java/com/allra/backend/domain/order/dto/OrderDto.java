@@ -1,5 +1,13 @@
 package com.allra.backend.domain.order.dto;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.allra.backend.domain.order.entity.OrderStatus;
+import com.allra.backend.global.exception.BusinessException;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -43,4 +51,57 @@ public class OrderDto {
         private String status;
         private String message;
     }
+
+    /**
+     * 주문 내역 응답 DTO (사용자별 주문 목록의 한 행)
+     * - OrderHistoryRepository 에서 Projections.constructor 로 바로 생성 (엔티티 로딩 없음)
+     * - itemCount: 주문 상세(order_item) 행 수
+     * - totalPrice: 주문 총액 (orders.total_price)
+     * - 생성자 인자 순서 = 필드 선언 순서 (프로젝션 순서와 맞춰야 함)
+     */
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class OrderHistoryResponseDto {
+        private Long orderId;
+        private String mockOrderId;
+        private OrderStatus status;
+        private LocalDateTime orderDate;
+        private Integer totalPrice;
+        private Long itemCount;
+    }
+
+    /**
+     * 주문 내역 커서 (키셋 페이지 위치)
+     * - 마지막으로 받은 행의 (orderDate, orderId), 다음 페이지는 이 행보다 오래된 주문부터
+     * - 클라이언트에는 Base64(URL-safe) 문자열로 전달하며 값 자체를 해석할 필요는 없음
+     */
+    public record OrderHistoryCursor(LocalDateTime orderDate, Long orderId) {
+
+        public static OrderHistoryCursor of(OrderHistoryResponseDto last) {
+            return new OrderHistoryCursor(last.getOrderDate(), last.getOrderId());
+        }
+
+        public String encode() {
+            String raw = orderDate + "_" + orderId;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        /** null / 빈 문자열이면 첫 페이지 (null 반환) */
+        public static OrderHistoryCursor decode(String cursor) {
+            if (cursor == null || cursor.isBlank()) {
+                return null;
+            }
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.lastIndexOf('_');
+                return new OrderHistoryCursor(
+                        LocalDateTime.parse(raw.substring(0, separator)),
+                        Long.parseLong(raw.substring(separator + 1)));
+            } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+                throw new BusinessException("잘못된 주문 내역 커서입니다.");
+            }
+        }
+    }
 }
@@ -16,7 +16,13 @@ import lombok.*;
  * - 주문자 정보, 총 주문 금액, 상태, 주문 일시, 주문 상세 목록을 포함합니다.
  */
 @Entity
-@Table(name = "orders")
+@Table(
+    name = "orders",
+    indexes = {
+        @Index(name = "idx_orders_status_id", columnList = "status, id"),                  // 상태별 키셋 조회 (결제 대사)
+        @Index(name = "idx_orders_user_date_id", columnList = "user_id, order_date, id")   // 사용자별 주문 내역 키셋 조회
+    }
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -34,7 +40,7 @@ public class OrderEntity {
     @JoinColumn(name = "user_id", nullable = false)
     private UserEntity user;
 
-    /** Mock API용 주문번호 (ORD_20251110_053149_194252 형식) */
+    /** Mock API용 주문번호 (ORD_034T5J6980C00 형식, IdGenerator) */
     @Column(name = "mock_order_id", unique = true)
     private String mockOrderId;
 
@@ -53,6 +59,10 @@ public class OrderEntity {
     @Builder.Default
     private LocalDateTime orderDate = LocalDateTime.now();
 
+    /** 결제 대사(reconcile) 점유 만료 시각 — 여러 노드가 같은 주문을 동시에 조회하지 않도록 사용 */
+    @Column(name = "reconcile_lease_until")
+    private LocalDateTime reconcileLeaseUntil;
+
     /** 주문 상세 목록 (1:N 관계, cascade 삭제 포함) */
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
@@ -88,4 +98,12 @@ public class OrderEntity {
     public void updateStatus(OrderStatus newStatus) {
         this.status = newStatus;
     }
+
+    /**
+     * 결제 대사 점유
+     * @param leaseUntil 점유 만료 시각 (이 시각 전까지 다른 노드는 조회하지 않음)
+     */
+    public void claimForReconcile(LocalDateTime leaseUntil) {
+        this.reconcileLeaseUntil = leaseUntil;
+    }
 }
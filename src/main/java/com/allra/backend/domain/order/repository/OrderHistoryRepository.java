@@ -0,0 +1,72 @@
+package com.allra.backend.domain.order.repository;
+
+import java.util.List;
+
+import org.springframework.stereotype.Repository;
+
+import com.allra.backend.domain.order.dto.OrderDto;
+import com.allra.backend.domain.order.entity.QOrderEntity;
+import com.allra.backend.domain.order.entity.QOrderItemEntity;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * OrderHistoryRepository
+ *
+ * 사용자별 주문 내역 조회 (QueryDSL).
+ * ---------------------------------------------------------
+ * 1️. 키셋 페이지 : (order_date, id) 내림차순, 커서 행보다 오래된 주문부터 limit 건
+ *                 - OFFSET 을 쓰지 않아 페이지 깊이와 관계없이 인덱스(user_id, order_date, id)에서 limit 건만 읽음
+ * 2️. DTO 프로젝션 : 주문 컬럼 + 주문 상세 수(상관 서브쿼리)를 OrderHistoryResponseDto 로 바로 생성
+ *                 - OrderEntity / items 를 로딩하지 않으므로 N+1 없음 (페이지당 SQL 1회)
+ * ---------------------------------------------------------
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderHistoryRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    /**
+     * 사용자 주문 내역 키셋 페이지 조회
+     * @param userId 사용자 ID
+     * @param cursor 이전 페이지 마지막 행 (null 이면 첫 페이지)
+     * @param limit  조회 건수 (다음 페이지 여부 확인용으로 size + 1 을 넘김)
+     * @return 최신순 주문 내역
+     */
+    public List<OrderDto.OrderHistoryResponseDto> findPageByUserId(
+            Long userId, OrderDto.OrderHistoryCursor cursor, int limit) {
+
+        QOrderEntity order = QOrderEntity.orderEntity;
+        QOrderItemEntity item = QOrderItemEntity.orderItemEntity;
+
+        BooleanBuilder condition = new BooleanBuilder(order.user.id.eq(userId));
+        if (cursor != null) {
+            // (order_date, id) < (커서 order_date, 커서 id)
+            // 앞의 order_date <= 커서 조건은 결과를 바꾸지 않지만, OR 만 있으면 인덱스 범위 탐색을 못 하는 경우가 있어 추가
+            condition.and(order.orderDate.loe(cursor.orderDate()));
+            condition.and(order.orderDate.lt(cursor.orderDate())
+                    .or(order.orderDate.eq(cursor.orderDate()).and(order.id.lt(cursor.orderId()))));
+        }
+
+        return queryFactory
+                .select(Projections.constructor(OrderDto.OrderHistoryResponseDto.class,
+                        order.id,
+                        order.mockOrderId,
+                        order.status,
+                        order.orderDate,
+                        order.totalPrice,
+                        JPAExpressions.select(item.count())
+                                .from(item)
+                                .where(item.order.id.eq(order.id))))
+                .from(order)
+                .where(condition)
+                .orderBy(order.orderDate.desc(), order.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+}
@@ -1,12 +1,20 @@
 package com.allra.backend.domain.order.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.allra.backend.domain.order.entity.OrderEntity;
 
+import jakarta.persistence.LockModeType;
+
 /**
  * OrderRepository
  * 
@@ -16,8 +24,7 @@ import com.allra.backend.domain.order.entity.OrderEntity;
  * - JpaRepository<OrderEntity, Long> 을 상속받아 기본 CRUD 메서드 제공  
  *   (save, findById, findAll, deleteById 등)  
  * - 별도의 구현 없이 즉시 사용 가능  
- * - 향후 주문 조회 조건 (예: userId로 조회 등)이 필요할 때  
- *   커스텀 메서드를 추가로 정의할 수 있음.
+ * - 사용자별 주문 내역 조회는 QueryDSL 기반 OrderHistoryRepository 참고
  * </p>
  */
 @Repository
@@ -26,6 +33,42 @@ public interface OrderRepository extends JpaRepository<OrderEntity, Long> {
     // Mock API용 문자열 주문번호로 조회
     Optional<OrderEntity> findByMockOrderId(String mockOrderId);
 
-    // 예시) 특정 사용자의 주문 목록 조회 (필요시 사용)
-    // List<OrderEntity> findByUserId(Long userId);
+    // 결제 결과 반영용 조회 (웹훅·폴링이 동시에 도착해도 한 번만 반영되도록 행 잠금)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM OrderEntity o WHERE o.mockOrderId = :mockOrderId")
+    Optional<OrderEntity> findForUpdateByMockOrderId(@Param("mockOrderId") String mockOrderId);
+
+    // 결제 결과 일괄 반영용 조회 (id 순서로 잠가 노드 간 교착 방지)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM OrderEntity o WHERE o.mockOrderId IN :mockOrderIds ORDER BY o.id")
+    List<OrderEntity> findAllForUpdateByMockOrderIdIn(@Param("mockOrderIds") Collection<String> mockOrderIds);
+
+    /**
+     * 결제 대사 대상 점유 (키셋 페이지)
+     * - PENDING 이면서 유예 시간이 지났고, 다른 노드가 점유하지 않은 주문
+     * - id 기준 키셋 페이지네이션 + FOR UPDATE SKIP LOCKED (다른 노드가 잠근 행은 건너뜀)
+     */
+    @Query(
+        value = "SELECT * FROM orders "
+              + "WHERE status = 'PENDING' AND id > :lastId AND order_date < :createdBefore "
+              + "AND (reconcile_lease_until IS NULL OR reconcile_lease_until < :now) "
+              + "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+        nativeQuery = true
+    )
+    List<OrderEntity> claimPendingPage(@Param("lastId") long lastId,
+                                       @Param("createdBefore") LocalDateTime createdBefore,
+                                       @Param("now") LocalDateTime now,
+                                       @Param("limit") int limit);
+
+    /** PENDING 주문 적체 현황 (건수 + 가장 오래된 주문 일시) */
+    @Query("SELECT COUNT(o) AS backlog, MIN(o.orderDate) AS oldest FROM OrderEntity o "
+          + "WHERE o.status = com.allra.backend.domain.order.entity.OrderStatus.PENDING")
+    PendingStats findPendingStats();
+
+    interface PendingStats {
+        long getBacklog();
+        LocalDateTime getOldest();
+    }
+
+    // 사용자별 주문 내역(키셋 페이지 + DTO 프로젝션)은 OrderHistoryRepository 에서 조회
 }
@@ -0,0 +1,253 @@
+package com.allra.backend.domain.order.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+
+import com.allra.backend.domain.cart.repository.CartRepository;
+import com.allra.backend.domain.inventory.service.StockReservationService;
+import com.allra.backend.domain.mockapi.dto.MockApiPaymentDto;
+import com.allra.backend.domain.order.entity.OrderEntity;
+import com.allra.backend.domain.order.entity.OrderStatus;
+import com.allra.backend.domain.order.repository.OrderRepository;
+import com.allra.backend.domain.payment.dto.PaymentResultDto;
+import com.allra.backend.domain.payment.entity.PaymentLogEntity;
+import com.allra.backend.domain.payment.exception.PaymentErrorCode;
+import com.allra.backend.domain.payment.exception.PaymentException;
+import com.allra.backend.domain.payment.repository.PaymentLogRepository;
+import com.allra.backend.global.exception.BusinessException;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * OrderCompletionService
+ *
+ * 결제 최종 결과(SUCCESS / FAILED / CANCELED)를 주문에 반영하는 단일 진입점.
+ * ---------------------------------------------------------
+ * 결과는 세 경로 중 어느 쪽으로든 도착할 수 있다.
+ * - PG 결과 통지 (웹훅, 기본 경로)
+ * - 결제 결과 조회 (폴링, 보조 경로) / 결제 대사 (일괄 조회)
+ * - 결제 요청 응답이 즉시 최종 상태인 경우
+ *
+ * 1️. 주문을 비관적 락으로 조회 (동시에 도착한 결과 직렬화)
+ * 2️. 이미 종료된 주문이면 아무것도 변경하지 않음 (중복 통지 무시)
+ * 3️. 최종 상태별 처리 (재고 예약 확정·해제 / 장바구니 / 주문 상태)
+ * 4️. 최신 결제 로그에 결과 기록
+ * 5️. 커밋 후 결과를 기다리는 구독자(SSE)에게 발행
+ * ---------------------------------------------------------
+ * 호출 측 트랜잭션(JpaExecutor.inTransaction) 안에서 실행되어야 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderCompletionService {
+
+    private final OrderRepository orderRepository;
+    private final CartRepository cartRepository;
+    private final PaymentLogRepository paymentLogRepository;
+    private final PaymentEventRegistry paymentEventRegistry;
+    private final StockReservationService stockReservationService;
+
+    /**
+     * 결제 결과 반영 (멱등)
+     *
+     * @return 반영 후 결제 결과 (이미 종료된 주문이면 DB 에 기록된 결과)
+     */
+    public PaymentResultDto.OrderResultResponse complete(
+            String orderId, String status, String transactionId, String message) {
+
+        // 1️. 주문 조회 (락)
+        OrderEntity order = orderRepository.findForUpdateByMockOrderId(orderId)
+                .orElseThrow(() -> new PaymentException(PaymentErrorCode.ORDER_NOT_FOUND));
+
+        return apply(order, () -> paymentLogRepository.findLatestByOrderId(order.getId()),
+                status, transactionId, message);
+    }
+
+    /**
+     * 결제 결과 일괄 반영 (멱등)
+     * - 주문 / 최신 결제 로그를 각각 한 번의 쿼리로 조회하고, 변경은 커밋 시 JDBC 배치로 전송
+     * - 주문별 처리 실패(재고 부족 등)는 해당 주문만 건너뛰고 나머지는 반영
+     *
+     * @return 반영된 주문별 결과 (조회되지 않거나 실패한 주문 제외)
+     */
+    public List<PaymentResultDto.OrderResultResponse> completeAll(
+            Collection<MockApiPaymentDto.MockPayResponse> results) {
+        return completeBatch(results).results();
+    }
+
+    /**
+     * 결제 결과 일괄 반영 + 실제로 종료 상태로 바뀐 주문 수 (결제 대사 집계용)
+     * - 이미 종료된 주문 / 진행 중 결과(PENDING 등)는 결과에는 포함되지만 전이 수에는 세지 않음
+     */
+    public BatchCompletion completeBatch(Collection<MockApiPaymentDto.MockPayResponse> results) {
+
+        Map<String, MockApiPaymentDto.MockPayResponse> resultByOrderId = results.stream()
+                .filter(result -> result.getOrderId() != null)
+                .collect(Collectors.toMap(MockApiPaymentDto.MockPayResponse::getOrderId, Function.identity(),
+                        (first, second) -> second, LinkedHashMap::new));
+        if (resultByOrderId.isEmpty()) {
+            return BatchCompletion.EMPTY;
+        }
+
+        // 1️. 주문 일괄 조회 (락, id 순서로 잠가 노드 간 교착 방지)
+        List<OrderEntity> orders = orderRepository.findAllForUpdateByMockOrderIdIn(resultByOrderId.keySet());
+        if (orders.isEmpty()) {
+            return BatchCompletion.EMPTY;
+        }
+
+        // 2️. 최신 결제 로그 일괄 조회
+        Map<Long, PaymentLogEntity> latestLogs = paymentLogRepository
+                .findLatestByOrderIds(orders.stream().map(OrderEntity::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(paymentLog -> paymentLog.getOrder().getId(), Function.identity()));
+
+        List<PaymentResultDto.OrderResultResponse> applied = new ArrayList<>(orders.size());
+        int transitioned = 0;
+        for (OrderEntity order : orders) {
+            MockApiPaymentDto.MockPayResponse result = resultByOrderId.get(order.getMockOrderId());
+            boolean wasFinished = order.getStatus().isFinished();
+            try {
+                applied.add(apply(order, () -> Optional.ofNullable(latestLogs.get(order.getId())),
+                        result.getStatus(), result.getTransactionId(), result.getMessage()));
+                if (!wasFinished && order.getStatus().isFinished()) {
+                    transitioned++;
+                }
+            } catch (BusinessException e) {
+                log.warn("[OrderCompletionService] 결과 반영 실패 - orderId={}, error={}",
+                        order.getMockOrderId(), e.getMessage());
+            }
+        }
+        return new BatchCompletion(applied, transitioned);
+    }
+
+    /** 잠금 조회된 주문에 결과 반영 (2️ ~ 5️) */
+    private PaymentResultDto.OrderResultResponse apply(OrderEntity order,
+                                                       Supplier<Optional<PaymentLogEntity>> latestLogLoader,
+                                                       String status, String transactionId, String message) {
+        // 2️. 중복 결과 무시
+        if (order.getStatus().isFinished()) {
+            log.info("[OrderCompletionService] 이미 종료된 주문 - orderId={}, status={}, received={}",
+                    order.getMockOrderId(), order.getStatus(), status);
+            return resultOf(order, latestLogLoader.get());
+        }
+
+        // 3️. 최종 상태별 처리 (진행 중 상태는 변경 없음)
+        OrderStatus finalStatus = toFinalStatus(status);
+        if (finalStatus == null) {
+            return PaymentResultDto.OrderResultResponse.builder()
+                    .status(status)
+                    .transactionId(transactionId)
+                    .message(message)
+                    .build();
+        }
+
+        if (finalStatus == OrderStatus.SUCCESS) {
+            handleSuccess(order);                  // 예약 → 판매 확정 + 장바구니 비움
+        } else {
+            handleRollback(order, finalStatus);    // 예약 해제 (FAILED / CANCELED)
+        }
+
+        // 4️. 결제 로그 갱신
+        latestLogLoader.get().ifPresent(latestLog -> {
+            latestLog.setStatus(status);
+            latestLog.setMessage(message);
+            latestLog.setUpdateAt(LocalDateTime.now());
+            paymentLogRepository.save(latestLog);
+        });
+
+        PaymentResultDto.OrderResultResponse result = PaymentResultDto.OrderResultResponse.builder()
+                .status(status)
+                .transactionId(transactionId)
+                .message(message)
+                .build();
+
+        // 5️. 구독자 알림 (커밋 후)
+        paymentEventRegistry.publishAfterCommit(order.getMockOrderId(), result);
+        return result;
+    }
+
+    /**
+     * 종료된 주문의 결과 조회 (PG 호출 없이 DB 기준)
+     *
+     * @return 종료된 주문이면 결과, 진행 중이거나 없는 주문이면 empty
+     */
+    public Optional<PaymentResultDto.OrderResultResponse> findFinishedResult(String orderId) {
+        return orderRepository.findByMockOrderId(orderId)
+                .filter(order -> order.getStatus().isFinished())
+                .map(this::resultOf);
+    }
+
+    /** DB 에 기록된 결과 (주문 상태 + 최신 결제 로그) */
+    public PaymentResultDto.OrderResultResponse resultOf(OrderEntity order) {
+        return resultOf(order, paymentLogRepository.findLatestByOrderId(order.getId()));
+    }
+
+    private PaymentResultDto.OrderResultResponse resultOf(OrderEntity order, Optional<PaymentLogEntity> latestLog) {
+        return PaymentResultDto.OrderResultResponse.builder()
+                .status(order.getStatus().name())
+                .transactionId(latestLog.map(PaymentLogEntity::getTransactionId).orElse(null))
+                .message(latestLog.map(PaymentLogEntity::getMessage).orElse(null))
+                .build();
+    }
+
+    /**
+     * PG 상태 문자열 → 최종 주문 상태 (진행 중이면 null)
+     * - NOT_FOUND 는 PG 가 기록을 잃은 경우(보관 만료 / 재시작)도 포함하므로 여기서 종료하지 않는다.
+     *   오래된 주문의 NOT_FOUND 는 결제 대사(PaymentReconciler)가 FAILED 로 정리한다.
+     */
+    private OrderStatus toFinalStatus(String status) {
+        if (status == null) {
+            return null;
+        }
+        return switch (status.toUpperCase()) {
+            case "SUCCESS" -> OrderStatus.SUCCESS;
+            case "FAILED" -> OrderStatus.FAILED;
+            case "CANCELED" -> OrderStatus.CANCELED;
+            default -> null;
+        };
+    }
+
+    /** 결제 성공 시 : 예약 → 판매 확정 (재고 차감) + 장바구니 비움 */
+    private void handleSuccess(OrderEntity order) {
+        // 1 ~ 2. 재고 차감 (전체 수량 확인 후 차감, 부족하면 BusinessException)
+        stockReservationService.confirm(order);
+
+        // 3. 장바구니 비우기 (이미 비어 있어도 결제 완료 처리는 계속)
+        try {
+            cartRepository.deleteAllByUserId(order.getUser().getId());
+        } catch (IllegalStateException e) {
+            log.info("[OrderCompletionService] 비울 장바구니 없음 - orderPk={}", order.getId());
+        }
+
+        // 4. 주문 상태 갱신
+        order.updateStatus(OrderStatus.SUCCESS);
+    }
+
+    /** 결제 실패 / 취소 시 : 예약 해제 (차감된 적 없는 재고는 되돌리지 않음) */
+    private void handleRollback(OrderEntity order, OrderStatus newStatus) {
+        stockReservationService.release(order);
+
+        order.updateStatus(newStatus); // FAILED or CANCELED 구분해서 반영
+    }
+
+    /**
+     * 일괄 반영 결과
+     *
+     * @param results      반영된 주문별 결과 (completeAll 반환값과 같음)
+     * @param transitioned 이번 반영으로 종료 상태가 된 주문 수
+     */
+    public record BatchCompletion(List<PaymentResultDto.OrderResultResponse> results, int transitioned) {
+        static final BatchCompletion EMPTY = new BatchCompletion(List.of(), 0);
+    }
+}
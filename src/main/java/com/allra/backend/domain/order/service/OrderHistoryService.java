@@ -0,0 +1,46 @@
+package com.allra.backend.domain.order.service;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import com.allra.backend.domain.order.dto.OrderDto;
+import com.allra.backend.domain.order.repository.OrderHistoryRepository;
+import com.allra.backend.domain.user.repository.UserRepository;
+import com.allra.backend.global.dto.CursorResponseDto;
+import com.allra.backend.global.exception.NotFoundException;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * OrderHistoryService
+ *
+ * 사용자별 주문 내역 조회 (커서 페이지네이션).
+ * ---------------------------------------------------------
+ * 1️. 사용자 존재 확인 (없으면 NotFoundException)
+ * 2️. 커서 해석 (없으면 첫 페이지)
+ * 3️. size + 1 건 조회 → 초과분이 있으면 hasNext = true, 마지막 행으로 nextCursor 생성
+ * ---------------------------------------------------------
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderHistoryService {
+
+    /** 최대 페이지 크기 (기본 20, OrderHistoryController) */
+    public static final int MAX_SIZE = 100;
+
+    private final UserRepository userRepository;
+    private final OrderHistoryRepository orderHistoryRepository;
+
+    public CursorResponseDto<OrderDto.OrderHistoryResponseDto> getOrderHistory(Long userId, String cursor, int size) {
+        if (!userRepository.existsById(userId)) {
+            throw new NotFoundException("존재하지 않는 사용자입니다.");
+        }
+        int pageSize = Math.min(Math.max(size, 1), MAX_SIZE);
+
+        List<OrderDto.OrderHistoryResponseDto> fetched = orderHistoryRepository.findPageByUserId(
+                userId, OrderDto.OrderHistoryCursor.decode(cursor), pageSize + 1);
+
+        return CursorResponseDto.of(fetched, pageSize, last -> OrderDto.OrderHistoryCursor.of(last).encode());
+    }
+}
@@ -1,17 +1,27 @@
 package com.allra.backend.domain.order.service;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import com.allra.backend.domain.cart.entity.CartEntity;
 import com.allra.backend.domain.cart.entity.CartItemEntity;
 import com.allra.backend.domain.cart.repository.CartRepository;
+import com.allra.backend.domain.inventory.service.StockReservationService;
+import com.allra.backend.domain.mockapi.dto.MockApiOrderDto;
 import com.allra.backend.domain.order.entity.OrderEntity;
 import com.allra.backend.domain.order.entity.OrderItemEntity;
 import com.allra.backend.domain.order.entity.OrderStatus;
 import com.allra.backend.domain.payment.dto.PaymentResultDto;
+import com.allra.backend.domain.payment.entity.PaymentOutboxEntity;
+import com.allra.backend.domain.payment.exception.PaymentErrorCode;
+import com.allra.backend.domain.payment.exception.PaymentException;
+import com.allra.backend.domain.payment.repository.PaymentOutboxRepository;
 import com.allra.backend.domain.payment.service.PaymentService;
 import com.allra.backend.domain.product.entity.ProductEntity;
 import com.allra.backend.domain.product.repository.ProductRepository;
@@ -19,8 +29,11 @@ import com.allra.backend.domain.user.entity.UserEntity;
 import com.allra.backend.domain.order.repository.OrderRepository;
 
 import com.allra.backend.global.exception.BusinessException;
+import com.allra.backend.global.transaction.JpaExecutor;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
 
 /**
  * OrderService
@@ -28,13 +41,27 @@ import lombok.RequiredArgsConstructor;
  * 주문 생성 → 결제 요청 → 결제 결과 / 취소 로직 담당
  * ---------------------------------------------------------
  * 1️. 주문 생성 : 장바구니 기반으로 Mock API에 주문 생성 요청
- * 2️. 결제 요청 : 주문 ID 기반 결제 요청 → 상태별 후속 처리
- *    - SUCCESS  : 재고 차감 + 장바구니 비움
- *    - FAILED   : 재고 복원
- *    - CANCELLED: 재고 복원
- *    - PENDING  : 대기 상태
+ *    - 주문 상품 재고를 예약(홀드)하여 결제 대기 중 같은 재고가 중복 판매되지 않게 함 (StockReservationService)
+ * 2️. 결제 요청 : 주문 ID 기반 결제 요청 → 상태별 후속 처리 (OrderCompletionService)
+ *    - SUCCESS  : 예약 → 판매 확정 (재고 차감) + 장바구니 비움
+ *    - FAILED   : 예약 해제
+ *    - CANCELLED: 예약 해제
+ *    - PENDING  : 대기 상태 (PG 결과 통지로 완료)
  * ---------------------------------------------------------
+ * PG 호출 구간은 논블로킹(Mono)으로 합성하고,
+ * DB 작업은 JpaExecutor 를 통해 전용 스케줄러의 짧은 트랜잭션에서 수행한다.
+ *
+ * [2단계 체크아웃]
+ * - 1단계: 주문/결제 의도 저장 후 커밋 (커넥션 반환)
+ * - 2단계: DB 커넥션 없이 PG 호출
+ * - 3단계: 결과를 두 번째 짧은 트랜잭션에서 반영
+ * - 단계 실패 시 보상 처리 (의도 되돌림 / 주문 실패 처리 / PG 취소)
+ *
+ * [결제 아웃박스] (payment.outbox.enabled=true)
+ * - 결제 의도(PENDING) + 아웃박스 행을 한 트랜잭션에 저장하고 즉시 응답
+ * - PG 전송은 PaymentOutboxRelay 가 배치 단위로 비동기 처리
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class OrderService {
@@ -43,6 +70,19 @@ public class OrderService {
     private final ProductRepository productRepository;
     private final PaymentService paymentService;
     private final OrderRepository orderRepository;
+    private final JpaExecutor jpaExecutor;
+    private final PaymentOutboxRepository paymentOutboxRepository;
+    private final OrderCompletionService orderCompletionService;
+    private final PaymentEventRegistry paymentEventRegistry;
+    private final StockReservationService stockReservationService;
+
+    /** true 이면 결제 요청을 아웃박스에 적재하고 릴레이가 PG 로 전송 */
+    @Value("${payment.outbox.enabled:false}")
+    private boolean outboxEnabled;
+
+    /** 결제 결과 대기(SSE) 최대 시간 — 초과 시 현재 상태(PENDING)로 응답 후 종료 */
+    @Value("${payment.events.timeout:PT25S}")
+    private Duration paymentEventTimeout = Duration.ofSeconds(25);
 
     /**
      * 1. 주문 생성
@@ -50,10 +90,35 @@ public class OrderService {
      * - ProductEntity, OrderEntity 내부 비즈니스 로직 적극 활용
      * - Mock API에 주문 생성 요청 및 결제 로그 저장
      */
-    @Transactional
-    public PaymentResultDto.OrderCreateResponse createOrder(Long userId) {
-        // 1️. 사용자 장바구니 조회
-        List<CartEntity> carts = cartRepository.findUserCartsByUserId(userId);
+    public Mono<PaymentResultDto.OrderCreateResponse> createOrder(Long userId) {
+        // 1️ ~ 8️. 주문 저장 + 재고 예약 (1단계: 트랜잭션 커밋 후 PG 호출)
+        return jpaExecutor.inTransaction(() -> prepareOrder(userId))
+                // 9️. Mock API 호출 → 결제 로그 저장 (PaymentLogEntity)
+                .flatMap(orderEntity -> paymentService.createOrder(
+                                userId,
+                                orderEntity.getItems().stream()
+                                        .map(OrderService::toLineItem)
+                                        .toList(),
+                                orderEntity.getTotalPrice(),
+                                orderEntity
+                        )
+                        // 보상: PG 주문 생성 또는 결과 반영 실패 시 저장해 둔 주문을 FAILED 로 종료
+                        .onErrorResume(e -> markFailed(orderEntity.getId()).then(Mono.error(e))));
+    }
+
+    /** 1-2 주문 상세 → PG 전송용 주문 상품 (상품 ID / 수량 / 주문 시점 단가만) */
+    private static MockApiOrderDto.MockOrderLineItem toLineItem(OrderItemEntity item) {
+        return MockApiOrderDto.MockOrderLineItem.builder()
+                .productId(item.getProduct().getId())
+                .quantity(item.getQuantity())
+                .unitPrice(item.getPrice())
+                .build();
+    }
+
+    /** 1-1 장바구니 기반 주문 엔티티 생성 및 저장 */
+    private OrderEntity prepareOrder(Long userId) {
+        // 1️. 사용자 장바구니 조회 (상품은 아래에서 일괄 조회)
+        List<CartEntity> carts = cartRepository.findUserCartsWithItemsByUserId(userId);
         if (carts.isEmpty()) {
             throw new BusinessException("장바구니가 비어 있습니다.");
         }
@@ -74,12 +139,21 @@ public class OrderService {
                 .status(OrderStatus.CREATED)
                 .build();
 
-        // 4️. 장바구니 상품 → 주문 상세로 변환
+        // 4️. 장바구니 상품 일괄 조회 (IN 쿼리 1회, 잠금 없음 — 재고는 8️ 의 조건부 UPDATE 에서 최종 확인)
+        Map<Long, ProductEntity> products = productRepository.findAllByIds(cartItems.stream()
+                        .map(cartItem -> cartItem.getProduct().getId())
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(ProductEntity::getId, Function.identity()));
+
+        // 5️. 장바구니 상품 → 주문 상세로 변환
         for (CartItemEntity cartItem : cartItems) {
-            ProductEntity product = productRepository.findById(cartItem.getProduct().getId())
-                    .orElseThrow(() -> new BusinessException("상품을 찾을 수 없습니다."));
+            ProductEntity product = products.get(cartItem.getProduct().getId());
+            if (product == null) {
+                throw new BusinessException("상품을 찾을 수 없습니다.");
+            }
 
-            // 재고 검증 (ProductEntity의 도메인 로직 사용)
+            // 판매 가능 수량 사전 검증 (ProductEntity의 도메인 로직 사용, 예약은 저장 후 8️ 에서)
             product.validateStock(cartItem.getQuantity());
 
             // 주문 상세 생성 (OrderItemEntity와 OrderEntity의 관계 설정)
@@ -93,21 +167,15 @@ public class OrderService {
             orderEntity.addItem(orderItem);
         }
 
-        // 5️. 주문 총 금액 계산 (OrderEntity의 내부 로직 사용)
+        // 6️. 주문 총 금액 계산 (OrderEntity의 내부 로직 사용)
         orderEntity.calculateTotalPrice();
 
-        // 6️. DB 저장 (Order + OrderItem cascade 저장)
+        // 7️. DB 저장 (Order + OrderItem cascade 저장)
         orderRepository.save(orderEntity);
 
-        // 7️. Mock API 호출 → 결제 로그 저장 (PaymentLogEntity)
-        return paymentService.createOrder(
-                userId,
-                orderEntity.getItems().stream()
-                        .map(OrderItemEntity::getProduct)
-                        .toList(),
-                orderEntity.getTotalPrice(),
-                orderEntity
-        );
+        // 8️. 재고 예약 (조건부 UPDATE 로 검증 + 차감, 부족하면 주문 저장까지 롤백)
+        stockReservationService.reserve(orderEntity);
+        return orderEntity;
     }
 
     /**
@@ -115,73 +183,159 @@ public class OrderService {
      * - 생성된 주문 ID를 기반으로 Mock 결제 API 호출
      * - 결제 성공/실패/취소 상태에 따라 재고 및 장바구니 처리
      */
-    @Transactional
-    public PaymentResultDto.OrderResultResponse processPayment(String orderId) {
-        // 1. 주문 조회
-        OrderEntity order = orderRepository.findByMockOrderId(orderId)
-                .orElseThrow(() -> new BusinessException("해당 주문을 찾을 수 없습니다."));
-
-        // 3. 결제 금액 조회
-        int amount = order.getTotalPrice();
+    public Mono<PaymentResultDto.OrderResultResponse> processPayment(String orderId) {
+        if (outboxEnabled) {
+            return enqueuePayment(orderId);
+        }
 
-        // 4. Mock API 결제 요청 (여긴 String 그대로 넘겨야 함)
-        PaymentResultDto.OrderResultResponse paymentResponse =
-                paymentService.processPayment(orderId, amount);
+        // 1~3. 주문 조회 → 결제 의도 기록 (CREATED → PENDING) 후 커밋
+        return jpaExecutor.inTransaction(() -> markPaymentRequested(findOrder(orderId)))
+                // 4. Mock API 결제 요청 (DB 커넥션 없이 호출)
+                .flatMap(amount -> paymentService.processPayment(orderId, amount)
+                        // 보상: PG 결제 요청 실패 시 결제 의도 되돌림 (PENDING → CREATED, 재시도 가능)
+                        //       PG 가 접수 후 취소한 결제(PAYMENT_RECORD_FAILED)는 PaymentService 가 주문을 종료하므로 제외
+                        .onErrorResume(e -> isCanceledAtPg(e)
+                                ? Mono.error(e)
+                                : revertPaymentRequest(orderId).then(Mono.error(e))))
+                // 5~6. 결제 결과 반영 (두 번째 짧은 트랜잭션)
+                .flatMap(paymentResponse -> jpaExecutor.inTransaction(() -> applyPaymentResult(orderId, paymentResponse))
+                        // 보상: 결과 반영 실패(재고 부족 등) 시 PG 결제 취소
+                        .onErrorResume(e -> compensatePayment(orderId).then(Mono.error(e))));
+    }
 
-        // 5. 결제 상태별 처리
-        String status = paymentResponse.getStatus().toUpperCase();
+    /** 2-0 아웃박스 모드 : 결제 의도 + 아웃박스 행을 같은 트랜잭션에 저장 후 즉시 응답 */
+    private Mono<PaymentResultDto.OrderResultResponse> enqueuePayment(String orderId) {
+        return jpaExecutor.inTransaction(() -> {
+            OrderEntity order = findOrder(orderId);
+            int amount = markPaymentRequested(order);
+
+            paymentOutboxRepository.save(PaymentOutboxEntity.builder()
+                    .order(order)
+                    .mockOrderId(orderId)
+                    .amount(amount)
+                    .build());
+
+            return PaymentResultDto.OrderResultResponse.builder()
+                    .status(OrderStatus.PENDING.name())
+                    .message("결제 요청이 접수되었습니다. 결제 결과 조회로 최종 상태를 확인해 주세요.")
+                    .build();
+        });
+    }
 
-        switch (status) {
-            case "SUCCESS" -> handleSuccess(order);   // 재고 차감 + 장바구니 비움
-            case "FAILED" -> handleRollback(order, OrderStatus.FAILED); // 재고 복원
-            case "CANCELED" -> handleRollback(order, OrderStatus.CANCELED);
-            default -> order.updateStatus(OrderStatus.PENDING);
+    /** 2-1 결제 의도 기록 : CREATED 상태의 주문만 결제 요청 가능 */
+    private int markPaymentRequested(OrderEntity order) {
+        if (order.getStatus() != OrderStatus.CREATED) {
+            throw new BusinessException("결제를 요청할 수 없는 주문 상태입니다. (" + order.getStatus() + ")");
         }
+        order.updateStatus(OrderStatus.PENDING);
+        return order.getTotalPrice();
+    }
 
-        // 6. 최종 주문 상태 저장
-        orderRepository.save(order);
-
-        return paymentResponse;
+    /** 2-2 결제 결과 반영 : 최종 상태면 주문에 반영, 진행 중이면 결과 통지(웹훅)를 기다림 */
+    private PaymentResultDto.OrderResultResponse applyPaymentResult(
+            String orderId, PaymentResultDto.OrderResultResponse paymentResponse) {
+        return orderCompletionService.complete(
+                orderId,
+                paymentResponse.getStatus(),
+                paymentResponse.getTransactionId(),
+                paymentResponse.getMessage());
     }
 
-    /** 2-1 결제 성공 시 : 재고 차감 + 장바구니 비움 */
-    private void handleSuccess(OrderEntity order) {
-        // 1. 상품 재고 차감
-        for (OrderItemEntity item : order.getItems()) {
-            ProductEntity product = item.getProduct();
-            int newStock = product.getStock() - item.getQuantity();
-            if (newStock < 0) {
-                throw new BusinessException("상품 재고가 부족합니다: " + product.getName());
-            }
-            product.setStock(newStock);
-            product.setSoldOut(newStock == 0);
-        }
+    private OrderEntity findOrder(String orderId) {
+        return orderRepository.findByMockOrderId(orderId)
+                .orElseThrow(() -> new BusinessException("해당 주문을 찾을 수 없습니다."));
+    }
 
-        // 2. 장바구니 비우기
-        cartRepository.deleteAllByUserId(order.getUser().getId());
+    // ============================================================
+    // 보상 처리 (각 단계 실패 시 호출, 원래 예외는 호출 측에서 그대로 전달)
+    // ============================================================
+
+    /** 주문 생성 실패 : 저장해 둔 주문을 FAILED 로 종료하고 재고 예약 해제 */
+    private Mono<Void> markFailed(Long orderPk) {
+        return jpaExecutor.inTransaction(() -> {
+                    orderRepository.findById(orderPk)
+                            .filter(order -> !order.getStatus().isFinished())
+                            .ifPresent(order -> {
+                                stockReservationService.release(order);
+                                order.updateStatus(OrderStatus.FAILED);
+                            });
+                    return null;
+                })
+                .then()
+                .onErrorResume(e -> {
+                    log.error("[OrderService] 주문 실패 처리 중 오류 - orderPk={}, error={}", orderPk, e.getMessage());
+                    return Mono.empty();
+                });
+    }
 
-        // 3. 주문 상태 갱신
-        order.updateStatus(OrderStatus.SUCCESS);
+    /** 결제 요청 실패 : PENDING → CREATED 로 되돌려 재시도 가능하게 함 */
+    private Mono<Void> revertPaymentRequest(String orderId) {
+        return jpaExecutor.inTransaction(() -> {
+                    orderRepository.findByMockOrderId(orderId)
+                            .filter(order -> order.getStatus() == OrderStatus.PENDING)
+                            .ifPresent(order -> order.updateStatus(OrderStatus.CREATED));
+                    return null;
+                })
+                .then()
+                .onErrorResume(e -> {
+                    log.error("[OrderService] 결제 의도 복구 중 오류 - orderId={}, error={}", orderId, e.getMessage());
+                    return Mono.empty();
+                });
     }
 
-    /** 2-2 결제 실패 / 취소 시 : 재고 복원 */
-    private void handleRollback(OrderEntity order, OrderStatus newStatus) {
-        for (OrderItemEntity item : order.getItems()) {
-            ProductEntity product = item.getProduct();
-            product.setStock(product.getStock() + item.getQuantity());
-            product.setSoldOut(false);
-        }
+    /** PG 가 결제를 접수한 뒤 보상 취소된 경우 (같은 PG 주문으로 재시도 불가) */
+    private static boolean isCanceledAtPg(Throwable e) {
+        return e instanceof PaymentException paymentException
+                && paymentException.getErrorCode() == PaymentErrorCode.PAYMENT_RECORD_FAILED;
+    }
 
-        order.updateStatus(newStatus); // FAILED or CANCELED 구분해서 반영
+    /** 결제 결과 반영 실패 : PG 결제를 취소하고 주문을 CANCELED 로 종료 */
+    private Mono<Void> compensatePayment(String orderId) {
+        return paymentService.cancelOrder(orderId)
+                .doOnNext(response -> log.warn("[OrderService] 결제 보상 취소 - orderId={}, status={}",
+                        orderId, response.getStatus()))
+                .then()
+                .onErrorResume(e -> {
+                    log.error("[OrderService] 결제 보상 취소 실패 - orderId={}, error={}", orderId, e.getMessage());
+                    return Mono.empty();
+                });
     }
 
     /** 3. 결제 결과 조회 */
-    public PaymentResultDto.OrderResultResponse checkPaymentResult(String orderId) {
+    public Mono<PaymentResultDto.OrderResultResponse> checkPaymentResult(String orderId) {
         return paymentService.checkPaymentResult(orderId);
     }
 
+    /**
+     * 3-1. 결제 결과 대기 (SSE / 롱폴링)
+     * - 구독을 먼저 등록한 뒤 DB 상태를 확인하여 그 사이의 상태 변경을 놓치지 않음
+     * - 이미 종료된 주문 → 즉시 결과
+     * - 진행 중인 주문 → 최종 상태로 바뀌는 순간 결과, 시간 초과 시 PENDING
+     */
+    public Mono<PaymentResultDto.OrderResultResponse> awaitPaymentResult(String orderId) {
+        return Mono.defer(() -> {
+            PaymentEventRegistry.Subscription subscription = paymentEventRegistry.register(orderId);
+
+            return jpaExecutor.readOnly(() -> {
+                        OrderEntity order = findOrder(orderId);
+                        return order.getStatus().isFinished() ? orderCompletionService.resultOf(order) : null;
+                    })
+                    .switchIfEmpty(Mono.defer(() -> subscription.result()
+                            .timeout(paymentEventTimeout, Mono.fromSupplier(() -> pendingResult(orderId)))))
+                    .doFinally(signal -> paymentEventRegistry.release(orderId, subscription));
+        });
+    }
+
+    /** 결과 대기 시간 초과 응답 */
+    private PaymentResultDto.OrderResultResponse pendingResult(String orderId) {
+        return PaymentResultDto.OrderResultResponse.builder()
+                .status(OrderStatus.PENDING.name())
+                .message(String.format("Payment for orderId=%s is still processing. Reconnect to keep waiting.", orderId))
+                .build();
+    }
+
     /** 4. 주문 취소 요청 */
-    public PaymentResultDto.OrderCancelResponse cancelOrder(String orderId) {
+    public Mono<PaymentResultDto.OrderCancelResponse> cancelOrder(String orderId) {
         return paymentService.cancelOrder(orderId);
     }
 
@@ -0,0 +1,91 @@
+package com.allra.backend.domain.order.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.allra.backend.domain.payment.dto.PaymentResultDto;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * PaymentEventRegistry
+ *
+ * 결제 최종 결과를 기다리는 구독(SSE / 롱폴링)을 주문번호별로 보관하는 메모리 저장소.
+ * ---------------------------------------------------------
+ * 1️. 구독 등록 : 같은 주문을 기다리는 요청은 하나의 Sinks.One 을 공유
+ * 2️. 결과 발행 : 주문이 SUCCESS / FAILED / CANCELED 로 바뀐 트랜잭션이 커밋된 뒤 1회 발행
+ * 3️. 구독 해제 : 마지막 대기자가 떠나면(타임아웃 / 연결 종료) 항목 제거
+ * ---------------------------------------------------------
+ * 단일 인스턴스 기준 저장소이며, 발행을 놓친 구독자는 타임아웃 후 DB 결과로 다시 확인한다.
+ */
+@Component
+public class PaymentEventRegistry {
+
+    private final Map<String, Subscription> subscriptions = new ConcurrentHashMap<>();
+
+    /** 1️. 구독 등록 (반환된 구독은 반드시 release 로 해제) */
+    public Subscription register(String orderId) {
+        return subscriptions.compute(orderId, (key, subscription) -> {
+            Subscription target = subscription != null ? subscription : new Subscription();
+            target.waiters++;
+            return target;
+        });
+    }
+
+    /** 3️. 구독 해제 */
+    public void release(String orderId, Subscription subscription) {
+        subscriptions.computeIfPresent(orderId, (key, current) -> {
+            if (current != subscription) {
+                return current;
+            }
+            return --current.waiters == 0 ? null : current;
+        });
+    }
+
+    /** 2️. 결과 발행 (대기 중인 구독자가 없으면 무시) */
+    public void publish(String orderId, PaymentResultDto.OrderResultResponse result) {
+        Subscription subscription = subscriptions.remove(orderId);
+        if (subscription != null) {
+            subscription.sink.tryEmitValue(result);
+        }
+    }
+
+    /**
+     * 2️. 커밋 이후 결과 발행
+     * - 롤백된 상태 변경이 구독자에게 전달되지 않도록 트랜잭션 커밋 후 발행
+     * - 트랜잭션 동기화가 없으면 즉시 발행
+     */
+    public void publishAfterCommit(String orderId, PaymentResultDto.OrderResultResponse result) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(orderId, result);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(orderId, result);
+            }
+        });
+    }
+
+    /** 현재 구독 중인 주문 수 */
+    public int size() {
+        return subscriptions.size();
+    }
+
+    /** 주문 1건에 대한 구독 (대기자 수는 compute 안에서만 변경) */
+    public static final class Subscription {
+
+        private final Sinks.One<PaymentResultDto.OrderResultResponse> sink = Sinks.one();
+        private int waiters;
+
+        public Mono<PaymentResultDto.OrderResultResponse> result() {
+            return sink.asMono();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.allra.backend.domain.payment.client;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.allra.backend.domain.mockapi.codec.MockPgCodec;
+import com.allra.backend.domain.mockapi.codec.MockPgWireFormat;
+import com.allra.backend.domain.mockapi.dto.MockApiCancelDto;
+import com.allra.backend.domain.mockapi.dto.MockApiOrderDto;
+import com.allra.backend.domain.mockapi.dto.MockApiPaymentDto;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * HttpPaymentGatewayClient
+ *
+ * WebClient(HTTP) 로 PG 를 호출하는 기본 전송 계층.
+ * - WebClientConfig 의 WebClient 빈(연결 풀 "pg" / 타임아웃 / 메트릭, webclient.mock-base-url)을 사용한다.
+ * - PG 트래픽 기록 / 재생(PgTrafficConfigurer)은 이 전송 계층에만 적용된다.
+ * - payment.gateway.wire-format=CBOR 이면 요청 / 응답 본문을 CBOR 로 주고받는다. (MockPgCodec)
+ */
+@Component
+@ConditionalOnProperty(name = "payment.gateway.transport", havingValue = "http", matchIfMissing = true)
+public class HttpPaymentGatewayClient implements PaymentGatewayClient {
+
+    private final WebClient webClient;
+
+    @Autowired
+    public HttpPaymentGatewayClient(
+            WebClient webClient,
+            PgTrafficConfigurer pgTrafficConfigurer,
+            MockPgCodec codec,
+            @Value("${payment.gateway.wire-format:JSON}") MockPgWireFormat wireFormat) {
+        this(pgTrafficConfigurer.configure(codec.configure(webClient.mutate(), wireFormat)).build());
+    }
+
+    /** 구성된 WebClient 를 그대로 사용 (테스트 / 벤치마크용) */
+    public HttpPaymentGatewayClient(WebClient webClient) {
+        this.webClient = webClient;
+    }
+
+    @Override
+    public Mono<MockApiOrderDto.MockOrderCreateResponseDto> createOrder(MockApiOrderDto.MockOrderCreateRequestDto request) {
+        return webClient.post()
+                .uri("/api/mock/order")
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(MockApiOrderDto.MockOrderCreateResponseDto.class);
+    }
+
+    @Override
+    public Mono<MockApiPaymentDto.MockPayResponse> requestPayment(MockApiPaymentDto.MockPayRequest request) {
+        return webClient.post()
+                .uri("/api/mock/payment")
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(MockApiPaymentDto.MockPayResponse.class);
+    }
+
+    @Override
+    public Mono<MockApiPaymentDto.MockPayResponse> getPaymentResult(String orderId) {
+        return webClient.get()
+                .uri("/api/mock/payment/result/{orderId}", orderId)
+                .retrieve()
+                .bodyToMono(MockApiPaymentDto.MockPayResponse.class);
+    }
+
+    @Override
+    public Mono<MockApiPaymentDto.MockPayResultsResponse> getPaymentResults(MockApiPaymentDto.MockPayResultsRequest request) {
+        return webClient.post()
+                .uri("/api/mock/payment/results")
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(MockApiPaymentDto.MockPayResultsResponse.class);
+    }
+
+    @Override
+    public Mono<MockApiCancelDto.MockCancelResponse> cancelOrder(MockApiCancelDto.MockCancelRequest request) {
+        return webClient.post()
+                .uri("/api/mock/order/cancel")
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(MockApiCancelDto.MockCancelResponse.class);
+    }
+}
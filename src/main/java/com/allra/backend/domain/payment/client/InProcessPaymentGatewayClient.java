@@ -0,0 +1,55 @@
+package com.allra.backend.domain.payment.client;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.allra.backend.domain.mockapi.dto.MockApiCancelDto;
+import com.allra.backend.domain.mockapi.dto.MockApiOrderDto;
+import com.allra.backend.domain.mockapi.dto.MockApiPaymentDto;
+import com.allra.backend.domain.mockapi.service.MockApiService;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * InProcessPaymentGatewayClient
+ *
+ * 같은 JVM 의 MockApiService 를 직접 호출하는 전송 계층. (payment.gateway.transport=in-process)
+ * ---------------------------------------------------------
+ * - JSON 직렬화 / 루프백 HTTP / 역직렬화 없이 DTO 를 그대로 주고받는다.
+ * - MockApiService 는 논블로킹(메모리 저장소 + 타이머 예약)이므로 호출 스레드에서 바로 실행한다.
+ * - HTTP 계층의 기능은 적용되지 않는다. (Mock PG 프로파일의 응답 지연 / 장애 주입, PG 트래픽 기록 / 재생)
+ * ---------------------------------------------------------
+ */
+@Component
+@ConditionalOnProperty(name = "payment.gateway.transport", havingValue = "in-process")
+@RequiredArgsConstructor
+public class InProcessPaymentGatewayClient implements PaymentGatewayClient {
+
+    private final MockApiService mockApiService;
+
+    @Override
+    public Mono<MockApiOrderDto.MockOrderCreateResponseDto> createOrder(MockApiOrderDto.MockOrderCreateRequestDto request) {
+        return Mono.fromSupplier(() -> mockApiService.createOrder(request));
+    }
+
+    @Override
+    public Mono<MockApiPaymentDto.MockPayResponse> requestPayment(MockApiPaymentDto.MockPayRequest request) {
+        return Mono.fromSupplier(() -> mockApiService.processPayment(request));
+    }
+
+    @Override
+    public Mono<MockApiPaymentDto.MockPayResponse> getPaymentResult(String orderId) {
+        return Mono.fromSupplier(() -> mockApiService.getPaymentResult(orderId));
+    }
+
+    @Override
+    public Mono<MockApiPaymentDto.MockPayResultsResponse> getPaymentResults(MockApiPaymentDto.MockPayResultsRequest request) {
+        return Mono.fromSupplier(() -> mockApiService.getPaymentResults(request));
+    }
+
+    @Override
+    public Mono<MockApiCancelDto.MockCancelResponse> cancelOrder(MockApiCancelDto.MockCancelRequest request) {
+        return Mono.fromSupplier(() -> mockApiService.cancelOrder(request));
+    }
+}
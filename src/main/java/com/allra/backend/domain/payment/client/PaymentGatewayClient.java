@@ -0,0 +1,36 @@
+package com.allra.backend.domain.payment.client;
+
+import com.allra.backend.domain.mockapi.dto.MockApiCancelDto;
+import com.allra.backend.domain.mockapi.dto.MockApiOrderDto;
+import com.allra.backend.domain.mockapi.dto.MockApiPaymentDto;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * PaymentGatewayClient
+ *
+ * PG 호출 전송 계층. PaymentService 는 이 인터페이스만 사용한다.
+ * ---------------------------------------------------------
+ * - HttpPaymentGatewayClient      : WebClient(HTTP) — 별도 프로세스 / 실제 PG (기본)
+ * - InProcessPaymentGatewayClient : 같은 JVM 의 MockApiService 직접 호출 (직렬화 / 루프백 HTTP 없음)
+ * ---------------------------------------------------------
+ * payment.gateway.transport (http | in-process) 로 선택한다.
+ * 응답 검증(빈 응답 / 상태 누락)과 서킷 브레이커는 호출하는 쪽(PaymentService)에서 처리한다.
+ */
+public interface PaymentGatewayClient {
+
+    /** 주문 생성 (POST /api/mock/order) */
+    Mono<MockApiOrderDto.MockOrderCreateResponseDto> createOrder(MockApiOrderDto.MockOrderCreateRequestDto request);
+
+    /** 결제 요청 (POST /api/mock/payment) */
+    Mono<MockApiPaymentDto.MockPayResponse> requestPayment(MockApiPaymentDto.MockPayRequest request);
+
+    /** 결제 결과 조회 (GET /api/mock/payment/result/{orderId}) */
+    Mono<MockApiPaymentDto.MockPayResponse> getPaymentResult(String orderId);
+
+    /** 결제 결과 일괄 조회 (POST /api/mock/payment/results) */
+    Mono<MockApiPaymentDto.MockPayResultsResponse> getPaymentResults(MockApiPaymentDto.MockPayResultsRequest request);
+
+    /** 주문 취소 (POST /api/mock/order/cancel) */
+    Mono<MockApiCancelDto.MockCancelResponse> cancelOrder(MockApiCancelDto.MockCancelRequest request);
+}
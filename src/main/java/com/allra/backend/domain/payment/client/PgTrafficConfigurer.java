@@ -0,0 +1,79 @@
+package com.allra.backend.domain.payment.client;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.allra.backend.domain.mockapi.codec.MockPgCodec;
+import com.allra.backend.domain.mockapi.codec.MockPgWireFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * PgTrafficConfigurer
+ *
+ * payment.pg-traffic.mode 에 따라 PG 호출용 WebClient 에 기록 / 재생을 연결한다.
+ * ---------------------------------------------------------
+ * - OFF    : 변경 없음
+ * - RECORD : PgTrafficRecorder 필터 추가 (실제 PG 호출 + 파일 기록)
+ * - REPLAY : PgTrafficReplayer 로 ExchangeFunction 교체 (PG / MockApiService 호출 없음)
+ * ---------------------------------------------------------
+ * 재생기는 payment.gateway.wire-format 과 같은 코덱(MockPgCodec)을 사용한다. (CBOR 본문도 그대로 재생)
+ */
+@Slf4j
+@Component
+public class PgTrafficConfigurer {
+
+    private final PgTrafficMode mode;
+    private final PgTrafficRecorder recorder;
+    private final PgTrafficReplayer replayer;
+
+    public PgTrafficConfigurer(
+            @Value("${payment.pg-traffic.mode:OFF}") PgTrafficMode mode,
+            @Value("${payment.pg-traffic.file:build/pg-traffic.ndjson.gz}") Path file,
+            @Value("${payment.pg-traffic.time-scale:1.0}") double timeScale,
+            @Value("${payment.gateway.wire-format:JSON}") MockPgWireFormat wireFormat,
+            ObjectMapper objectMapper,
+            MockPgCodec codec) {
+        this.mode = mode;
+        try {
+            this.recorder = mode == PgTrafficMode.RECORD ? new PgTrafficRecorder(file, objectMapper) : null;
+            this.replayer = mode == PgTrafficMode.REPLAY
+                    ? new PgTrafficReplayer(file, objectMapper, timeScale, codec.exchangeStrategies(wireFormat))
+                    : null;
+        } catch (IOException e) {
+            throw new UncheckedIOException("PG 트래픽 파일을 열 수 없습니다: " + file, e);
+        }
+    }
+
+    public PgTrafficMode mode() {
+        return mode;
+    }
+
+    /** PG 호출용 WebClient.Builder 에 기록 / 재생 연결 */
+    public WebClient.Builder configure(WebClient.Builder builder) {
+        return switch (mode) {
+            case RECORD -> builder.filter(recorder);
+            case REPLAY -> builder.exchangeFunction(replayer);
+            case OFF -> builder;
+        };
+    }
+
+    @PreDestroy
+    public void close() {
+        if (recorder == null) {
+            return;
+        }
+        try {
+            recorder.close();
+        } catch (IOException e) {
+            log.warn("[PgTrafficConfigurer] 기록 파일 닫기 실패 - error={}", e.getMessage());
+        }
+    }
+}
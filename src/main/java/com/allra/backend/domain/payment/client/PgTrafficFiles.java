@@ -0,0 +1,90 @@
+package com.allra.backend.domain.payment.client;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
+
+/**
+ * 기록 파일 입출력 (줄 단위 JSON, 확장자가 .gz 이면 gzip 압축)
+ * - 본문 : Content-Type 이 없거나 텍스트(JSON / text/*)면 UTF-8 문자열, 그 밖(CBOR 등 바이너리)은 Base64 로 저장
+ */
+final class PgTrafficFiles {
+
+    private PgTrafficFiles() {
+    }
+
+    static BufferedWriter newWriter(Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        OutputStream out = Files.newOutputStream(file);
+        if (isGzip(file)) {
+            out = new GZIPOutputStream(out, 64 * 1024);
+        }
+        return new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
+
+    static BufferedReader newReader(Path file) throws IOException {
+        InputStream in = Files.newInputStream(file);
+        if (isGzip(file)) {
+            in = new GZIPInputStream(in, 64 * 1024);
+        }
+        return new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+    }
+
+    /** 본문 바이트 → 기록 문자열 (Content-Type 기준 UTF-8 / Base64) */
+    static String encodeBody(byte[] body, String contentType) {
+        if (body == null) {
+            return null;
+        }
+        return isText(contentType)
+                ? new String(body, StandardCharsets.UTF_8)
+                : Base64.getEncoder().encodeToString(body);
+    }
+
+    /** 기록 문자열 → 본문 바이트 (encodeBody 의 역변환) */
+    static byte[] decodeBody(String body, String contentType) {
+        if (body == null) {
+            return null;
+        }
+        return isText(contentType)
+                ? body.getBytes(StandardCharsets.UTF_8)
+                : Base64.getDecoder().decode(body);
+    }
+
+    /** 읽기 위치를 바꾸지 않고 DataBuffer 내용 복사 (원본은 호출자에게 그대로 전달) */
+    static byte[] copy(DataBuffer buffer) {
+        byte[] bytes = new byte[buffer.readableByteCount()];
+        int position = buffer.readPosition();
+        buffer.read(bytes);
+        buffer.readPosition(position);
+        return bytes;
+    }
+
+    private static boolean isText(String contentType) {
+        if (contentType == null || contentType.isBlank()) {
+            return true;
+        }
+        MediaType mediaType = MediaType.parseMediaType(contentType);
+        return "text".equals(mediaType.getType())
+                || "json".equals(mediaType.getSubtype())
+                || mediaType.getSubtype().endsWith("+json");
+    }
+
+    private static boolean isGzip(Path file) {
+        return file.getFileName().toString().endsWith(".gz");
+    }
+}
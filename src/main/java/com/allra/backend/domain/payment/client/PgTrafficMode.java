@@ -0,0 +1,13 @@
+package com.allra.backend.domain.payment.client;
+
+/**
+ * PG 트래픽 기록 / 재생 모드
+ * - OFF    : 기록 / 재생 없음 (기본)
+ * - RECORD : 실제 PG 요청 / 응답을 파일로 기록
+ * - REPLAY : 기록 파일로 PG 를 대체 (네트워크 호출 없음)
+ */
+public enum PgTrafficMode {
+    OFF,
+    RECORD,
+    REPLAY
+}
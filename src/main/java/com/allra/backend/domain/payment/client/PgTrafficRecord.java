@@ -0,0 +1,34 @@
+package com.allra.backend.domain.payment.client;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * PG 요청 / 응답 기록 1건 (기록 파일의 한 줄, JSON)
+ * - at           : 기록 시작 후 요청 시각 (ms)
+ * - method, path : HTTP 메서드, 경로 + 쿼리
+ * - requestBody  : 요청 본문 (없으면 null)
+ * - requestContentType : 요청 Content-Type
+ * - status       : 응답 상태 코드
+ * - contentType  : 응답 Content-Type
+ * - responseBody : 응답 본문
+ *   (본문은 Content-Type 이 텍스트면 UTF-8 문자열, 바이너리(CBOR 등)면 Base64 — PgTrafficFiles)
+ * - latencyMs    : 요청 시작 ~ 응답 본문 수신 완료까지 걸린 시간
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class PgTrafficRecord {
+    private long at;
+    private String method;
+    private String path;
+    private String requestBody;
+    private String requestContentType;
+    private int status;
+    private String contentType;
+    private String responseBody;
+    private long latencyMs;
+}
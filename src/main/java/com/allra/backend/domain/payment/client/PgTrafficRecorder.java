@@ -0,0 +1,136 @@
+package com.allra.backend.domain.payment.client;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.reactive.ClientHttpRequestDecorator;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * PgTrafficRecorder
+ *
+ * PaymentService 의 WebClient 에 연결하여 PG 요청 / 응답 쌍과 소요 시간을 파일로 기록하는 필터.
+ * ---------------------------------------------------------
+ * 1️. 요청 본문 : 전송되는 DataBuffer 를 합쳐 바이트로 보관
+ * 2️. 응답 본문 : 수신한 DataBuffer 를 합쳐 바이트로 보관 (호출자에게는 그대로 전달)
+ *               본문은 Content-Type 에 따라 UTF-8 문자열 또는 Base64 로 기록 (CBOR 도 손실 없음)
+ * 3️. 기록     : 응답 본문 수신이 끝나면 PgTrafficRecord 1줄을 큐에 넣고,
+ *               전용 스레드가 파일에 쓴다. (Netty 이벤트 루프에서 파일 I/O 없음)
+ * ---------------------------------------------------------
+ * 기록 파일은 PgTrafficReplayer 로 재생한다.
+ */
+@Slf4j
+public class PgTrafficRecorder implements ExchangeFilterFunction, Closeable {
+
+    private final ObjectMapper objectMapper;
+    private final BufferedWriter writer;
+    private final Sinks.Many<PgTrafficRecord> queue = Sinks.many().unicast().onBackpressureBuffer();
+    private final Scheduler writerScheduler = Schedulers.newSingle("pg-recorder");
+    private final Mono<Void> drained;
+    private final long startNanos = System.nanoTime();
+
+    public PgTrafficRecorder(Path file, ObjectMapper objectMapper) throws IOException {
+        this.objectMapper = objectMapper;
+        this.writer = PgTrafficFiles.newWriter(file);
+        this.drained = queue.asFlux()
+                .publishOn(writerScheduler)
+                .doOnNext(this::write)
+                .then()
+                .cache();
+        this.drained.subscribe();
+        log.info("[PgTrafficRecorder] PG 트래픽 기록 시작 - file={}", file.toAbsolutePath());
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        long requestNanos = System.nanoTime();
+        AtomicReference<byte[]> requestBody = new AtomicReference<>();
+        AtomicReference<String> requestContentType = new AtomicReference<>();
+
+        // 1️. 요청 본문 캡처
+        ClientRequest capturing = ClientRequest.from(request)
+                .body((outputMessage, context) -> request.body().insert(new ClientHttpRequestDecorator(outputMessage) {
+                    @Override
+                    public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+                        // Content-Type 은 본문 writer 가 writeWith 전에 정함
+                        requestContentType.set(getHeaders().getFirst(HttpHeaders.CONTENT_TYPE));
+                        return super.writeWith(DataBufferUtils.join(body)
+                                .doOnNext(buffer -> requestBody.set(PgTrafficFiles.copy(buffer))));
+                    }
+                }, context))
+                .build();
+
+        // 2️. 응답 본문 캡처 후 3️. 기록
+        return next.exchange(capturing)
+                .map(response -> response.mutate()
+                        .body(body -> DataBufferUtils.join(body)
+                                .doOnNext(buffer -> enqueue(request, requestBody.get(), requestContentType.get(),
+                                        response, PgTrafficFiles.copy(buffer), requestNanos))
+                                .switchIfEmpty(Mono.fromRunnable(() -> enqueue(request, requestBody.get(),
+                                        requestContentType.get(), response, null, requestNanos)))
+                                .flux())
+                        .build());
+    }
+
+    private void enqueue(ClientRequest request, byte[] requestBody, String requestContentType,
+                         ClientResponse response, byte[] responseBody, long requestNanos) {
+        long now = System.nanoTime();
+        String query = request.url().getRawQuery();
+        String contentType = response.headers().asHttpHeaders().getFirst(HttpHeaders.CONTENT_TYPE);
+        PgTrafficRecord record = PgTrafficRecord.builder()
+                .at(Duration.ofNanos(requestNanos - startNanos).toMillis())
+                .method(request.method().name())
+                .path(request.url().getRawPath() + (query != null ? "?" + query : ""))
+                .requestBody(PgTrafficFiles.encodeBody(requestBody, requestContentType))
+                .requestContentType(requestContentType)
+                .status(response.statusCode().value())
+                .contentType(contentType)
+                .responseBody(PgTrafficFiles.encodeBody(responseBody, contentType))
+                .latencyMs(Duration.ofNanos(now - requestNanos).toMillis())
+                .build();
+
+        Sinks.EmitResult result = queue.tryEmitNext(record);
+        if (result.isFailure()) {
+            // 여러 스레드가 동시에 기록하는 경우 재시도
+            queue.emitNext(record, Sinks.EmitFailureHandler.busyLooping(Duration.ofMillis(100)));
+        }
+    }
+
+    private void write(PgTrafficRecord record) {
+        try {
+            writer.write(objectMapper.writeValueAsString(record));
+            writer.newLine();
+        } catch (IOException e) {
+            log.warn("[PgTrafficRecorder] 기록 실패 - path={}, error={}", record.getPath(), e.getMessage());
+        }
+    }
+
+    /** 남은 기록을 모두 쓰고 파일을 닫는다. */
+    @Override
+    public void close() throws IOException {
+        queue.emitComplete(Sinks.EmitFailureHandler.busyLooping(Duration.ofMillis(100)));
+        drained.block(Duration.ofSeconds(10));
+        writerScheduler.dispose();
+        writer.close();
+        log.info("[PgTrafficRecorder] PG 트래픽 기록 종료");
+    }
+}
@@ -0,0 +1,290 @@
+package com.allra.backend.domain.payment.client;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpCookie;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.http.codec.HttpMessageWriter;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.util.StringUtils;
+import org.springframework.web.reactive.function.BodyInserter;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * PgTrafficReplayer
+ *
+ * PgTrafficRecorder 로 기록한 파일을 읽어 PG 를 대신 응답하는 ExchangeFunction. (네트워크 호출 없음)
+ * ---------------------------------------------------------
+ * 1️. 정확 일치 : 메서드 + 경로 + 요청 본문이 같은 기록을 기록 순서대로 응답
+ *               (모두 소진하면 마지막 기록을 반복)
+ * 2️. 경로 일치 : 정확 일치가 없으면 숫자가 포함된 경로 구간을 {} 로 바꾼 경로 기준으로
+ *               같은 API 의 기록을 순환하며 응답 (주문 ID 가 다른 재실행 대비)
+ * 3️. 지연     : 기록된 latencyMs × timeScale 만큼 지연 후 응답 (0 이면 즉시)
+ * 4️. 미기록   : 일치하는 기록이 없으면 501 Not Implemented
+ * ---------------------------------------------------------
+ * 요청 본문 직렬화 / 응답 본문 역직렬화에는 생성 시 받은 ExchangeStrategies 를 쓴다. (CBOR 전송이면 CBOR 코덱 포함)
+ * 경로 일치 응답의 본문은 기록 당시 그대로이므로 orderId 등 식별자는 요청과 다를 수 있다.
+ */
+@Slf4j
+public class PgTrafficReplayer implements ExchangeFunction {
+
+    private final Map<String, Deque<PgTrafficRecord>> exact = new ConcurrentHashMap<>();
+    private final Map<String, List<PgTrafficRecord>> byRoute = new HashMap<>();
+    private final Map<String, AtomicInteger> routeCursors = new HashMap<>();
+    private final double timeScale;
+    private final ExchangeStrategies strategies;
+
+    public PgTrafficReplayer(Path file, ObjectMapper objectMapper, double timeScale,
+                             ExchangeStrategies strategies) throws IOException {
+        this(readAll(file, objectMapper), timeScale, strategies);
+        log.info("[PgTrafficReplayer] PG 트래픽 재생 준비 - file={}, routes={}, timeScale={}",
+                file.toAbsolutePath(), byRoute.keySet(), timeScale);
+    }
+
+    /** 기본 코덱(JSON)으로 재생 (테스트용) */
+    public PgTrafficReplayer(List<PgTrafficRecord> records, double timeScale) {
+        this(records, timeScale, ExchangeStrategies.withDefaults());
+    }
+
+    public PgTrafficReplayer(List<PgTrafficRecord> records, double timeScale, ExchangeStrategies strategies) {
+        if (timeScale < 0) {
+            throw new IllegalArgumentException("timeScale 은 0 이상이어야 합니다: " + timeScale);
+        }
+        this.timeScale = timeScale;
+        this.strategies = strategies;
+        for (PgTrafficRecord record : records) {
+            exact.computeIfAbsent(exactKey(record.getMethod(), record.getPath(), record.getRequestBody()),
+                    key -> new ArrayDeque<>()).addLast(record);
+            String route = routeKey(record.getMethod(), record.getPath());
+            byRoute.computeIfAbsent(route, key -> new ArrayList<>()).add(record);
+            routeCursors.putIfAbsent(route, new AtomicInteger());
+        }
+    }
+
+    @Override
+    public Mono<ClientResponse> exchange(ClientRequest request) {
+        CapturingClientHttpRequest captured = new CapturingClientHttpRequest(request.method(), request.url());
+        // 기본 헤더(Content-Type 등)를 넘겨 실제 전송과 같은 writer 로 직렬화
+        captured.getHeaders().putAll(request.headers());
+        return request.body().insert(captured, context())
+                .then(Mono.defer(() -> {
+                    String query = request.url().getRawQuery();
+                    String path = request.url().getRawPath() + (query != null ? "?" + query : "");
+                    String body = PgTrafficFiles.encodeBody(captured.body(),
+                            captured.getHeaders().getFirst(HttpHeaders.CONTENT_TYPE));
+                    PgTrafficRecord record = find(request.method().name(), path, body);
+                    if (record == null) {
+                        log.warn("[PgTrafficReplayer] 기록 없음 - {} {}", request.method(), path);
+                        return Mono.just(ClientResponse.create(HttpStatus.NOT_IMPLEMENTED, strategies).build());
+                    }
+                    return respond(record);
+                }));
+    }
+
+    /** 기록 선택 (정확 일치 → 경로 일치) */
+    PgTrafficRecord find(String method, String path, String body) {
+        Deque<PgTrafficRecord> queue = exact.get(exactKey(method, path, body));
+        if (queue != null) {
+            synchronized (queue) {
+                return queue.size() > 1 ? queue.pollFirst() : queue.peekFirst();
+            }
+        }
+        String route = routeKey(method, path);
+        List<PgTrafficRecord> candidates = byRoute.get(route);
+        if (candidates == null) {
+            return null;
+        }
+        int index = Math.floorMod(routeCursors.get(route).getAndIncrement(), candidates.size());
+        return candidates.get(index);
+    }
+
+    private Mono<ClientResponse> respond(PgTrafficRecord record) {
+        ClientResponse.Builder builder = ClientResponse.create(HttpStatusCode.valueOf(record.getStatus()), strategies);
+        if (StringUtils.hasText(record.getContentType())) {
+            builder.header(HttpHeaders.CONTENT_TYPE, record.getContentType());
+        }
+        byte[] body = PgTrafficFiles.decodeBody(record.getResponseBody(), record.getContentType());
+        if (body != null) {
+            builder.body(Flux.defer(() -> Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(body))));
+        }
+        ClientResponse response = builder.build();
+
+        long delayMs = Math.round(record.getLatencyMs() * timeScale);
+        return delayMs > 0
+                ? Mono.delay(Duration.ofMillis(delayMs)).thenReturn(response)
+                : Mono.just(response);
+    }
+
+    private static String exactKey(String method, String path, String body) {
+        return method + " " + path + "\n" + (body != null ? body : "");
+    }
+
+    /** /api/mock/payment/1024?x=1 → GET /api/mock/payment/{} */
+    private static String routeKey(String method, String path) {
+        int query = path.indexOf('?');
+        String rawPath = query >= 0 ? path.substring(0, query) : path;
+        String[] segments = rawPath.split("/", -1);
+        for (int i = 0; i < segments.length; i++) {
+            if (segments[i].chars().anyMatch(Character::isDigit)) {
+                segments[i] = "{}";
+            }
+        }
+        return method + " " + String.join("/", segments);
+    }
+
+    private static List<PgTrafficRecord> readAll(Path file, ObjectMapper objectMapper) throws IOException {
+        List<PgTrafficRecord> records = new ArrayList<>();
+        try (BufferedReader reader = PgTrafficFiles.newReader(file)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    records.add(objectMapper.readValue(line, PgTrafficRecord.class));
+                }
+            }
+        }
+        return records;
+    }
+
+    private BodyInserter.Context context() {
+        return new BodyInserter.Context() {
+            @Override
+            public List<HttpMessageWriter<?>> messageWriters() {
+                return strategies.messageWriters();
+            }
+
+            @Override
+            public Optional<ServerHttpRequest> serverRequest() {
+                return Optional.empty();
+            }
+
+            @Override
+            public Map<String, Object> hints() {
+                return Collections.emptyMap();
+            }
+        };
+    }
+
+    /**
+     * 요청 본문을 바이트로 모으기만 하는 ClientHttpRequest
+     */
+    private static final class CapturingClientHttpRequest implements ClientHttpRequest {
+
+        private final HttpMethod method;
+        private final URI uri;
+        private final HttpHeaders headers = new HttpHeaders();
+        private final MultiValueMap<String, HttpCookie> cookies = new LinkedMultiValueMap<>();
+        private final Map<String, Object> attributes = new HashMap<>();
+        private final AtomicReference<byte[]> body = new AtomicReference<>();
+
+        private CapturingClientHttpRequest(HttpMethod method, URI uri) {
+            this.method = method;
+            this.uri = uri;
+        }
+
+        byte[] body() {
+            return body.get();
+        }
+
+        @Override
+        public HttpMethod getMethod() {
+            return method;
+        }
+
+        @Override
+        public URI getURI() {
+            return uri;
+        }
+
+        @Override
+        public MultiValueMap<String, HttpCookie> getCookies() {
+            return cookies;
+        }
+
+        public Map<String, Object> getAttributes() {
+            return attributes;
+        }
+
+        /** 실제 네트워크 요청이 없으므로 캡처 객체 자신을 반환 */
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T getNativeRequest() {
+            return (T) this;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public DataBufferFactory bufferFactory() {
+            return DefaultDataBufferFactory.sharedInstance;
+        }
+
+        @Override
+        public void beforeCommit(Supplier<? extends Mono<Void>> action) {
+        }
+
+        @Override
+        public boolean isCommitted() {
+            return false;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            return DataBufferUtils.join(body)
+                    .doOnNext(buffer -> {
+                        this.body.set(PgTrafficFiles.copy(buffer));
+                        DataBufferUtils.release(buffer);
+                    })
+                    .then();
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            Flux<DataBuffer> flattened = Flux.from(body).concatMap(Flux::from);
+            return writeWith(flattened);
+        }
+
+        @Override
+        public Mono<Void> setComplete() {
+            return Mono.empty();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.allra.backend.domain.payment.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.allra.backend.docs.swagger.SwaggerTags;
+import com.allra.backend.domain.payment.dto.PaymentResultDto;
+import com.allra.backend.domain.payment.service.PaymentService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * PaymentCallbackController
+ *
+ * PG사가 비동기 결제 처리를 마친 뒤 결과를 통지(웹훅)하는 엔드포인트.
+ * ---------------------------------------------------------
+ * - 클라이언트는 결과 조회를 반복 호출(폴링)하지 않고 통지 결과를 DB에서 확인한다.
+ * - 통지는 공유 비밀값 헤더로 검증하며, 중복 통지는 한 번만 반영된다.
+ * ---------------------------------------------------------
+ */
+@RestController
+@RequestMapping("/api/payments")
+@RequiredArgsConstructor
+@Tag(name = SwaggerTags.PAYMENT_NAME, description = SwaggerTags.PAYMENT_DESC)
+public class PaymentCallbackController {
+
+    /** PG 결과 통지 검증 헤더 */
+    public static final String CALLBACK_SECRET_HEADER = "X-Payment-Callback-Secret";
+
+    private final PaymentService paymentService;
+
+    /**
+     * PG 결제 결과 통지 수신
+     * - SUCCESS / FAILED / CANCELED → 주문·결제 로그 반영
+     * - 이미 종료된 주문이면 변경 없이 기존 결과 반환
+     */
+    @PostMapping("/callback")
+    @Operation(
+        summary = "PG 결제 결과 통지 (웹훅)",
+        description = SwaggerTags.PAYMENT_CALLBACK_DESC
+    )
+    public Mono<ResponseEntity<PaymentResultDto.OrderResultResponse>> handleCallback(
+            @RequestHeader(value = CALLBACK_SECRET_HEADER, required = false) String secret,
+            @RequestBody PaymentResultDto.PaymentCallbackRequest request) {
+
+        return paymentService.handleCallback(secret, request).map(ResponseEntity::ok);
+    }
+}
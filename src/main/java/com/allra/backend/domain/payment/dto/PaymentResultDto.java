@@ -22,7 +22,7 @@ public class PaymentResultDto {
     @AllArgsConstructor
     @NoArgsConstructor
     public static class OrderCreateResponse {
-        private String orderId; // ORD_yyyymmdd_HHmmss_랜덤
+        private String orderId; // ORD_ + 13자리 Base32
         private String status;  // CREATED
         private String message; // 생성 결과 메시지
     }
@@ -53,4 +53,19 @@ public class PaymentResultDto {
         private String status;  // CANCELED
         private String message; // 취소 결과 메시지
     }
+
+    /**
+     * PG 결과 통지(웹훅) 요청 DTO
+     * (MockApiPaymentDto.MockPayResponse와 구조 동일)
+     */
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class PaymentCallbackRequest {
+        private String orderId;       // ORD_ + 13자리 Base32
+        private String status;        // SUCCESS / FAILED
+        private String transactionId; // txn_xxxx
+        private String message;       // 결제 결과 메시지
+    }
 }
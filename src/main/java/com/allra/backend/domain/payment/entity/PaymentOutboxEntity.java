@@ -0,0 +1,132 @@
+package com.allra.backend.domain.payment.entity;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import com.allra.backend.domain.order.entity.OrderEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 결제 아웃박스 엔티티 (PaymentOutboxEntity)
+ *
+ * 주문 상태 변경과 같은 트랜잭션에서 저장되는 PG 결제 요청.
+ * - 사용자 요청은 아웃박스 저장까지만 수행하고 즉시 응답한다.
+ * - 백그라운드 릴레이(PaymentOutboxRelay)가 배치 단위로 점유하여 PG 로 전송한다.
+ */
+@Entity
+@Table(
+  name = "payment_outbox",
+  indexes = @Index(name = "idx_payment_outbox_status_next", columnList = "status, next_attempt_at")
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PaymentOutboxEntity {
+
+    /** 아웃박스 ID (PK) */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** 주문 (FK: orders.id) */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "order_id", nullable = false)
+    private OrderEntity order;
+
+    /** PG 전송용 주문번호 (orders.mock_order_id) */
+    @Column(name = "mock_order_id", nullable = false, length = 100)
+    private String mockOrderId;
+
+    /** 결제 금액 */
+    @Column(name = "amount", nullable = false)
+    private int amount;
+
+    /** 처리 상태 */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    @Builder.Default
+    private PaymentOutboxStatus status = PaymentOutboxStatus.READY;
+
+    /** 전송 시도 횟수 */
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    /** 다음 전송 가능 시각 (재시도 백오프) */
+    @Builder.Default
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt = LocalDateTime.now();
+
+    /** 릴레이 점유 시각 (임대 만료 판단용) */
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    /** 마지막 오류 메시지 */
+    @Column(name = "last_error", length = 255)
+    private String lastError;
+
+    /** 생성 시각 */
+    @Builder.Default
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    /** 수정 시각 */
+    @Builder.Default
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt = LocalDateTime.now();
+
+    // ==============================
+    // 🧩 비즈니스 로직
+    // ==============================
+
+    /** 릴레이가 전송을 위해 점유 */
+    public void markInFlight(LocalDateTime now) {
+        this.status = PaymentOutboxStatus.IN_FLIGHT;
+        this.attempts++;
+        this.claimedAt = now;
+        this.updatedAt = now;
+    }
+
+    /** PG 전송 완료 */
+    public void markSent(LocalDateTime now) {
+        this.status = PaymentOutboxStatus.SENT;
+        this.lastError = null;
+        this.updatedAt = now;
+    }
+
+    /**
+     * 전송 실패 처리
+     * - 최대 시도 횟수 미만이면 백오프 후 재시도 (READY)
+     * - 초과하면 FAILED
+     * @return 재시도 예정이면 true
+     */
+    public boolean markRetryOrFail(LocalDateTime now, String error, int maxAttempts, Duration backoff) {
+        this.lastError = error != null && error.length() > 255 ? error.substring(0, 255) : error;
+        this.updatedAt = now;
+        if (this.attempts >= maxAttempts) {
+            this.status = PaymentOutboxStatus.FAILED;
+            return false;
+        }
+        this.status = PaymentOutboxStatus.READY;
+        this.nextAttemptAt = now.plus(backoff);
+        return true;
+    }
+}
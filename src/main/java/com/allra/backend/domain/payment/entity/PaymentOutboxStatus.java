@@ -0,0 +1,22 @@
+package com.allra.backend.domain.payment.entity;
+
+/**
+ * 결제 아웃박스 처리 상태
+ *
+ * READY → IN_FLIGHT → SENT
+ *              ↘ READY (재시도) → ... → FAILED (최대 시도 초과)
+ */
+public enum PaymentOutboxStatus {
+
+    /** READY (릴레이 전송 대기) */
+    READY,
+
+    /** IN_FLIGHT (릴레이가 점유하여 PG 전송 중, 임대 시간 초과 시 다시 점유 가능) */
+    IN_FLIGHT,
+
+    /** SENT (PG 전송 완료, 결제 로그 기록됨) */
+    SENT,
+
+    /** FAILED (최대 재시도 초과로 전송 포기) */
+    FAILED
+}
@@ -16,8 +16,19 @@ public enum PaymentErrorCode {
     PAYMENT_LOG_NOT_FOUND("P003", "결제 로그를 찾을 수 없습니다."),
     CANCEL_API_FAILED("P004", "주문 취소 API 호출에 실패했습니다."),
     ORDER_NOT_FOUND("P005", "주문 정보를 찾을 수 없습니다."),
+    PG_ORDER_REJECTED("P006", "PG사에서 주문 생성을 거절했습니다."),
+    INVALID_CALLBACK("P007", "유효하지 않은 결제 결과 통지입니다."),
+    PG_CIRCUIT_OPEN("P008", "PG사 응답 지연으로 결제 요청이 일시 차단되었습니다. 잠시 후 다시 시도해 주세요."),
+    PG_BUSY("P009", "PG사 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."),
+    PAYMENT_RECORD_FAILED("P010", "결제 접수 후 기록에 실패하여 결제를 취소했습니다. 주문을 다시 생성해 주세요."),
+    ORDER_NOT_CANCELABLE("P011", "이미 종료된 주문은 취소할 수 없습니다."),
     UNKNOWN_ERROR("P999", "알 수 없는 결제 오류가 발생했습니다.");
 
     private final String code;
     private final String message;
+
+    /** PG 보호 장치(서킷 브레이커 / 벌크헤드)에 의한 일시적 거절 여부 → 503 응답 */
+    public boolean isTemporarilyUnavailable() {
+        return this == PG_CIRCUIT_OPEN || this == PG_BUSY;
+    }
 }
@@ -1,10 +1,12 @@
 package com.allra.backend.domain.payment.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.allra.backend.domain.payment.entity.PaymentLogEntity;
@@ -34,4 +36,15 @@ public interface PaymentLogRepository extends JpaRepository<PaymentLogEntity, Lo
     )
     Optional<PaymentLogEntity> findLatestByOrderId(Long orderId);
 
+    /**
+     * 여러 주문의 가장 최근 결제 로그 일괄 조회 (주문당 1건)
+     * - 결제 결과 일괄 반영 시 사용 (PK 가 증가값이므로 MAX(id) 를 최신 로그로 사용)
+     */
+    @Query(
+        value = "SELECT * FROM payment_log WHERE id IN "
+              + "(SELECT MAX(id) FROM payment_log WHERE order_id IN (:orderIds) GROUP BY order_id)",
+        nativeQuery = true
+    )
+    List<PaymentLogEntity> findLatestByOrderIds(@Param("orderIds") Collection<Long> orderIds);
+
 }
@@ -0,0 +1,38 @@
+package com.allra.backend.domain.payment.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.allra.backend.domain.payment.entity.PaymentOutboxEntity;
+
+/**
+ * PaymentOutboxRepository
+ *
+ * 결제 아웃박스(payment_outbox) 저장 및 릴레이 점유 쿼리.
+ */
+@Repository
+public interface PaymentOutboxRepository extends JpaRepository<PaymentOutboxEntity, Long> {
+
+    /**
+     * 전송 대상 배치 점유
+     * - READY 이면서 재시도 시각이 지난 행, 또는 임대가 만료된 IN_FLIGHT 행
+     * - FOR UPDATE SKIP LOCKED : 다른 노드가 점유 중인 행은 건너뛰어 중복 전송 방지
+     * - 반드시 트랜잭션 안에서 호출하고, 같은 트랜잭션에서 IN_FLIGHT 로 변경해야 한다.
+     */
+    @Query(
+        value = "SELECT * FROM payment_outbox "
+              + "WHERE (status = 'READY' AND next_attempt_at <= :now) "
+              + "   OR (status = 'IN_FLIGHT' AND claimed_at < :leaseExpiredBefore) "
+              + "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+        nativeQuery = true
+    )
+    List<PaymentOutboxEntity> claimBatch(
+            @Param("now") LocalDateTime now,
+            @Param("leaseExpiredBefore") LocalDateTime leaseExpiredBefore,
+            @Param("limit") int limit);
+}
@@ -0,0 +1,203 @@
+package com.allra.backend.domain.payment.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.allra.backend.domain.mockapi.dto.MockApiPaymentDto;
+import com.allra.backend.domain.order.entity.OrderStatus;
+import com.allra.backend.domain.order.repository.OrderRepository;
+import com.allra.backend.domain.order.service.OrderCompletionService;
+import com.allra.backend.domain.payment.dto.PaymentResultDto;
+import com.allra.backend.domain.payment.entity.PaymentOutboxEntity;
+import com.allra.backend.domain.payment.repository.PaymentOutboxRepository;
+import com.allra.backend.global.transaction.JpaExecutor;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * PaymentOutboxRelay
+ *
+ * payment_outbox 에 쌓인 결제 요청을 백그라운드에서 PG 로 전송하는 릴레이.
+ * ---------------------------------------------------------
+ * 1️. 점유 : SELECT ... FOR UPDATE SKIP LOCKED 로 배치 점유 후 IN_FLIGHT 로 변경 (짧은 트랜잭션)
+ * 2️. 전송 : 점유한 배치를 제한된 병렬도로 PG 에 전송 (커넥션 미점유)
+ *          재시도는 PG 결제 상태를 먼저 조회하여, 이미 접수된 결제는 다시 보내지 않고
+ *          결제 로그를 남긴 뒤(PaymentService.recordAcceptedPayment) 그 상태를 반영
+ * 3️. 기록 : PaymentService 가 결제 로그(PaymentLogEntity) 저장 → 아웃박스 SENT
+ *          (즉시 최종 상태가 온 경우 OrderCompletionService 로 반영, 그 외에는 결과 통지 대기)
+ * 4️. 실패 : 지수 백오프 재시도, 최대 시도 초과 시 FAILED
+ *          PG 에 결제가 없음이 확인될 때만 결제 의도 되돌림 (PENDING → CREATED)
+ * ---------------------------------------------------------
+ * 여러 노드가 동시에 실행해도 SKIP LOCKED + 임대 시간으로 같은 행을 중복 전송하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "payment.outbox.enabled", havingValue = "true")
+public class PaymentOutboxRelay {
+
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(1);
+
+    /** PG 결제 상태 조회 결과 : 해당 주문의 결제 요청을 받은 적 없음 */
+    private static final String PG_NOT_FOUND = "NOT_FOUND";
+
+    private final PaymentOutboxRepository paymentOutboxRepository;
+    private final OrderRepository orderRepository;
+    private final PaymentService paymentService;
+    private final JpaExecutor jpaExecutor;
+    private final OrderCompletionService orderCompletionService;
+
+    @Value("${payment.outbox.relay.batch-size:100}")
+    private int batchSize;
+
+    @Value("${payment.outbox.relay.parallelism:16}")
+    private int parallelism;
+
+    @Value("${payment.outbox.relay.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${payment.outbox.relay.lease:PT1M}")
+    private Duration lease;
+
+    @Value("${payment.outbox.relay.backoff:PT1S}")
+    private Duration backoff;
+
+    /** 배치가 가득 차 있으면 비워질 때까지 연속으로 처리 */
+    @Scheduled(fixedDelayString = "${payment.outbox.relay.poll-interval-ms:500}")
+    public void relay() {
+        List<OutboxTask> tasks;
+        do {
+            tasks = claim();
+            if (tasks.isEmpty()) {
+                return;
+            }
+            Flux.fromIterable(tasks)
+                    .flatMap(this::send, parallelism)
+                    .then()
+                    .block();
+        } while (tasks.size() == batchSize);
+    }
+
+    /** 1️. 배치 점유 (IN_FLIGHT 변경까지 한 트랜잭션) */
+    private List<OutboxTask> claim() {
+        List<OutboxTask> tasks = jpaExecutor.inTransaction(() -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<PaymentOutboxEntity> rows = paymentOutboxRepository.claimBatch(now, now.minus(lease), batchSize);
+            rows.forEach(row -> row.markInFlight(now));
+            return rows.stream().map(OutboxTask::from).toList();
+        }).block();
+        return tasks != null ? tasks : List.of();
+    }
+
+    /** 2️ ~ 3️. PG 전송 및 결과 기록 */
+    private Mono<Void> send(OutboxTask task) {
+        return sendOrResume(task)
+                .flatMap(result -> record(task, result))
+                .then()
+                .onErrorResume(e -> handleFailure(task, e));
+    }
+
+    /**
+     * 2️. 첫 시도는 바로 전송, 재시도는 PG 상태를 먼저 조회
+     * - 이전 시도가 PG 에 도달했을 수 있음 (응답 시간 초과 / 결과 반영 실패 / 임대 만료 후 재점유)
+     * - PG 가 결제를 알고 있으면 다시 보내지 않고 결제 로그를 남긴 뒤 그 상태를 반영, PG 에 결제가 없을 때만 다시 전송
+     * - 상태 조회가 실패하면 전송하지 않고 다음 재시도로 넘김
+     */
+    private Mono<PaymentResultDto.OrderResultResponse> sendOrResume(OutboxTask task) {
+        Mono<PaymentResultDto.OrderResultResponse> request =
+                Mono.defer(() -> paymentService.processPayment(task.mockOrderId(), task.amount()));
+        if (task.attempts() <= 1) {
+            return request;
+        }
+        return paymentService.fetchPaymentStatus(task.mockOrderId())
+                .flatMap(pg -> isKnownToPg(pg) ? resume(task, pg) : request);
+    }
+
+    /** 3️. 아웃박스 SENT + 결과 반영 (최종 상태면 주문 종료, 진행 중이면 결과 통지 대기) */
+    private Mono<PaymentResultDto.OrderResultResponse> record(OutboxTask task,
+                                                             PaymentResultDto.OrderResultResponse result) {
+        return jpaExecutor.inTransaction(() -> {
+            paymentOutboxRepository.findById(task.id())
+                    .ifPresent(row -> row.markSent(LocalDateTime.now()));
+            return orderCompletionService.complete(task.mockOrderId(), result.getStatus(),
+                    result.getTransactionId(), result.getMessage());
+        });
+    }
+
+    /** 4️. 실패 처리 (재시도 예약 또는 포기 + 보상) */
+    private Mono<Void> handleFailure(OutboxTask task, Throwable error) {
+        log.warn("[PaymentOutboxRelay] 전송 실패 - outboxId={}, orderId={}, attempt={}, error={}",
+                task.id(), task.mockOrderId(), task.attempts(), error.getMessage());
+
+        return jpaExecutor.inTransaction(() -> {
+                    LocalDateTime now = LocalDateTime.now();
+                    return paymentOutboxRepository.findById(task.id())
+                            .map(row -> row.markRetryOrFail(now, error.getMessage(), maxAttempts, backoffFor(row.getAttempts())))
+                            .orElse(true);
+                })
+                .flatMap(retry -> retry ? Mono.<Void>empty() : settleAbandoned(task))
+                .onErrorResume(e -> {
+                    log.error("[PaymentOutboxRelay] 실패 기록 중 오류 - outboxId={}, error={}", task.id(), e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * 4️-1. 최대 재시도 초과 : PG 상태 확인 후 정리
+     * - PG 에 결제가 있음 → 결제 로그를 남기고 그 상태를 반영 (PG 가 이미 결제했을 수 있으므로 되돌리지 않음)
+     * - PG 에 결제가 없음(NOT_FOUND) → 결제 의도 되돌림 (PENDING → CREATED, 사용자가 다시 결제 요청 가능)
+     * - 상태 조회 실패 → PENDING 유지 (결제 대사 / 예약 만료가 정리)
+     */
+    private Mono<Void> settleAbandoned(OutboxTask task) {
+        log.error("[PaymentOutboxRelay] 최대 재시도 초과 - outboxId={}, orderId={}", task.id(), task.mockOrderId());
+
+        return paymentService.fetchPaymentStatus(task.mockOrderId())
+                .flatMap(pg -> isKnownToPg(pg)
+                        ? resume(task, pg).flatMap(result -> record(task, result)).then()
+                        : jpaExecutor.inTransaction(() -> {
+                            orderRepository.findById(task.orderPk())
+                                    .filter(order -> order.getStatus() == OrderStatus.PENDING)
+                                    .ifPresent(order -> order.updateStatus(OrderStatus.CREATED));
+                            return null;
+                        }).then())
+                .onErrorResume(e -> {
+                    log.error("[PaymentOutboxRelay] PG 상태 확인 / 반영 실패, PENDING 유지 - orderId={}, error={}",
+                            task.mockOrderId(), e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    /** PG 가 이미 접수한 결제 : 재전송 대신 결제 요청 로그 기록 (processPayment 6 ~ 7 과 같은 로그) */
+    private Mono<PaymentResultDto.OrderResultResponse> resume(OutboxTask task, MockApiPaymentDto.MockPayResponse pg) {
+        return paymentService.recordAcceptedPayment(task.mockOrderId(), task.amount(), pg);
+    }
+
+    /** PG 가 결제 요청을 접수한 적이 있는지 (NOT_FOUND 가 아니면 접수됨) */
+    private static boolean isKnownToPg(MockApiPaymentDto.MockPayResponse pg) {
+        return !PG_NOT_FOUND.equalsIgnoreCase(pg.getStatus());
+    }
+
+    /** 지수 백오프 (backoff × 2^(시도-1), 최대 1분) */
+    private Duration backoffFor(int attempts) {
+        Duration delay = backoff.multipliedBy(1L << Math.min(Math.max(attempts - 1, 0), 16));
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+
+    /** 점유한 아웃박스 행의 전송 정보 (트랜잭션 밖에서 사용) */
+    private record OutboxTask(Long id, Long orderPk, String mockOrderId, int amount, int attempts) {
+
+        static OutboxTask from(PaymentOutboxEntity row) {
+            return new OutboxTask(row.getId(), row.getOrder().getId(), row.getMockOrderId(),
+                    row.getAmount(), row.getAttempts());
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.allra.backend.domain.payment.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.allra.backend.domain.mockapi.dto.MockApiPaymentDto;
+import com.allra.backend.domain.order.entity.OrderEntity;
+import com.allra.backend.domain.order.entity.OrderStatus;
+import com.allra.backend.domain.order.repository.OrderRepository;
+import com.allra.backend.domain.order.service.OrderCompletionService;
+import com.allra.backend.global.transaction.JpaExecutor;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * PaymentReconciler
+ *
+ * 결과 통지(웹훅)를 받지 못해 PENDING 에 머문 주문을 PG 결과와 맞추는 백그라운드 대사 작업.
+ * ---------------------------------------------------------
+ * 1️. 점유 : orders.id 키셋 페이지 단위로 PENDING 주문을 FOR UPDATE SKIP LOCKED 로 잠그고
+ *          점유 만료 시각(reconcile_lease_until)을 기록 후 커밋 (짧은 트랜잭션)
+ * 2️. 조회 : 점유한 페이지를 lookup-batch-size 단위로 나눠 일괄 조회 API 로 PG 결과 조회
+ *          (동시 요청 수 제한, 커넥션 미점유)
+ * 3️. 반영 : 페이지 결과를 한 트랜잭션에서 OrderCompletionService.completeBatch 로 반영 (JDBC 배치)
+ *          PG 에 기록이 없는(NOT_FOUND) 주문은 not-found-fail-after 가 지나면 FAILED 로 정리 (예약 해제)
+ *          (Mock PG 보관 만료 / 재시작으로 기록을 잃은 주문이 PENDING 에 무기한 남지 않도록)
+ * 4️. 지표 : 가장 오래된 PENDING 주문의 경과 시간 / 적체 건수
+ * ---------------------------------------------------------
+ * 여러 노드가 동시에 실행해도 SKIP LOCKED + 점유 만료 시각으로 같은 주문을 중복 조회하지 않고,
+ * 반영은 OrderCompletionService 의 행 잠금 + 종료 상태 확인으로 한 번만 일어난다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "payment.reconciler.enabled", havingValue = "true")
+public class PaymentReconciler {
+
+    /** PG 에 결제 기록이 없을 때의 결과 조회 상태 */
+    private static final String PG_NOT_FOUND = "NOT_FOUND";
+
+    private final OrderRepository orderRepository;
+    private final PaymentService paymentService;
+    private final OrderCompletionService orderCompletionService;
+    private final JpaExecutor jpaExecutor;
+    private final MeterRegistry meterRegistry;
+
+    /** 가장 오래된 PENDING 주문의 경과 시간 (초) */
+    private final AtomicLong oldestPendingAgeSeconds = new AtomicLong();
+
+    /** PENDING 주문 수 */
+    private final AtomicLong pendingBacklog = new AtomicLong();
+
+    @Value("${payment.reconciler.page-size:200}")
+    private int pageSize;
+
+    @Value("${payment.reconciler.max-pages:50}")
+    private int maxPages;
+
+    @Value("${payment.reconciler.lookup-batch-size:50}")
+    private int lookupBatchSize;
+
+    @Value("${payment.reconciler.concurrency:16}")
+    private int concurrency;
+
+    @Value("${payment.reconciler.min-age:PT1M}")
+    private Duration minAge;
+
+    @Value("${payment.reconciler.lease:PT2M}")
+    private Duration lease;
+
+    @Value("${payment.reconciler.not-found-fail-after:PT1H}")
+    private Duration notFoundFailAfter;
+
+    @PostConstruct
+    private void registerMetrics() {
+        Gauge.builder("payment.reconciler.pending.oldest.age", oldestPendingAgeSeconds, AtomicLong::get)
+                .description("가장 오래된 PENDING 주문의 경과 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("payment.reconciler.pending.backlog", pendingBacklog, AtomicLong::get)
+                .description("PENDING 상태 주문 수")
+                .register(meterRegistry);
+    }
+
+    /** 한 번 실행에 최대 max-pages 페이지까지 처리 */
+    @Scheduled(fixedDelayString = "${payment.reconciler.interval-ms:30000}")
+    public void reconcile() {
+        long lastId = 0L;
+        int reconciled = 0;
+
+        for (int page = 0; page < maxPages; page++) {
+            List<ReconcileTarget> targets = claimPage(lastId);
+            if (targets.isEmpty()) {
+                break;
+            }
+            lastId = targets.get(targets.size() - 1).orderPk();
+
+            List<MockApiPaymentDto.MockPayResponse> results = fetchResults(targets);
+            reconciled += applyResults(targets, results);
+
+            if (targets.size() < pageSize) {
+                break;
+            }
+        }
+
+        refreshLagMetrics();
+        if (reconciled > 0) {
+            log.info("[PaymentReconciler] 대사 완료 - 반영 {}건, 적체 {}건", reconciled, pendingBacklog.get());
+        }
+    }
+
+    /** 1️. 키셋 페이지 점유 */
+    private List<ReconcileTarget> claimPage(long lastId) {
+        List<ReconcileTarget> targets = jpaExecutor.inTransaction(() -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<OrderEntity> orders = orderRepository.claimPendingPage(lastId, now.minus(minAge), now, pageSize);
+            orders.forEach(order -> order.claimForReconcile(now.plus(lease)));
+            return orders.stream()
+                    .map(order -> new ReconcileTarget(order.getId(), order.getMockOrderId(), order.getOrderDate()))
+                    .toList();
+        }).block();
+        return targets != null ? targets : List.of();
+    }
+
+    /** 2️. PG 결과 일괄 조회 (동시성 제한, 실패한 묶음은 다음 점유 만료 후 재시도) */
+    private List<MockApiPaymentDto.MockPayResponse> fetchResults(List<ReconcileTarget> targets) {
+        List<MockApiPaymentDto.MockPayResponse> results = Flux.fromIterable(targets)
+                .map(ReconcileTarget::mockOrderId)
+                .buffer(lookupBatchSize)
+                .flatMap(orderIds -> paymentService.fetchPaymentStatuses(orderIds)
+                        .onErrorResume(e -> {
+                            log.warn("[PaymentReconciler] PG 일괄 조회 실패 - {}건, error={}",
+                                    orderIds.size(), e.getMessage());
+                            return Mono.just(List.of());
+                        }), concurrency)
+                .flatMapIterable(Function.identity())
+                .collectList()
+                .block();
+        return results != null ? results : List.of();
+    }
+
+    /**
+     * 3️. 페이지 결과 일괄 반영 (주문별 실패는 해당 주문만 건너뜀)
+     *
+     * @return 실제로 종료 상태가 된 주문 수 (진행 중 결과 / 이미 종료된 주문 제외)
+     */
+    private int applyResults(List<ReconcileTarget> targets, List<MockApiPaymentDto.MockPayResponse> results) {
+        if (results.isEmpty()) {
+            return 0;
+        }
+        List<MockApiPaymentDto.MockPayResponse> settled = settleNotFound(targets, results);
+        OrderCompletionService.BatchCompletion completion =
+                jpaExecutor.inTransaction(() -> orderCompletionService.completeBatch(settled)).block();
+        return completion != null ? completion.transitioned() : 0;
+    }
+
+    /** 3-1 not-found-fail-after 보다 오래된 주문의 NOT_FOUND → FAILED (그보다 최근이면 다음 점유 때 다시 조회) */
+    private List<MockApiPaymentDto.MockPayResponse> settleNotFound(
+            List<ReconcileTarget> targets, List<MockApiPaymentDto.MockPayResponse> results) {
+        LocalDateTime cutoff = LocalDateTime.now().minus(notFoundFailAfter);
+        Map<String, LocalDateTime> orderDates = targets.stream()
+                .filter(target -> target.orderDate() != null)
+                .collect(Collectors.toMap(ReconcileTarget::mockOrderId, ReconcileTarget::orderDate,
+                        (first, second) -> first));
+
+        return results.stream()
+                .map(result -> {
+                    LocalDateTime orderDate = orderDates.get(result.getOrderId());
+                    if (!PG_NOT_FOUND.equalsIgnoreCase(result.getStatus())
+                            || orderDate == null || !orderDate.isBefore(cutoff)) {
+                        return result;
+                    }
+                    log.warn("[PaymentReconciler] PG 결제 기록 없음, FAILED 로 정리 - orderId={}, orderDate={}",
+                            result.getOrderId(), orderDate);
+                    return MockApiPaymentDto.MockPayResponse.builder()
+                            .orderId(result.getOrderId())
+                            .status(OrderStatus.FAILED.name())
+                            .transactionId(result.getTransactionId())
+                            .message("PG 결제 기록 없음 (" + notFoundFailAfter + " 경과, 결제 대사 정리)")
+                            .build();
+                })
+                .toList();
+    }
+
+    /** 4️. 적체 지표 갱신 (스크랩마다 DB 를 조회하지 않도록 실행 시점에 계산) */
+    private void refreshLagMetrics() {
+        OrderRepository.PendingStats stats = jpaExecutor.readOnly(orderRepository::findPendingStats).block();
+        if (stats == null) {
+            return;
+        }
+        pendingBacklog.set(stats.getBacklog());
+        oldestPendingAgeSeconds.set(stats.getOldest() == null
+                ? 0L
+                : Duration.between(stats.getOldest(), LocalDateTime.now()).toSeconds());
+    }
+
+    /** 점유한 주문 (트랜잭션 밖에서 사용) */
+    private record ReconcileTarget(Long orderPk, String mockOrderId, LocalDateTime orderDate) {}
+}
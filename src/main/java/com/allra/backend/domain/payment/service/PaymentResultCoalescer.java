@@ -0,0 +1,103 @@
+package com.allra.backend.domain.payment.service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.allra.backend.domain.payment.dto.PaymentResultDto;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * PaymentResultCoalescer
+ *
+ * 같은 주문의 결제 결과 조회를 하나로 합치는 single-flight + 초단기 결과 캐시.
+ * ---------------------------------------------------------
+ * 1️. 진행 중인 조회가 있으면 새로 조회하지 않고 그 결과를 함께 기다린다. (coalesced)
+ * 2️. 조회가 끝난 뒤 ttl 동안은 같은 결과를 그대로 돌려준다. (cached)
+ * 3️. 둘 다 아니면 실제 조회 (executed) — DB 조회 + PG 호출
+ * 4️. 실패한 조회는 캐시하지 않는다. (다음 요청이 다시 조회)
+ * ---------------------------------------------------------
+ * 지표 : payment.result.lookups{outcome=executed|coalesced|cached}
+ *        (coalesced + cached) / 전체 = 합치기 적중률
+ */
+@Component
+public class PaymentResultCoalescer {
+
+    static final String METRIC = "payment.result.lookups";
+
+    /** 주문번호 → 진행 중이거나 ttl 이내인 조회 */
+    private final Map<String, Lookup> lookups = new ConcurrentHashMap<>();
+
+    private final Counter executed;
+    private final Counter coalesced;
+    private final Counter cached;
+
+    /** 조회 완료 후 결과 재사용 시간 (0 이면 진행 중인 조회만 합침) */
+    @Value("${payment.result-coalescing.ttl:PT1S}")
+    private Duration ttl = Duration.ofSeconds(1);
+
+    public PaymentResultCoalescer(MeterRegistry meterRegistry) {
+        this.executed = meterRegistry.counter(METRIC, "outcome", "executed");
+        this.coalesced = meterRegistry.counter(METRIC, "outcome", "coalesced");
+        this.cached = meterRegistry.counter(METRIC, "outcome", "cached");
+    }
+
+    /**
+     * 주문번호 기준으로 조회를 합쳐 실행
+     *
+     * @param orderId Mock 주문번호
+     * @param lookup  실제 조회 (DB + PG)
+     */
+    public Mono<PaymentResultDto.OrderResultResponse> coalesce(
+            String orderId, Supplier<Mono<PaymentResultDto.OrderResultResponse>> lookup) {
+
+        return Mono.defer(() -> {
+            Lookup created = new Lookup();
+            // 구독자가 모두 취소해도 조회는 끝까지 진행 → 같은 결과를 기다리는 다른 요청에 전달
+            created.result = Mono.defer(lookup)
+                    .doOnSuccess(result -> {
+                        created.done = true;
+                        evictAfterTtl(orderId, created);
+                    })
+                    .doOnError(e -> lookups.remove(orderId, created))
+                    .cache();
+
+            Lookup current = lookups.putIfAbsent(orderId, created);
+            if (current != null) {
+                (current.done ? cached : coalesced).increment();
+                return current.result;
+            }
+            executed.increment();
+            return created.result;
+        });
+    }
+
+    /** ttl 이후 캐시에서 제거 */
+    private void evictAfterTtl(String orderId, Lookup lookup) {
+        if (ttl.isZero() || ttl.isNegative()) {
+            lookups.remove(orderId, lookup);
+            return;
+        }
+        Schedulers.parallel().schedule(() -> lookups.remove(orderId, lookup), ttl.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /** 현재 보관 중인 조회 수 (테스트 / 모니터링용) */
+    public int size() {
+        return lookups.size();
+    }
+
+    /** 진행 중이거나 완료된 조회 1건 */
+    private static final class Lookup {
+        private volatile Mono<PaymentResultDto.OrderResultResponse> result;
+        private volatile boolean done;
+    }
+}
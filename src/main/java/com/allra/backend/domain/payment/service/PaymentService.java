@@ -1,11 +1,13 @@
 package com.allra.backend.domain.payment.service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
 
 import com.allra.backend.domain.mockapi.dto.MockApiCancelDto;
 import com.allra.backend.domain.mockapi.dto.MockApiOrderDto;
@@ -13,236 +15,386 @@ import com.allra.backend.domain.mockapi.dto.MockApiPaymentDto;
 import com.allra.backend.domain.order.entity.OrderEntity;
 import com.allra.backend.domain.order.entity.OrderStatus;
 import com.allra.backend.domain.order.repository.OrderRepository;
+import com.allra.backend.domain.order.service.OrderCompletionService;
+import com.allra.backend.domain.payment.client.PaymentGatewayClient;
 import com.allra.backend.domain.payment.dto.PaymentResultDto;
 import com.allra.backend.domain.payment.entity.PaymentLogEntity;
 import com.allra.backend.domain.payment.exception.PaymentErrorCode;
 import com.allra.backend.domain.payment.exception.PaymentException;
 import com.allra.backend.domain.payment.repository.PaymentLogRepository;
-import com.allra.backend.domain.product.entity.ProductEntity;
+import com.allra.backend.global.transaction.JpaExecutor;
 
 import jakarta.annotation.PostConstruct;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
 
 /**
  * PaymentService (로그 기반)
  * 
  * - Mock API를 호출하고, 모든 요청/응답 내역을 PaymentLogEntity에 저장.
  * - Mock 응답의 orderId, transactionId 그대로 기록.
+ * - PG 호출은 논블로킹(Mono)으로 수행하고, DB 반영은 JpaExecutor 의 짧은 트랜잭션에서 처리한다.
+ *   (PG 응답을 기다리는 동안 요청 스레드와 DB 커넥션을 점유하지 않음)
+ * - PG 처리는 성공했지만 DB 반영이 실패하면 PG 주문을 취소하는 보상 요청을 보낸다.
+ *   (결제 요청의 보상 취소는 주문을 CANCELED 로 종료하며, 같은 PG 주문으로 재시도하지 않는다)
+ * - 모든 PG 호출은 작업별 서킷 브레이커 / 벌크헤드(PgResilience)로 보호한다.
+ * - 결제 최종 결과는 PG 결과 통지(웹훅)로 받고, 결과 조회(폴링)는 보조 경로로만 사용한다.
+ *   두 경로 모두 OrderCompletionService 를 통해 한 번만 반영된다.
+ * - 같은 주문의 동시 결과 조회는 PaymentResultCoalescer 로 한 번의 조회로 합친다.
+ * - PG 호출은 PaymentGatewayClient(HTTP 또는 같은 JVM 직접 호출)를 거친다.
+ *   HTTP 전송은 PgTrafficConfigurer 설정에 따라 파일로 기록하거나 기록 파일로 재생할 수 있다.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class PaymentService {
     
+	/** PG 에 결제 / 주문 기록이 없을 때의 상태 (결과 조회 / 취소 응답) */
+	private static final String PG_NOT_FOUND = "NOT_FOUND";
+
 	private final PaymentLogRepository paymentLogRepository;
 	private final OrderRepository orderRepository;
-    
-	@Value("${MOCK_BASE_URL:${mock.api.base-url:http://localhost:8080}}")
-    private String baseUrl;
-    private WebClient webClient;
+	private final JpaExecutor jpaExecutor;
+	private final OrderCompletionService orderCompletionService;
+	private final PgResilience pgResilience;
+	private final PaymentResultCoalescer paymentResultCoalescer;
+	private final PaymentGatewayClient paymentGatewayClient;
+
+    /** PG 결과 통지 검증용 공유 비밀값 (비어 있으면 모든 통지 거절) */
+    @Value("${payment.callback.secret:}")
+    private String callbackSecret;
 
+    /** 비밀값 미설정 경고 (통지는 거절되고 결과 조회 / 결제 대사로만 반영됨) */
     @PostConstruct
-    private void initWebClient() {
-        this.webClient = WebClient.builder().baseUrl(baseUrl).build();
+    void warnIfCallbackSecretMissing() {
+        if (callbackSecret == null || callbackSecret.isBlank()) {
+            log.warn("[PaymentService] payment.callback.secret 미설정 - PG 결과 통지를 모두 거절합니다.");
+        }
     }
 
    /** 1. 주문 생성 */
-	@Transactional
-	public PaymentResultDto.OrderCreateResponse createOrder(
-			Long userId, List<ProductEntity> products, int amount, OrderEntity orderEntity) {
+	public Mono<PaymentResultDto.OrderCreateResponse> createOrder(
+			Long userId, List<MockApiOrderDto.MockOrderLineItem> items, int amount, OrderEntity orderEntity) {
 
 		// 1️. Mock 요청 객체 구성 (다중 상품 기반)
 		MockApiOrderDto.MockOrderCreateRequestDto mockRequest =
-				new MockApiOrderDto.MockOrderCreateRequestDto(userId, products, (long) amount);
+				new MockApiOrderDto.MockOrderCreateRequestDto(userId, items, (long) amount);
 
 		// 2️. Mock API 호출 (주문 생성 요청)
-		MockApiOrderDto.MockOrderCreateResponseDto mockResponse = webClient.post()
-				.uri("/api/mock/order")
-				.bodyValue(mockRequest)
-				.retrieve()
-				.bodyToMono(MockApiOrderDto.MockOrderCreateResponseDto.class)
-				.block();
-
-		// 2-1 응답 유효성 검증 (예외 처리 통일)
-		if (mockResponse == null) {
-			throw new PaymentException(PaymentErrorCode.MOCK_API_RESPONSE_NULL);
-		}
-
-		// 2-2. 여기에 추가
-		orderEntity.setMockOrderId(mockResponse.getOrderId());
-
-		// 3️. 로그 저장 — 실제 OrderEntity를 FK로 사용
-		PaymentLogEntity log = PaymentLogEntity.builder()
-				.order(orderEntity) // 실제 DB 주문 엔티티 연결
-				.transactionId(mockResponse.getOrderId()) // Mock API 주문번호를 트랜잭션 ID로 저장
-				.amount(amount)
-				.status(mockResponse.getStatus())   // CREATED
-				.message(mockResponse.getMessage()) // 성공 메시지
-				.createdAt(LocalDateTime.now())
-				.build();
-
-		paymentLogRepository.save(log);
-
-		// 4️. 주문 상태 동기화 (Mock 응답 상태 반영)
-		orderEntity.updateStatus(OrderStatus.CREATED);
-
-		// 5️. 응답 DTO 반환
-		return PaymentResultDto.OrderCreateResponse.builder()
-				.orderId(mockResponse.getOrderId()) // Mock 주문번호 그대로 반환
-				.status(mockResponse.getStatus())
-				.message(mockResponse.getMessage())
-				.build();
+		return paymentGatewayClient.createOrder(mockRequest)
+				// 2-1 응답 유효성 검증 (예외 처리 통일)
+				.switchIfEmpty(Mono.error(() -> new PaymentException(PaymentErrorCode.MOCK_API_RESPONSE_NULL)))
+				.transform(call -> pgResilience.protect(PgOperation.ORDER, call))
+				// 2-2 주문번호가 없으면 PG 거절 (INVALID_USER / INVALID_PRODUCT_LIST)
+				.filter(mockResponse -> mockResponse.getOrderId() != null)
+				.switchIfEmpty(Mono.error(() -> new PaymentException(PaymentErrorCode.PG_ORDER_REJECTED)))
+				.flatMap(mockResponse -> jpaExecutor.inTransaction(() -> {
+					// 2-3. 커밋된 주문을 다시 조회하여 Mock 주문번호 반영
+					OrderEntity order = orderRepository.findById(orderEntity.getId())
+							.orElseThrow(() -> new PaymentException(PaymentErrorCode.ORDER_NOT_FOUND));
+					order.setMockOrderId(mockResponse.getOrderId());
+
+					// 3️. 로그 저장 — 실제 OrderEntity를 FK로 사용
+					PaymentLogEntity log = PaymentLogEntity.builder()
+							.order(order) // 실제 DB 주문 엔티티 연결
+							.transactionId(mockResponse.getOrderId()) // Mock API 주문번호를 트랜잭션 ID로 저장
+							.amount(amount)
+							.status(mockResponse.getStatus())   // CREATED
+							.message(mockResponse.getMessage()) // 성공 메시지
+							.createdAt(LocalDateTime.now())
+							.build();
+
+					paymentLogRepository.save(log);
+
+					// 4️. 주문 상태 동기화 (Mock 응답 상태 반영)
+					order.updateStatus(OrderStatus.CREATED);
+
+					// 5️. 응답 DTO 반환
+					return PaymentResultDto.OrderCreateResponse.builder()
+							.orderId(mockResponse.getOrderId()) // Mock 주문번호 그대로 반환
+							.status(mockResponse.getStatus())
+							.message(mockResponse.getMessage())
+							.build();
+				})
+				// 보상: PG 주문은 생성됐지만 DB 반영 실패 → PG 주문 취소
+				.onErrorResume(e -> compensatePgOrder(mockResponse.getOrderId()).then(Mono.error(e))));
 	}
 
     /** 2. 결제 요청 (1단계: PENDING 상태) */
-    @Transactional
-	public PaymentResultDto.OrderResultResponse processPayment(String orderId, int amount) {
+	public Mono<PaymentResultDto.OrderResultResponse> processPayment(String orderId, int amount) {
 		// 1️. 결제 요청 DTO 생성
 		MockApiPaymentDto.MockPayRequest mockRequest = new MockApiPaymentDto.MockPayRequest(orderId, amount);
 
-		MockApiPaymentDto.MockPayResponse mockResponse;
-
-		try {
-			// 2️. WebClient로 내부 Mock API 호출
-			mockResponse = webClient.post()
-					.uri("/api/mock/payment")
-					.bodyValue(mockRequest)
-					.retrieve()
-					.bodyToMono(MockApiPaymentDto.MockPayResponse.class)
-					.block();
+		// 2️. PG 결제 요청 (HTTP 또는 in-process)
+		return paymentGatewayClient.requestPayment(mockRequest)
+				// 3️. 응답 검증 (null 응답 방지)
+				.filter(mockResponse -> mockResponse.getStatus() != null)
+				.switchIfEmpty(Mono.error(() -> new PaymentException(PaymentErrorCode.MOCK_API_RESPONSE_NULL)))
+				// 4️. 네트워크, 직렬화, 내부 오류 발생 시 예외 처리
+				.onErrorMap(e -> {
+					log.error("[PaymentService] 결제 요청 실패 - orderId={}, error={}", orderId, e.getMessage());
+					return new PaymentException(PaymentErrorCode.MOCK_PAYMENT_FAILED);
+				})
+				.transform(call -> pgResilience.protect(PgOperation.PAYMENT, call))
+				.flatMap(mockResponse -> jpaExecutor.inTransaction(() -> {
+					// 5. DB에서 주문 엔티티 조회 (mockOrderId 기반)
+					OrderEntity orderEntity = orderRepository.findByMockOrderId(orderId)
+							.orElseThrow(() -> new PaymentException(PaymentErrorCode.PAYMENT_LOG_NOT_FOUND));
+
+					// 6. 결제 로그 저장
+					PaymentLogEntity pendingLog = PaymentLogEntity.builder()
+							.order(orderEntity) // FK 연결! (이거 빠지면 order_id null)
+							.transactionId(mockResponse.getTransactionId())
+							.amount(amount)
+							.status(mockResponse.getStatus())
+							.message(mockResponse.getMessage())
+							.createdAt(LocalDateTime.now())
+							.build();
+
+					paymentLogRepository.save(pendingLog);
+
+					// 7. 결제 결과 반환
+					return PaymentResultDto.OrderResultResponse.builder()
+							.status(mockResponse.getStatus())
+							.transactionId(mockResponse.getTransactionId())
+							.message(mockResponse.getMessage())
+							.build();
+				})
+				// 보상: PG 는 결제를 접수했지만 로그 저장 실패 → PG 결제 취소 후 주문 종료 (재시도 불가)
+				.onErrorResume(e -> compensateAcceptedPayment(orderId, e)));
+	}
 
-			// 3️. 응답 검증 (null 응답 방지)
-			if (mockResponse == null || mockResponse.getStatus() == null) {
-				throw new PaymentException(PaymentErrorCode.MOCK_API_RESPONSE_NULL);
+	/**
+	 * 2-1 이미 PG 에 접수된 결제 요청의 기록 (아웃박스 재시도 / 최대 재시도 초과 시 재전송 대신 사용)
+	 *
+	 * - processPayment 6 ~ 7 과 같은 결제 로그를 남겨, 이후 결과 반영이 주문 생성 로그(CREATED)를 덮어쓰지 않게 한다.
+	 * - 이전 시도가 이미 같은 PG 거래의 로그를 남겼으면 다시 저장하지 않는다.
+	 */
+	public Mono<PaymentResultDto.OrderResultResponse> recordAcceptedPayment(
+			String orderId, int amount, MockApiPaymentDto.MockPayResponse pgResponse) {
+		return jpaExecutor.inTransaction(() -> {
+			// 1. 주문 조회 (mockOrderId 기반)
+			OrderEntity orderEntity = orderRepository.findByMockOrderId(orderId)
+					.orElseThrow(() -> new PaymentException(PaymentErrorCode.PAYMENT_LOG_NOT_FOUND));
+
+			// 2. 같은 PG 거래의 결제 로그가 없을 때만 저장
+			boolean logged = paymentLogRepository.findLatestByOrderId(orderEntity.getId())
+					.map(PaymentLogEntity::getTransactionId)
+					.filter(transactionId -> transactionId.equals(pgResponse.getTransactionId()))
+					.isPresent();
+			if (!logged) {
+				paymentLogRepository.save(PaymentLogEntity.builder()
+						.order(orderEntity)
+						.transactionId(pgResponse.getTransactionId())
+						.amount(amount)
+						.status(pgResponse.getStatus())
+						.message(pgResponse.getMessage())
+						.createdAt(LocalDateTime.now())
+						.build());
 			}
 
-		} catch (Exception e) {
-			// 4️. 네트워크, 직렬화, 내부 오류 발생 시 예외 처리
-			log.error("[PaymentService] 결제 요청 실패 - orderId={}, error={}", orderId, e.getMessage());
-			throw new PaymentException(PaymentErrorCode.MOCK_PAYMENT_FAILED);
-		}
-		
-		// 5. DB에서 주문 엔티티 조회 (mockOrderId 기반)
-		OrderEntity orderEntity = orderRepository.findByMockOrderId(orderId)
-				.orElseThrow(() -> new PaymentException(PaymentErrorCode.PAYMENT_LOG_NOT_FOUND));
-
-		// 6. 결제 로그 저장
-		PaymentLogEntity pendingLog = PaymentLogEntity.builder()
-		 		.order(orderEntity) // FK 연결! (이거 빠지면 order_id null)
-				.transactionId(mockResponse.getTransactionId())
-				.amount(amount)
-				.status(mockResponse.getStatus())
-				.message(mockResponse.getMessage())
-				.createdAt(LocalDateTime.now())
-				.build();
-
-		paymentLogRepository.save(pendingLog);
-
-		// 76. 결제 결과 반환
-		return PaymentResultDto.OrderResultResponse.builder()
-				.status(mockResponse.getStatus())
-				.transactionId(mockResponse.getTransactionId())
-				.message(mockResponse.getMessage())
-				.build();
+			// 3. 결제 결과 반환
+			return PaymentResultDto.OrderResultResponse.builder()
+					.status(pgResponse.getStatus())
+					.transactionId(pgResponse.getTransactionId())
+					.message(pgResponse.getMessage())
+					.build();
+		});
 	}
 
 	/**
-	 * 3. 결제 결과 조회 및 DB 상태 업데이트
+	 * 3. 결제 결과 조회 (폴링 — 결과 통지 누락 시 보조 경로)
 	 *
-	 * - Mock 결제 API(`/api/mock/payment/result/{orderId}`) 호출
-	 * - Mock 메모리에 저장된 최신 결제 상태를 조회하고,
-	 *   그 결과를 DB(Order, PaymentLog)에 동기화한다.
+	 * - 이미 종료된 주문이면 PG 호출 없이 DB 결과를 반환한다.
+	 * - 진행 중이면 Mock 결제 API(`/api/mock/payment/result/{orderId}`)를 호출하고,
+	 *   최종 상태가 확인되면 OrderCompletionService 로 반영한다.
+	 * - 같은 주문에 대한 동시 조회는 진행 중인 조회 1건을 공유하고,
+	 *   완료 직후 짧은 시간(payment.result-coalescing.ttl) 동안은 그 결과를 재사용한다.
 	 */
-	@Transactional
-	public PaymentResultDto.OrderResultResponse checkPaymentResult(String orderId) {
-		// 1. Mock API 호출 (현재 결제 상태 조회)
-		MockApiPaymentDto.MockPayResponse mockResponse = webClient.get()
-				.uri("/api/mock/payment/result/{orderId}", orderId)
-				.retrieve()
-				.bodyToMono(MockApiPaymentDto.MockPayResponse.class)
-				.block();
-
-		if (mockResponse == null || mockResponse.getStatus() == null) {
-			throw new PaymentException(PaymentErrorCode.MOCK_API_RESPONSE_NULL);
-		}
+	public Mono<PaymentResultDto.OrderResultResponse> checkPaymentResult(String orderId) {
+		return paymentResultCoalescer.coalesce(orderId, () ->
+				// 1. 종료된 주문은 DB 기준으로 응답
+				jpaExecutor.readOnly(() -> orderCompletionService.findFinishedResult(orderId).orElse(null))
+						.switchIfEmpty(Mono.defer(() -> pollPaymentResult(orderId))));
+	}
 
-		 // 2. mockOrderId 기반으로 주문 조회
-		OrderEntity orderEntity = orderRepository.findByMockOrderId(orderId)
-				.orElseThrow(() -> new PaymentException(PaymentErrorCode.PAYMENT_LOG_NOT_FOUND));
+	/** 3-1 Mock API 결제 상태 조회 후 반영 */
+	private Mono<PaymentResultDto.OrderResultResponse> pollPaymentResult(String orderId) {
+		return fetchPaymentStatus(orderId)
+				// 3. 최종 상태 반영 (진행 중이면 변경 없음)
+				.flatMap(mockResponse -> jpaExecutor.inTransaction(() -> orderCompletionService.complete(
+						orderId,
+						mockResponse.getStatus(),
+						mockResponse.getTransactionId(),
+						mockResponse.getMessage())));
+	}
+
+	/**
+	 * 3-2 Mock API 결제 상태 조회 (DB 반영 없음)
+	 * - 결제 대사(PaymentReconciler)처럼 조회와 반영을 나눠 처리하는 곳에서 사용
+	 */
+	public Mono<MockApiPaymentDto.MockPayResponse> fetchPaymentStatus(String orderId) {
+		// 2. Mock API 호출 (현재 결제 상태 조회)
+		return paymentGatewayClient.getPaymentResult(orderId)
+				.filter(mockResponse -> mockResponse.getStatus() != null)
+				.switchIfEmpty(Mono.error(() -> new PaymentException(PaymentErrorCode.MOCK_API_RESPONSE_NULL)))
+				.transform(call -> pgResilience.protect(PgOperation.RESULT, call));
+	}
 
-		// 3. 최신 결제 로그 조회 (OrderEntity 기반)
-		PaymentLogEntity latestLog = paymentLogRepository.findLatestByOrderId(orderEntity.getId())
-				.orElseThrow(() -> new PaymentException(PaymentErrorCode.PAYMENT_LOG_NOT_FOUND));
+	/**
+	 * 3-3 결제 결과 일괄 조회 및 반영
+	 *
+	 * - Mock API(`/api/mock/payment/results`) 1회 호출로 N건의 상태를 조회
+	 * - 최종 상태가 확인된 주문을 한 트랜잭션에서 일괄 반영 (OrderCompletionService.completeAll)
+	 */
+	public Mono<List<PaymentResultDto.OrderResultResponse>> checkPaymentResults(Collection<String> orderIds) {
+		if (orderIds.isEmpty()) {
+			return Mono.just(List.of());
+		}
+		return fetchPaymentStatuses(orderIds)
+				.flatMap(results -> jpaExecutor.inTransaction(() -> orderCompletionService.completeAll(results)));
+	}
 
-		// 4. 주문 엔티티 조회
-		OrderEntity order = latestLog.getOrder();
+	/** 3-4 Mock API 결제 상태 일괄 조회 (DB 반영 없음) */
+	public Mono<List<MockApiPaymentDto.MockPayResponse>> fetchPaymentStatuses(Collection<String> orderIds) {
+		MockApiPaymentDto.MockPayResultsRequest mockRequest =
+				new MockApiPaymentDto.MockPayResultsRequest(List.copyOf(orderIds));
 
-		// 5. Mock 응답 상태를 DB에 동기화
-		latestLog.setStatus(mockResponse.getStatus());
-		latestLog.setMessage(mockResponse.getMessage());
-		latestLog.setUpdateAt(LocalDateTime.now());
+		return paymentGatewayClient.getPaymentResults(mockRequest)
+				.filter(mockResponse -> mockResponse.getResults() != null)
+				.switchIfEmpty(Mono.error(() -> new PaymentException(PaymentErrorCode.MOCK_API_RESPONSE_NULL)))
+				.map(MockApiPaymentDto.MockPayResultsResponse::getResults)
+				.transform(call -> pgResilience.protect(PgOperation.RESULT, call));
+	}
 
-		switch (mockResponse.getStatus().toUpperCase()) {
-			case "SUCCESS" -> order.updateStatus(OrderStatus.SUCCESS);
-			case "FAILED" -> order.updateStatus(OrderStatus.FAILED);
-			default -> order.updateStatus(OrderStatus.PENDING);
+	/**
+	 * 5. PG 결과 통지 처리 (웹훅)
+	 *
+	 * - 공유 비밀값 검증 후 OrderCompletionService 로 반영 (비밀값이 설정되지 않았으면 거절)
+	 * - 같은 통지가 여러 번 와도 주문은 한 번만 변경된다.
+	 */
+	public Mono<PaymentResultDto.OrderResultResponse> handleCallback(
+			String secret, PaymentResultDto.PaymentCallbackRequest request) {
+		if (!isValidCallbackSecret(secret)) {
+			return Mono.error(new PaymentException(PaymentErrorCode.INVALID_CALLBACK));
+		}
+		if (request.getOrderId() == null || request.getStatus() == null) {
+			return Mono.error(new PaymentException(PaymentErrorCode.INVALID_CALLBACK));
 		}
 
-		// 6. 저장 (로그 + 주문 상태 동기화)
-		paymentLogRepository.save(latestLog);
+		return jpaExecutor.inTransaction(() -> orderCompletionService.complete(
+				request.getOrderId(),
+				request.getStatus(),
+				request.getTransactionId(),
+				request.getMessage()));
+	}
 
-		// 7. 결과 DTO 반환
-		return PaymentResultDto.OrderResultResponse.builder()
-				.status(mockResponse.getStatus())
-				.transactionId(mockResponse.getTransactionId())
-				.message(mockResponse.getMessage())
-				.build();
+	/** 통지 비밀값 비교 (타이밍 공격 방지를 위해 상수 시간 비교, 비밀값 미설정 시 거절) */
+	private boolean isValidCallbackSecret(String secret) {
+		if (callbackSecret == null || callbackSecret.isBlank()) {
+			return false;
+		}
+		return secret != null && MessageDigest.isEqual(
+				callbackSecret.getBytes(StandardCharsets.UTF_8),
+				secret.getBytes(StandardCharsets.UTF_8));
 	}
 
-    @Transactional
-    public PaymentResultDto.OrderCancelResponse cancelOrder(String orderId) {
-        // 1. mockOrderId 기반 주문 조회
-        OrderEntity orderEntity = orderRepository.findByMockOrderId(orderId)
-                .orElseThrow(() -> new PaymentException(PaymentErrorCode.ORDER_NOT_FOUND));
+    /**
+     * 4. 주문 취소
+     * - 이미 종료된 주문(SUCCESS / FAILED / CANCELED)은 PG 호출 전에 거절 (판매 확정된 재고의 환불 처리는 지원하지 않음)
+     * - PG 취소 결과는 OrderCompletionService 로 반영 → PG 가 CANCELED 를 반환한 경우에만 CANCELED + 재고 예약 해제
+     * - 결제 요청 전(CREATED) 주문은 PG 에 결제가 없으므로(NOT_FOUND) 그대로 CANCELED 로 종료
+     */
+    public Mono<PaymentResultDto.OrderCancelResponse> cancelOrder(String orderId) {
+        // 1. mockOrderId 기반 주문 조회 + 2. 최신 결제 로그 조회 (취소 금액 확보)
+        return jpaExecutor.readOnly(() -> {
+                    OrderEntity orderEntity = orderRepository.findByMockOrderId(orderId)
+                            .orElseThrow(() -> new PaymentException(PaymentErrorCode.ORDER_NOT_FOUND));
+                    if (orderEntity.getStatus().isFinished()) {
+                        throw new PaymentException(PaymentErrorCode.ORDER_NOT_CANCELABLE);
+                    }
+                    PaymentLogEntity lastLog = paymentLogRepository.findLatestByOrderId(orderEntity.getId())
+                            .orElseThrow(() -> new PaymentException(PaymentErrorCode.PAYMENT_LOG_NOT_FOUND));
+                    return lastLog.getAmount();
+                })
+                .flatMap(amount -> requestCancel(orderId)
+                        .flatMap(mockResponse -> jpaExecutor.inTransaction(() -> {
+                            // 4. 주문 잠금 (동시에 도착한 결제 결과와 직렬화)
+                            OrderEntity orderEntity = orderRepository.findForUpdateByMockOrderId(orderId)
+                                    .orElseThrow(() -> new PaymentException(PaymentErrorCode.ORDER_NOT_FOUND));
+
+                            // 5. 취소 로그 저장
+                            PaymentLogEntity cancelLog = PaymentLogEntity.builder()
+                                    .order(orderEntity)
+                                    .transactionId("CANCEL-" + orderId + "-" + System.currentTimeMillis())
+                                    .amount(amount)
+                                    .status(mockResponse.getStatus())
+                                    .message(mockResponse.getMessage())
+                                    .createdAt(LocalDateTime.now())
+                                    .build();
+                            paymentLogRepository.save(cancelLog);
+
+                            // 6. 취소 결과 반영 (CANCELED 일 때만 주문 종료 + 예약 해제, 그 사이 종료된 주문은 변경 없음)
+                            String status = isUnpaid(orderEntity, mockResponse)
+                                    ? OrderStatus.CANCELED.name()
+                                    : mockResponse.getStatus();
+                            orderCompletionService.complete(orderId, status, cancelLog.getTransactionId(),
+                                    mockResponse.getMessage());
+
+                            // 7. 결과 반환 (PG 취소 응답 그대로)
+                            return PaymentResultDto.OrderCancelResponse.builder()
+                                    .status(mockResponse.getStatus())
+                                    .message(mockResponse.getMessage())
+                                    .build();
+                        })));
+    }
 
-        // 2. 최신 결제 로그 조회
-        PaymentLogEntity lastLog = paymentLogRepository.findLatestByOrderId(orderEntity.getId())
-                .orElseThrow(() -> new PaymentException(PaymentErrorCode.PAYMENT_LOG_NOT_FOUND));
+    /** 결제 요청 전 주문 (PG 에 결제 기록 없음 → PG 취소 없이 종료 가능) */
+    private static boolean isUnpaid(OrderEntity orderEntity, MockApiCancelDto.MockCancelResponse mockResponse) {
+        return orderEntity.getStatus() == OrderStatus.CREATED && PG_NOT_FOUND.equalsIgnoreCase(mockResponse.getStatus());
+    }
 
-        // 3. Mock API 취소 요청
+    /** 3. Mock API 취소 요청 */
+    private Mono<MockApiCancelDto.MockCancelResponse> requestCancel(String orderId) {
         MockApiCancelDto.MockCancelRequest mockRequest = new MockApiCancelDto.MockCancelRequest(orderId);
-        MockApiCancelDto.MockCancelResponse mockResponse = webClient.post()
-                .uri("/api/mock/order/cancel")
-                .bodyValue(mockRequest)
-                .retrieve()
-                .bodyToMono(MockApiCancelDto.MockCancelResponse.class)
-                .block();
-
-        if (mockResponse == null || mockResponse.getStatus() == null) {
-            throw new PaymentException(PaymentErrorCode.CANCEL_API_FAILED);
-        }
+        return paymentGatewayClient.cancelOrder(mockRequest)
+                .filter(mockResponse -> mockResponse.getStatus() != null)
+                .switchIfEmpty(Mono.error(() -> new PaymentException(PaymentErrorCode.CANCEL_API_FAILED)))
+                .transform(call -> pgResilience.protect(PgOperation.CANCEL, call));
+    }
 
-        // 4. 취소 로그 저장
-        PaymentLogEntity cancelLog = PaymentLogEntity.builder()
-                .order(orderEntity)
-                .transactionId("CANCEL-" + orderId + "-" + System.currentTimeMillis())
-                .amount(lastLog.getAmount())
-                .status(mockResponse.getStatus())
-                .message(mockResponse.getMessage())
-                .createdAt(LocalDateTime.now())
-                .build();
-        paymentLogRepository.save(cancelLog);
-
-        // 5. 주문 상태 반영
-        orderEntity.updateStatus(OrderStatus.CANCELED);
-
-        // 6. 결과 반환
-        return PaymentResultDto.OrderCancelResponse.builder()
-                .status(mockResponse.getStatus())
-                .message(mockResponse.getMessage())
-                .build();
+    /**
+     * 보상 트랜잭션: PG 측 주문/결제 취소 (best-effort)
+     * - 취소 자체가 실패해도 원래 예외를 우선 전달하기 위해 오류는 로그만 남긴다.
+     */
+    private Mono<Void> compensatePgOrder(String orderId) {
+        return requestCancel(orderId)
+                .doOnNext(response -> log.warn("[PaymentService] 보상 취소 요청 - orderId={}, status={}",
+                        orderId, response.getStatus()))
+                .then()
+                .onErrorResume(e -> {
+                    log.error("[PaymentService] 보상 취소 실패 - orderId={}, error={}", orderId, e.getMessage());
+                    return Mono.empty();
+                });
     }
 
+    /**
+     * 보상 트랜잭션: PG 가 접수한 결제의 기록 실패
+     * - PG 결제를 취소하고, 취소 결과를 OrderCompletionService 로 반영 (CANCELED + 재고 예약 해제)
+     * - 같은 PG 주문으로 다시 결제하지 않도록 PAYMENT_RECORD_FAILED 로 끝낸다. (OrderService 는 CREATED 로 되돌리지 않음)
+     * - 취소 / 반영이 실패하면 주문은 PENDING 으로 남고, 결제 대사(PaymentReconciler)가 PG 상태로 정리한다.
+     */
+    private Mono<PaymentResultDto.OrderResultResponse> compensateAcceptedPayment(String orderId, Throwable error) {
+        log.error("[PaymentService] 결제 기록 실패, PG 결제 취소 - orderId={}, error={}", orderId, error.getMessage());
+        return requestCancel(orderId)
+                .flatMap(response -> jpaExecutor.inTransaction(() -> orderCompletionService.complete(
+                        orderId, response.getStatus(), null, response.getMessage())))
+                .then()
+                .onErrorResume(e -> {
+                    log.error("[PaymentService] 결제 보상 처리 실패 - orderId={}, error={}", orderId, e.getMessage());
+                    return Mono.empty();
+                })
+                .then(Mono.error(new PaymentException(PaymentErrorCode.PAYMENT_RECORD_FAILED)));
+    }
 }
@@ -0,0 +1,21 @@
+package com.allra.backend.domain.payment.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * PgOperation
+ * PG 호출 종류 — 서킷 브레이커 / 벌크헤드 인스턴스를 작업별로 분리한다.
+ * (application.yaml 의 resilience4j.*.instances 이름과 일치)
+ */
+@Getter
+@AllArgsConstructor
+public enum PgOperation {
+
+    ORDER("pgOrder"),
+    PAYMENT("pgPayment"),
+    RESULT("pgResult"),
+    CANCEL("pgCancel");
+
+    private final String instanceName;
+}
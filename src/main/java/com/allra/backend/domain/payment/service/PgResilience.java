@@ -0,0 +1,55 @@
+package com.allra.backend.domain.payment.service;
+
+import org.springframework.stereotype.Component;
+
+import com.allra.backend.domain.payment.exception.PaymentErrorCode;
+import com.allra.backend.domain.payment.exception.PaymentException;
+
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * PgResilience
+ *
+ * PG 호출 보호 장치 (작업별 서킷 브레이커 + 벌크헤드).
+ * ---------------------------------------------------------
+ * 1️. 서킷 브레이커 : 실패율 / 느린 호출 비율이 임계치를 넘으면 OPEN → 즉시 거절 (PG_CIRCUIT_OPEN)
+ * 2️. 벌크헤드     : 작업별 동시 호출 수 제한, 초과 시 대기 없이 거절 (PG_BUSY)
+ * ---------------------------------------------------------
+ * PG 가 느려져도 대기 중인 호출이 무한히 쌓이지 않아 애플리케이션 전체로 장애가 번지지 않는다.
+ * 상태 지표는 resilience4j.circuitbreaker.* / resilience4j.bulkhead.* 로 노출된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PgResilience {
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+
+    /**
+     * PG 호출을 서킷 브레이커 → 벌크헤드 순서로 감싼다.
+     * (OPEN 상태에서는 벌크헤드 자리를 차지하지 않고 바로 거절)
+     */
+    public <T> Mono<T> protect(PgOperation operation, Mono<T> call) {
+        String name = operation.getInstanceName();
+        return call
+                .transformDeferred(BulkheadOperator.of(bulkheadRegistry.bulkhead(name)))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreakerRegistry.circuitBreaker(name)))
+                .onErrorMap(CallNotPermittedException.class, e -> {
+                    log.warn("[PgResilience] 서킷 OPEN - 호출 차단 ({})", name);
+                    return new PaymentException(PaymentErrorCode.PG_CIRCUIT_OPEN);
+                })
+                .onErrorMap(BulkheadFullException.class, e -> {
+                    log.warn("[PgResilience] 동시 호출 한도 초과 - 호출 거절 ({})", name);
+                    return new PaymentException(PaymentErrorCode.PG_BUSY);
+                });
+    }
+}
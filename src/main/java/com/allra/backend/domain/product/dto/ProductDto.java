@@ -26,6 +26,7 @@ public class ProductDto {
         private String category;
         private int price;
         private int stock;
+        private int availableStock; // 판매 가능 수량 (재고 - 결제 대기 중 예약)
         private boolean soldOut;
         private LocalDateTime createdAt;
 
@@ -38,9 +39,19 @@ public class ProductDto {
                     .category(product.getCategory())
                     .price(product.getPrice())
                     .stock(product.getStock())
+                    .availableStock(product.getAvailableStock())
                     .soldOut(product.getSoldOut())
                     .createdAt(product.getCreatedAt())
                     .build();
         }
+
+        // Entity + 분할 행 합계 -> DTO 변환 메서드 (재고 분할 상품)
+        public static ProductResponseDto fromEntity(com.allra.backend.domain.product.entity.ProductEntity product,
+                                                    int shardStock, int shardReserved) {
+            ProductResponseDto dto = fromEntity(product);
+            dto.setStock(dto.getStock() + shardStock);
+            dto.setAvailableStock(dto.getAvailableStock() + shardStock - shardReserved);
+            return dto;
+        }
     }   
 }
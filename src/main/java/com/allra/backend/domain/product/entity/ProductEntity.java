@@ -34,15 +34,52 @@ public class ProductEntity {
     @Column(columnDefinition = "int DEFAULT 0")
     private Integer stock; // 재고 수량
 
+    @Builder.Default
+    @Column(columnDefinition = "int DEFAULT 0")
+    private Integer reserved = 0; // 결제 대기 중 예약(홀드)된 수량 (stock_reservation HELD 합계)
+
+    @Builder.Default
+    @Column(name = "stock_shards", columnDefinition = "int DEFAULT 0")
+    private Integer stockShards = 0; // 재고 분할 행 수 (0 = 분할 안 함, 1 이상이면 판매 가능 재고는 product_stock_shard 에 나뉘어 있음)
+
     @Column(name = "sold_out", columnDefinition = "TINYINT(1) DEFAULT 0")
     private Boolean soldOut; // 품절 여부
 
     @Column(name = "created_at", columnDefinition = "DATETIME DEFAULT CURRENT_TIMESTAMP")
     private LocalDateTime createdAt; // 등록일
 
+    // ==============================
+    // 🧩 재고 / 예약 (조회 시점 기준 검증, 변경은 ProductStockRepository 의 조건부 UPDATE)
+    // ==============================
+
+    /** 판매 가능 수량 = 재고 - 예약 (행 합산 없이 유지되는 카운터로 계산) */
+    public int getAvailableStock() {
+        return stockOrZero() - reservedOrZero();
+    }
+
+    /** 재고 분할(핫 상품) 모드 여부 */
+    public boolean isStockSharded() {
+        return stockShards != null && stockShards > 0;
+    }
+
+    /**
+     * 조회 시점 판매 가능 수량으로 미리 검증 (동시 주문은 예약 UPDATE 조건에서 최종 판단)
+     * - 분할 모드 상품은 판매 가능 재고가 분할 행에 있으므로 건너뛰고 분할 행 UPDATE 에서 판단
+     */
     public void validateStock(int requestedQty) {
-        if (this.stock < requestedQty) {
+        if (isStockSharded()) {
+            return;
+        }
+        if (getAvailableStock() < requestedQty) {
             throw new BusinessException("재고가 부족한 상품이 포함되어 있어 주문을 생성할 수 없습니다. (" + this.name + ")");
         }
     }
+
+    private int stockOrZero() {
+        return stock != null ? stock : 0;
+    }
+
+    private int reservedOrZero() {
+        return reserved != null ? reserved : 0;
+    }
 }
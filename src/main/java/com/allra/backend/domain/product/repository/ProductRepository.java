@@ -1,5 +1,6 @@
 package com.allra.backend.domain.product.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,6 +16,7 @@ import com.querydsl.core.BooleanBuilder;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -79,6 +81,34 @@ public class ProductRepository {
         return Optional.ofNullable(entityManager.find(ProductEntity.class, id));
     }
 
+    /**
+     * 상품 일괄 조회 (IN 쿼리 1회)
+     * - 주문 생성 시 장바구니 상품을 한 번에 조회 (상품별 findById 반복 방지)
+     * - 존재하지 않는 ID 는 결과에서 빠짐
+     */
+    public List<ProductEntity> findAllByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        QProductEntity product = QProductEntity.productEntity;
+        return queryFactory
+                .selectFrom(product)
+                .where(product.id.in(ids))
+                .fetch();
+    }
+
+    /**
+     * 상품 조회 + 행 잠금 (SELECT ... FOR UPDATE)
+     * - 재고 분할 / 병합처럼 상품 행 전체를 옮기는 관리 작업에서만 사용 (주문 흐름은 조건부 UPDATE)
+     * - 존재하지 않으면 예외 발생 (NotFoundException)
+     */
+    public ProductEntity getByIdForUpdateOrThrow(Long productId) {
+        ProductEntity product = entityManager.find(ProductEntity.class, productId, LockModeType.PESSIMISTIC_WRITE);
+        if (product == null)
+            throw new NotFoundException("존재하지 않는 상품입니다.");
+        return product;
+    }
+
     /**
      * 존재하지 않으면 예외 발생 (NotFoundException)
      */
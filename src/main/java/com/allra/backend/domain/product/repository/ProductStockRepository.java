@@ -0,0 +1,336 @@
+package com.allra.backend.domain.product.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ProductStockRepository
+ *
+ * 상품 재고 / 예약 카운터 변경 전용 (조건부 단일 UPDATE, JDBC 배치).
+ * ---------------------------------------------------------
+ * 1️. 예약 : reserved + n        (조건: stock - reserved >= n)
+ * 2️. 해제 : reserved - n        (0 미만으로 내려가지 않음, 조건 없음)
+ * 3️. 판매 : stock / reserved 차감 + sold_out 갱신 (조건: 예약분 reserved >= r, 나머지 stock - reserved >= a)
+ * 4️. 분할 재고 : 핫 상품은 product_stock_shard 의 임의 행에서 1 ~ 3 을 수행 (행이 부족하면 shard_no 순서로 여러 행 나눠 차감)
+ * ---------------------------------------------------------
+ * - 읽고 → 계산 → 저장(더티 체킹) 대신 DB 가 조건을 확인하며 차감하므로 동시 주문 간 갱신 유실 / 초과 판매가 없다.
+ * - 실패는 상품 행 잠금이 아니라 영향받은 행 수(0)로 판단한다.
+ * - 한 주문의 상품은 id 순서로 한 번의 배치로 전송하여 동시 주문 간 교착을 피한다.
+ * - 일부 상품만 실패하면 같은 트랜잭션 안에서 성공한 상품을 되돌린 뒤 실패 상품 ID 를 반환한다.
+ *   (결제 결과 일괄 반영처럼 주문 단위로 실패를 건너뛰는 호출에서도 일부 차감이 남지 않도록)
+ * - 영속성 컨텍스트를 거치지 않으므로 같은 트랜잭션에서 이미 로드한 ProductEntity 의 stock / reserved 는 갱신되지 않는다.
+ * - 배치 결과로 행 수를 받아야 하므로 MySQL rewriteBatchedStatements 를 켜지 않는다. (SUCCESS_NO_INFO 는 실패로 간주)
+ * 호출 측 트랜잭션(JpaExecutor.inTransaction) 안에서 실행되어야 한다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class ProductStockRepository {
+
+    private static final String RESERVE_SQL =
+            "UPDATE product SET reserved = reserved + ? WHERE id = ? AND stock - reserved >= ?";
+
+    private static final String UNDO_RESERVE_SQL =
+            "UPDATE product SET reserved = reserved - ? WHERE id = ?";
+
+    private static final String RELEASE_SQL =
+            "UPDATE product SET reserved = GREATEST(reserved - ?, 0) WHERE id = ?";
+
+    /**
+     * sold_out 은 차감 전 stock 으로 계산하도록 가장 먼저 대입한다.
+     * (MySQL 은 SET 절을 왼쪽부터 갱신된 값으로 평가하고, H2 는 항상 갱신 전 값을 사용)
+     * 분할 모드 상품은 분할 행에 재고가 남아 있을 수 있으므로 여기서 품절로 바꾸지 않는다. (markSoldOutIfShardsEmpty)
+     */
+    private static final String SELL_SQL =
+            "UPDATE product SET sold_out = CASE WHEN stock = ? AND stock_shards = 0 THEN 1 ELSE 0 END, "
+                    + "stock = stock - ?, reserved = reserved - ? "
+                    + "WHERE id = ? AND reserved >= ? AND stock - reserved >= ?";
+
+    private static final String UNDO_SELL_SQL =
+            "UPDATE product SET sold_out = 0, stock = stock + ?, reserved = reserved + ? WHERE id = ?";
+
+    private static final String SHARD_RESERVE_SQL =
+            "UPDATE product_stock_shard SET reserved = reserved + ? "
+                    + "WHERE product_id = ? AND shard_no = ? AND stock - reserved >= ?";
+
+    private static final String SHARD_UNDO_RESERVE_SQL =
+            "UPDATE product_stock_shard SET reserved = reserved - ? WHERE product_id = ? AND shard_no = ?";
+
+    private static final String SHARD_RELEASE_SQL =
+            "UPDATE product_stock_shard SET reserved = GREATEST(reserved - ?, 0) WHERE product_id = ? AND shard_no = ?";
+
+    private static final String SHARD_SELL_SQL =
+            "UPDATE product_stock_shard SET stock = stock - ?, reserved = reserved - ? "
+                    + "WHERE product_id = ? AND shard_no = ? AND reserved >= ? AND stock - reserved >= ?";
+
+    private static final String SHARD_UNDO_SELL_SQL =
+            "UPDATE product_stock_shard SET stock = stock + ?, reserved = reserved + ? WHERE product_id = ? AND shard_no = ?";
+
+    private static final String SHARD_AVAILABLE_SQL =
+            "SELECT shard_no, stock - reserved FROM product_stock_shard WHERE product_id = ? ORDER BY shard_no";
+
+    private static final String SHARD_STOCK_SUM_SQL =
+            "SELECT COALESCE(SUM(stock), 0) FROM product_stock_shard WHERE product_id = ?";
+
+    private static final String SHARDED_SOLD_OUT_SQL =
+            "UPDATE product SET sold_out = 1 WHERE id = ? AND stock = 0 AND stock_shards > 0";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** 분할 행 키 (상품 ID, 분할 번호) — 정렬 순서 = 잠금 순서 */
+    public record ShardKey(Long productId, int shardNo) implements Comparable<ShardKey> {
+        @Override
+        public int compareTo(ShardKey other) {
+            int byProduct = productId.compareTo(other.productId);
+            return byProduct != 0 ? byProduct : Integer.compare(shardNo, other.shardNo);
+        }
+    }
+
+    // ==============================
+    // 🧩 상품 행
+    // ==============================
+
+    /**
+     * 1️. 예약 (상품 ID → 수량)
+     *
+     * @return 판매 가능 수량이 부족해 예약하지 못한 상품 ID (비어 있으면 전체 성공, 일부 실패 시 전체 되돌림)
+     */
+    public List<Long> reserve(Map<Long, Integer> quantities) {
+        List<Long> productIds = List.copyOf(new TreeSet<>(quantities.keySet()));
+        List<Object[]> args = new ArrayList<>(productIds.size());
+        List<Object[]> undoArgs = new ArrayList<>(productIds.size());
+        for (Long productId : productIds) {
+            int quantity = quantities.get(productId);
+            args.add(new Object[]{quantity, productId, quantity});
+            undoArgs.add(new Object[]{quantity, productId});
+        }
+        return applyAll(RESERVE_SQL, args, UNDO_RESERVE_SQL, undoArgs, productIds);
+    }
+
+    /** 2️. 예약 해제 (상품 ID → 수량) */
+    public void release(Map<Long, Integer> quantities) {
+        List<Object[]> args = new TreeSet<>(quantities.keySet()).stream()
+                .map(productId -> new Object[]{quantities.get(productId), productId})
+                .toList();
+        if (!args.isEmpty()) {
+            jdbcTemplate.batchUpdate(RELEASE_SQL, args);
+        }
+    }
+
+    /**
+     * 3️. 판매 확정
+     *
+     * @param fromReserved  상품 ID → 예약에서 전환할 수량
+     * @param fromAvailable 상품 ID → 예약 없이 판매 가능 수량에서 바로 차감할 수량 (예약 만료 후 결제 성공 등)
+     * @return 재고가 부족해 차감하지 못한 상품 ID (비어 있으면 전체 성공, 일부 실패 시 전체 되돌림)
+     */
+    public List<Long> sell(Map<Long, Integer> fromReserved, Map<Long, Integer> fromAvailable) {
+        List<Long> productIds = sortedKeys(fromReserved, fromAvailable);
+        List<Object[]> args = new ArrayList<>(productIds.size());
+        List<Object[]> undoArgs = new ArrayList<>(productIds.size());
+        for (Long productId : productIds) {
+            int reserved = fromReserved.getOrDefault(productId, 0);
+            int available = fromAvailable.getOrDefault(productId, 0);
+            int total = reserved + available;
+            args.add(new Object[]{total, total, reserved, productId, reserved, available});
+            undoArgs.add(new Object[]{total, reserved, productId});
+        }
+        return applyAll(SELL_SQL, args, UNDO_SELL_SQL, undoArgs, productIds);
+    }
+
+    /** 3️-1. 판매 확정 되돌림 (이후 단계 실패 시 보상) */
+    public void undoSell(Map<Long, Integer> fromReserved, Map<Long, Integer> fromAvailable) {
+        List<Object[]> undoArgs = sortedKeys(fromReserved, fromAvailable).stream()
+                .map(productId -> {
+                    int reserved = fromReserved.getOrDefault(productId, 0);
+                    return new Object[]{reserved + fromAvailable.getOrDefault(productId, 0), reserved, productId};
+                })
+                .toList();
+        if (!undoArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate(UNDO_SELL_SQL, undoArgs);
+        }
+    }
+
+    // ==============================
+    // 🧩 분할 재고 행 (핫 상품)
+    // ==============================
+
+    /**
+     * 4️-1. 분할 행에서 예약
+     *
+     * @return 분할 번호 → 예약 수량 (비어 있으면 분할 재고 합계가 부족, 잡았던 수량은 되돌림)
+     */
+    public Map<Integer, Integer> reserveFromShards(Long productId, int shardCount, int quantity) {
+        return takeFromShards(ShardOperation.RESERVE, productId, shardCount, quantity);
+    }
+
+    /**
+     * 4️-2. 분할 행에서 예약 없이 판매 (예약 만료 후 결제 성공 등)
+     *
+     * @return 분할 번호 → 차감 수량 (비어 있으면 분할 재고 합계가 부족, 차감했던 수량은 되돌림)
+     */
+    public Map<Integer, Integer> sellFromShards(Long productId, int shardCount, int quantity) {
+        return takeFromShards(ShardOperation.SELL, productId, shardCount, quantity);
+    }
+
+    /**
+     * 4️-3. 분할 행 예약분 판매 확정
+     *
+     * @return 차감하지 못한 분할 행 (비어 있으면 전체 성공, 일부 실패 시 전체 되돌림)
+     */
+    public List<ShardKey> sellReservedShards(Map<ShardKey, Integer> quantities) {
+        List<ShardKey> keys = List.copyOf(new TreeSet<>(quantities.keySet()));
+        List<Object[]> args = new ArrayList<>(keys.size());
+        List<Object[]> undoArgs = new ArrayList<>(keys.size());
+        for (ShardKey key : keys) {
+            int quantity = quantities.get(key);
+            args.add(new Object[]{quantity, quantity, key.productId(), key.shardNo(), quantity, 0});
+            undoArgs.add(new Object[]{quantity, quantity, key.productId(), key.shardNo()});
+        }
+        return applyAll(SHARD_SELL_SQL, args, SHARD_UNDO_SELL_SQL, undoArgs, keys);
+    }
+
+    /** 4️-4. 분할 행 판매 되돌림 (이후 단계 실패 시 보상) */
+    public void undoShardSells(Map<ShardKey, Integer> fromReserved, Map<ShardKey, Integer> fromAvailable) {
+        List<Object[]> undoArgs = sortedKeys(fromReserved, fromAvailable).stream()
+                .map(key -> {
+                    int reserved = fromReserved.getOrDefault(key, 0);
+                    return new Object[]{reserved + fromAvailable.getOrDefault(key, 0), reserved,
+                            key.productId(), key.shardNo()};
+                })
+                .toList();
+        if (!undoArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate(SHARD_UNDO_SELL_SQL, undoArgs);
+        }
+    }
+
+    /** 4️-5. 분할 행 예약 해제 */
+    public void releaseShards(Map<ShardKey, Integer> quantities) {
+        List<Object[]> args = new TreeSet<>(quantities.keySet()).stream()
+                .map(key -> new Object[]{quantities.get(key), key.productId(), key.shardNo()})
+                .toList();
+        if (!args.isEmpty()) {
+            jdbcTemplate.batchUpdate(SHARD_RELEASE_SQL, args);
+        }
+    }
+
+    /**
+     * 4️-6. 분할 모드 상품 품절 반영
+     * - 분할 행 합계는 잠금 없이 읽고, 0 일 때만 상품 행을 갱신해 판매마다 상품 행을 잠그지 않는다.
+     */
+    public void markSoldOutIfShardsEmpty(Collection<Long> productIds) {
+        for (Long productId : new TreeSet<>(productIds)) {
+            Long remaining = jdbcTemplate.queryForObject(SHARD_STOCK_SUM_SQL, Long.class, productId);
+            if (remaining != null && remaining == 0) {
+                jdbcTemplate.update(SHARDED_SOLD_OUT_SQL, productId);
+            }
+        }
+    }
+
+    /**
+     * 분할 행에서 수량 확보
+     * 1. 임의의 행 하나에서 전체 수량을 시도 (대부분 여기서 끝남, 잠그는 분할 행은 1개)
+     * 2. 안 되면 행별 판매 가능 수량을 읽어 shard_no 오름차순으로 나눠서 확보 (품절 직전)
+     *    - 여러 행을 잠그는 경로는 항상 같은 순서로 잠가, 임의 시작 + 순환 순서로 생기던 교착을 피한다.
+     *    - 1 에서 조건 불충족으로 실패한 행도 (REPEATABLE READ 에서는) 잠금이 남으므로 순서 밖 잠금은 이 1개뿐이다.
+     * 3. 그래도 모자라면 확보한 수량을 되돌리고 빈 결과
+     */
+    private Map<Integer, Integer> takeFromShards(ShardOperation operation, Long productId, int shardCount, int quantity) {
+        int first = ThreadLocalRandom.current().nextInt(shardCount);
+        if (jdbcTemplate.update(operation.sql, operation.args(productId, first, quantity)) == 1) {
+            return Map.of(first, quantity);
+        }
+
+        Map<Integer, Integer> taken = new TreeMap<>();
+        int remaining = quantity;
+        List<int[]> shards = jdbcTemplate.query(SHARD_AVAILABLE_SQL,
+                (rs, rowNum) -> new int[]{rs.getInt(1), rs.getInt(2)}, productId);
+        for (int[] shard : shards) {
+            int take = Math.min(shard[1], remaining);
+            if (take > 0 && jdbcTemplate.update(operation.sql, operation.args(productId, shard[0], take)) == 1) {
+                taken.put(shard[0], take);
+                remaining -= take;
+            }
+            if (remaining == 0) {
+                return taken;
+            }
+        }
+
+        taken.forEach((shardNo, take) ->
+                jdbcTemplate.update(operation.undoSql, operation.undoArgs(productId, shardNo, take)));
+        log.debug("[ProductStockRepository] 분할 재고 부족 - productId={}, quantity={}, short={}",
+                productId, quantity, remaining);
+        return Map.of();
+    }
+
+    /** 분할 행 수량 확보 방식 */
+    private enum ShardOperation {
+        RESERVE(SHARD_RESERVE_SQL, SHARD_UNDO_RESERVE_SQL),
+        SELL(SHARD_SELL_SQL, SHARD_UNDO_SELL_SQL);
+
+        private final String sql;
+        private final String undoSql;
+
+        ShardOperation(String sql, String undoSql) {
+            this.sql = sql;
+            this.undoSql = undoSql;
+        }
+
+        Object[] args(Long productId, int shardNo, int quantity) {
+            return this == RESERVE
+                    ? new Object[]{quantity, productId, shardNo, quantity}
+                    : new Object[]{quantity, 0, productId, shardNo, 0, quantity};
+        }
+
+        Object[] undoArgs(Long productId, int shardNo, int quantity) {
+            return this == RESERVE
+                    ? new Object[]{quantity, productId, shardNo}
+                    : new Object[]{quantity, 0, productId, shardNo};
+        }
+    }
+
+    // ==============================
+    // 🧩 공통
+    // ==============================
+
+    /** 배치 실행 → 영향 행 수가 1 이 아닌 대상 수집 → 실패가 있으면 성공분 되돌림 */
+    private <K> List<K> applyAll(String sql, List<Object[]> args,
+                                 String undoSql, List<Object[]> undoArgs, List<K> keys) {
+        if (args.isEmpty()) {
+            return List.of();
+        }
+        int[] counts = jdbcTemplate.batchUpdate(sql, args);
+
+        List<K> failed = new ArrayList<>();
+        List<Object[]> undo = new ArrayList<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 1) {
+                undo.add(undoArgs.get(i));
+            } else {
+                failed.add(keys.get(i));
+            }
+        }
+        if (!failed.isEmpty() && !undo.isEmpty()) {
+            jdbcTemplate.batchUpdate(undoSql, undo);
+            log.debug("[ProductStockRepository] 조건 불충족으로 되돌림 - failed={}, undone={}", failed, undo.size());
+        }
+        return failed;
+    }
+
+    private static <K extends Comparable<K>> List<K> sortedKeys(Map<K, Integer> first, Map<K, Integer> second) {
+        TreeSet<K> keys = new TreeSet<>(first.keySet());
+        keys.addAll(second.keySet());
+        return List.copyOf(keys);
+    }
+}
@@ -1,10 +1,17 @@
 package com.allra.backend.domain.product.service;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 
+import com.allra.backend.domain.inventory.repository.ProductStockShardRepository;
+import com.allra.backend.domain.inventory.repository.ProductStockShardRepository.ShardTotal;
 import com.allra.backend.domain.product.dto.ProductDto;
 import com.allra.backend.domain.product.entity.ProductEntity;
 import com.allra.backend.domain.product.repository.ProductRepository;
@@ -20,6 +27,7 @@ import lombok.RequiredArgsConstructor;
 public class ProductService {
 
     private final ProductRepository productRepository;
+    private final ProductStockShardRepository productStockShardRepository;
 
     /**
      * 상품 목록 조회 (페이징 + 필터)
@@ -31,7 +39,8 @@ public class ProductService {
 
         Page<ProductEntity> products = productRepository.searchProducts(category, name, minPrice, maxPrice, pageable);
 
-        return products.map(ProductDto.ProductResponseDto::fromEntity);
+        Map<Long, ShardTotal> shardTotals = shardTotals(products.getContent());
+        return products.map(product -> toDto(product, shardTotals));
     }
 
     /**
@@ -39,7 +48,27 @@ public class ProductService {
      */
     public Optional<ProductDto.ProductResponseDto> getProductById(Long id) {
         return productRepository.findById(id)
-                .map(ProductDto.ProductResponseDto::fromEntity);
+                .map(product -> toDto(product, shardTotals(List.of(product))));
+    }
+
+    /** 재고 분할 상품의 분할 행 합계 (분할 상품이 있을 때만 IN 쿼리 1회) */
+    private Map<Long, ShardTotal> shardTotals(Collection<ProductEntity> products) {
+        List<Long> shardedIds = products.stream()
+                .filter(ProductEntity::isStockSharded)
+                .map(ProductEntity::getId)
+                .toList();
+        if (shardedIds.isEmpty()) {
+            return Map.of();
+        }
+        return productStockShardRepository.sumByProductIds(shardedIds).stream()
+                .collect(Collectors.toMap(ShardTotal::getProductId, Function.identity()));
+    }
+
+    private static ProductDto.ProductResponseDto toDto(ProductEntity product, Map<Long, ShardTotal> shardTotals) {
+        ShardTotal total = shardTotals.get(product.getId());
+        if (total == null) {
+            return ProductDto.ProductResponseDto.fromEntity(product);
+        }
+        return ProductDto.ProductResponseDto.fromEntity(product, total.getStock().intValue(), total.getReserved().intValue());
     }
-    
 }
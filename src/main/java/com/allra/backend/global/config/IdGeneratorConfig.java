@@ -0,0 +1,54 @@
+package com.allra.backend.global.config;
+
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.allra.backend.global.id.IdGenerator;
+import com.allra.backend.global.id.IdGeneratorMode;
+import com.allra.backend.global.id.MonotonicIdGenerator;
+import com.allra.backend.global.id.SnowflakeIdGenerator;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * IdGeneratorConfig
+ *
+ * 주문번호 / 거래번호 생성기(IdGenerator) 설정.
+ * - id.generator.mode    : TIME_ORDERED (기본) | MONOTONIC
+ * - id.generator.node-id : 0 ~ 1023, 노드마다 달라야 함
+ *                          (음수면 호스트 이름 + PID 로 추정 — 운영에서는 명시 권장)
+ */
+@Slf4j
+@Configuration
+public class IdGeneratorConfig {
+
+    private static final long NODE_ID_MASK = 1023;
+
+    @Bean
+    public IdGenerator idGenerator(
+            @Value("${id.generator.mode:TIME_ORDERED}") IdGeneratorMode mode,
+            @Value("${id.generator.node-id:-1}") long nodeId) {
+        long resolvedNodeId = nodeId >= 0 ? nodeId : deriveNodeId();
+        log.info("[IdGeneratorConfig] mode={}, nodeId={}", mode, resolvedNodeId);
+        return switch (mode) {
+            case TIME_ORDERED -> new SnowflakeIdGenerator(resolvedNodeId);
+            case MONOTONIC -> new MonotonicIdGenerator(resolvedNodeId);
+        };
+    }
+
+    private static long deriveNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        long pid = ManagementFactory.getRuntimeMXBean().getPid();
+        return ((host.hashCode() * 31L) + pid) & NODE_ID_MASK;
+    }
+}
@@ -0,0 +1,30 @@
+package com.allra.backend.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * SchedulerConfig
+ *
+ * 논블로킹 결제 흐름에서 블로킹 JPA 작업을 실행할 전용 스케줄러 설정.
+ * - 스레드 수 상한은 DB 커넥션 풀 크기와 맞춰, 커넥션을 기다리며 노는 스레드가 생기지 않도록 한다.
+ * - 큐 상한을 넘는 작업은 즉시 거절되어 요청 폭주가 메모리로 번지지 않는다.
+ */
+@Configuration
+public class SchedulerConfig {
+
+    @Value("${payment.jpa-scheduler.thread-cap:10}")
+    private int threadCap;
+
+    @Value("${payment.jpa-scheduler.queue-cap:10000}")
+    private int queuedTaskCap;
+
+    @Bean(destroyMethod = "dispose")
+    public Scheduler jpaScheduler() {
+        return Schedulers.newBoundedElastic(threadCap, queuedTaskCap, "jpa");
+    }
+}
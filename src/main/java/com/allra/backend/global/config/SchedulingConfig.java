@@ -0,0 +1,15 @@
+package com.allra.backend.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * SchedulingConfig
+ *
+ * @Scheduled 기반 백그라운드 작업(결제 아웃박스 릴레이 등) 활성화.
+ * - 스케줄러 스레드 수는 application.yaml 의 spring.task.scheduling.pool.size 로 조정한다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,13 +1,14 @@
 package com.allra.backend.global.config;
 
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
-import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
 
@@ -15,67 +16,132 @@ import io.netty.channel.ChannelOption;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
 import lombok.extern.slf4j.Slf4j;
+import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 /**
  * WebClientConfig
- * 
+ *
  * 외부 API 호출(WebClient) 전용 설정 클래스.
  * - Mock API (webclient.mock-base-url)
  * - 향후 실제 PG사 연동 시 Base URL만 교체 가능.
+ * ---------------------------------------------------------
+ * 1️. 연결 풀 : 이름 있는 ConnectionProvider("pg") — 최대 연결 수 / 획득 대기 상한 / 획득 타임아웃
+ * 2️. 유휴 정리 : max-idle-time 을 넘긴 연결은 백그라운드로 제거, max-life-time 이후 재연결
+ * 3️. 프로토콜 : HTTP11 (기본) | H2 (TLS) | H2C (평문 HTTP/2)
+ * 4️. 메트릭 : Reactor Netty → Micrometer
+ *           - reactor.netty.connection.provider.* (active / idle / pending 연결, 획득 시간)
+ *           - reactor.netty.http.client.* (uri 태그별 응답 시간, 주문번호 등 식별자는 {id} 로 치환)
+ * ---------------------------------------------------------
  */
 @Slf4j
 @Configuration
 public class WebClientConfig {
 
+    /** 연결 풀 / 메트릭 이름 (reactor.netty.connection.provider.* 의 name 태그) */
+    public static final String PG_POOL_NAME = "pg";
+
+    /** 경로 중 식별자 구간 (숫자, ORD_xxx 형태) */
+    private static final Pattern ID_SEGMENT = Pattern.compile("\\d+|[A-Z]+_[0-9A-Z_]+");
+
     /**
      * application.yml → webclient.mock-base-url 값 주입
      * 환경변수 MOCK_BASE_URL이 설정되어 있으면 우선 적용됨.
      */
-    @Value("${webclient.mock-base-url}")
-    private String mockBaseUrl;
+    private final String mockBaseUrl;
+    private final int maxConnections;
+    private final int pendingAcquireMaxCount;
+    private final Duration pendingAcquireTimeout;
+    private final Duration maxIdleTime;
+    private final Duration maxLifeTime;
+    private final Duration evictInterval;
+    private final HttpProtocol[] protocols;
 
-    @Bean
-    public WebClient webClient(WebClient.Builder builder) {
-        log.info("WebClient Base URL: {}", mockBaseUrl);  // 로그로 값 확인
+    public WebClientConfig(
+            @Value("${webclient.mock-base-url}") String mockBaseUrl,
+            @Value("${webclient.pool.max-connections:200}") int maxConnections,
+            @Value("${webclient.pool.pending-acquire-max-count:1000}") int pendingAcquireMaxCount,
+            @Value("${webclient.pool.pending-acquire-timeout:PT2S}") Duration pendingAcquireTimeout,
+            @Value("${webclient.pool.max-idle-time:PT30S}") Duration maxIdleTime,
+            @Value("${webclient.pool.max-life-time:PT5M}") Duration maxLifeTime,
+            @Value("${webclient.pool.evict-interval:PT30S}") Duration evictInterval,
+            @Value("${webclient.protocols:HTTP11}") HttpProtocol[] protocols) {
+        this.mockBaseUrl = mockBaseUrl;
+        this.maxConnections = maxConnections;
+        this.pendingAcquireMaxCount = pendingAcquireMaxCount;
+        this.pendingAcquireTimeout = pendingAcquireTimeout;
+        this.maxIdleTime = maxIdleTime;
+        this.maxLifeTime = maxLifeTime;
+        this.evictInterval = evictInterval;
+        this.protocols = protocols;
+    }
 
-        // HTTP 타임아웃 설정
-        HttpClient httpClient = HttpClient.create()
-                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 5000)
-                .responseTimeout(Duration.ofSeconds(10))
-                .doOnConnected(conn ->
-                        conn.addHandlerLast(new ReadTimeoutHandler(10, TimeUnit.SECONDS))
-                                .addHandlerLast(new WriteTimeoutHandler(10, TimeUnit.SECONDS)));
+    /** PG 호출 전용 연결 풀 (종료 시 연결 정리) */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider pgConnectionProvider() {
+        return ConnectionProvider.builder(PG_POOL_NAME)
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(maxLifeTime)
+                .evictInBackground(evictInterval)
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    public WebClient webClient(WebClient.Builder builder, ConnectionProvider pgConnectionProvider) {
+        log.info("WebClient Base URL: {}, pool={}(max={}, pending={}), protocols={}",
+                mockBaseUrl, PG_POOL_NAME, maxConnections, pendingAcquireMaxCount, Arrays.toString(protocols));
 
         // 대용량 응답 시 버퍼 제한 해제
         ExchangeStrategies strategies = ExchangeStrategies.builder()
                 .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(2 * 1024 * 1024)) // 2MB
                 .build();
 
-        log.info("WebClient Base URL: {}", mockBaseUrl);
-
         return builder
                 .baseUrl(mockBaseUrl)
-                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .clientConnector(new ReactorClientHttpConnector(pgHttpClient(pgConnectionProvider, protocols)))
                 .exchangeStrategies(strategies)
-                .filter(logRequest())   // 요청 로깅
-                .filter(logResponse())  // 응답 로깅
                 .build();
     }
 
-    /** 요청 로깅 필터 */
-    private ExchangeFilterFunction logRequest() {
-        return ExchangeFilterFunction.ofRequestProcessor(request -> {
-            log.info("[WebClient] Request: {} {}", request.method(), request.url());
-            return reactor.core.publisher.Mono.just(request);
-        });
+    /** 연결 풀 / 타임아웃 / 프로토콜 / 메트릭이 적용된 HttpClient */
+    public static HttpClient pgHttpClient(ConnectionProvider connectionProvider, HttpProtocol... protocols) {
+        // HTTP 타임아웃 설정
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .protocol(protocols)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 5000)
+                .option(ChannelOption.TCP_NODELAY, true)
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .responseTimeout(Duration.ofSeconds(10))
+                .doOnConnected(conn ->
+                        conn.addHandlerLast(new ReadTimeoutHandler(10, TimeUnit.SECONDS))
+                                .addHandlerLast(new WriteTimeoutHandler(10, TimeUnit.SECONDS)))
+                .metrics(true, WebClientConfig::uriTag);
+
+        // H2 는 TLS(ALPN) 필요, H2C 는 평문
+        if (Arrays.asList(protocols).contains(HttpProtocol.H2)) {
+            httpClient = httpClient.secure();
+        }
+        return httpClient;
     }
 
-    /** 응답 로깅 필터 */
-    private ExchangeFilterFunction logResponse() {
-        return ExchangeFilterFunction.ofResponseProcessor(response -> {
-            log.info("[WebClient] Response: {}", response.statusCode());
-            return reactor.core.publisher.Mono.just(response);
-        });
+    /**
+     * 메트릭 uri 태그 — 식별자 구간을 {id} 로 치환해 엔드포인트 단위로 집계
+     * 예) /api/mock/payment/result/ORD_034R1408C0C00 → /api/mock/payment/result/{id}
+     */
+    static String uriTag(String uri) {
+        int query = uri.indexOf('?');
+        String path = query >= 0 ? uri.substring(0, query) : uri;
+        String[] segments = path.split("/", -1);
+        for (int i = 0; i < segments.length; i++) {
+            if (ID_SEGMENT.matcher(segments[i]).matches()) {
+                segments[i] = "{id}";
+            }
+        }
+        return String.join("/", segments);
     }
 }
@@ -0,0 +1,49 @@
+package com.allra.backend.global.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 커서(키셋) 페이지네이션 응답 Wrapper 클래스
+ * - 전체 건수 / 페이지 수를 세지 않음 (COUNT 쿼리 없음)
+ * - 다음 페이지는 nextCursor 를 그대로 다시 보내 조회
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorResponseDto<T> {
+
+    private List<T> row; // 실제 데이터 목록
+    private CursorInfo cursorInfo; // 커서 정보
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CursorInfo {
+        private int size;
+        private boolean hasNext;
+        private String nextCursor; // 마지막 페이지면 null
+    }
+
+    // 조회 결과(size + 1 건) → CursorResponseDto<T> 변환 유틸리티
+    public static <T> CursorResponseDto<T> of(List<T> fetched, int size,
+                                              Function<T, String> cursorOf) {
+        boolean hasNext = fetched.size() > size;
+        List<T> row = hasNext ? fetched.subList(0, size) : fetched;
+        return CursorResponseDto.<T>builder()
+                .row(row)
+                .cursorInfo(CursorInfo.builder()
+                        .size(size)
+                        .hasNext(hasNext)
+                        .nextCursor(hasNext ? cursorOf.apply(row.get(row.size() - 1)) : null)
+                        .build())
+                .build();
+    }
+}
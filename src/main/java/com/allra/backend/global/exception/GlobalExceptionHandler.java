@@ -62,8 +62,12 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(PaymentException.class)
     public ResponseEntity<ApiResponseDto<?>> handlePaymentException(PaymentException e) {
         log.error("[Payment Exception] Code={}, Message={}", e.getErrorCode().getCode(), e.getMessage());
+        // PG 보호 장치에 의한 거절은 일시적 오류(503)로 응답
+        HttpStatus status = e.getErrorCode().isTemporarilyUnavailable()
+                ? HttpStatus.SERVICE_UNAVAILABLE
+                : HttpStatus.BAD_REQUEST;
         return ResponseEntity
-                .status(HttpStatus.BAD_REQUEST)
+                .status(status)
                 .body(ApiResponseDto.error(e.getErrorCode().getCode(), e.getMessage()));
     }
 
@@ -0,0 +1,52 @@
+package com.allra.backend.global.id;
+
+/**
+ * 64비트 ID → 고정 13자리 Crockford Base32 문자열 (I, L, O, U 제외 / 대문자)
+ */
+public final class IdFormat {
+
+    static final int LENGTH = 13;
+
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+    private IdFormat() {
+    }
+
+    /** prefix + 13자리 Base32 (char[] 1개 + String 1개만 할당) */
+    public static String format(String prefix, long id) {
+        int offset = prefix.length();
+        char[] chars = new char[offset + LENGTH];
+        prefix.getChars(0, offset, chars, 0);
+        long value = id;
+        for (int i = chars.length - 1; i >= offset; i--) {
+            chars[i] = ALPHABET[(int) (value & 31)];
+            value >>>= 5;
+        }
+        return new String(chars);
+    }
+
+    /** format 의 역변환 (prefix 이후 13자리) */
+    public static long parse(String prefix, String text) {
+        if (!text.startsWith(prefix) || text.length() != prefix.length() + LENGTH) {
+            throw new IllegalArgumentException("ID 형식이 아닙니다: " + text);
+        }
+        long value = 0;
+        for (int i = prefix.length(); i < text.length(); i++) {
+            int digit = indexOf(text.charAt(i));
+            if (digit < 0) {
+                throw new IllegalArgumentException("ID 형식이 아닙니다: " + text);
+            }
+            value = (value << 5) | digit;
+        }
+        return value;
+    }
+
+    private static int indexOf(char c) {
+        for (int i = 0; i < ALPHABET.length; i++) {
+            if (ALPHABET[i] == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,23 @@
+package com.allra.backend.global.id;
+
+/**
+ * IdGenerator
+ *
+ * 노드 간 충돌 없는 64비트 ID 생성기.
+ * ---------------------------------------------------------
+ * - nextId()          : 64비트 ID (항상 양수, 노드 내 단조 증가)
+ * - next(prefix)      : prefix + 고정 13자리 Crockford Base32 (예: ORD_01JB3Z8K2Q7XM)
+ *                       고정 길이이므로 문자열 정렬 순서 = 숫자 순서
+ * ---------------------------------------------------------
+ * 구현체는 락 없이 스레드 안전해야 하며, ID 1개 생성에 문자열 외 할당이 없어야 한다.
+ */
+public interface IdGenerator {
+
+    /** 64비트 ID */
+    long nextId();
+
+    /** prefix + Base32 ID 문자열 */
+    default String next(String prefix) {
+        return IdFormat.format(prefix, nextId());
+    }
+}
@@ -0,0 +1,11 @@
+package com.allra.backend.global.id;
+
+/**
+ * ID 생성 방식
+ * - TIME_ORDERED : [시각(ms) 41 | 노드 10 | 순번 12] Snowflake 형식 (ID 에서 생성 시각을 알 수 있음)
+ * - MONOTONIC    : [노드 10 | 카운터 53] 노드별 단조 증가 카운터 (시작 시각(µs)으로 초기화)
+ */
+public enum IdGeneratorMode {
+    TIME_ORDERED,
+    MONOTONIC
+}
@@ -0,0 +1,50 @@
+package com.allra.backend.global.id;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * MonotonicIdGenerator (MONOTONIC)
+ *
+ * [부호 0 | 노드 10 | 카운터 53] — 노드별 단조 증가 카운터
+ * ---------------------------------------------------------
+ * 1️. 시작 시 카운터를 현재 시각(µs, EPOCH 기준)으로 초기화
+ * 2️. 이후 getAndIncrement 1회로 생성 (가장 빠름, 시계 조회 없음)
+ * ---------------------------------------------------------
+ * 재시작 후에도 이전 실행의 값과 겹치지 않으려면 평균 생성 속도가 1µs 당 1개를 넘지 않아야 한다.
+ * ID 에서 생성 시각을 알 수 없고 노드 간 순서도 없다. (정렬이 필요하면 TIME_ORDERED 사용)
+ */
+public class MonotonicIdGenerator implements IdGenerator {
+
+    static final int COUNTER_BITS = 53;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+
+    private final long node;
+    private final AtomicLong counter;
+
+    public MonotonicIdGenerator(long nodeId) {
+        this(nodeId, Clock.systemUTC());
+    }
+
+    MonotonicIdGenerator(long nodeId, Clock clock) {
+        if (nodeId < 0 || nodeId > SnowflakeIdGenerator.MAX_NODE_ID) {
+            throw new IllegalArgumentException(
+                    "nodeId 는 0 ~ " + SnowflakeIdGenerator.MAX_NODE_ID + " 범위여야 합니다: " + nodeId);
+        }
+        this.node = nodeId << COUNTER_BITS;
+        long micros = ChronoUnit.MICROS.between(
+                Instant.ofEpochMilli(SnowflakeIdGenerator.EPOCH_MILLIS), clock.instant());
+        this.counter = new AtomicLong(micros);
+    }
+
+    @Override
+    public long nextId() {
+        long value = counter.getAndIncrement();
+        if (value > COUNTER_MASK) {
+            throw new IllegalStateException("ID 카운터가 소진되었습니다.");
+        }
+        return node | value;
+    }
+}
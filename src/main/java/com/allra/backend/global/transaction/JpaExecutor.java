@@ -0,0 +1,45 @@
+package com.allra.backend.global.transaction;
+
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * JpaExecutor
+ *
+ * 블로킹 JPA 작업을 짧은 트랜잭션으로 감싸 전용 스케줄러(jpaScheduler)에서 실행한다.
+ * - 리액티브 체인 안에서는 @Transactional 이 동작하지 않으므로 TransactionTemplate 으로 명시적으로 경계를 잡는다.
+ * - 요청 스레드(Tomcat / Netty)는 DB 작업을 기다리지 않는다.
+ * - 작업 결과가 null 이면 빈 Mono 를 반환한다.
+ */
+@Component
+public class JpaExecutor {
+
+    private final TransactionTemplate writeTemplate;
+    private final TransactionTemplate readOnlyTemplate;
+    private final Scheduler jpaScheduler;
+
+    public JpaExecutor(PlatformTransactionManager transactionManager, Scheduler jpaScheduler) {
+        this.writeTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+        this.jpaScheduler = jpaScheduler;
+    }
+
+    /** 쓰기 트랜잭션 안에서 작업 실행 */
+    public <T> Mono<T> inTransaction(Supplier<T> work) {
+        return Mono.fromCallable(() -> writeTemplate.execute(status -> work.get()))
+                .subscribeOn(jpaScheduler);
+    }
+
+    /** 읽기 전용 트랜잭션 안에서 작업 실행 */
+    public <T> Mono<T> readOnly(Supplier<T> work) {
+        return Mono.fromCallable(() -> readOnlyTemplate.execute(status -> work.get()))
+                .subscribeOn(jpaScheduler);
+    }
+}
@@ -0,0 +1,233 @@
+package com.allra.backend.domain.idempotency;
+
+import com.allra.backend.domain.idempotency.entity.IdempotencyRecordEntity;
+import com.allra.backend.domain.idempotency.entity.IdempotencyScope;
+import com.allra.backend.domain.idempotency.entity.IdempotencyStatus;
+import com.allra.backend.domain.idempotency.repository.IdempotencyRecordRepository;
+import com.allra.backend.domain.idempotency.service.IdempotencyService;
+import com.allra.backend.domain.payment.dto.PaymentResultDto;
+import com.allra.backend.global.exception.BusinessException;
+import com.allra.backend.global.transaction.JpaExecutor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.mockito.Mockito.*;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ✅ IdempotencyServiceTest
+ *
+ * Idempotency-Key 가 같은 재요청 / 동시 요청이 한 번만 실행되고
+ * 저장된 응답을 돌려받는지 검증합니다.
+ */
+public class IdempotencyServiceTest {
+
+    @Mock
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private IdempotencyService idempotencyService;
+
+    /** saveAndFlush 로 저장된 기록 (findById 응답용) */
+    private final AtomicReference<IdempotencyRecordEntity> saved = new AtomicReference<>();
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        JpaExecutor jpaExecutor = new JpaExecutor(mock(PlatformTransactionManager.class), Schedulers.immediate());
+        idempotencyService = new IdempotencyService(idempotencyRecordRepository, jpaExecutor, objectMapper);
+
+        when(idempotencyRecordRepository.findByScopeAndIdempotencyKey(any(), any())).thenReturn(Optional.empty());
+        when(idempotencyRecordRepository.saveAndFlush(any(IdempotencyRecordEntity.class))).thenAnswer(inv -> {
+            IdempotencyRecordEntity record = inv.getArgument(0);
+            record.setId(1L);
+            saved.set(record);
+            return record;
+        });
+        when(idempotencyRecordRepository.findById(1L)).thenAnswer(inv -> Optional.ofNullable(saved.get()));
+    }
+
+    private PaymentResultDto.OrderResultResponse pending() {
+        return PaymentResultDto.OrderResultResponse.builder()
+                .status("PENDING")
+                .transactionId("txn_1")
+                .message("Payment request received. Processing...")
+                .build();
+    }
+
+    @Test
+    @DisplayName("🟢 동시 중복 요청은 한 번만 실행되고 같은 응답을 공유")
+    void execute_concurrentDuplicates_shouldRunOnce() {
+        Sinks.One<PaymentResultDto.OrderResultResponse> pg = Sinks.one();
+        AtomicInteger calls = new AtomicInteger();
+
+        AtomicReference<PaymentResultDto.OrderResultResponse> first = new AtomicReference<>();
+        AtomicReference<PaymentResultDto.OrderResultResponse> second = new AtomicReference<>();
+        for (AtomicReference<PaymentResultDto.OrderResultResponse> target : List.of(first, second)) {
+            idempotencyService.execute(IdempotencyScope.PAYMENT_REQUEST, "key-1", "orderId=ORD_1",
+                            PaymentResultDto.OrderResultResponse.class,
+                            () -> {
+                                calls.incrementAndGet();
+                                return pg.asMono();
+                            })
+                    .subscribe(target::set);
+        }
+
+        pg.tryEmitValue(pending());
+
+        assertThat(calls).hasValue(1);
+        assertThat(first.get()).isNotNull();
+        assertThat(second.get()).isSameAs(first.get());
+        verify(idempotencyRecordRepository, times(1)).saveAndFlush(any());
+        assertThat(saved.get().getStatus()).isEqualTo(IdempotencyStatus.COMPLETED);
+        assertThat(saved.get().getResponseBody()).contains("txn_1");
+    }
+
+    @Test
+    @DisplayName("🟢 다른 노드에서 완료된 키 → 작업 없이 저장된 응답 반환")
+    void execute_whenCompletedInDb_shouldReturnStoredResponse() throws Exception {
+        IdempotencyRecordEntity record = IdempotencyRecordEntity.builder()
+                .id(7L)
+                .scope(IdempotencyScope.PAYMENT_REQUEST)
+                .idempotencyKey("key-1")
+                .fingerprint("orderId=ORD_1")
+                .status(IdempotencyStatus.COMPLETED)
+                .responseBody(objectMapper.writeValueAsString(pending()))
+                .expiresAt(LocalDateTime.now().plusHours(1))
+                .build();
+        when(idempotencyRecordRepository.findByScopeAndIdempotencyKey(IdempotencyScope.PAYMENT_REQUEST, "key-1"))
+                .thenReturn(Optional.of(record));
+
+        AtomicInteger calls = new AtomicInteger();
+        PaymentResultDto.OrderResultResponse result = idempotencyService.execute(
+                IdempotencyScope.PAYMENT_REQUEST, "key-1", "orderId=ORD_1",
+                PaymentResultDto.OrderResultResponse.class,
+                () -> {
+                    calls.incrementAndGet();
+                    return Mono.just(pending());
+                }).block();
+
+        assertThat(calls).hasValue(0);
+        assertThat(result.getTransactionId()).isEqualTo("txn_1");
+        verify(idempotencyRecordRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("🔴 처리 중인 키 → 409")
+    void execute_whenInProgressInDb_shouldReject() {
+        IdempotencyRecordEntity record = IdempotencyRecordEntity.builder()
+                .id(7L)
+                .scope(IdempotencyScope.PAYMENT_REQUEST)
+                .idempotencyKey("key-1")
+                .fingerprint("orderId=ORD_1")
+                .status(IdempotencyStatus.IN_PROGRESS)
+                .expiresAt(LocalDateTime.now().plusMinutes(5))
+                .build();
+        when(idempotencyRecordRepository.findByScopeAndIdempotencyKey(IdempotencyScope.PAYMENT_REQUEST, "key-1"))
+                .thenReturn(Optional.of(record));
+
+        assertThatThrownBy(() -> idempotencyService.execute(
+                        IdempotencyScope.PAYMENT_REQUEST, "key-1", "orderId=ORD_1",
+                        PaymentResultDto.OrderResultResponse.class,
+                        () -> Mono.just(pending())).block())
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("처리 중");
+    }
+
+    @Test
+    @DisplayName("🔴 같은 키를 다른 요청에 재사용 → 409")
+    void execute_whenFingerprintDiffers_shouldReject() {
+        idempotencyService.execute(IdempotencyScope.PAYMENT_REQUEST, "key-1", "orderId=ORD_1",
+                PaymentResultDto.OrderResultResponse.class, () -> Mono.just(pending())).block();
+
+        assertThatThrownBy(() -> idempotencyService.execute(
+                        IdempotencyScope.PAYMENT_REQUEST, "key-1", "orderId=ORD_2",
+                        PaymentResultDto.OrderResultResponse.class,
+                        () -> Mono.just(pending())).block())
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("다른 요청");
+    }
+
+    @Test
+    @DisplayName("🟢 실패한 요청은 기록을 지우고 같은 키로 재시도 가능")
+    void execute_whenActionFails_shouldAllowRetry() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> idempotencyService.execute(
+                        IdempotencyScope.ORDER_CREATE, "key-2", "userId=1",
+                        PaymentResultDto.OrderCreateResponse.class,
+                        () -> {
+                            calls.incrementAndGet();
+                            return Mono.error(new BusinessException("재고 부족"));
+                        }).block())
+                .isInstanceOf(BusinessException.class);
+        verify(idempotencyRecordRepository).deleteById(1L);
+
+        PaymentResultDto.OrderCreateResponse retried = idempotencyService.execute(
+                IdempotencyScope.ORDER_CREATE, "key-2", "userId=1",
+                PaymentResultDto.OrderCreateResponse.class,
+                () -> {
+                    calls.incrementAndGet();
+                    return Mono.just(PaymentResultDto.OrderCreateResponse.builder()
+                            .orderId("ORD_1").status("CREATED").build());
+                }).block();
+
+        assertThat(calls).hasValue(2);
+        assertThat(retried.getOrderId()).isEqualTo("ORD_1");
+    }
+
+    @Test
+    @DisplayName("🔴 작업 성공 후 응답 저장 실패 → 기록을 지우지 않고 응답 반환 (재요청은 만료까지 409)")
+    void execute_whenCompleteFails_shouldKeepClaim() {
+        when(idempotencyRecordRepository.findById(1L)).thenThrow(new IllegalStateException("DB 연결 끊김"));
+        AtomicInteger calls = new AtomicInteger();
+
+        PaymentResultDto.OrderResultResponse result = idempotencyService.execute(
+                IdempotencyScope.PAYMENT_REQUEST, "key-3", "orderId=ORD_1",
+                PaymentResultDto.OrderResultResponse.class,
+                () -> {
+                    calls.incrementAndGet();
+                    return Mono.just(pending());
+                }).block();
+
+        assertThat(calls).hasValue(1);
+        assertThat(result.getTransactionId()).isEqualTo("txn_1");
+        verify(idempotencyRecordRepository, times(3)).findById(1L);
+        verify(idempotencyRecordRepository, never()).deleteById(any());
+        assertThat(saved.get().getStatus()).isEqualTo(IdempotencyStatus.IN_PROGRESS);
+    }
+
+    @Test
+    @DisplayName("🟢 키가 없으면 매번 실행")
+    void execute_withoutKey_shouldAlwaysRun() {
+        AtomicInteger calls = new AtomicInteger();
+        for (int i = 0; i < 2; i++) {
+            idempotencyService.execute(IdempotencyScope.PAYMENT_REQUEST, null, "orderId=ORD_1",
+                    PaymentResultDto.OrderResultResponse.class,
+                    () -> {
+                        calls.incrementAndGet();
+                        return Mono.just(pending());
+                    }).block();
+        }
+
+        assertThat(calls).hasValue(2);
+        verifyNoInteractions(idempotencyRecordRepository);
+    }
+}
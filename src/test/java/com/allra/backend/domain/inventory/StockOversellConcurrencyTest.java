@@ -0,0 +1,158 @@
+package com.allra.backend.domain.inventory;
+
+import com.allra.backend.domain.inventory.entity.StockReservationStatus;
+import com.allra.backend.domain.inventory.service.StockReservationService;
+import com.allra.backend.domain.product.entity.ProductEntity;
+import com.allra.backend.domain.product.repository.ProductStockRepository;
+import com.allra.backend.global.exception.BusinessException;
+import com.allra.backend.support.CheckoutTestSupport;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ✅ StockOversellConcurrencyTest
+ *
+ * 같은 상품에 주문 생성 / 판매 확정이 동시에 몰려도 조건부 UPDATE 로
+ * 판매 가능 수량을 넘는 예약 / 판매가 일어나지 않는지(초과 판매 없음) 검증합니다.
+ * PG 호출(PaymentService)은 CheckoutTestSupport 의 Mock 으로 대체합니다.
+ */
+public class StockOversellConcurrencyTest extends CheckoutTestSupport {
+
+    private static final int STOCK = 5;
+    private static final int BUYERS = 24;
+    private static final int THREADS = 8;
+
+    @Autowired
+    private StockReservationService stockReservationService;
+
+    @Autowired
+    private ProductStockRepository productStockRepository;
+
+    /** 작업을 동시에 시작시키고 성공(true) 수 반환 */
+    private int runConcurrently(List<Callable<Boolean>> tasks) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (Callable<Boolean> task : tasks) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+            int succeeded = 0;
+            for (Future<Boolean> future : futures) {
+                if (future.get()) {
+                    succeeded++;
+                }
+            }
+            return succeeded;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("🟢 재고 5개에 24명이 동시에 주문 → 5건만 예약되고, 동시 결제 확정 후 재고 0 / 품절")
+    void concurrentCheckout_shouldNeverReserveOrSellMoreThanStock() throws Exception {
+        // given
+        Long productId = givenProduct("동시 주문 상품", STOCK);
+        List<Long> buyers = new ArrayList<>();
+        for (int i = 0; i < BUYERS; i++) {
+            buyers.add(userWithCart(productId, 1));
+        }
+
+        // when - 동시 주문 생성
+        List<Long> reservedBuyers = new CopyOnWriteArrayList<>();
+        int ordered = runConcurrently(buyers.stream()
+                .<Callable<Boolean>>map(userId -> () -> {
+                    try {
+                        checkout(userId);
+                        reservedBuyers.add(userId);
+                        return true;
+                    } catch (BusinessException e) {
+                        return false;
+                    }
+                })
+                .toList());
+
+        // then
+        assertThat(ordered).isEqualTo(STOCK);
+        ProductEntity afterCheckout = product(productId);
+        assertThat(afterCheckout.getStock()).isEqualTo(STOCK);
+        assertThat(afterCheckout.getReserved()).isEqualTo(STOCK);
+        assertThat(afterCheckout.getAvailableStock()).isZero();
+
+        // when - 예약한 주문 동시 결제 확정
+        int confirmed = runConcurrently(reservedBuyers.stream()
+                .<Callable<Boolean>>map(userId -> () -> {
+                    withOrder(userId, stockReservationService::confirm);
+                    return true;
+                })
+                .toList());
+
+        // then
+        assertThat(confirmed).isEqualTo(STOCK);
+        ProductEntity sold = product(productId);
+        assertThat(sold.getStock()).isZero();
+        assertThat(sold.getReserved()).isZero();
+        assertThat(sold.getSoldOut()).isTrue();
+        assertThat(reservations(productId))
+                .hasSize(STOCK)
+                .allMatch(reservation -> reservation.getStatus() == StockReservationStatus.SOLD);
+    }
+
+    @Test
+    @DisplayName("🟢 예약 없이 동시 판매 24건 → 재고 5건만 차감되고 음수가 되지 않는다")
+    void concurrentDirectSell_shouldStopAtZero() throws Exception {
+        // given
+        Long productId = givenProduct("동시 판매 상품", STOCK);
+
+        // when
+        List<Callable<Boolean>> sells = new ArrayList<>();
+        for (int i = 0; i < BUYERS; i++) {
+            sells.add(() -> transactionTemplate.execute(status ->
+                    productStockRepository.sell(Map.of(), Map.of(productId, 1)).isEmpty()));
+        }
+        int sold = runConcurrently(sells);
+
+        // then
+        assertThat(sold).isEqualTo(STOCK);
+        ProductEntity product = product(productId);
+        assertThat(product.getStock()).isZero();
+        assertThat(product.getReserved()).isZero();
+        assertThat(product.getSoldOut()).isTrue();
+    }
+
+    @Test
+    @DisplayName("🔴 여러 상품 중 하나라도 부족하면 같은 배치에서 성공한 상품도 되돌린다")
+    void reserve_whenOneProductShort_shouldUndoOthers() {
+        // given
+        Long enough = givenProduct("충분한 상품", 10);
+        Long shortProduct = givenProduct("부족한 상품", 1);
+
+        // when
+        List<Long> failed = transactionTemplate.execute(status ->
+                productStockRepository.reserve(Map.of(enough, 2, shortProduct, 3)));
+
+        // then
+        assertThat(failed).containsExactly(shortProduct);
+        assertThat(product(enough).getReserved()).isZero();
+        assertThat(product(shortProduct).getReserved()).isZero();
+    }
+}
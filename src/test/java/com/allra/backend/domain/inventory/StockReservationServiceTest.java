@@ -0,0 +1,107 @@
+package com.allra.backend.domain.inventory;
+
+import com.allra.backend.domain.inventory.entity.StockReservationEntity;
+import com.allra.backend.domain.inventory.entity.StockReservationStatus;
+import com.allra.backend.domain.inventory.service.StockReservationService;
+import com.allra.backend.domain.product.entity.ProductEntity;
+import com.allra.backend.global.exception.BusinessException;
+import com.allra.backend.support.CheckoutTestSupport;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ✅ StockReservationServiceTest
+ *
+ * 주문 생성 시 재고 예약(홀드)이 판매 가능 수량을 줄여 같은 재고의 중복 주문을 막고,
+ * 결제 성공 시 판매 확정 / 실패 시 해제 / 만료 시 스위퍼 해제가 카운터에 반영되는지 검증합니다.
+ * PG 호출(PaymentService)은 CheckoutTestSupport 의 Mock 으로 대체합니다.
+ */
+public class StockReservationServiceTest extends CheckoutTestSupport {
+
+    @Autowired
+    private StockReservationService stockReservationService;
+
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        // 재고 1개 상품
+        productId = givenProduct("예약 테스트 상품", 1);
+    }
+
+    @Test
+    @DisplayName("🟢 마지막 1개를 예약한 주문이 결제 대기 중이면 다른 주문은 생성되지 않고, 해제 후에는 생성된다")
+    void reserve_shouldBlockSecondOrderUntilReleased() {
+        // given
+        Long first = userWithCart(productId, 1);
+        Long second = userWithCart(productId, 1);
+
+        // when
+        checkout(first);
+
+        // then
+        assertThat(product(productId).getStock()).isEqualTo(1);
+        assertThat(product(productId).getReserved()).isEqualTo(1);
+        assertThat(product(productId).getAvailableStock()).isZero();
+        assertThatThrownBy(() -> checkout(second))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("재고가 부족");
+
+        // when - 첫 주문 결제 실패 → 예약 해제 (재고는 그대로)
+        withOrder(first, stockReservationService::release);
+
+        // then
+        assertThat(product(productId).getStock()).isEqualTo(1);
+        assertThat(product(productId).getAvailableStock()).isEqualTo(1);
+        assertThat(reservations(productId)).extracting(StockReservationEntity::getStatus)
+                .containsExactly(StockReservationStatus.RELEASED);
+
+        // when - 두 번째 주문 생성 후 결제 성공 → 판매 확정
+        checkout(second);
+        withOrder(second, stockReservationService::confirm);
+
+        // then
+        ProductEntity sold = product(productId);
+        assertThat(sold.getStock()).isZero();
+        assertThat(sold.getReserved()).isZero();
+        assertThat(sold.getSoldOut()).isTrue();
+        assertThat(reservations(productId)).extracting(StockReservationEntity::getStatus)
+                .containsExactly(StockReservationStatus.RELEASED, StockReservationStatus.SOLD);
+    }
+
+    @Test
+    @DisplayName("🟢 만료 시각이 지난 예약은 배치 정리로 EXPIRED 되고 판매 가능 수량이 돌아온다")
+    void expireBatch_shouldReleaseExpiredHolds() {
+        // given
+        Long userId = userWithCart(productId, 1);
+        checkout(userId);
+        transactionTemplate.executeWithoutResult(status -> entityManager
+                .createQuery("update StockReservationEntity r set r.expiresAt = :past where r.product.id = :productId")
+                .setParameter("past", LocalDateTime.now().minusMinutes(1))
+                .setParameter("productId", productId)
+                .executeUpdate());
+
+        // when
+        Integer expired = transactionTemplate.execute(status -> stockReservationService.expireBatch(100));
+
+        // then
+        assertThat(expired).isEqualTo(1);
+        assertThat(product(productId).getAvailableStock()).isEqualTo(1);
+        assertThat(reservations(productId)).extracting(StockReservationEntity::getStatus)
+                .containsExactly(StockReservationStatus.EXPIRED);
+
+        // when - 만료 후 결제 성공이 늦게 도착해도 판매 가능 수량이 있으면 확정
+        withOrder(userId, stockReservationService::confirm);
+
+        // then
+        assertThat(product(productId).getStock()).isZero();
+        assertThat(product(productId).getReserved()).isZero();
+    }
+}
@@ -0,0 +1,156 @@
+package com.allra.backend.domain.inventory;
+
+import com.allra.backend.domain.inventory.service.StockShardService;
+import com.allra.backend.domain.product.entity.ProductEntity;
+import com.allra.backend.domain.product.repository.ProductStockRepository;
+
+import jakarta.persistence.EntityManager;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ✅ StockShardContentionLoadTest (부하 테스트 — ./gradlew loadTest 로 실행)
+ *
+ * 한 상품에 동시 차감이 몰릴 때 상품 행 1개(조건부 UPDATE)와 분할 행 8개의
+ * 초당 성공 차감 수를 비교합니다.
+ * 차감 후 같은 트랜잭션에서 HOLD 만큼 머물러 주문 / 예약 INSERT 등 나머지 체크아웃 작업 동안 행 잠금이 유지되는 상황을 흉내냅니다.
+ */
+@Tag("load")
+@SpringBootTest
+@ActiveProfiles("test")
+public class StockShardContentionLoadTest {
+
+    private static final int THREADS = 32;
+    private static final int DECREMENTS = 2_000;
+    private static final int SHARDS = 8;
+    private static final long HOLD_MILLIS = 2;
+
+    @Autowired
+    private ProductStockRepository productStockRepository;
+
+    @Autowired
+    private StockShardService stockShardService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<Long> productIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            entityManager.createQuery("delete from ProductStockShardEntity s where s.product.id in :productIds")
+                    .setParameter("productIds", productIds).executeUpdate();
+            entityManager.createQuery("delete from ProductEntity p where p.id in :productIds")
+                    .setParameter("productIds", productIds).executeUpdate();
+        });
+    }
+
+    private Long product(String name) {
+        Long id = new TransactionTemplate(transactionManager).execute(status -> {
+            ProductEntity product = ProductEntity.builder()
+                    .name(name)
+                    .category("부하테스트")
+                    .price(1000)
+                    .stock(DECREMENTS)
+                    .soldOut(false)
+                    .createdAt(LocalDateTime.now())
+                    .build();
+            entityManager.persist(product);
+            return product.getId();
+        });
+        productIds.add(id);
+        return id;
+    }
+
+    /** 차감 1회 = 트랜잭션 1개 (차감 후 HOLD 동안 잠금 유지) */
+    private long run(BooleanSupplier decrement) throws Exception {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        AtomicInteger remaining = new AtomicInteger(DECREMENTS);
+        AtomicInteger succeeded = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        long startedAt;
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    while (remaining.getAndDecrement() > 0) {
+                        Boolean ok = transactionTemplate.execute(status -> {
+                            boolean decremented = decrement.getAsBoolean();
+                            try {
+                                Thread.sleep(HOLD_MILLIS);
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                            return decremented;
+                        });
+                        if (Boolean.TRUE.equals(ok)) {
+                            succeeded.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            startedAt = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        assertThat(succeeded.get()).isEqualTo(DECREMENTS);
+        return elapsedMillis;
+    }
+
+    @Test
+    @DisplayName("🟢 단일 SKU 동시 차감 — 분할 행 8개가 상품 행 1개보다 초당 성공 차감 수가 많다")
+    void shardedStock_shouldSustainMoreDecrementsPerSecond() throws Exception {
+        // given
+        Long single = product("단일 행 상품");
+        Long sharded = product("분할 행 상품");
+        stockShardService.enable(sharded, SHARDS);
+
+        // when
+        long singleMillis = run(() -> productStockRepository.sell(Map.of(), Map.of(single, 1)).isEmpty());
+        long shardedMillis = run(() -> !productStockRepository.sellFromShards(sharded, SHARDS, 1).isEmpty());
+
+        // then
+        System.out.printf("[LoadTest] decrements=%d, threads=%d, hold=%dms%n", DECREMENTS, THREADS, HOLD_MILLIS);
+        System.out.printf("[LoadTest] single row : elapsed=%dms, throughput=%.1f/s%n",
+                singleMillis, DECREMENTS * 1000.0 / singleMillis);
+        System.out.printf("[LoadTest] %d shards   : elapsed=%dms, throughput=%.1f/s%n",
+                SHARDS, shardedMillis, DECREMENTS * 1000.0 / shardedMillis);
+
+        assertThat(stockShardService.getStatus(single).getStock()).isZero();
+        assertThat(stockShardService.getStatus(sharded).getStock()).isZero();
+        assertThat(shardedMillis).isLessThan(singleMillis);
+    }
+}
@@ -0,0 +1,225 @@
+package com.allra.backend.domain.inventory;
+
+import com.allra.backend.domain.inventory.dto.StockShardDto;
+import com.allra.backend.domain.inventory.entity.StockReservationEntity;
+import com.allra.backend.domain.inventory.entity.StockReservationStatus;
+import com.allra.backend.domain.inventory.service.StockReservationService;
+import com.allra.backend.domain.inventory.service.StockShardService;
+import com.allra.backend.domain.product.dto.ProductDto;
+import com.allra.backend.domain.product.service.ProductService;
+import com.allra.backend.global.exception.BusinessException;
+import com.allra.backend.support.CheckoutTestSupport;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ✅ StockShardServiceTest
+ *
+ * 핫 상품 재고를 분할 행으로 나눈 뒤에도 예약 / 판매 확정 / 해제가 분할 행 카운터에 반영되고,
+ * 모든 분할 행이 비면 품절로 표시되며, 병합 시 재고와 결제 대기 예약이 상품 행으로 돌아오는지 검증합니다.
+ * PG 호출(PaymentService)은 CheckoutTestSupport 의 Mock 으로 대체합니다.
+ */
+public class StockShardServiceTest extends CheckoutTestSupport {
+
+    @Autowired
+    private StockReservationService stockReservationService;
+
+    @Autowired
+    private StockShardService stockShardService;
+
+    @Autowired
+    private ProductService productService;
+
+    private Long productId;
+
+    @Test
+    @DisplayName("🟢 분할 — 판매 가능 수량은 고르게, 결제 대기 예약은 0번 분할 행으로 옮겨지고 상품 조회는 합계를 보여준다")
+    void enable_shouldSplitAvailableStockAndMoveHolds() {
+        // given - 재고 10, 1개 예약
+        productId = givenProduct("분할 테스트 상품", 10);
+        Long holder = userWithCart(productId, 1);
+        checkout(holder);
+
+        // when
+        StockShardDto.ShardStatusResponseDto status = stockShardService.enable(productId, 3);
+
+        // then
+        assertThat(status.getShardCount()).isEqualTo(3);
+        assertThat(status.getStock()).isEqualTo(10);
+        assertThat(status.getReserved()).isEqualTo(1);
+        assertThat(status.getShards())
+                .extracting(StockShardDto.ShardResponseDto::getStock, StockShardDto.ShardResponseDto::getReserved)
+                .containsExactly(tuple(4, 1), tuple(3, 0), tuple(3, 0));
+        assertThat(product(productId).getStock()).isZero();
+        assertThat(product(productId).getReserved()).isZero();
+        assertThat(reservations(productId)).extracting(StockReservationEntity::getShardNo).containsExactly(0);
+
+        ProductDto.ProductResponseDto dto = productService.getProductById(productId).orElseThrow();
+        assertThat(dto.getStock()).isEqualTo(10);
+        assertThat(dto.getAvailableStock()).isEqualTo(9);
+
+        // when - 분할 전 예약도 결제 성공 시 분할 행에서 확정
+        withOrder(holder, stockReservationService::confirm);
+
+        // then
+        assertThat(stockShardService.getStatus(productId).getStock()).isEqualTo(9);
+        assertThat(stockShardService.getStatus(productId).getReserved()).isZero();
+    }
+
+    @Test
+    @DisplayName("🟢 한 분할 행으로 부족하면 여러 행에 나눠 예약하고, 모든 분할 행이 비면 품절로 표시된다")
+    void reserve_shouldSplitAcrossShardsAndMarkSoldOut() {
+        // given - 재고 4개를 4개 행에 1개씩
+        productId = givenProduct("분할 테스트 상품", 4);
+        stockShardService.enable(productId, 4);
+        Long buyer = userWithCart(productId, 3);
+        Long lastBuyer = userWithCart(productId, 1);
+
+        // when
+        checkout(buyer);
+
+        // then
+        assertThat(reservations(productId)).hasSize(3)
+                .allMatch(reservation -> reservation.getQuantity() == 1 && reservation.getShardNo() != null);
+        assertThat(stockShardService.getStatus(productId).getAvailableStock()).isEqualTo(1);
+
+        // when - 나머지 1개도 판매 → 모든 분할 행 재고 0
+        checkout(lastBuyer);
+        withOrder(buyer, stockReservationService::confirm);
+        assertThat(product(productId).getSoldOut()).isFalse();
+        withOrder(lastBuyer, stockReservationService::confirm);
+
+        // then
+        StockShardDto.ShardStatusResponseDto status = stockShardService.getStatus(productId);
+        assertThat(status.getStock()).isZero();
+        assertThat(status.getReserved()).isZero();
+        assertThat(product(productId).getSoldOut()).isTrue();
+        assertThat(reservations(productId)).extracting(StockReservationEntity::getStatus)
+                .containsOnly(StockReservationStatus.SOLD);
+    }
+
+    @Test
+    @DisplayName("🟢 임의의 한 행으로 부족하면 shard_no 오름차순으로 나눠 예약한다 (여러 행 잠금 순서 고정)")
+    void reserve_fallbackShouldTakeShardsInAscendingOrder() {
+        // given - 재고 8개를 4개 행에 2개씩, 어느 한 행으로도 3개는 부족
+        productId = givenProduct("분할 테스트 상품", 8);
+        stockShardService.enable(productId, 4);
+        Long buyer = userWithCart(productId, 3);
+
+        // when
+        checkout(buyer);
+
+        // then - 0번 행 2개 + 1번 행 1개
+        assertThat(reservations(productId))
+                .extracting(StockReservationEntity::getShardNo, StockReservationEntity::getQuantity)
+                .containsExactlyInAnyOrder(tuple(0, 2), tuple(1, 1));
+    }
+
+    @Test
+    @DisplayName("🔴 분할 상품의 판매 가능 수량을 넘는 주문은 생성되지 않고, 해제된 예약은 분할 행으로 돌아온다")
+    void reserve_whenShardsShort_shouldFailAndReleaseRestoresShard() {
+        // given
+        productId = givenProduct("분할 테스트 상품", 2);
+        stockShardService.enable(productId, 2);
+        Long first = userWithCart(productId, 2);
+        Long second = userWithCart(productId, 1);
+        checkout(first);
+
+        // when & then
+        assertThatThrownBy(() -> checkout(second))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("재고가 부족");
+
+        // when - 첫 주문 결제 실패 → 분할 행 예약 해제
+        withOrder(first, stockReservationService::release);
+
+        // then
+        StockShardDto.ShardStatusResponseDto status = stockShardService.getStatus(productId);
+        assertThat(status.getAvailableStock()).isEqualTo(2);
+        assertThat(status.getShards()).allMatch(shard -> shard.getReserved() == 0);
+    }
+
+    @Test
+    @DisplayName("🟢 병합 — 분할 행 재고와 결제 대기 예약이 상품 행으로 돌아오고 이후 확정은 상품 행에서 처리")
+    void disable_shouldMergeStockAndHoldsBackToProductRow() {
+        // given
+        productId = givenProduct("분할 테스트 상품", 6);
+        stockShardService.enable(productId, 3);
+        Long buyer = userWithCart(productId, 2);
+        checkout(buyer);
+
+        // when
+        StockShardDto.ShardStatusResponseDto status = stockShardService.disable(productId);
+
+        // then
+        assertThat(status.getShardCount()).isZero();
+        assertThat(status.getShards()).isEmpty();
+        assertThat(product(productId).getStock()).isEqualTo(6);
+        assertThat(product(productId).getReserved()).isEqualTo(2);
+        assertThat(reservations(productId)).allMatch(reservation -> reservation.getShardNo() == null);
+
+        // when
+        withOrder(buyer, stockReservationService::confirm);
+
+        // then
+        assertThat(product(productId).getStock()).isEqualTo(4);
+        assertThat(product(productId).getReserved()).isZero();
+    }
+
+    @Test
+    @DisplayName("🟢 분할 상품에 24명이 동시에 주문해도 재고 5건만 예약된다")
+    void concurrentCheckout_onShardedProduct_shouldNotOversell() throws Exception {
+        // given
+        productId = givenProduct("분할 테스트 상품", 5);
+        stockShardService.enable(productId, 4);
+        List<Long> buyers = new ArrayList<>();
+        for (int i = 0; i < 24; i++) {
+            buyers.add(userWithCart(productId, 1));
+        }
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        int ordered = 0;
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (Long buyer : buyers) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        checkout(buyer);
+                        return true;
+                    } catch (BusinessException e) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+            for (Future<Boolean> future : futures) {
+                if (future.get()) {
+                    ordered++;
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // then
+        assertThat(ordered).isEqualTo(5);
+        StockShardDto.ShardStatusResponseDto status = stockShardService.getStatus(productId);
+        assertThat(status.getReserved()).isEqualTo(5);
+        assertThat(status.getAvailableStock()).isZero();
+        assertThat(status.getShards()).allMatch(shard -> shard.getStock() >= shard.getReserved());
+    }
+}
@@ -0,0 +1,87 @@
+package com.allra.backend.domain.mockapi;
+
+import com.allra.backend.domain.mockapi.dto.MockApiCancelDto;
+import com.allra.backend.domain.mockapi.dto.MockApiPaymentDto;
+import com.allra.backend.domain.mockapi.service.MockApiService;
+import com.allra.backend.domain.mockapi.service.MockPaymentCompletionScheduler;
+import com.allra.backend.domain.mockapi.service.MockPaymentStatusStore;
+import com.allra.backend.domain.mockapi.service.MockPgCallbackClient;
+import com.allra.backend.domain.mockapi.service.MockPgProfileService;
+import com.allra.backend.global.id.SnowflakeIdGenerator;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.mockito.Mockito.*;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ✅ MockApiServiceTest
+ *
+ * Mock PG 결제가 타이머 휠에 지연 완료를 예약하고,
+ * 예약 실행 시 PENDING 인 결제만 최종 상태로 전환하는지 검증합니다.
+ */
+public class MockApiServiceTest {
+
+    private MockPaymentCompletionScheduler completionScheduler;
+    private MockApiService mockApiService;
+
+    @BeforeEach
+    void setUp() {
+        completionScheduler = mock(MockPaymentCompletionScheduler.class);
+        // 통지 URL 미설정 → 결과 통지 없이 상태만 전환
+        MockPaymentStatusStore statusStore = new MockPaymentStatusStore(
+                1000, Duration.ofMinutes(30), Duration.ofHours(1), new SimpleMeterRegistry());
+        mockApiService = new MockApiService(completionScheduler, new MockPgProfileService("default"), statusStore,
+                new SnowflakeIdGenerator(0), MockPgCallbackClient.disabled());
+    }
+
+    @Test
+    @DisplayName("🟢 결제 요청 → PENDING 응답 후 8~15초 뒤 완료 예약, 실행 시 최종 상태 전환")
+    void processPayment_shouldScheduleCompletion() {
+        var response = mockApiService.processPayment(new MockApiPaymentDto.MockPayRequest("ORD_1", 1000));
+
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        ArgumentCaptor<Duration> delay = ArgumentCaptor.forClass(Duration.class);
+        verify(completionScheduler).schedule(task.capture(), delay.capture());
+
+        assertThat(response.getStatus()).isEqualTo("PENDING");
+        assertThat(delay.getValue()).isBetween(Duration.ofSeconds(8), Duration.ofSeconds(15));
+        assertThat(mockApiService.getPaymentResult("ORD_1").getStatus()).isEqualTo("PENDING");
+
+        task.getValue().run();
+
+        assertThat(mockApiService.getPaymentResult("ORD_1").getStatus()).isIn("SUCCESS", "FAILED");
+    }
+
+    @Test
+    @DisplayName("🟢 완료 전에 취소된 결제는 예약 실행 후에도 CANCELED 유지")
+    void processPayment_whenCanceledBeforeCompletion_shouldKeepCanceled() {
+        mockApiService.processPayment(new MockApiPaymentDto.MockPayRequest("ORD_2", 1000));
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(completionScheduler).schedule(task.capture(), any());
+
+        mockApiService.cancelOrder(new MockApiCancelDto.MockCancelRequest("ORD_2"));
+        task.getValue().run();
+
+        assertThat(mockApiService.getPaymentResult("ORD_2").getStatus()).isEqualTo("CANCELED");
+    }
+
+    @Test
+    @DisplayName("🔴 예약 대기 수 상한 초과 → 즉시 FAILED")
+    void processPayment_whenSchedulerFull_shouldFail() {
+        when(completionScheduler.schedule(any(), any())).thenThrow(new RejectedExecutionException("full"));
+
+        var response = mockApiService.processPayment(new MockApiPaymentDto.MockPayRequest("ORD_3", 1000));
+
+        assertThat(response.getStatus()).isEqualTo("FAILED");
+        assertThat(mockApiService.getPaymentResult("ORD_3").getStatus()).isEqualTo("NOT_FOUND");
+    }
+}
@@ -0,0 +1,74 @@
+package com.allra.backend.domain.mockapi;
+
+import com.allra.backend.domain.mockapi.service.MockPaymentCompletionScheduler;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ✅ MockPaymentCompletionLoadTest (부하 테스트 — ./gradlew loadTest 로 실행)
+ *
+ * 타이머 휠이 결제당 스레드 없이 동시에 보관할 수 있는 지연 완료 예약 수와
+ * 예약 1건당 메모리 / 예약 처리량을 측정합니다.
+ */
+@Tag("load")
+public class MockPaymentCompletionLoadTest {
+
+    private static final int PENDING_PAYMENTS = 1_000_000;
+
+    private final MockPaymentCompletionScheduler scheduler =
+            new MockPaymentCompletionScheduler(Duration.ofMillis(100), 512, 0);
+
+    @AfterEach
+    void tearDown() {
+        scheduler.stop();
+    }
+
+    @Test
+    @DisplayName("📈 동시 대기 결제 100만 건 예약 — 스레드 수 / 메모리 / 처리량 측정")
+    void holdMillionPendingPayments() throws Exception {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        long heapBefore = runtime.totalMemory() - runtime.freeMemory();
+        int threadsBefore = Thread.activeCount();
+
+        // 1. 실행되지 않을 만큼 긴 지연으로 대량 예약 (실제 Mock 지연 8~15초보다 길게)
+        long start = System.nanoTime();
+        for (int i = 0; i < PENDING_PAYMENTS; i++) {
+            scheduler.schedule(() -> { }, Duration.ofMinutes(10));
+        }
+        long scheduleMillis = Math.max(1, Duration.ofNanos(System.nanoTime() - start).toMillis());
+
+        // 워커가 대기 큐를 휠 버킷으로 옮길 시간
+        Thread.sleep(300);
+        System.gc();
+        long heapAfter = runtime.totalMemory() - runtime.freeMemory();
+        int threadsAfter = Thread.activeCount();
+
+        System.out.printf("[LoadTest] pending=%d, schedule elapsed=%dms, throughput=%.0f/s%n",
+                scheduler.pending(), scheduleMillis, PENDING_PAYMENTS * 1000.0 / scheduleMillis);
+        System.out.printf("[LoadTest] heap delta=%dMB (%.0f bytes/payment), threads %d → %d%n",
+                (heapAfter - heapBefore) / (1024 * 1024),
+                (double) (heapAfter - heapBefore) / PENDING_PAYMENTS,
+                threadsBefore, threadsAfter);
+
+        assertThat(scheduler.pending()).isEqualTo(PENDING_PAYMENTS);
+        // 예약 수와 무관하게 워커 스레드 1개만 추가
+        assertThat(threadsAfter - threadsBefore).isLessThanOrEqualTo(1);
+
+        // 2. 짧은 지연 예약도 대량 대기 중에 정상 실행되는지 확인
+        CountDownLatch done = new CountDownLatch(10_000);
+        for (int i = 0; i < 10_000; i++) {
+            scheduler.schedule(done::countDown, Duration.ofMillis(200));
+        }
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+}
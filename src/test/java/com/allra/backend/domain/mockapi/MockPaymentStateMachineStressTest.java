@@ -0,0 +1,101 @@
+package com.allra.backend.domain.mockapi;
+
+import com.allra.backend.domain.mockapi.service.MockPaymentStatus;
+import com.allra.backend.domain.mockapi.service.MockPaymentStatusStore;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ✅ MockPaymentStateMachineStressTest
+ *
+ * 완료 처리(SUCCESS / FAILED)와 취소(CANCELED)가 같은 결제에 동시에 몰려도
+ * 반영된 전이가 유실되지 않고, 상태 머신 규칙을 벗어나지 않는지 검증합니다.
+ */
+public class MockPaymentStateMachineStressTest {
+
+    private static final int ORDERS = 5_000;
+    private static final int THREADS = 8;
+    private static final MockPaymentStatus[] ATTEMPTS = {
+            MockPaymentStatus.SUCCESS, MockPaymentStatus.FAILED, MockPaymentStatus.CANCELED,
+            MockPaymentStatus.SUCCESS, MockPaymentStatus.CANCELED, MockPaymentStatus.FAILED
+    };
+
+    @Test
+    @DisplayName("🟢 동시 전이 경합 — 반영된 전이 수 = 버전, 최종 상태 = 마지막 반영 전이")
+    void concurrentTransitions_shouldNotLoseUpdates() throws Exception {
+        MockPaymentStatusStore store = new MockPaymentStatusStore(
+                ORDERS * 2, Duration.ofHours(1), Duration.ofHours(1), new SimpleMeterRegistry());
+        for (int i = 0; i < ORDERS; i++) {
+            store.registerPending("ORD_" + i);
+        }
+
+        Map<String, Queue<MockPaymentStatusStore.Transition>> applied = new ConcurrentHashMap<>();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int offset = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < ORDERS; i++) {
+                        String orderId = "ORD_" + i;
+                        MockPaymentStatus next = ATTEMPTS[(i + offset) % ATTEMPTS.length];
+                        MockPaymentStatusStore.Transition transition = store.transition(orderId, next);
+                        if (transition.applied()) {
+                            applied.computeIfAbsent(orderId, k -> new ConcurrentLinkedQueue<>()).add(transition);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        for (int i = 0; i < ORDERS; i++) {
+            String orderId = "ORD_" + i;
+            List<MockPaymentStatusStore.Transition> transitions = new ArrayList<>(applied.getOrDefault(orderId, new ConcurrentLinkedQueue<>()));
+            transitions.sort((a, b) -> Integer.compare(a.version(), b.version()));
+
+            // 1. 반영된 전이마다 버전이 1씩 증가 (유실 / 중복 없음)
+            assertThat(store.version(orderId)).isEqualTo(transitions.size());
+            for (int v = 0; v < transitions.size(); v++) {
+                assertThat(transitions.get(v).version()).isEqualTo(v + 1);
+            }
+
+            // 2. 이어지는 전이는 상태 머신 규칙을 따른다
+            MockPaymentStatus state = MockPaymentStatus.PENDING;
+            for (MockPaymentStatusStore.Transition transition : transitions) {
+                assertThat(transition.previous()).isEqualTo(state);
+                assertThat(state.canTransitionTo(transition.current())).isTrue();
+                state = transition.current();
+            }
+
+            // 3. 저장된 최종 상태 = 마지막으로 반영된 전이
+            assertThat(store.get(orderId)).isEqualTo(state);
+            assertThat(state).isNotEqualTo(MockPaymentStatus.PENDING);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.allra.backend.domain.mockapi;
+
+import com.allra.backend.domain.mockapi.service.MockPaymentStatus;
+import com.allra.backend.domain.mockapi.service.MockPaymentStatusStore;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ✅ MockPaymentStatusStoreTest
+ *
+ * Mock PG 결제 상태 저장소가 TTL / 크기 제한으로 항목을 제거하고
+ * 진행 중(PENDING) 결제는 보존하는지 검증합니다.
+ */
+public class MockPaymentStatusStoreTest {
+
+    private static final Instant START = Instant.parse("2025-11-10T00:00:00Z");
+
+    private SimpleMeterRegistry meterRegistry;
+    private MockPaymentStatusStore store;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        store = new MockPaymentStatusStore(10, Duration.ofMinutes(30), Duration.ofHours(1), meterRegistry);
+        setClock(START);
+    }
+
+    private void setClock(Instant now) {
+        ReflectionTestUtils.setField(store, "clock", Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("🟢 상태 전이 — 허용된 전이만 반영하고 버전 증가, 허용되지 않은 전이는 거절")
+    void transition_shouldFollowStateMachine() {
+        assertThat(store.registerPending("ORD_1")).isNull();
+        assertThat(store.registerPending("ORD_1")).isEqualTo(MockPaymentStatus.PENDING);
+        assertThat(store.version("ORD_1")).isZero();
+
+        MockPaymentStatusStore.Transition success = store.transition("ORD_1", MockPaymentStatus.SUCCESS);
+        assertThat(success.applied()).isTrue();
+        assertThat(success.previous()).isEqualTo(MockPaymentStatus.PENDING);
+        assertThat(success.version()).isEqualTo(1);
+
+        MockPaymentStatusStore.Transition failed = store.transition("ORD_1", MockPaymentStatus.FAILED);
+        assertThat(failed.outcome()).isEqualTo(MockPaymentStatusStore.Outcome.ILLEGAL);
+        assertThat(store.get("ORD_1")).isEqualTo(MockPaymentStatus.SUCCESS);
+
+        assertThat(store.transition("ORD_1", MockPaymentStatus.CANCELED).applied()).isTrue();
+        assertThat(store.transition("ORD_1", MockPaymentStatus.SUCCESS).outcome())
+                .isEqualTo(MockPaymentStatusStore.Outcome.ILLEGAL);
+        assertThat(store.version("ORD_1")).isEqualTo(2);
+
+        assertThat(store.transition("ORD_X", MockPaymentStatus.SUCCESS).outcome())
+                .isEqualTo(MockPaymentStatusStore.Outcome.NOT_FOUND);
+        assertThat(store.get("ORD_X")).isNull();
+    }
+
+    @Test
+    @DisplayName("🟢 TTL 만료 — 최종 상태는 terminal-ttl, PENDING 은 pending-ttl 이후 제거")
+    void evictExpired_shouldUseTtlPerStatus() {
+        store.registerPending("ORD_DONE");
+        store.transition("ORD_DONE", MockPaymentStatus.SUCCESS);
+        store.registerPending("ORD_PENDING");
+
+        setClock(START.plus(Duration.ofMinutes(31)));
+        store.evictExpired();
+        assertThat(store.get("ORD_DONE")).isNull();
+        assertThat(store.get("ORD_PENDING")).isEqualTo(MockPaymentStatus.PENDING);
+
+        setClock(START.plus(Duration.ofMinutes(61)));
+        store.evictExpired();
+        assertThat(store.get("ORD_PENDING")).isNull();
+        assertThat(meterRegistry.counter("mock.payment.store.evictions", "reason", "ttl").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("🟢 크기 제한 — 오래된 최종 상태부터 제거, 전부 PENDING 이면 등록 거절")
+    void registerPending_whenFull_shouldEvictOldestTerminalOrReject() {
+        for (int i = 0; i < 10; i++) {
+            setClock(START.plusSeconds(i));
+            store.registerPending("ORD_" + i);
+            if (i < 5) {
+                store.transition("ORD_" + i, MockPaymentStatus.FAILED);
+            }
+        }
+
+        setClock(START.plusSeconds(20));
+        assertThat(store.registerPending("ORD_NEW")).isNull();
+        // 90%(9건)까지 줄이기 위해 가장 오래된 최종 상태 1건 제거 후 등록
+        assertThat(store.get("ORD_0")).isNull();
+        assertThat(store.get("ORD_1")).isEqualTo(MockPaymentStatus.FAILED);
+        assertThat(store.size()).isEqualTo(10);
+
+        // 남은 최종 상태를 모두 제거한 뒤에는 PENDING 만 남아 거절
+        for (int i = 1; i < 5; i++) {
+            store.registerPending("ORD_P" + i);
+        }
+        assertThatThrownBy(() -> store.registerPending("ORD_REJECTED"))
+                .isInstanceOf(RejectedExecutionException.class);
+        assertThat(store.get("ORD_REJECTED")).isNull();
+        assertThat(store.size()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("🟢 지표 — 항목 수 / 추정 메모리")
+    void gauges_shouldReportEntriesAndEstimatedBytes() {
+        store.registerPending("ORD_1");
+        store.registerPending("ORD_2");
+
+        assertThat(meterRegistry.get("mock.payment.store.entries").gauge().value()).isEqualTo(2);
+        assertThat(meterRegistry.get("mock.payment.store.estimated.bytes").gauge().value()).isPositive();
+    }
+}
@@ -0,0 +1,85 @@
+package com.allra.backend.domain.mockapi;
+
+import com.allra.backend.domain.mockapi.codec.MockPgCodec;
+import com.allra.backend.domain.mockapi.codec.MockPgWireFormat;
+import com.allra.backend.domain.mockapi.dto.MockApiOrderDto;
+import com.allra.backend.domain.product.entity.ProductEntity;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ✅ MockPgCodecTest
+ *
+ * Mock PG 전송 포맷(JSON / CBOR) 선택과 왕복 직렬화,
+ * 상품 라인(MockOrderLineItem) 요청이 기존 ProductEntity 요청보다 작은지 검증합니다.
+ */
+public class MockPgCodecTest {
+
+    private final MockPgCodec codec = new MockPgCodec(new ObjectMapper().findAndRegisterModules());
+
+    private MockApiOrderDto.MockOrderCreateRequestDto leanRequest() {
+        return new MockApiOrderDto.MockOrderCreateRequestDto(1L, List.of(
+                new MockApiOrderDto.MockOrderLineItem(1L, 1, 10000),
+                new MockApiOrderDto.MockOrderLineItem(2L, 2, 20000)),
+                50000L);
+    }
+
+    @Test
+    @DisplayName("🟢 헤더에 application/cbor 가 있으면 CBOR, 그 외에는 JSON")
+    void wireFormat_fromHeader() {
+        assertThat(MockPgWireFormat.of("application/cbor")).isEqualTo(MockPgWireFormat.CBOR);
+        assertThat(MockPgWireFormat.of("application/cbor, application/json;q=0.5")).isEqualTo(MockPgWireFormat.CBOR);
+        assertThat(MockPgWireFormat.of("application/json")).isEqualTo(MockPgWireFormat.JSON);
+        assertThat(MockPgWireFormat.of("*/*")).isEqualTo(MockPgWireFormat.JSON);
+        assertThat(MockPgWireFormat.of(null)).isEqualTo(MockPgWireFormat.JSON);
+    }
+
+    @Test
+    @DisplayName("🟢 JSON / CBOR 모두 같은 요청으로 왕복된다")
+    void roundTrip() throws Exception {
+        // given
+        MockApiOrderDto.MockOrderCreateRequestDto request = leanRequest();
+
+        for (MockPgWireFormat format : MockPgWireFormat.values()) {
+            // when
+            byte[] body = codec.write(format, request);
+
+            // then
+            assertThat(codec.read(format, body, MockApiOrderDto.MockOrderCreateRequestDto.class))
+                    .as(format.name())
+                    .isEqualTo(request);
+        }
+    }
+
+    @Test
+    @DisplayName("🟢 본문 크기 — CBOR < 상품 라인 JSON < ProductEntity JSON")
+    void payloadSize() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, Object> legacy = Map.of(
+                "userId", 1L,
+                "products", List.of(
+                        ProductEntity.builder().id(1L).name("상품 A").brand("브랜드").category("식품")
+                                .price(10000).stock(100).soldOut(false).createdAt(now).build(),
+                        ProductEntity.builder().id(2L).name("상품 B").brand("브랜드").category("식품")
+                                .price(20000).stock(100).soldOut(false).createdAt(now).build()),
+                "amount", 50000L);
+
+        // when
+        int legacyJson = codec.write(MockPgWireFormat.JSON, legacy).length;
+        int leanJson = codec.write(MockPgWireFormat.JSON, leanRequest()).length;
+        int leanCbor = codec.write(MockPgWireFormat.CBOR, leanRequest()).length;
+
+        // then
+        assertThat(leanJson).isLessThan(legacyJson / 2);
+        assertThat(leanCbor).isLessThan(leanJson);
+    }
+}
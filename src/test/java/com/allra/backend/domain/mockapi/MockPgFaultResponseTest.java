@@ -0,0 +1,70 @@
+package com.allra.backend.domain.mockapi;
+
+import com.allra.backend.domain.mockapi.codec.MockPgCodec;
+import com.allra.backend.domain.mockapi.codec.MockPgWireFormat;
+import com.allra.backend.domain.mockapi.dto.MockPgProfileDto;
+import com.allra.backend.domain.mockapi.service.MockPgFaultResponse;
+import com.allra.backend.domain.mockapi.service.MockPgProfileService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ✅ MockPgFaultResponseTest
+ *
+ * MockPgResponder / MockPgServer 가 공유하는 장애 주입 규칙
+ * (ERROR 는 요청 미처리, SLOW_BODY 는 본문을 나눠 전송)을 검증합니다.
+ */
+public class MockPgFaultResponseTest {
+
+    private final MockPgCodec codec = new MockPgCodec(new ObjectMapper());
+
+    private static MockPgProfileService.Plan plan(MockPgProfileService.Fault fault) {
+        MockPgProfileDto.Profile profile = MockPgProfileDto.Profile.builder()
+                .name("test")
+                .errorStatus(503)
+                .timeoutMs(3000)
+                .slowBodyMs(100)
+                .build();
+        return new MockPgProfileService.Plan(fault, Duration.ZERO, profile);
+    }
+
+    @Test
+    @DisplayName("🔴 ERROR — 요청을 처리하지 않고 errorStatus 와 PG_ERROR 본문")
+    void error_shouldNotCallHandler() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+
+        MockPgFaultResponse response = MockPgFaultResponse.prepare(plan(MockPgProfileService.Fault.ERROR), codec,
+                MockPgWireFormat.JSON, calls::incrementAndGet);
+
+        assertThat(calls).hasValue(0);
+        assertThat(response.status()).isEqualTo(503);
+        assertThat(codec.read(MockPgWireFormat.JSON, response.body(), Map.class)).containsEntry("status", "PG_ERROR");
+    }
+
+    @Test
+    @DisplayName("🟢 SLOW_BODY — 본문을 최대 10 조각으로 나눠 순서대로 전송하면 원래 본문")
+    void slowBody_chunksShouldRebuildBody() throws Exception {
+        MockPgFaultResponse response = MockPgFaultResponse.prepare(plan(MockPgProfileService.Fault.SLOW_BODY), codec,
+                MockPgWireFormat.CBOR, () -> Map.of("orderId", "MOCK-1001", "status", "PENDING"));
+
+        List<byte[]> chunks = response.chunks().collectList().block(Duration.ofSeconds(1));
+
+        ByteArrayOutputStream joined = new ByteArrayOutputStream();
+        for (byte[] chunk : chunks) {
+            joined.write(chunk);
+        }
+        assertThat(response.status()).isEqualTo(200);
+        assertThat(chunks).hasSize(MockPgFaultResponse.SLOW_BODY_CHUNKS);
+        assertThat(joined.toByteArray()).isEqualTo(response.body());
+    }
+}
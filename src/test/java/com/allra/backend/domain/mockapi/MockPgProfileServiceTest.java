@@ -0,0 +1,124 @@
+package com.allra.backend.domain.mockapi;
+
+import com.allra.backend.domain.mockapi.dto.MockPgProfileDto;
+import com.allra.backend.domain.mockapi.service.MockPgProfileService;
+import com.allra.backend.global.exception.NotFoundException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ✅ MockPgProfileServiceTest
+ *
+ * Mock PG 프로파일의 지연 분포 / 장애 주입 비율이 설정대로 뽑히는지,
+ * 실행 중 프로파일 전환이 반영되는지 검증합니다.
+ */
+public class MockPgProfileServiceTest {
+
+    private static final int SAMPLES = 20_000;
+
+    private MockPgProfileService profileService;
+
+    @BeforeEach
+    void setUp() {
+        profileService = new MockPgProfileService("default");
+    }
+
+    private MockPgProfileDto.Profile.ProfileBuilder baseProfile() {
+        return MockPgProfileDto.Profile.builder()
+                .name("test")
+                .responseLatency(MockPgProfileDto.Latency.fixed(0))
+                .completionLatency(MockPgProfileDto.Latency.fixed(0));
+    }
+
+    @Test
+    @DisplayName("🟢 기본 프로파일 — 즉시 응답, 8~15초 후 완료")
+    void defaultProfile_shouldKeepLegacyBehavior() {
+        for (int i = 0; i < 1000; i++) {
+            MockPgProfileService.Plan plan = profileService.nextPlan();
+            assertThat(plan.fault()).isEqualTo(MockPgProfileService.Fault.NONE);
+            assertThat(plan.latency()).isZero();
+            assertThat(profileService.nextCompletionDelay())
+                    .isBetween(Duration.ofSeconds(8), Duration.ofSeconds(15));
+        }
+    }
+
+    @Test
+    @DisplayName("🟢 TAIL 분포 — tailPercent 비율만 꼬리 지연")
+    void tailLatency_shouldHitTailAtConfiguredRate() {
+        profileService.apply(baseProfile()
+                .responseLatency(MockPgProfileDto.Latency.builder()
+                        .type(MockPgProfileDto.LatencyType.TAIL)
+                        .minMs(10).maxMs(20)
+                        .tailPercent(5).tailMs(3000)
+                        .build())
+                .build());
+
+        long tail = LongStream.range(0, SAMPLES)
+                .map(i -> profileService.nextPlan().latency().toMillis())
+                .peek(ms -> assertThat(ms == 3000 || (ms >= 10 && ms <= 20)).isTrue())
+                .filter(ms -> ms == 3000)
+                .count();
+
+        assertThat((double) tail / SAMPLES).isCloseTo(0.05, within(0.01));
+    }
+
+    @Test
+    @DisplayName("🟢 LOG_NORMAL 분포 — 중앙값 근처, 상한 적용")
+    void logNormalLatency_shouldCenterOnMedianAndRespectCap() {
+        profileService.apply(baseProfile()
+                .responseLatency(MockPgProfileDto.Latency.builder()
+                        .type(MockPgProfileDto.LatencyType.LOG_NORMAL)
+                        .medianMs(200).sigma(0.8).capMs(1000)
+                        .build())
+                .build());
+
+        long[] samples = LongStream.range(0, SAMPLES)
+                .map(i -> profileService.nextPlan().latency().toMillis())
+                .sorted()
+                .toArray();
+
+        assertThat(samples[SAMPLES / 2]).isBetween(180L, 220L);
+        assertThat(samples[SAMPLES - 1]).isLessThanOrEqualTo(1000L);
+    }
+
+    @Test
+    @DisplayName("🟢 장애 주입 — 5xx / 타임아웃 / 느린 본문 비율")
+    void faults_shouldFollowConfiguredRates() {
+        profileService.apply(baseProfile()
+                .errorRate(0.2)
+                .timeoutRate(0.1)
+                .slowBodyRate(0.1)
+                .build());
+
+        Map<MockPgProfileService.Fault, Integer> counts = new EnumMap<>(MockPgProfileService.Fault.class);
+        for (int i = 0; i < SAMPLES; i++) {
+            counts.merge(profileService.nextPlan().fault(), 1, Integer::sum);
+        }
+
+        assertThat(counts.get(MockPgProfileService.Fault.ERROR) / (double) SAMPLES).isCloseTo(0.2, within(0.02));
+        assertThat(counts.get(MockPgProfileService.Fault.TIMEOUT) / (double) SAMPLES).isCloseTo(0.1, within(0.02));
+        assertThat(counts.get(MockPgProfileService.Fault.SLOW_BODY) / (double) SAMPLES).isCloseTo(0.1, within(0.02));
+        assertThat(counts.get(MockPgProfileService.Fault.NONE) / (double) SAMPLES).isCloseTo(0.6, within(0.02));
+    }
+
+    @Test
+    @DisplayName("🟢 프리셋 전환 즉시 반영 / 🔴 없는 프리셋은 404")
+    void select_shouldSwitchAtRuntime() {
+        profileService.select("outage");
+        assertThat(profileService.current().getName()).isEqualTo("outage");
+        assertThat(profileService.nextPaymentFails()).isTrue();
+
+        assertThatThrownBy(() -> profileService.select("unknown"))
+                .isInstanceOf(NotFoundException.class);
+        assertThat(profileService.current().getName()).isEqualTo("outage");
+    }
+}
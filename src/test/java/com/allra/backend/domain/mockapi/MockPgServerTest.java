@@ -0,0 +1,175 @@
+package com.allra.backend.domain.mockapi;
+
+import com.allra.backend.domain.mockapi.codec.MockPgCodec;
+import com.allra.backend.domain.mockapi.codec.MockPgWireFormat;
+import com.allra.backend.domain.mockapi.dto.MockApiOrderDto;
+import com.allra.backend.domain.mockapi.dto.MockApiPaymentDto;
+import com.allra.backend.domain.mockapi.dto.MockPgProfileDto;
+import com.allra.backend.domain.mockapi.server.MockPgServer;
+import com.allra.backend.domain.mockapi.service.MockApiService;
+import com.allra.backend.domain.mockapi.service.MockPaymentCompletionScheduler;
+import com.allra.backend.domain.mockapi.service.MockPaymentStatusStore;
+import com.allra.backend.domain.mockapi.service.MockPgCallbackClient;
+import com.allra.backend.domain.mockapi.service.MockPgProfileService;
+import com.allra.backend.global.id.SnowflakeIdGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ✅ MockPgServerTest
+ *
+ * 독립 실행 Mock PG 서버(Reactor Netty)가 MockApiController 와 같은 경로 / 응답으로 동작하고,
+ * 프로파일의 장애 주입(5xx)을 적용하는지, JSON / CBOR 본문을 모두 처리하는지 검증합니다. (임의 포트로 기동)
+ */
+public class MockPgServerTest {
+
+    private MockPgProfileService profileService;
+    private MockPaymentCompletionScheduler completionScheduler;
+    private MockPgCodec codec;
+    private MockPgServer server;
+    private WebClient client;
+
+    @BeforeEach
+    void setUp() {
+        profileService = new MockPgProfileService("fast");
+        completionScheduler = new MockPaymentCompletionScheduler(Duration.ofMillis(10), 64, 0);
+        MockPaymentStatusStore statusStore = new MockPaymentStatusStore(
+                1000, Duration.ofMinutes(30), Duration.ofHours(1), new SimpleMeterRegistry());
+        MockApiService mockApiService = new MockApiService(
+                completionScheduler, profileService, statusStore, new SnowflakeIdGenerator(0),
+                MockPgCallbackClient.disabled());
+
+        codec = new MockPgCodec(new ObjectMapper());
+        server = new MockPgServer(mockApiService, profileService, codec,
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                0, 2, 1024, Duration.ofSeconds(30));
+        int port = server.start().port();
+        client = WebClient.builder().baseUrl("http://localhost:" + port).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+        completionScheduler.stop();
+    }
+
+    private MockApiPaymentDto.MockPayResponse result(String orderId) {
+        return client.get().uri("/api/mock/payment/result/{orderId}", orderId)
+                .retrieve().bodyToMono(MockApiPaymentDto.MockPayResponse.class).block(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("🟢 결제 요청 → PENDING 응답, 완료 지연 후 결과 조회 시 최종 상태")
+    void paymentFlow() throws Exception {
+        // when
+        MockApiPaymentDto.MockPayResponse paid = client.post().uri("/api/mock/payment")
+                .bodyValue(new MockApiPaymentDto.MockPayRequest("ORD_SERVER_1", 1000))
+                .retrieve().bodyToMono(MockApiPaymentDto.MockPayResponse.class).block(Duration.ofSeconds(5));
+
+        // then
+        assertThat(paid.getStatus()).isEqualTo("PENDING");
+        assertThat(result("ORD_SERVER_1").getStatus()).isEqualTo("PENDING");
+
+        // fast 프로파일 완료 지연 500ms
+        Thread.sleep(1000);
+        assertThat(result("ORD_SERVER_1").getStatus()).isIn("SUCCESS", "FAILED");
+    }
+
+    @Test
+    @DisplayName("🟢 여러 연결에서 동시에 요청해도 모두 응답한다")
+    void concurrentRequests() {
+        // when
+        List<String> statuses = Flux.range(0, 500)
+                .flatMap(i -> client.post().uri("/api/mock/payment")
+                        .bodyValue(new MockApiPaymentDto.MockPayRequest("ORD_CONCURRENT_" + i, 1000))
+                        .retrieve().bodyToMono(MockApiPaymentDto.MockPayResponse.class), 200)
+                .map(MockApiPaymentDto.MockPayResponse::getStatus)
+                .collectList()
+                .block(Duration.ofSeconds(30));
+
+        // then
+        assertThat(statuses).hasSize(500).containsOnly("PENDING");
+    }
+
+    @Test
+    @DisplayName("🟢 Content-Type / Accept 가 application/cbor 이면 CBOR 로 주고받는다")
+    void cborRoundTrip() {
+        // given
+        WebClient cborClient = codec.configure(client.mutate(), MockPgWireFormat.CBOR).build();
+        MockApiOrderDto.MockOrderCreateRequestDto request = new MockApiOrderDto.MockOrderCreateRequestDto(
+                1L, List.of(new MockApiOrderDto.MockOrderLineItem(10L, 2, 5000)), 10000L);
+
+        // when
+        String contentType = cborClient.post().uri("/api/mock/order")
+                .bodyValue(request)
+                .exchangeToMono(response -> Mono.justOrEmpty(response.headers().contentType().map(Object::toString)))
+                .block(Duration.ofSeconds(5));
+        MockApiOrderDto.MockOrderCreateResponseDto created = cborClient.post().uri("/api/mock/order")
+                .bodyValue(request)
+                .retrieve().bodyToMono(MockApiOrderDto.MockOrderCreateResponseDto.class).block(Duration.ofSeconds(5));
+
+        // then
+        assertThat(contentType).isEqualTo("application/cbor");
+        assertThat(created.getStatus()).isEqualTo("CREATED");
+        assertThat(created.getOrderId()).startsWith("ORD_");
+    }
+
+    @Test
+    @DisplayName("🔴 프로파일 errorRate=1 이면 요청을 처리하지 않고 설정한 5xx 로 응답한다")
+    void injectedError() {
+        // given
+        profileService.apply(MockPgProfileDto.Profile.builder()
+                .name("all-errors")
+                .responseLatency(MockPgProfileDto.Latency.fixed(0))
+                .completionLatency(MockPgProfileDto.Latency.fixed(0))
+                .errorRate(1.0)
+                .errorStatus(502)
+                .build());
+
+        // when
+        HttpStatusCode status = client.post().uri("/api/mock/payment")
+                .bodyValue(new MockApiPaymentDto.MockPayRequest("ORD_ERROR_1", 1000))
+                .exchangeToMono(response -> Mono.just(response.statusCode()))
+                .block(Duration.ofSeconds(5));
+
+        // then
+        assertThat(status).isEqualTo(HttpStatus.BAD_GATEWAY);
+        profileService.select("fast");
+        assertThat(result("ORD_ERROR_1").getStatus()).isEqualTo("NOT_FOUND");
+    }
+
+    @Test
+    @DisplayName("🔴 잘못된 JSON 은 400, 없는 프리셋은 404 로 응답한다")
+    void badRequests() {
+        // when
+        HttpStatusCode badJson = client.post().uri("/api/mock/payment")
+                .header("Content-Type", "application/json")
+                .bodyValue("{not-json")
+                .exchangeToMono(response -> Mono.just(response.statusCode()))
+                .block(Duration.ofSeconds(5));
+        HttpStatusCode unknownPreset = client.put().uri("/api/mock/admin/profile/{name}", "unknown")
+                .exchangeToMono(response -> Mono.just(response.statusCode()))
+                .block(Duration.ofSeconds(5));
+
+        // then
+        assertThat(badJson).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(unknownPreset).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+}
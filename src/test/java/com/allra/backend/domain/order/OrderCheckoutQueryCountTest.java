@@ -0,0 +1,89 @@
+package com.allra.backend.domain.order;
+
+import com.allra.backend.support.CheckoutTestSupport;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ✅ OrderCheckoutQueryCountTest
+ *
+ * 주문 생성(체크아웃)의 조회 SQL 수가 장바구니 상품 수와 관계없이 일정한지 검증합니다.
+ * - 장바구니(+장바구니 항목) 1회, 상품 IN 조회 1회
+ * - 주문 / 주문 상세 / 재고 예약 INSERT 는 IDENTITY 전략이라 상품 수만큼 발생하므로 조회 수에서 제외
+ * - 재고 예약 UPDATE 는 JDBC 배치(ProductStockRepository)라 Hibernate 통계에 포함되지 않음
+ * PG 호출(PaymentService)은 CheckoutTestSupport 의 Mock 으로 대체합니다.
+ */
+public class OrderCheckoutQueryCountTest extends CheckoutTestSupport {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        statistics.setStatisticsEnabled(false);
+    }
+
+    /** 상품 itemCount 개가 담긴 장바구니를 가진 사용자 생성 */
+    private Long userWithItems(int itemCount) {
+        Map<Long, Integer> items = new LinkedHashMap<>();
+        for (int i = 0; i < itemCount; i++) {
+            items.put(givenProduct("쿼리카운트 상품 " + i, 100), 1);
+        }
+        return userWithCart(items);
+    }
+
+    /** 주문 생성 1회 동안 실행된 조회 SQL 수 (전체 Statement - INSERT / UPDATE / DELETE) */
+    private long checkoutSelectCount(Long userId) {
+        statistics.clear();
+        checkout(userId);
+        return statistics.getPrepareStatementCount()
+                - statistics.getEntityInsertCount()
+                - statistics.getEntityUpdateCount()
+                - statistics.getEntityDeleteCount();
+    }
+
+    @Test
+    @DisplayName("🟢 장바구니 상품 1개 / 20개 모두 조회 SQL 2회 (장바구니 1 + 상품 IN 1)")
+    void createOrder_shouldIssueConstantSelects() {
+        // given
+        Long singleItemUser = userWithItems(1);
+        Long manyItemsUser = userWithItems(20);
+
+        // when
+        long single = checkoutSelectCount(singleItemUser);
+        long inserts = statistics.getEntityInsertCount();
+        long many = checkoutSelectCount(manyItemsUser);
+
+        // then
+        assertThat(single).isEqualTo(2);
+        assertThat(many).isEqualTo(single);
+        assertThat(inserts).isEqualTo(3);                           // 주문 1 + 주문 상세 1 + 예약 1
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(41); // 주문 1 + 주문 상세 20 + 예약 20
+        assertThat(transactionTemplate.execute(status -> entityManager
+                .createQuery("select count(i) from OrderItemEntity i where i.order.user.id = :userId", Long.class)
+                .setParameter("userId", manyItemsUser)
+                .getSingleResult()))
+                .isEqualTo(20L);
+    }
+}
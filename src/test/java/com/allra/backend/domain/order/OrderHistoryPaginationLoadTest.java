@@ -0,0 +1,200 @@
+package com.allra.backend.domain.order;
+
+import com.allra.backend.domain.order.dto.OrderDto;
+import com.allra.backend.domain.order.repository.OrderHistoryRepository;
+import com.allra.backend.domain.product.entity.ProductEntity;
+import com.allra.backend.domain.user.entity.UserEntity;
+
+import jakarta.persistence.EntityManager;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ✅ OrderHistoryPaginationLoadTest (부하 테스트 — ./gradlew loadTest 로 실행)
+ *
+ * 사용자 1명의 주문 10^6 건(주문 상세 1건씩)에서 주문 내역 한 페이지 조회 시간을 비교합니다.
+ * - 키셋 : OrderHistoryRepository (커서 이후 limit 건)
+ * - OFFSET : 같은 프로젝션의 LIMIT / OFFSET 쿼리 (앞선 OFFSET 건을 모두 읽고 버림)
+ * 첫 페이지와 깊은 페이지(90만 번째 행 이후)를 각각 측정하며, 주문 일시는 2건씩 같게 넣어 id 로 순서를 구분합니다.
+ */
+@Tag("load")
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class OrderHistoryPaginationLoadTest {
+
+    private static final int ORDERS = 1_000_000;
+    private static final int BATCH = 10_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int DEEP_OFFSET = 900_000;
+    private static final int WARMUP = 5;
+    private static final int RUNS = 20;
+
+    private static final String OFFSET_SQL = """
+            SELECT o.id, (SELECT COUNT(*) FROM order_item i WHERE i.order_id = o.id)
+            FROM orders o
+            WHERE o.user_id = ?
+            ORDER BY o.order_date DESC, o.id DESC
+            LIMIT ? OFFSET ?
+            """;
+
+    @Autowired
+    private OrderHistoryRepository orderHistoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long userId;
+    private Long productId;
+
+    @BeforeAll
+    void setUp() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            UserEntity user = UserEntity.builder()
+                    .name("주문내역 부하")
+                    .email("order-history-load-" + System.nanoTime() + "@test.com")
+                    .createdAt(now)
+                    .build();
+            entityManager.persist(user);
+            ProductEntity product = ProductEntity.builder()
+                    .name("주문내역 부하 상품")
+                    .category("부하테스트")
+                    .price(1000)
+                    .stock(0)
+                    .soldOut(true)
+                    .createdAt(now)
+                    .build();
+            entityManager.persist(product);
+            userId = user.getId();
+            productId = product.getId();
+        });
+
+        // 주문 / 주문 상세 일괄 INSERT (JDBC 배치)
+        long startedAt = System.nanoTime();
+        LocalDateTime base = LocalDateTime.now().minusYears(1).withNano(0);
+        for (int from = 0; from < ORDERS; from += BATCH) {
+            int start = from;
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO orders (user_id, total_price, status, order_date) VALUES (?, ?, 'SUCCESS', ?)",
+                    IntStream.range(start, start + BATCH)
+                            .mapToObj(i -> new Object[] {userId, 1000, Timestamp.valueOf(base.plusSeconds(i / 2))})
+                            .toList());
+        }
+        jdbcTemplate.update("INSERT INTO order_item (order_id, product_id, quantity, price) "
+                + "SELECT id, ?, 1, 1000 FROM orders WHERE user_id = ?", productId, userId);
+        System.out.printf("[LoadTest] seeded orders=%d, items=%d in %dms%n",
+                ORDERS, ORDERS, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    @AfterAll
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM order_item WHERE order_id IN (SELECT id FROM orders WHERE user_id = ?)", userId);
+        jdbcTemplate.update("DELETE FROM orders WHERE user_id = ?", userId);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            entityManager.createQuery("delete from ProductEntity p where p.id = :productId")
+                    .setParameter("productId", productId).executeUpdate();
+            entityManager.createQuery("delete from UserEntity u where u.id = :userId")
+                    .setParameter("userId", userId).executeUpdate();
+        });
+    }
+
+    private List<Long> keysetPage(OrderDto.OrderHistoryCursor cursor) {
+        return orderHistoryRepository.findPageByUserId(userId, cursor, PAGE_SIZE).stream()
+                .map(OrderDto.OrderHistoryResponseDto::getOrderId)
+                .toList();
+    }
+
+    private List<Long> offsetPage(int offset) {
+        return jdbcTemplate.query(OFFSET_SQL, (rs, rowNum) -> rs.getLong(1), userId, PAGE_SIZE, offset);
+    }
+
+    /** 중앙값 (µs) */
+    private long medianMicros(Supplier<List<Long>> page) {
+        for (int i = 0; i < WARMUP; i++) {
+            page.get();
+        }
+        long[] samples = new long[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            long startedAt = System.nanoTime();
+            assertThat(page.get()).hasSize(PAGE_SIZE);
+            samples[i] = (System.nanoTime() - startedAt) / 1_000;
+        }
+        Arrays.sort(samples);
+        return samples[RUNS / 2];
+    }
+
+    @Test
+    @DisplayName("🟢 주문 10^6 건 — 깊은 페이지에서 키셋이 OFFSET 보다 빠르고 같은 행을 반환한다")
+    void keysetPage_shouldBeatOffsetOnDeepPages() {
+        // given — 90만 번째 행을 커서로 (직전 페이지 마지막 행)
+        OrderDto.OrderHistoryCursor deepCursor = jdbcTemplate.queryForObject(
+                "SELECT order_date, id FROM orders WHERE user_id = ? ORDER BY order_date DESC, id DESC LIMIT 1 OFFSET ?",
+                (rs, rowNum) -> new OrderDto.OrderHistoryCursor(
+                        rs.getTimestamp(1).toLocalDateTime(), rs.getLong(2)),
+                userId, DEEP_OFFSET - 1);
+
+        // when
+        long keysetFirst = medianMicros(() -> keysetPage(null));
+        long offsetFirst = medianMicros(() -> offsetPage(0));
+        long keysetDeep = medianMicros(() -> keysetPage(deepCursor));
+        long offsetDeep = medianMicros(() -> offsetPage(DEEP_OFFSET));
+
+        // then
+        System.out.printf("[LoadTest] orders=%d, pageSize=%d, runs=%d (median)%n", ORDERS, PAGE_SIZE, RUNS);
+        System.out.printf("[LoadTest] first page            : keyset=%dµs, offset=%dµs%n", keysetFirst, offsetFirst);
+        System.out.printf("[LoadTest] deep page (%d) : keyset=%dµs, offset=%dµs%n",
+                DEEP_OFFSET, keysetDeep, offsetDeep);
+
+        assertThat(keysetPage(null)).containsExactlyElementsOf(offsetPage(0));
+        assertThat(keysetPage(deepCursor)).containsExactlyElementsOf(offsetPage(DEEP_OFFSET));
+        assertThat(keysetDeep).isLessThan(offsetDeep);
+    }
+
+    @Test
+    @DisplayName("🟢 커서로 이어 받은 페이지끼리 겹치지 않는다 (같은 주문 일시 경계 포함)")
+    void keysetPages_shouldNotOverlap() {
+        // when
+        List<Long> ids = new ArrayList<>();
+        OrderDto.OrderHistoryCursor cursor = null;
+        for (int page = 0; page < 50; page++) {
+            List<OrderDto.OrderHistoryResponseDto> rows =
+                    orderHistoryRepository.findPageByUserId(userId, cursor, PAGE_SIZE);
+            ids.addAll(rows.stream().map(OrderDto.OrderHistoryResponseDto::getOrderId).toList());
+            cursor = OrderDto.OrderHistoryCursor.of(rows.get(rows.size() - 1));
+        }
+
+        // then
+        assertThat(ids).doesNotHaveDuplicates().hasSize(50 * PAGE_SIZE);
+        assertThat(ids).containsExactlyElementsOf(
+                jdbcTemplate.queryForList("SELECT id FROM orders WHERE user_id = ? "
+                        + "ORDER BY order_date DESC, id DESC LIMIT ?", Long.class, userId, 50 * PAGE_SIZE));
+    }
+}
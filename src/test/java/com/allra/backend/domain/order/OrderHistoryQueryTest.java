@@ -0,0 +1,200 @@
+package com.allra.backend.domain.order;
+
+import com.allra.backend.domain.order.dto.OrderDto;
+import com.allra.backend.domain.order.entity.OrderEntity;
+import com.allra.backend.domain.order.entity.OrderItemEntity;
+import com.allra.backend.domain.order.entity.OrderStatus;
+import com.allra.backend.domain.order.service.OrderHistoryService;
+import com.allra.backend.domain.product.entity.ProductEntity;
+import com.allra.backend.domain.user.entity.UserEntity;
+import com.allra.backend.global.dto.CursorResponseDto;
+import com.allra.backend.global.exception.BusinessException;
+import com.allra.backend.global.exception.NotFoundException;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ✅ OrderHistoryQueryTest
+ *
+ * 사용자 주문 내역 커서 페이지네이션을 검증합니다.
+ * - 최신순 (orderDate DESC, id DESC) 으로 누락 / 중복 없이 끝까지 조회 (같은 주문 일시는 id 로 구분)
+ * - 주문 상세 수 / 총액이 DTO 에 바로 담기고, 페이지당 SQL 은 존재 확인 1 + 목록 1 (엔티티 로딩 없음)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class OrderHistoryQueryTest {
+
+    private static final int ORDERS = 25;
+
+    @Autowired
+    private OrderHistoryService orderHistoryService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+    private Long userId;
+    private Long otherUserId;
+    private Long productId;
+
+    /** 생성 순서대로 주문 ID (주문 i 는 상품 i % 3 + 1 개) */
+    private final List<Long> orderIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now().withNano(0);
+            UserEntity user = user("주문내역", now);
+            UserEntity other = user("다른 사용자", now);
+            ProductEntity product = ProductEntity.builder()
+                    .name("주문내역 상품")
+                    .category("주문내역")
+                    .price(1000)
+                    .stock(100)
+                    .soldOut(false)
+                    .createdAt(now)
+                    .build();
+            entityManager.persist(product);
+
+            for (int i = 0; i < ORDERS; i++) {
+                // 주문 3건씩 같은 주문 일시 → 커서 경계에서 id 로 구분해야 함
+                OrderEntity order = order(user, now.minusMinutes(ORDERS - i / 3));
+                for (int j = 0; j <= i % 3; j++) {
+                    order.addItem(OrderItemEntity.builder().product(product).quantity(j + 1).price(1000).build());
+                }
+                order.calculateTotalPrice();
+                entityManager.persist(order);
+                orderIds.add(order.getId());
+            }
+            entityManager.persist(order(other, now));
+
+            userId = user.getId();
+            otherUserId = other.getId();
+            productId = product.getId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        statistics.setStatisticsEnabled(false);
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Long> userIds = List.of(userId, otherUserId);
+            entityManager.createQuery("delete from OrderItemEntity i where i.order.id in "
+                    + "(select o.id from OrderEntity o where o.user.id in :userIds)")
+                    .setParameter("userIds", userIds).executeUpdate();
+            entityManager.createQuery("delete from OrderEntity o where o.user.id in :userIds")
+                    .setParameter("userIds", userIds).executeUpdate();
+            entityManager.createQuery("delete from ProductEntity p where p.id = :productId")
+                    .setParameter("productId", productId).executeUpdate();
+            entityManager.createQuery("delete from UserEntity u where u.id in :userIds")
+                    .setParameter("userIds", userIds).executeUpdate();
+        });
+    }
+
+    private UserEntity user(String name, LocalDateTime now) {
+        UserEntity user = UserEntity.builder()
+                .name(name)
+                .email("order-history-" + System.nanoTime() + "@test.com")
+                .createdAt(now)
+                .build();
+        entityManager.persist(user);
+        return user;
+    }
+
+    private OrderEntity order(UserEntity user, LocalDateTime orderDate) {
+        return OrderEntity.builder()
+                .user(user)
+                .status(OrderStatus.SUCCESS)
+                .orderDate(orderDate)
+                .build();
+    }
+
+    @Test
+    @DisplayName("🟢 커서로 끝까지 조회 — 최신순, 누락 / 중복 없음, 상세 수 / 총액 포함, 페이지당 SQL 2회")
+    void getOrderHistory_shouldWalkAllPagesWithoutEntityLoads() {
+        // given
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        List<OrderDto.OrderHistoryResponseDto> rows = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+
+        // when
+        do {
+            CursorResponseDto<OrderDto.OrderHistoryResponseDto> page =
+                    orderHistoryService.getOrderHistory(userId, cursor, 10);
+            rows.addAll(page.getRow());
+            cursor = page.getCursorInfo().getNextCursor();
+            assertThat(page.getCursorInfo().isHasNext()).isEqualTo(cursor != null);
+            pages++;
+        } while (cursor != null);
+
+        // then
+        assertThat(pages).isEqualTo(3);
+        assertThat(rows).extracting(OrderDto.OrderHistoryResponseDto::getOrderId)
+                .containsExactlyElementsOf(orderIds.reversed());
+        OrderDto.OrderHistoryResponseDto newest = rows.get(0); // 주문 24 → 상품 1개
+        assertThat(newest.getItemCount()).isEqualTo(1L);
+        assertThat(newest.getTotalPrice()).isEqualTo(1000);
+        OrderDto.OrderHistoryResponseDto third = rows.get(2);  // 주문 22 → 상품 2개 (1 + 2 개)
+        assertThat(third.getItemCount()).isEqualTo(2L);
+        assertThat(third.getTotalPrice()).isEqualTo(3000);
+
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(pages * 2L);
+    }
+
+    @Test
+    @DisplayName("🟢 size 가 전체 건수보다 크면 한 페이지, nextCursor 없음")
+    void getOrderHistory_lastPage_shouldHaveNoCursor() {
+        // when
+        CursorResponseDto<OrderDto.OrderHistoryResponseDto> page =
+                orderHistoryService.getOrderHistory(otherUserId, null, 20);
+
+        // then
+        assertThat(page.getRow()).hasSize(1);
+        assertThat(page.getRow().get(0).getItemCount()).isZero();
+        assertThat(page.getCursorInfo().isHasNext()).isFalse();
+        assertThat(page.getCursorInfo().getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("🔴 존재하지 않는 사용자 → NotFoundException, 잘못된 커서 → BusinessException")
+    void getOrderHistory_invalidInput_shouldThrow() {
+        assertThatThrownBy(() -> orderHistoryService.getOrderHistory(-1L, null, 20))
+                .isInstanceOf(NotFoundException.class);
+        assertThatThrownBy(() -> orderHistoryService.getOrderHistory(userId, "not-a-cursor", 20))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("잘못된 주문 내역 커서입니다.");
+    }
+}
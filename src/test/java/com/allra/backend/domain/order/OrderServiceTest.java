@@ -3,25 +3,44 @@ package com.allra.backend.domain.order;
 import com.allra.backend.domain.cart.entity.CartEntity;
 import com.allra.backend.domain.cart.entity.CartItemEntity;
 import com.allra.backend.domain.cart.repository.CartRepository;
+import com.allra.backend.domain.inventory.service.StockReservationService;
 import com.allra.backend.domain.order.entity.OrderEntity;
+import com.allra.backend.domain.order.entity.OrderStatus;
 import com.allra.backend.domain.order.repository.OrderRepository;
+import com.allra.backend.domain.order.service.OrderCompletionService;
 import com.allra.backend.domain.order.service.OrderService;
+import com.allra.backend.domain.order.service.PaymentEventRegistry;
 import com.allra.backend.domain.payment.dto.PaymentResultDto;
+import com.allra.backend.domain.payment.entity.PaymentOutboxEntity;
+import com.allra.backend.domain.payment.entity.PaymentOutboxStatus;
+import com.allra.backend.domain.payment.exception.PaymentErrorCode;
+import com.allra.backend.domain.payment.exception.PaymentException;
+import com.allra.backend.domain.payment.repository.PaymentOutboxRepository;
 import com.allra.backend.domain.payment.service.PaymentService;
 import com.allra.backend.domain.product.entity.ProductEntity;
 import com.allra.backend.domain.product.repository.ProductRepository;
 import com.allra.backend.domain.user.entity.UserEntity;
 import com.allra.backend.global.exception.BusinessException;
+import com.allra.backend.global.transaction.JpaExecutor;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.mockito.Mockito.*;
 import static org.assertj.core.api.Assertions.*;
@@ -46,12 +65,27 @@ public class OrderServiceTest {
     @Mock
     private OrderRepository orderRepository;
 
-    @InjectMocks
+    @Mock
+    private PaymentOutboxRepository paymentOutboxRepository;
+
+    @Mock
+    private OrderCompletionService orderCompletionService;
+
+    @Mock
+    private StockReservationService stockReservationService;
+
+    private PaymentEventRegistry paymentEventRegistry;
+
     private OrderService orderService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        // 트랜잭션 매니저는 Mock, 스케줄러는 호출 스레드에서 즉시 실행
+        JpaExecutor jpaExecutor = new JpaExecutor(mock(PlatformTransactionManager.class), Schedulers.immediate());
+        paymentEventRegistry = new PaymentEventRegistry();
+        orderService = new OrderService(cartRepository, productRepository, paymentService, orderRepository, jpaExecutor,
+                paymentOutboxRepository, orderCompletionService, paymentEventRegistry, stockReservationService);
     }
 
     @Test
@@ -72,17 +106,17 @@ public class OrderServiceTest {
         cart.setUser(user);
         cart.setItems(List.of(cartItem));
 
-        when(cartRepository.findUserCartsByUserId(userId)).thenReturn(List.of(cart));
-        when(productRepository.findById(product.getId())).thenReturn(Optional.of(product));
+        when(cartRepository.findUserCartsWithItemsByUserId(userId)).thenReturn(List.of(cart));
+        when(productRepository.findAllByIds(any())).thenReturn(List.of(product));
         when(orderRepository.save(any(OrderEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
         when(paymentService.createOrder(any(), any(), anyInt(), any(OrderEntity.class)))
-                .thenReturn(PaymentResultDto.OrderCreateResponse.builder()
+                .thenReturn(Mono.just(PaymentResultDto.OrderCreateResponse.builder()
                         .status("PENDING")
                         .message("Mock Payment Initialized")
-                        .build());
+                        .build()));
 
         // when
-        PaymentResultDto.OrderCreateResponse result = orderService.createOrder(userId);
+        PaymentResultDto.OrderCreateResponse result = orderService.createOrder(userId).block();
 
         // then
         assertThat(result).isNotNull();
@@ -94,13 +128,13 @@ public class OrderServiceTest {
     @Test
     @DisplayName("🔴 장바구니가 비어있을 경우 BusinessException 발생")
     void createOrder_whenCartEmpty_shouldThrowException() {
-        when(cartRepository.findUserCartsByUserId(1L)).thenReturn(List.of());
+        when(cartRepository.findUserCartsWithItemsByUserId(1L)).thenReturn(List.of());
 
-        assertThatThrownBy(() -> orderService.createOrder(1L))
+        assertThatThrownBy(() -> orderService.createOrder(1L).block())
                 .isInstanceOf(BusinessException.class)
                 .hasMessageContaining("장바구니가 비어 있습니다");
 
-        verify(cartRepository, times(1)).findUserCartsByUserId(1L);
+        verify(cartRepository, times(1)).findUserCartsWithItemsByUserId(1L);
     }
 
     @Test
@@ -115,11 +149,165 @@ public class OrderServiceTest {
         CartEntity cart = new CartEntity();
         cart.setItems(List.of(cartItem));
 
-        when(cartRepository.findUserCartsByUserId(userId)).thenReturn(List.of(cart));
-        when(productRepository.findById(product.getId())).thenReturn(Optional.empty());
+        when(cartRepository.findUserCartsWithItemsByUserId(userId)).thenReturn(List.of(cart));
+        when(productRepository.findAllByIds(any())).thenReturn(List.of());
 
-        assertThatThrownBy(() -> orderService.createOrder(userId))
+        assertThatThrownBy(() -> orderService.createOrder(userId).block())
                 .isInstanceOf(BusinessException.class)
                 .hasMessageContaining("상품을 찾을 수 없습니다");
     }
+
+    @Test
+    @DisplayName("🔴 PG 주문 생성 실패 시 저장해 둔 주문을 FAILED 로 보상 처리")
+    void createOrder_whenPgFails_shouldMarkOrderFailed() {
+        Long userId = 1L;
+        ProductEntity product = ProductEntity.builder()
+                .id(10L).name("테스트상품").price(10000).stock(10).soldOut(false).build();
+        CartItemEntity cartItem = new CartItemEntity();
+        cartItem.setProduct(product);
+        cartItem.setQuantity(1);
+        CartEntity cart = new CartEntity();
+        cart.setItems(List.of(cartItem));
+
+        when(cartRepository.findUserCartsWithItemsByUserId(userId)).thenReturn(List.of(cart));
+        when(productRepository.findAllByIds(any())).thenReturn(List.of(product));
+        AtomicReference<OrderEntity> savedOrder = new AtomicReference<>();
+        when(orderRepository.save(any(OrderEntity.class))).thenAnswer(invocation -> {
+            OrderEntity saved = invocation.getArgument(0);
+            saved.setId(100L);
+            savedOrder.set(saved);
+            return saved;
+        });
+        when(orderRepository.findById(100L)).thenAnswer(invocation -> Optional.ofNullable(savedOrder.get()));
+        when(paymentService.createOrder(any(), any(), anyInt(), any(OrderEntity.class)))
+                .thenReturn(Mono.error(new PaymentException(PaymentErrorCode.MOCK_API_RESPONSE_NULL)));
+
+        assertThatThrownBy(() -> orderService.createOrder(userId).block())
+                .isInstanceOf(PaymentException.class);
+
+        assertThat(savedOrder.get().getStatus()).isEqualTo(OrderStatus.FAILED);
+    }
+
+    @Test
+    @DisplayName("🔴 PG 결제 요청 실패 시 결제 의도를 되돌려 CREATED 상태로 복구")
+    void processPayment_whenPgFails_shouldRevertToCreated() {
+        String orderId = "ORD_FAIL";
+        OrderEntity order = OrderEntity.builder().id(1L).mockOrderId(orderId).totalPrice(10000).build();
+
+        when(orderRepository.findByMockOrderId(orderId)).thenReturn(Optional.of(order));
+        when(paymentService.processPayment(orderId, 10000))
+                .thenReturn(Mono.error(new PaymentException(PaymentErrorCode.MOCK_PAYMENT_FAILED)));
+
+        assertThatThrownBy(() -> orderService.processPayment(orderId).block())
+                .isInstanceOf(PaymentException.class);
+
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.CREATED);
+    }
+
+    @Test
+    @DisplayName("🔴 PG 가 접수 후 보상 취소한 결제는 CREATED 로 되돌리지 않음 (같은 PG 주문 재시도 방지)")
+    void processPayment_whenCanceledAtPg_shouldNotRevert() {
+        String orderId = "ORD_CANCELED_AT_PG";
+        OrderEntity order = OrderEntity.builder().id(1L).mockOrderId(orderId).totalPrice(10000).build();
+
+        when(orderRepository.findByMockOrderId(orderId)).thenReturn(Optional.of(order));
+        when(paymentService.processPayment(orderId, 10000)).thenAnswer(invocation -> {
+            order.updateStatus(OrderStatus.CANCELED); // PaymentService 보상에서 종료
+            return Mono.error(new PaymentException(PaymentErrorCode.PAYMENT_RECORD_FAILED));
+        });
+
+        assertThatThrownBy(() -> orderService.processPayment(orderId).block())
+                .isInstanceOf(PaymentException.class);
+
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.CANCELED);
+        verify(orderRepository, times(1)).findByMockOrderId(orderId);
+    }
+
+    @Test
+    @DisplayName("🔴 이미 결제가 진행 중인 주문은 다시 결제 요청할 수 없음")
+    void processPayment_whenAlreadyPending_shouldThrowException() {
+        String orderId = "ORD_PENDING";
+        OrderEntity order = OrderEntity.builder().id(1L).mockOrderId(orderId)
+                .totalPrice(10000).status(OrderStatus.PENDING).build();
+
+        when(orderRepository.findByMockOrderId(orderId)).thenReturn(Optional.of(order));
+
+        assertThatThrownBy(() -> orderService.processPayment(orderId).block())
+                .isInstanceOf(BusinessException.class);
+
+        verify(paymentService, never()).processPayment(anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("🟢 아웃박스 모드 - 결제 의도와 아웃박스를 저장하고 PG 호출 없이 즉시 응답")
+    void processPayment_withOutbox_shouldEnqueueWithoutCallingPg() {
+        ReflectionTestUtils.setField(orderService, "outboxEnabled", true);
+
+        String orderId = "ORD_OUTBOX";
+        OrderEntity order = OrderEntity.builder().id(1L).mockOrderId(orderId)
+                .totalPrice(10000).status(OrderStatus.CREATED).build();
+
+        when(orderRepository.findByMockOrderId(orderId)).thenReturn(Optional.of(order));
+
+        PaymentResultDto.OrderResultResponse result = orderService.processPayment(orderId).block();
+
+        assertThat(result.getStatus()).isEqualTo("PENDING");
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.PENDING);
+
+        ArgumentCaptor<PaymentOutboxEntity> captor = ArgumentCaptor.forClass(PaymentOutboxEntity.class);
+        verify(paymentOutboxRepository).save(captor.capture());
+        assertThat(captor.getValue().getMockOrderId()).isEqualTo(orderId);
+        assertThat(captor.getValue().getAmount()).isEqualTo(10000);
+        assertThat(captor.getValue().getStatus()).isEqualTo(PaymentOutboxStatus.READY);
+
+        verify(paymentService, never()).processPayment(anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("🟢 결제 결과 대기 - 이미 종료된 주문은 즉시 결과 반환")
+    void awaitPaymentResult_whenFinished_shouldReturnImmediately() {
+        String orderId = "ORD_DONE";
+        OrderEntity order = OrderEntity.builder().id(1L).mockOrderId(orderId).status(OrderStatus.SUCCESS).build();
+
+        when(orderRepository.findByMockOrderId(orderId)).thenReturn(Optional.of(order));
+        when(orderCompletionService.resultOf(order)).thenReturn(PaymentResultDto.OrderResultResponse.builder()
+                .status("SUCCESS").transactionId("txn_ORD_DONE").build());
+
+        PaymentResultDto.OrderResultResponse result = orderService.awaitPaymentResult(orderId).block();
+
+        assertThat(result.getStatus()).isEqualTo("SUCCESS");
+        assertThat(paymentEventRegistry.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("🟢 결제 결과 대기 - 진행 중인 주문은 최종 상태가 발행되는 순간 결과 반환")
+    void awaitPaymentResult_whenPending_shouldEmitOnPublish() throws Exception {
+        String orderId = "ORD_WAIT";
+        OrderEntity order = OrderEntity.builder().id(1L).mockOrderId(orderId).status(OrderStatus.PENDING).build();
+        when(orderRepository.findByMockOrderId(orderId)).thenReturn(Optional.of(order));
+
+        CompletableFuture<PaymentResultDto.OrderResultResponse> waiting =
+                orderService.awaitPaymentResult(orderId).toFuture();
+        assertThat(waiting).isNotDone();
+
+        paymentEventRegistry.publish(orderId, PaymentResultDto.OrderResultResponse.builder().status("FAILED").build());
+
+        assertThat(waiting.get(1, TimeUnit.SECONDS).getStatus()).isEqualTo("FAILED");
+        assertThat(paymentEventRegistry.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("🟡 결제 결과 대기 - 시간 초과 시 PENDING 반환 후 구독 해제")
+    void awaitPaymentResult_whenTimeout_shouldReturnPending() {
+        ReflectionTestUtils.setField(orderService, "paymentEventTimeout", Duration.ofMillis(50));
+
+        String orderId = "ORD_SLOW";
+        OrderEntity order = OrderEntity.builder().id(1L).mockOrderId(orderId).status(OrderStatus.PENDING).build();
+        when(orderRepository.findByMockOrderId(orderId)).thenReturn(Optional.of(order));
+
+        PaymentResultDto.OrderResultResponse result = orderService.awaitPaymentResult(orderId).block();
+
+        assertThat(result.getStatus()).isEqualTo("PENDING");
+        assertThat(paymentEventRegistry.size()).isZero();
+    }
 }
@@ -0,0 +1,148 @@
+package com.allra.backend.domain.payment;
+
+import com.allra.backend.domain.order.entity.OrderEntity;
+import com.allra.backend.domain.order.repository.OrderRepository;
+import com.allra.backend.domain.order.service.OrderCompletionService;
+import com.allra.backend.domain.payment.client.HttpPaymentGatewayClient;
+import com.allra.backend.domain.payment.repository.PaymentLogRepository;
+import com.allra.backend.domain.payment.service.PaymentResultCoalescer;
+import com.allra.backend.domain.payment.service.PaymentService;
+import com.allra.backend.domain.payment.service.PgResilience;
+import com.allra.backend.global.transaction.JpaExecutor;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ✅ PaymentFlowLoadTest (부하 테스트 — ./gradlew loadTest 로 실행)
+ *
+ * PG 응답 지연을 흉내내는 ExchangeFunction 을 WebClient 에 연결하고,
+ * 동일한 워커 스레드 수에서 블로킹(.block()) 방식과 논블로킹(Mono 합성) 방식이
+ * 동시에 진행시킬 수 있는 결제 요청 수와 처리 시간을 비교합니다.
+ */
+@Tag("load")
+public class PaymentFlowLoadTest {
+
+    private static final Duration PG_LATENCY = Duration.ofMillis(300);
+    private static final int WORKER_THREADS = 20;  // Tomcat 워커 스레드 가정
+    private static final int CHECKOUTS = 1000;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    private Scheduler jpaScheduler;
+    private PaymentService paymentService;
+
+    @BeforeEach
+    void setUp() {
+        OrderRepository orderRepository = mock(OrderRepository.class);
+        PaymentLogRepository paymentLogRepository = mock(PaymentLogRepository.class);
+        when(orderRepository.findByMockOrderId(anyString())).thenReturn(Optional.of(new OrderEntity()));
+
+        jpaScheduler = Schedulers.newBoundedElastic(10, 100_000, "jpa-load");
+        JpaExecutor jpaExecutor = new JpaExecutor(mock(PlatformTransactionManager.class), jpaScheduler);
+        WebClient webClient = WebClient.builder().exchangeFunction(delayedPg()).build();
+        paymentService = new PaymentService(paymentLogRepository, orderRepository, jpaExecutor,
+                mock(OrderCompletionService.class),
+                // 처리량 비교가 목적이므로 벌크헤드 한도는 충분히 크게
+                new PgResilience(CircuitBreakerRegistry.ofDefaults(),
+                        BulkheadRegistry.of(BulkheadConfig.custom().maxConcurrentCalls(CHECKOUTS).build())),
+                new PaymentResultCoalescer(new SimpleMeterRegistry()), new HttpPaymentGatewayClient(webClient));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jpaScheduler.dispose();
+    }
+
+    @Test
+    @DisplayName("📈 블로킹 vs 논블로킹 — 동시 진행 가능한 결제 요청 수 비교")
+    void compareConcurrentCheckouts() throws Exception {
+        // 1. 블로킹 모드: 워커 스레드마다 PG 응답까지 .block()
+        long blockingMillis = runBlocking();
+        int blockingMax = maxInFlight.getAndSet(0);
+
+        // 2. 논블로킹 모드: 같은 요청을 Mono 합성으로 동시에 진행
+        long reactiveMillis = runReactive();
+        int reactiveMax = maxInFlight.getAndSet(0);
+
+        System.out.printf("[LoadTest] PG latency=%dms, checkouts=%d, workers=%d%n",
+                PG_LATENCY.toMillis(), CHECKOUTS, WORKER_THREADS);
+        System.out.printf("[LoadTest] blocking : max in-flight=%d, elapsed=%dms, throughput=%.1f/s%n",
+                blockingMax, blockingMillis, CHECKOUTS * 1000.0 / blockingMillis);
+        System.out.printf("[LoadTest] reactive : max in-flight=%d, elapsed=%dms, throughput=%.1f/s%n",
+                reactiveMax, reactiveMillis, CHECKOUTS * 1000.0 / reactiveMillis);
+
+        assertThat(blockingMax).isLessThanOrEqualTo(WORKER_THREADS);
+        assertThat(reactiveMax).isGreaterThan(WORKER_THREADS);
+        assertThat(reactiveMillis).isLessThan(blockingMillis);
+    }
+
+    private long runBlocking() throws Exception {
+        ExecutorService workers = Executors.newFixedThreadPool(WORKER_THREADS);
+        long start = System.nanoTime();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < CHECKOUTS; i++) {
+                String orderId = "ORD_BLOCK_" + i;
+                futures.add(workers.submit(() -> paymentService.processPayment(orderId, 1000).block()));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            workers.shutdown();
+        }
+        return Duration.ofNanos(System.nanoTime() - start).toMillis();
+    }
+
+    private long runReactive() {
+        long start = System.nanoTime();
+        Flux.range(0, CHECKOUTS)
+                .flatMap(i -> paymentService.processPayment("ORD_REACTIVE_" + i, 1000), CHECKOUTS)
+                .blockLast();
+        return Duration.ofNanos(System.nanoTime() - start).toMillis();
+    }
+
+    /** PG_LATENCY 만큼 지연 후 PENDING 응답을 돌려주는 가짜 PG */
+    private ExchangeFunction delayedPg() {
+        return request -> Mono.defer(() -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            return Mono.delay(PG_LATENCY)
+                    .map(tick -> ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body("{\"status\":\"PENDING\",\"transactionId\":\"txn_load\",\"message\":\"Processing...\"}")
+                            .build())
+                    .doFinally(signal -> inFlight.decrementAndGet());
+        });
+    }
+}
@@ -0,0 +1,164 @@
+package com.allra.backend.domain.payment;
+
+import com.allra.backend.domain.mockapi.dto.MockApiPaymentDto;
+import com.allra.backend.domain.order.entity.OrderEntity;
+import com.allra.backend.domain.order.entity.OrderStatus;
+import com.allra.backend.domain.order.repository.OrderRepository;
+import com.allra.backend.domain.order.service.OrderCompletionService;
+import com.allra.backend.domain.payment.dto.PaymentResultDto;
+import com.allra.backend.domain.payment.entity.PaymentOutboxEntity;
+import com.allra.backend.domain.payment.entity.PaymentOutboxStatus;
+import com.allra.backend.domain.payment.exception.PaymentErrorCode;
+import com.allra.backend.domain.payment.exception.PaymentException;
+import com.allra.backend.domain.payment.repository.PaymentOutboxRepository;
+import com.allra.backend.domain.payment.service.PaymentOutboxRelay;
+import com.allra.backend.domain.payment.service.PaymentService;
+import com.allra.backend.global.transaction.JpaExecutor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ✅ PaymentOutboxRelayTest
+ *
+ * 아웃박스 재시도가 PG 에 이미 접수된 결제를 다시 보내지 않고,
+ * PG 에 결제가 없음이 확인될 때만 결제 의도를 되돌리는지 검증합니다.
+ */
+public class PaymentOutboxRelayTest {
+
+    private static final String ORDER_ID = "ORD_OUTBOX";
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Mock private PaymentOutboxRepository paymentOutboxRepository;
+    @Mock private OrderRepository orderRepository;
+    @Mock private PaymentService paymentService;
+    @Mock private OrderCompletionService orderCompletionService;
+
+    private PaymentOutboxRelay relay;
+    private OrderEntity order;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        JpaExecutor jpaExecutor = new JpaExecutor(mock(PlatformTransactionManager.class), Schedulers.immediate());
+        relay = new PaymentOutboxRelay(paymentOutboxRepository, orderRepository, paymentService, jpaExecutor,
+                orderCompletionService);
+
+        ReflectionTestUtils.setField(relay, "batchSize", 10);
+        ReflectionTestUtils.setField(relay, "parallelism", 1);
+        ReflectionTestUtils.setField(relay, "maxAttempts", MAX_ATTEMPTS);
+        ReflectionTestUtils.setField(relay, "lease", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(relay, "backoff", Duration.ofSeconds(1));
+
+        order = OrderEntity.builder().id(1L).mockOrderId(ORDER_ID).totalPrice(10000).status(OrderStatus.PENDING).build();
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
+    }
+
+    /** attempts 번 시도 중인(점유 직전) 아웃박스 행 */
+    private PaymentOutboxEntity claimed(int previousAttempts) {
+        PaymentOutboxEntity row = PaymentOutboxEntity.builder()
+                .id(10L).order(order).mockOrderId(ORDER_ID).amount(10000).attempts(previousAttempts).build();
+        when(paymentOutboxRepository.claimBatch(any(), any(), eq(10))).thenReturn(List.of(row));
+        when(paymentOutboxRepository.findById(10L)).thenReturn(Optional.of(row));
+        return row;
+    }
+
+    private static Mono<MockApiPaymentDto.MockPayResponse> pg(String status) {
+        return Mono.just(MockApiPaymentDto.MockPayResponse.builder()
+                .orderId(ORDER_ID).status(status).transactionId("txn_" + ORDER_ID).build());
+    }
+
+    /** PG 가 이미 접수한 결제의 로그 기록 (PG 응답 그대로 반환) */
+    private void givenRecordAccepted() {
+        when(paymentService.recordAcceptedPayment(eq(ORDER_ID), eq(10000), any())).thenAnswer(invocation -> {
+            MockApiPaymentDto.MockPayResponse pg = invocation.getArgument(2);
+            return Mono.just(PaymentResultDto.OrderResultResponse.builder()
+                    .status(pg.getStatus()).transactionId(pg.getTransactionId()).message(pg.getMessage()).build());
+        });
+    }
+
+    @Test
+    @DisplayName("🟢 재시도 - PG 가 이미 접수한 결제는 다시 보내지 않고 결제 로그를 남긴 뒤 PG 상태를 반영")
+    void relay_retry_whenPgAlreadyAccepted_shouldNotResend() {
+        PaymentOutboxEntity row = claimed(1);
+        when(paymentService.fetchPaymentStatus(ORDER_ID)).thenReturn(pg("SUCCESS"));
+        givenRecordAccepted();
+
+        relay.relay();
+
+        verify(paymentService, never()).processPayment(anyString(), anyInt());
+        verify(paymentService).recordAcceptedPayment(eq(ORDER_ID), eq(10000), any());
+        verify(orderCompletionService).complete(ORDER_ID, "SUCCESS", "txn_" + ORDER_ID, null);
+        assertThat(row.getStatus()).isEqualTo(PaymentOutboxStatus.SENT);
+    }
+
+    @Test
+    @DisplayName("🟢 재시도 - PG 에 결제가 없을 때만 다시 전송")
+    void relay_retry_whenPgHasNoPayment_shouldResend() {
+        claimed(1);
+        when(paymentService.fetchPaymentStatus(ORDER_ID)).thenReturn(pg("NOT_FOUND"));
+        when(paymentService.processPayment(ORDER_ID, 10000)).thenReturn(Mono.empty());
+
+        relay.relay();
+
+        verify(paymentService).processPayment(ORDER_ID, 10000);
+    }
+
+    @Test
+    @DisplayName("🔴 재시도 - PG 상태 조회 실패 시 전송하지 않고 다음 재시도로 넘김")
+    void relay_retry_whenStatusLookupFails_shouldNotResend() {
+        PaymentOutboxEntity row = claimed(1);
+        when(paymentService.fetchPaymentStatus(ORDER_ID))
+                .thenReturn(Mono.error(new PaymentException(PaymentErrorCode.PG_CIRCUIT_OPEN)));
+
+        relay.relay();
+
+        verify(paymentService, never()).processPayment(anyString(), anyInt());
+        assertThat(row.getStatus()).isEqualTo(PaymentOutboxStatus.READY);
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("🔴 최대 재시도 초과 - 응답 시간 초과 뒤 PG 가 결제를 접수했으면 CREATED 로 되돌리지 않음")
+    void relay_lastAttempt_whenPgAccepted_shouldApplyPgState() {
+        claimed(MAX_ATTEMPTS - 1);
+        when(paymentService.fetchPaymentStatus(ORDER_ID)).thenReturn(pg("NOT_FOUND"), pg("PENDING"));
+        givenRecordAccepted();
+        when(paymentService.processPayment(ORDER_ID, 10000))
+                .thenReturn(Mono.error(new PaymentException(PaymentErrorCode.MOCK_PAYMENT_FAILED)));
+
+        relay.relay();
+
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.PENDING);
+        verify(paymentService).recordAcceptedPayment(eq(ORDER_ID), eq(10000), any());
+        verify(orderCompletionService).complete(ORDER_ID, "PENDING", "txn_" + ORDER_ID, null);
+    }
+
+    @Test
+    @DisplayName("🔴 최대 재시도 초과 - PG 에 결제가 없음이 확인되면 CREATED 로 되돌림")
+    void relay_lastAttempt_whenPgHasNoPayment_shouldRevertToCreated() {
+        PaymentOutboxEntity row = claimed(MAX_ATTEMPTS - 1);
+        when(paymentService.fetchPaymentStatus(ORDER_ID)).thenReturn(pg("NOT_FOUND"));
+        when(paymentService.processPayment(ORDER_ID, 10000))
+                .thenReturn(Mono.error(new PaymentException(PaymentErrorCode.MOCK_PAYMENT_FAILED)));
+
+        relay.relay();
+
+        assertThat(row.getStatus()).isEqualTo(PaymentOutboxStatus.FAILED);
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.CREATED);
+        verify(orderCompletionService, never()).complete(anyString(), anyString(), any(), any());
+    }
+}
@@ -0,0 +1,149 @@
+package com.allra.backend.domain.payment;
+
+import com.allra.backend.domain.mockapi.dto.MockApiPaymentDto;
+import com.allra.backend.domain.order.entity.OrderEntity;
+import com.allra.backend.domain.order.entity.OrderStatus;
+import com.allra.backend.domain.order.repository.OrderRepository;
+import com.allra.backend.domain.order.service.OrderCompletionService;
+import com.allra.backend.domain.payment.exception.PaymentErrorCode;
+import com.allra.backend.domain.payment.exception.PaymentException;
+import com.allra.backend.domain.payment.service.PaymentReconciler;
+import com.allra.backend.domain.payment.service.PaymentService;
+import com.allra.backend.global.transaction.JpaExecutor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ✅ PaymentReconcilerTest
+ *
+ * PENDING 주문 결제 대사의 키셋 페이지 순회, 점유, 결과 반영, NOT_FOUND 정리, 적체 지표를 검증합니다.
+ */
+@SuppressWarnings("unchecked")
+public class PaymentReconcilerTest {
+
+    @Mock private OrderRepository orderRepository;
+    @Mock private PaymentService paymentService;
+    @Mock private OrderCompletionService orderCompletionService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PaymentReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        JpaExecutor jpaExecutor = new JpaExecutor(mock(PlatformTransactionManager.class), Schedulers.immediate());
+        reconciler = new PaymentReconciler(orderRepository, paymentService, orderCompletionService, jpaExecutor, meterRegistry);
+
+        ReflectionTestUtils.setField(reconciler, "pageSize", 2);
+        ReflectionTestUtils.setField(reconciler, "maxPages", 10);
+        ReflectionTestUtils.setField(reconciler, "lookupBatchSize", 50);
+        ReflectionTestUtils.setField(reconciler, "concurrency", 4);
+        ReflectionTestUtils.setField(reconciler, "minAge", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(reconciler, "lease", Duration.ofMinutes(2));
+        ReflectionTestUtils.setField(reconciler, "notFoundFailAfter", Duration.ofHours(1));
+        ReflectionTestUtils.invokeMethod(reconciler, "registerMetrics");
+
+        OrderRepository.PendingStats stats = mock(OrderRepository.PendingStats.class);
+        when(stats.getBacklog()).thenReturn(1L);
+        when(stats.getOldest()).thenReturn(LocalDateTime.now().minusMinutes(10));
+        when(orderRepository.findPendingStats()).thenReturn(stats);
+    }
+
+    @Test
+    @DisplayName("🟢 키셋 페이지를 끝까지 순회하며 점유 후 PG 결과를 일괄 조회·반영")
+    void reconcile_shouldPageByIdAndApplyResults() {
+        OrderEntity first = pendingOrder(1L, "ORD_1");
+        OrderEntity second = pendingOrder(2L, "ORD_2");
+        OrderEntity third = pendingOrder(3L, "ORD_3");
+
+        when(orderRepository.claimPendingPage(eq(0L), any(), any(), eq(2))).thenReturn(List.of(first, second));
+        when(orderRepository.claimPendingPage(eq(2L), any(), any(), eq(2))).thenReturn(List.of(third));
+        when(paymentService.fetchPaymentStatuses(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> orderIds = invocation.getArgument(0);
+            return Mono.just(orderIds.stream()
+                    .map(orderId -> MockApiPaymentDto.MockPayResponse.builder()
+                            .orderId(orderId).status("SUCCESS").transactionId("txn").build())
+                    .toList());
+        });
+
+        reconciler.reconcile();
+
+        verify(orderRepository, times(2)).claimPendingPage(anyLong(), any(), any(), eq(2));
+        verify(paymentService, times(2)).fetchPaymentStatuses(anyCollection());
+        ArgumentCaptor<Collection<MockApiPaymentDto.MockPayResponse>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(orderCompletionService, times(2)).completeBatch(captor.capture());
+        assertThat(captor.getAllValues().get(0)).extracting(MockApiPaymentDto.MockPayResponse::getOrderId)
+                .containsExactly("ORD_1", "ORD_2");
+        assertThat(captor.getAllValues().get(1)).extracting(MockApiPaymentDto.MockPayResponse::getOrderId)
+                .containsExactly("ORD_3");
+        assertThat(first.getReconcileLeaseUntil()).isAfter(LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("🟡 PG 일괄 조회 실패 시 해당 묶음은 반영하지 않음")
+    void reconcile_whenPgFails_shouldSkipFailedBatch() {
+        when(orderRepository.claimPendingPage(eq(0L), any(), any(), eq(2)))
+                .thenReturn(List.of(pendingOrder(1L, "ORD_1"), pendingOrder(2L, "ORD_2")));
+        when(paymentService.fetchPaymentStatuses(anyCollection()))
+                .thenReturn(Mono.error(new PaymentException(PaymentErrorCode.MOCK_API_RESPONSE_NULL)));
+
+        reconciler.reconcile();
+
+        verify(orderCompletionService, never()).completeBatch(anyCollection());
+    }
+
+    @Test
+    @DisplayName("🔴 PG 에 기록이 없는 오래된 주문은 FAILED 로 정리하고, 최근 주문은 다음 대사까지 그대로 둠")
+    void reconcile_whenPgLostOldOrder_shouldSettleAsFailed() {
+        OrderEntity lost = pendingOrder(1L, "ORD_LOST");
+        lost.setOrderDate(LocalDateTime.now().minusHours(2));
+        OrderEntity recent = pendingOrder(2L, "ORD_RECENT");
+        recent.setOrderDate(LocalDateTime.now().minusMinutes(5));
+
+        when(orderRepository.claimPendingPage(eq(0L), any(), any(), eq(2))).thenReturn(List.of(lost, recent));
+        when(orderRepository.claimPendingPage(eq(2L), any(), any(), eq(2))).thenReturn(List.of());
+        when(paymentService.fetchPaymentStatuses(anyCollection())).thenReturn(Mono.just(List.of(
+                MockApiPaymentDto.MockPayResponse.builder().orderId("ORD_LOST").status("NOT_FOUND").build(),
+                MockApiPaymentDto.MockPayResponse.builder().orderId("ORD_RECENT").status("NOT_FOUND").build())));
+
+        reconciler.reconcile();
+
+        ArgumentCaptor<Collection<MockApiPaymentDto.MockPayResponse>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(orderCompletionService).completeBatch(captor.capture());
+        assertThat(captor.getValue())
+                .extracting(MockApiPaymentDto.MockPayResponse::getOrderId, MockApiPaymentDto.MockPayResponse::getStatus)
+                .containsExactly(tuple("ORD_LOST", "FAILED"), tuple("ORD_RECENT", "NOT_FOUND"));
+    }
+
+    @Test
+    @DisplayName("📈 적체 지표 - 적체 건수와 가장 오래된 PENDING 경과 시간 노출")
+    void reconcile_shouldExposeLagMetrics() {
+        reconciler.reconcile();
+
+        assertThat(meterRegistry.get("payment.reconciler.pending.backlog").gauge().value()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("payment.reconciler.pending.oldest.age").gauge().value())
+                .isGreaterThanOrEqualTo(600.0);
+    }
+
+    private OrderEntity pendingOrder(Long id, String mockOrderId) {
+        return OrderEntity.builder().id(id).mockOrderId(mockOrderId).status(OrderStatus.PENDING).build();
+    }
+}
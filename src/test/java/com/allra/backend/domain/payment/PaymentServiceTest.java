@@ -6,21 +6,36 @@ import com.allra.backend.domain.mockapi.dto.MockApiPaymentDto;
 import com.allra.backend.domain.order.entity.OrderEntity;
 import com.allra.backend.domain.order.entity.OrderStatus;
 import com.allra.backend.domain.order.repository.OrderRepository;
+import com.allra.backend.domain.order.service.OrderCompletionService;
+import com.allra.backend.domain.order.service.PaymentEventRegistry;
+import com.allra.backend.domain.payment.client.HttpPaymentGatewayClient;
+import com.allra.backend.domain.payment.dto.PaymentResultDto;
 import com.allra.backend.domain.payment.entity.PaymentLogEntity;
 import com.allra.backend.domain.payment.exception.PaymentErrorCode;
 import com.allra.backend.domain.payment.exception.PaymentException;
 import com.allra.backend.domain.payment.repository.PaymentLogRepository;
+import com.allra.backend.domain.payment.service.PaymentResultCoalescer;
 import com.allra.backend.domain.payment.service.PaymentService;
-import com.allra.backend.domain.product.entity.ProductEntity;
+import com.allra.backend.domain.payment.service.PgResilience;
+import com.allra.backend.domain.user.entity.UserEntity;
+import com.allra.backend.domain.cart.repository.CartRepository;
+import com.allra.backend.domain.inventory.service.StockReservationService;
+import com.allra.backend.global.transaction.JpaExecutor;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -37,8 +52,12 @@ import static org.mockito.Mockito.*;
 @SuppressWarnings({"rawtypes", "unchecked"})
 public class PaymentServiceTest {
 
+    private static final String CALLBACK_SECRET = "test-secret";
+
     @Mock private PaymentLogRepository paymentLogRepository;
     @Mock private OrderRepository orderRepository;
+    @Mock private CartRepository cartRepository;
+    @Mock private StockReservationService stockReservationService;
 
     @Mock private WebClient webClient;
     @Mock private WebClient.RequestBodyUriSpec requestBodyUriSpec;
@@ -47,13 +66,25 @@ public class PaymentServiceTest {
     @Mock private WebClient.RequestHeadersUriSpec requestHeadersUriSpec;
     @Mock private WebClient.ResponseSpec responseSpec;
 
-    @InjectMocks
     private PaymentService paymentService;
+    private OrderCompletionService orderCompletionService;
+    private SimpleMeterRegistry meterRegistry;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        ReflectionTestUtils.setField(paymentService, "webClient", webClient);
+        meterRegistry = new SimpleMeterRegistry();
+        PaymentResultCoalescer paymentResultCoalescer = new PaymentResultCoalescer(meterRegistry);
+        JpaExecutor jpaExecutor = new JpaExecutor(mock(PlatformTransactionManager.class), Schedulers.immediate());
+        PaymentEventRegistry paymentEventRegistry = new PaymentEventRegistry();
+        orderCompletionService =
+                new OrderCompletionService(orderRepository, cartRepository, paymentLogRepository, paymentEventRegistry,
+                        stockReservationService);
+        paymentService = new PaymentService(paymentLogRepository, orderRepository, jpaExecutor,
+                orderCompletionService,
+                new PgResilience(CircuitBreakerRegistry.ofDefaults(), BulkheadRegistry.ofDefaults()),
+                paymentResultCoalescer, new HttpPaymentGatewayClient(webClient));
+        ReflectionTestUtils.setField(paymentService, "callbackSecret", CALLBACK_SECRET);
     }
 
     @Test
@@ -62,7 +93,8 @@ public class PaymentServiceTest {
         OrderEntity order = new OrderEntity();
         order.setId(1L);
 
-        List<ProductEntity> products = List.of(ProductEntity.builder().id(1L).name("상품1").price(10000).build());
+        List<MockApiOrderDto.MockOrderLineItem> items = List.of(MockApiOrderDto.MockOrderLineItem.builder()
+                .productId(1L).quantity(1).unitPrice(10000).build());
         MockApiOrderDto.MockOrderCreateResponseDto mockResponse = MockApiOrderDto.MockOrderCreateResponseDto.builder()
                 .orderId("ORD_001").status("CREATED").message("Mock order created successfully").build();
 
@@ -71,8 +103,9 @@ public class PaymentServiceTest {
         when(requestBodySpec.bodyValue(any())).thenReturn(requestHeadersSpec);
         when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
         when(responseSpec.bodyToMono(MockApiOrderDto.MockOrderCreateResponseDto.class)).thenReturn(Mono.just(mockResponse));
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
 
-        var result = paymentService.createOrder(1L, products, 10000, order);
+        var result = paymentService.createOrder(1L, items, 10000, order).block();
 
         assertThat(result.getStatus()).isEqualTo("CREATED");
         verify(paymentLogRepository, times(1)).save(any(PaymentLogEntity.class));
@@ -95,18 +128,90 @@ public class PaymentServiceTest {
         when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
         when(responseSpec.bodyToMono(MockApiPaymentDto.MockPayResponse.class)).thenReturn(Mono.just(mockResponse));
 
-        var result = paymentService.processPayment(orderId, 50000);
+        var result = paymentService.processPayment(orderId, 50000).block();
 
         assertThat(result.getStatus()).isEqualTo("SUCCESS");
         verify(paymentLogRepository, times(1)).save(any(PaymentLogEntity.class));
     }
 
+    @Test
+    @DisplayName("🟢 PG 가 이미 접수한 결제 - 주문 생성 로그 뒤에 결제 요청 로그를 남김")
+    void recordAcceptedPayment_shouldWritePaymentLog() {
+        String orderId = "ORD_RESUME";
+        OrderEntity order = new OrderEntity();
+        order.setId(1L);
+        PaymentLogEntity createdLog = PaymentLogEntity.builder()
+                .id(10L).order(order).transactionId(orderId).status("CREATED").amount(10000).build();
+        when(orderRepository.findByMockOrderId(orderId)).thenReturn(Optional.of(order));
+        when(paymentLogRepository.findLatestByOrderId(1L)).thenReturn(Optional.of(createdLog));
+
+        var result = paymentService.recordAcceptedPayment(orderId, 10000, MockApiPaymentDto.MockPayResponse.builder()
+                .orderId(orderId).status("PENDING").transactionId("txn_ORD_RESUME").build()).block();
+
+        ArgumentCaptor<PaymentLogEntity> captor = ArgumentCaptor.forClass(PaymentLogEntity.class);
+        verify(paymentLogRepository).save(captor.capture());
+        assertThat(captor.getValue().getTransactionId()).isEqualTo("txn_ORD_RESUME");
+        assertThat(captor.getValue().getStatus()).isEqualTo("PENDING");
+        assertThat(captor.getValue().getAmount()).isEqualTo(10000);
+        assertThat(createdLog.getStatus()).isEqualTo("CREATED");
+        assertThat(result.getTransactionId()).isEqualTo("txn_ORD_RESUME");
+    }
+
+    @Test
+    @DisplayName("🟢 PG 가 이미 접수한 결제 - 이전 시도가 같은 거래 로그를 남겼으면 다시 저장하지 않음")
+    void recordAcceptedPayment_whenAlreadyLogged_shouldNotDuplicate() {
+        String orderId = "ORD_RESUME";
+        OrderEntity order = new OrderEntity();
+        order.setId(1L);
+        PaymentLogEntity paymentLog = PaymentLogEntity.builder()
+                .id(11L).order(order).transactionId("txn_ORD_RESUME").status("PENDING").amount(10000).build();
+        when(orderRepository.findByMockOrderId(orderId)).thenReturn(Optional.of(order));
+        when(paymentLogRepository.findLatestByOrderId(1L)).thenReturn(Optional.of(paymentLog));
+
+        paymentService.recordAcceptedPayment(orderId, 10000, MockApiPaymentDto.MockPayResponse.builder()
+                .orderId(orderId).status("SUCCESS").transactionId("txn_ORD_RESUME").build()).block();
+
+        verify(paymentLogRepository, never()).save(any(PaymentLogEntity.class));
+    }
+
+    @Test
+    @DisplayName("🔴 결제 접수 후 로그 저장 실패 - PG 결제 취소, 주문 CANCELED 종료 + 예약 해제 (재시도 불가)")
+    void processPayment_whenLogSaveFails_shouldCancelAtPgAndFinishOrder() {
+        String orderId = "ORD_LOG_FAIL";
+        OrderEntity order = new OrderEntity();
+        order.setId(1L);
+        order.setMockOrderId(orderId);
+        order.setStatus(OrderStatus.PENDING);
+        when(orderRepository.findByMockOrderId(orderId)).thenReturn(Optional.of(order));
+        when(orderRepository.findForUpdateByMockOrderId(orderId)).thenReturn(Optional.of(order));
+        when(paymentLogRepository.save(any(PaymentLogEntity.class))).thenThrow(new IllegalStateException("DB down"));
+
+        when(webClient.post()).thenReturn(requestBodyUriSpec);
+        when(requestBodyUriSpec.uri(anyString())).thenReturn(requestBodySpec);
+        when(requestBodySpec.bodyValue(any())).thenReturn(requestHeadersSpec);
+        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.bodyToMono(MockApiPaymentDto.MockPayResponse.class)).thenReturn(Mono.just(
+                MockApiPaymentDto.MockPayResponse.builder().status("PENDING").transactionId("TXN_1").build()));
+        when(responseSpec.bodyToMono(MockApiCancelDto.MockCancelResponse.class)).thenReturn(Mono.just(
+                MockApiCancelDto.MockCancelResponse.builder().status("CANCELED").message("canceled").build()));
+
+        assertThatThrownBy(() -> paymentService.processPayment(orderId, 50000).block())
+                .isInstanceOf(PaymentException.class)
+                .hasMessageContaining(PaymentErrorCode.PAYMENT_RECORD_FAILED.getMessage());
+
+        verify(requestBodyUriSpec).uri("/api/mock/order/cancel");
+        verify(stockReservationService).release(order);
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.CANCELED);
+    }
+
     @Test
     @DisplayName("🟢 결제 결과 조회 성공 - DB 상태 동기화 및 로그 갱신")
     void checkPaymentResult_success() {
         String orderId = "ORD_777";
         OrderEntity order = new OrderEntity();
         order.setId(1L);
+        order.setUser(UserEntity.builder().id(1L).build());
+        order.setStatus(OrderStatus.PENDING);
 
         PaymentLogEntity lastLog = PaymentLogEntity.builder()
                 .id(100L).order(order).status("PENDING").amount(10000)
@@ -122,44 +227,131 @@ public class PaymentServiceTest {
         when(responseSpec.bodyToMono(MockApiPaymentDto.MockPayResponse.class)).thenReturn(Mono.just(mockResponse));
 
         when(orderRepository.findByMockOrderId(orderId)).thenReturn(Optional.of(order));
+        when(orderRepository.findForUpdateByMockOrderId(orderId)).thenReturn(Optional.of(order));
         when(paymentLogRepository.findLatestByOrderId(order.getId())).thenReturn(Optional.of(lastLog));
 
-        var result = paymentService.checkPaymentResult(orderId);
+        var result = paymentService.checkPaymentResult(orderId).block();
 
         assertThat(result.getStatus()).isEqualTo("SUCCESS");
         assertThat(order.getStatus()).isEqualTo(OrderStatus.SUCCESS);
+        assertThat(lastLog.getStatus()).isEqualTo("SUCCESS");
         verify(paymentLogRepository, times(1)).save(any(PaymentLogEntity.class));
+        verify(cartRepository, times(1)).deleteAllByUserId(1L);
     }
 
     @Test
-    @DisplayName("🟢 주문 취소 성공 - 상태 CANCELED로 업데이트 및 로그 저장")
-    void cancelOrder_success() {
+    @DisplayName("🟢 같은 주문 동시 결과 조회 → PG / DB 조회 1회로 합치고 직후 조회는 캐시 응답")
+    void checkPaymentResult_concurrent_shouldCoalesce() {
         String orderId = "ORD_888";
         OrderEntity order = new OrderEntity();
         order.setId(1L);
-        order.setStatus(OrderStatus.SUCCESS);
+        order.setStatus(OrderStatus.PENDING);
 
-        PaymentLogEntity lastLog = PaymentLogEntity.builder()
-                .id(50L).order(order).status("SUCCESS").amount(15000)
-                .createdAt(LocalDateTime.now()).build();
+        Sinks.One<MockApiPaymentDto.MockPayResponse> pg = Sinks.one();
+        when(webClient.get()).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.uri("/api/mock/payment/result/{orderId}", orderId))
+                .thenReturn(requestHeadersSpec);
+        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.bodyToMono(MockApiPaymentDto.MockPayResponse.class)).thenReturn(pg.asMono());
+        when(orderRepository.findByMockOrderId(orderId)).thenReturn(Optional.of(order));
+        when(orderRepository.findForUpdateByMockOrderId(orderId)).thenReturn(Optional.of(order));
+
+        var first = paymentService.checkPaymentResult(orderId).toFuture();
+        var second = paymentService.checkPaymentResult(orderId).toFuture();
+        pg.tryEmitValue(MockApiPaymentDto.MockPayResponse.builder()
+                .status("PENDING").transactionId("TXN_888").message("Processing").build());
+        var third = paymentService.checkPaymentResult(orderId).block();
+
+        assertThat(first.join().getStatus()).isEqualTo("PENDING");
+        assertThat(second.join()).isSameAs(first.join());
+        assertThat(third).isSameAs(first.join());
+        verify(webClient, times(1)).get();
+        verify(orderRepository, times(1)).findByMockOrderId(orderId);
+        assertThat(meterRegistry.counter("payment.result.lookups", "outcome", "executed").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("payment.result.lookups", "outcome", "coalesced").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("payment.result.lookups", "outcome", "cached").count()).isEqualTo(1);
+    }
 
+    /** 주문 취소 Mock API 응답 */
+    private void givenCancelResponse(String status) {
         MockApiCancelDto.MockCancelResponse mockResponse = MockApiCancelDto.MockCancelResponse.builder()
-                .status("CANCELED").message("Order canceled successfully").build();
-
+                .status(status).message("cancel " + status).build();
         when(webClient.post()).thenReturn(requestBodyUriSpec);
         when(requestBodyUriSpec.uri("/api/mock/order/cancel")).thenReturn(requestBodySpec);
         when(requestBodySpec.bodyValue(any())).thenReturn(requestHeadersSpec);
         when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
         when(responseSpec.bodyToMono(MockApiCancelDto.MockCancelResponse.class)).thenReturn(Mono.just(mockResponse));
+    }
+
+    /** 취소 대상 주문 (조회 / 잠금 조회 모두 같은 엔티티) */
+    private OrderEntity givenCancelTarget(String orderId, OrderStatus status) {
+        OrderEntity order = new OrderEntity();
+        order.setId(1L);
+        order.setMockOrderId(orderId);
+        order.setStatus(status);
+        PaymentLogEntity lastLog = PaymentLogEntity.builder()
+                .id(50L).order(order).status(status.name()).amount(15000)
+                .createdAt(LocalDateTime.now()).build();
 
         when(orderRepository.findByMockOrderId(orderId)).thenReturn(Optional.of(order));
+        when(orderRepository.findForUpdateByMockOrderId(orderId)).thenReturn(Optional.of(order));
         when(paymentLogRepository.findLatestByOrderId(order.getId())).thenReturn(Optional.of(lastLog));
+        return order;
+    }
+
+    @Test
+    @DisplayName("🟢 주문 취소 성공 - PG CANCELED 응답 시 CANCELED 로 종료, 재고 예약 해제 및 로그 저장")
+    void cancelOrder_success() {
+        String orderId = "ORD_888";
+        OrderEntity order = givenCancelTarget(orderId, OrderStatus.PENDING);
+        givenCancelResponse("CANCELED");
 
-        var result = paymentService.cancelOrder(orderId);
+        var result = paymentService.cancelOrder(orderId).block();
 
         assertThat(result.getStatus()).isEqualTo("CANCELED");
         assertThat(order.getStatus()).isEqualTo(OrderStatus.CANCELED);
-        verify(paymentLogRepository, times(1)).save(any(PaymentLogEntity.class));
+        verify(stockReservationService).release(order);
+        verify(paymentLogRepository, atLeastOnce()).save(any(PaymentLogEntity.class));
+    }
+
+    @Test
+    @DisplayName("🔴 주문 취소 - PG 가 취소를 거절(CANNOT_CANCEL)하면 주문 상태를 바꾸지 않음")
+    void cancelOrder_whenPgRejects_shouldKeepOrder() {
+        String orderId = "ORD_889";
+        OrderEntity order = givenCancelTarget(orderId, OrderStatus.PENDING);
+        givenCancelResponse("CANNOT_CANCEL");
+
+        var result = paymentService.cancelOrder(orderId).block();
+
+        assertThat(result.getStatus()).isEqualTo("CANNOT_CANCEL");
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.PENDING);
+        verify(stockReservationService, never()).release(any());
+    }
+
+    @Test
+    @DisplayName("🔴 주문 취소 - 이미 종료된 주문(SUCCESS)은 PG 호출 없이 거절")
+    void cancelOrder_whenFinished_shouldRejectWithoutPg() {
+        String orderId = "ORD_890";
+        OrderEntity order = givenCancelTarget(orderId, OrderStatus.SUCCESS);
+
+        assertThatThrownBy(() -> paymentService.cancelOrder(orderId).block())
+                .isInstanceOf(PaymentException.class)
+                .hasMessageContaining(PaymentErrorCode.ORDER_NOT_CANCELABLE.getMessage());
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.SUCCESS);
+        verify(webClient, never()).post();
+    }
+
+    @Test
+    @DisplayName("🟢 주문 취소 - 결제 요청 전(CREATED) 주문은 PG 에 결제가 없어도(NOT_FOUND) CANCELED 로 종료")
+    void cancelOrder_whenUnpaid_shouldCancelLocally() {
+        String orderId = "ORD_891";
+        OrderEntity order = givenCancelTarget(orderId, OrderStatus.CREATED);
+        givenCancelResponse("NOT_FOUND");
+
+        paymentService.cancelOrder(orderId).block();
+
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.CANCELED);
+        verify(stockReservationService).release(order);
     }
 
     @Test
@@ -171,8 +363,163 @@ public class PaymentServiceTest {
         when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
         when(responseSpec.bodyToMono(MockApiPaymentDto.MockPayResponse.class)).thenReturn(Mono.empty());
 
-        assertThatThrownBy(() -> paymentService.checkPaymentResult(orderId))
+        assertThatThrownBy(() -> paymentService.checkPaymentResult(orderId).block())
                 .isInstanceOf(PaymentException.class)
                 .hasMessageContaining(PaymentErrorCode.MOCK_API_RESPONSE_NULL.getMessage());
     }
+
+    @Test
+    @DisplayName("🟢 이미 종료된 주문의 결과 조회는 Mock API 를 호출하지 않음")
+    void checkPaymentResult_whenFinished_shouldNotCallPg() {
+        String orderId = "ORD_DONE";
+        OrderEntity order = new OrderEntity();
+        order.setId(1L);
+        order.setStatus(OrderStatus.SUCCESS);
+
+        PaymentLogEntity lastLog = PaymentLogEntity.builder()
+                .id(100L).order(order).status("SUCCESS").transactionId("txn_ORD_DONE").amount(10000)
+                .createdAt(LocalDateTime.now()).build();
+
+        when(orderRepository.findByMockOrderId(orderId)).thenReturn(Optional.of(order));
+        when(paymentLogRepository.findLatestByOrderId(order.getId())).thenReturn(Optional.of(lastLog));
+
+        var result = paymentService.checkPaymentResult(orderId).block();
+
+        assertThat(result.getStatus()).isEqualTo("SUCCESS");
+        assertThat(result.getTransactionId()).isEqualTo("txn_ORD_DONE");
+        verify(webClient, never()).get();
+    }
+
+    @Test
+    @DisplayName("🟢 결제 결과 통지 - 같은 통지가 두 번 와도 주문은 한 번만 반영")
+    void handleCallback_duplicate_shouldApplyOnce() {
+        String orderId = "ORD_HOOK";
+        OrderEntity order = new OrderEntity();
+        order.setId(1L);
+        order.setUser(UserEntity.builder().id(1L).build());
+        order.setStatus(OrderStatus.PENDING);
+
+        PaymentLogEntity lastLog = PaymentLogEntity.builder()
+                .id(100L).order(order).status("PENDING").amount(10000)
+                .createdAt(LocalDateTime.now()).build();
+
+        when(orderRepository.findForUpdateByMockOrderId(orderId)).thenReturn(Optional.of(order));
+        when(paymentLogRepository.findLatestByOrderId(order.getId())).thenReturn(Optional.of(lastLog));
+
+        PaymentResultDto.PaymentCallbackRequest callback = PaymentResultDto.PaymentCallbackRequest.builder()
+                .orderId(orderId).status("SUCCESS").transactionId("txn_ORD_HOOK").message("done").build();
+
+        paymentService.handleCallback(CALLBACK_SECRET, callback).block();
+        var second = paymentService.handleCallback(CALLBACK_SECRET, callback).block();
+
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.SUCCESS);
+        assertThat(second.getStatus()).isEqualTo("SUCCESS");
+        verify(cartRepository, times(1)).deleteAllByUserId(1L);
+        verify(paymentLogRepository, times(1)).save(any(PaymentLogEntity.class));
+        verify(webClient, never()).get();
+    }
+
+    @Test
+    @DisplayName("🔴 결제 결과 통지 - 비밀값이 다르면 PaymentException 발생")
+    void handleCallback_whenSecretMismatch_shouldThrowException() {
+        PaymentResultDto.PaymentCallbackRequest callback = PaymentResultDto.PaymentCallbackRequest.builder()
+                .orderId("ORD_HOOK").status("SUCCESS").build();
+
+        assertThatThrownBy(() -> paymentService.handleCallback("wrong-secret", callback).block())
+                .isInstanceOf(PaymentException.class)
+                .hasMessageContaining(PaymentErrorCode.INVALID_CALLBACK.getMessage());
+
+        verify(orderRepository, never()).findForUpdateByMockOrderId(anyString());
+    }
+
+    @Test
+    @DisplayName("🔴 결제 결과 통지 - 비밀값이 설정되지 않았으면 어떤 통지도 반영하지 않음")
+    void handleCallback_whenSecretNotConfigured_shouldReject() {
+        ReflectionTestUtils.setField(paymentService, "callbackSecret", "");
+        PaymentResultDto.PaymentCallbackRequest callback = PaymentResultDto.PaymentCallbackRequest.builder()
+                .orderId("ORD_HOOK").status("SUCCESS").build();
+
+        assertThatThrownBy(() -> paymentService.handleCallback("", callback).block())
+                .isInstanceOf(PaymentException.class)
+                .hasMessageContaining(PaymentErrorCode.INVALID_CALLBACK.getMessage());
+        assertThatThrownBy(() -> paymentService.handleCallback(null, callback).block())
+                .isInstanceOf(PaymentException.class);
+
+        verify(orderRepository, never()).findForUpdateByMockOrderId(anyString());
+    }
+
+    @Test
+    @DisplayName("🟢 결제 결과 일괄 조회 - Mock API 1회 호출 후 최종 상태 주문만 한 번에 반영")
+    void checkPaymentResults_shouldApplyFinalResultsInOneBatch() {
+        OrderEntity success = new OrderEntity();
+        success.setId(1L);
+        success.setMockOrderId("ORD_A");
+        success.setUser(UserEntity.builder().id(1L).build());
+        success.setStatus(OrderStatus.PENDING);
+
+        OrderEntity stillPending = new OrderEntity();
+        stillPending.setId(2L);
+        stillPending.setMockOrderId("ORD_B");
+        stillPending.setStatus(OrderStatus.PENDING);
+
+        PaymentLogEntity successLog = PaymentLogEntity.builder()
+                .id(10L).order(success).status("PENDING").amount(10000).createdAt(LocalDateTime.now()).build();
+
+        MockApiPaymentDto.MockPayResultsResponse mockResponse = MockApiPaymentDto.MockPayResultsResponse.builder()
+                .results(List.of(
+                        MockApiPaymentDto.MockPayResponse.builder().orderId("ORD_A").status("SUCCESS").transactionId("txn_ORD_A").build(),
+                        MockApiPaymentDto.MockPayResponse.builder().orderId("ORD_B").status("PENDING").transactionId("txn_ORD_B").build()))
+                .build();
+
+        when(webClient.post()).thenReturn(requestBodyUriSpec);
+        when(requestBodyUriSpec.uri("/api/mock/payment/results")).thenReturn(requestBodySpec);
+        when(requestBodySpec.bodyValue(any())).thenReturn(requestHeadersSpec);
+        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.bodyToMono(MockApiPaymentDto.MockPayResultsResponse.class)).thenReturn(Mono.just(mockResponse));
+        when(orderRepository.findAllForUpdateByMockOrderIdIn(anyCollection())).thenReturn(List.of(success, stillPending));
+        when(paymentLogRepository.findLatestByOrderIds(anyCollection())).thenReturn(List.of(successLog));
+
+        var results = paymentService.checkPaymentResults(List.of("ORD_A", "ORD_B")).block();
+
+        assertThat(results).extracting(PaymentResultDto.OrderResultResponse::getStatus).containsExactly("SUCCESS", "PENDING");
+        assertThat(success.getStatus()).isEqualTo(OrderStatus.SUCCESS);
+        assertThat(stillPending.getStatus()).isEqualTo(OrderStatus.PENDING);
+        assertThat(successLog.getStatus()).isEqualTo("SUCCESS");
+        verify(webClient, times(1)).post();
+        verify(orderRepository, never()).findForUpdateByMockOrderId(anyString());
+        verify(paymentLogRepository, never()).findLatestByOrderId(anyLong());
+    }
+
+    @Test
+    @DisplayName("🟢 결제 결과 일괄 반영 - 종료 상태로 바뀐 주문만 전이 수에 포함 (진행 중 / 이미 종료 제외)")
+    void completeBatch_shouldCountOnlyTransitions() {
+        OrderEntity failed = new OrderEntity();
+        failed.setId(1L);
+        failed.setMockOrderId("ORD_F");
+        failed.setStatus(OrderStatus.PENDING);
+
+        OrderEntity stillPending = new OrderEntity();
+        stillPending.setId(2L);
+        stillPending.setMockOrderId("ORD_P");
+        stillPending.setStatus(OrderStatus.PENDING);
+
+        OrderEntity alreadyDone = new OrderEntity();
+        alreadyDone.setId(3L);
+        alreadyDone.setMockOrderId("ORD_D");
+        alreadyDone.setStatus(OrderStatus.SUCCESS);
+
+        when(orderRepository.findAllForUpdateByMockOrderIdIn(anyCollection()))
+                .thenReturn(List.of(failed, stillPending, alreadyDone));
+        when(paymentLogRepository.findLatestByOrderIds(anyCollection())).thenReturn(List.of());
+
+        OrderCompletionService.BatchCompletion completion = orderCompletionService.completeBatch(List.of(
+                MockApiPaymentDto.MockPayResponse.builder().orderId("ORD_F").status("FAILED").build(),
+                MockApiPaymentDto.MockPayResponse.builder().orderId("ORD_P").status("PENDING").build(),
+                MockApiPaymentDto.MockPayResponse.builder().orderId("ORD_D").status("SUCCESS").build()));
+
+        assertThat(completion.results()).hasSize(3);
+        assertThat(completion.transitioned()).isEqualTo(1);
+        assertThat(failed.getStatus()).isEqualTo(OrderStatus.FAILED);
+        verify(stockReservationService).release(failed);
+    }
 }
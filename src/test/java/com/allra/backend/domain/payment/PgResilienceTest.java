@@ -0,0 +1,90 @@
+package com.allra.backend.domain.payment;
+
+import com.allra.backend.domain.payment.exception.PaymentErrorCode;
+import com.allra.backend.domain.payment.exception.PaymentException;
+import com.allra.backend.domain.payment.service.PgOperation;
+import com.allra.backend.domain.payment.service.PgResilience;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ✅ PgResilienceTest
+ *
+ * PG 호출 보호 장치가 장애 상황에서 대기 없이 즉시 거절하고
+ * 명확한 PaymentErrorCode 로 변환하는지 검증합니다.
+ */
+public class PgResilienceTest {
+
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private PgResilience pgResilience;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .slidingWindowSize(4)
+                .minimumNumberOfCalls(4)
+                .failureRateThreshold(50)
+                .waitDurationInOpenState(Duration.ofMinutes(1))
+                .build());
+        BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(1)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        pgResilience = new PgResilience(circuitBreakerRegistry, bulkheadRegistry);
+    }
+
+    @Test
+    @DisplayName("🔴 실패율 초과 시 서킷 OPEN → PG 호출 없이 PG_CIRCUIT_OPEN")
+    void protect_whenFailureRateExceeded_shouldOpenCircuit() {
+        for (int i = 0; i < 4; i++) {
+            Mono<String> failing = Mono.error(new PaymentException(PaymentErrorCode.MOCK_PAYMENT_FAILED));
+            assertThatThrownBy(() -> pgResilience.protect(PgOperation.PAYMENT, failing).block())
+                    .isInstanceOf(PaymentException.class);
+        }
+
+        assertThat(circuitBreakerRegistry.circuitBreaker(PgOperation.PAYMENT.getInstanceName()).getState())
+                .isEqualTo(CircuitBreaker.State.OPEN);
+
+        AtomicInteger pgCalls = new AtomicInteger();
+        Mono<String> call = Mono.fromSupplier(() -> {
+            pgCalls.incrementAndGet();
+            return "OK";
+        });
+
+        assertThatThrownBy(() -> pgResilience.protect(PgOperation.PAYMENT, call).block())
+                .isInstanceOf(PaymentException.class)
+                .hasMessage(PaymentErrorCode.PG_CIRCUIT_OPEN.getMessage());
+        assertThat(pgCalls).hasValue(0);
+
+        // 다른 작업의 서킷은 영향 없음
+        assertThat(pgResilience.protect(PgOperation.RESULT, call).block()).isEqualTo("OK");
+    }
+
+    @Test
+    @DisplayName("🔴 동시 호출 한도 초과 시 대기 없이 PG_BUSY")
+    void protect_whenBulkheadFull_shouldRejectImmediately() {
+        Sinks.One<String> slowPg = Sinks.one();
+        pgResilience.protect(PgOperation.ORDER, slowPg.asMono()).subscribe();
+
+        assertThatThrownBy(() -> pgResilience.protect(PgOperation.ORDER, Mono.just("OK")).block())
+                .isInstanceOf(PaymentException.class)
+                .hasMessage(PaymentErrorCode.PG_BUSY.getMessage());
+
+        // 진행 중인 호출이 끝나면 다시 허용
+        slowPg.tryEmitValue("OK");
+        assertThat(pgResilience.protect(PgOperation.ORDER, Mono.just("OK")).block()).isEqualTo("OK");
+    }
+}
@@ -0,0 +1,234 @@
+package com.allra.backend.domain.payment;
+
+import com.allra.backend.domain.mockapi.codec.MockPgCodec;
+import com.allra.backend.domain.mockapi.codec.MockPgWireFormat;
+import com.allra.backend.domain.mockapi.dto.MockApiPaymentDto;
+import com.allra.backend.domain.payment.client.PgTrafficRecord;
+import com.allra.backend.domain.payment.client.PgTrafficRecorder;
+import com.allra.backend.domain.payment.client.PgTrafficReplayer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ✅ PgTrafficRecordReplayTest
+ *
+ * PG 트래픽 기록(PgTrafficRecorder) → 파일 → 재생(PgTrafficReplayer) 흐름을 검증합니다.
+ * 기록 대상 PG 는 미리 정의한 기록으로 응답하는 재생기로 대신합니다. (네트워크 없음)
+ */
+public class PgTrafficRecordReplayTest {
+
+    private static final String PAYMENT_BODY = "{\"orderId\":\"MOCK-1001\",\"status\":\"PENDING\"}";
+    private static final String RESULT_BODY = "{\"orderId\":\"MOCK-1001\",\"status\":\"SUCCESS\"}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path tempDir;
+
+    private static PgTrafficRecord record(String method, String path, String requestBody,
+                                          int status, String responseBody, long latencyMs) {
+        return PgTrafficRecord.builder()
+                .method(method)
+                .path(path)
+                .requestBody(requestBody)
+                .status(status)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .responseBody(responseBody)
+                .latencyMs(latencyMs)
+                .build();
+    }
+
+    private static WebClient client(PgTrafficReplayer replayer) {
+        return WebClient.builder().baseUrl("http://pg.local").exchangeFunction(replayer).build();
+    }
+
+    @Test
+    @DisplayName("🟢 기록한 요청 / 응답을 파일에서 그대로 재생한다")
+    void recordThenReplay() throws Exception {
+        // given - 기록 대상 PG
+        PgTrafficReplayer pg = new PgTrafficReplayer(List.of(
+                record("POST", "/api/mock/payment", null, 200, PAYMENT_BODY, 30),
+                record("GET", "/api/mock/payment/MOCK-1001", null, 200, RESULT_BODY, 30)), 1.0);
+        Path file = tempDir.resolve("pg-traffic.ndjson.gz");
+
+        // when - 기록
+        PgTrafficRecorder recorder = new PgTrafficRecorder(file, objectMapper);
+        WebClient recording = WebClient.builder().baseUrl("http://pg.local")
+                .exchangeFunction(pg).filter(recorder).build();
+        String paid = recording.post().uri("/api/mock/payment")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("orderId", "MOCK-1001", "amount", 10000))
+                .retrieve().bodyToMono(String.class).block();
+        String result = recording.get().uri("/api/mock/payment/MOCK-1001")
+                .retrieve().bodyToMono(String.class).block();
+        recorder.close();
+
+        // then - 파일 기록 (gzip, 요청 본문 / 지연 포함)
+        List<PgTrafficRecord> records;
+        try (GZIPInputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+            records = new String(in.readAllBytes()).lines()
+                    .map(line -> {
+                        try {
+                            return objectMapper.readValue(line, PgTrafficRecord.class);
+                        } catch (Exception e) {
+                            throw new IllegalStateException(e);
+                        }
+                    })
+                    .toList();
+        }
+        assertThat(records).hasSize(2);
+        assertThat(records.get(0).getRequestBody()).contains("\"orderId\":\"MOCK-1001\"");
+        assertThat(records.get(0).getLatencyMs()).isGreaterThanOrEqualTo(30);
+        assertThat(records.get(1).getPath()).isEqualTo("/api/mock/payment/MOCK-1001");
+
+        // when - 재생 (지연 없이)
+        WebClient replaying = client(new PgTrafficReplayer(file, objectMapper, 0));
+        String replayedPaid = replaying.post().uri("/api/mock/payment")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("orderId", "MOCK-1001", "amount", 10000))
+                .retrieve().bodyToMono(String.class).block(Duration.ofSeconds(1));
+        String replayedResult = replaying.get().uri("/api/mock/payment/MOCK-1001")
+                .retrieve().bodyToMono(String.class).block(Duration.ofSeconds(1));
+
+        // then
+        assertThat(replayedPaid).isEqualTo(paid).isEqualTo(PAYMENT_BODY);
+        assertThat(replayedResult).isEqualTo(result).isEqualTo(RESULT_BODY);
+    }
+
+    @Test
+    @DisplayName("🟢 CBOR 본문은 Base64 로 손실 없이 기록되고, 같은 코덱으로 재생된다")
+    void recordThenReplayCbor() throws Exception {
+        // given - CBOR 로 응답하는 기록 대상 PG
+        MockPgCodec codec = new MockPgCodec(objectMapper);
+        ExchangeStrategies cbor = codec.exchangeStrategies(MockPgWireFormat.CBOR);
+        MockApiPaymentDto.MockPayResponse paid = MockApiPaymentDto.MockPayResponse.builder()
+                .orderId("MOCK-1001").status("PENDING").transactionId("txn_MOCK-1001").build();
+        PgTrafficRecord upstream = record("POST", "/api/mock/payment", null, 200,
+                Base64.getEncoder().encodeToString(codec.write(MockPgWireFormat.CBOR, paid)), 0);
+        upstream.setContentType(MediaType.APPLICATION_CBOR_VALUE);
+        PgTrafficReplayer pg = new PgTrafficReplayer(List.of(upstream), 0, cbor);
+        Path file = tempDir.resolve("pg-traffic-cbor.ndjson");
+        MockApiPaymentDto.MockPayRequest request = new MockApiPaymentDto.MockPayRequest("MOCK-1001", 10000);
+
+        // when - 기록
+        PgTrafficRecorder recorder = new PgTrafficRecorder(file, objectMapper);
+        WebClient recording = codec.configure(WebClient.builder(), MockPgWireFormat.CBOR)
+                .baseUrl("http://pg.local").exchangeFunction(pg).filter(recorder).build();
+        MockApiPaymentDto.MockPayResponse recorded = recording.post().uri("/api/mock/payment")
+                .bodyValue(request)
+                .retrieve().bodyToMono(MockApiPaymentDto.MockPayResponse.class).block();
+        recorder.close();
+
+        // then - 요청 / 응답 바이트 그대로 (Base64)
+        PgTrafficRecord record = objectMapper.readValue(Files.readAllLines(file).get(0), PgTrafficRecord.class);
+        assertThat(record.getRequestContentType()).isEqualTo(MediaType.APPLICATION_CBOR_VALUE);
+        assertThat(codec.read(MockPgWireFormat.CBOR, Base64.getDecoder().decode(record.getRequestBody()),
+                MockApiPaymentDto.MockPayRequest.class)).isEqualTo(request);
+        assertThat(record.getResponseBody()).isEqualTo(upstream.getResponseBody());
+
+        // when - 재생 (같은 요청 → 정확 일치)
+        WebClient replaying = codec.configure(WebClient.builder(), MockPgWireFormat.CBOR)
+                .baseUrl("http://pg.local")
+                .exchangeFunction(new PgTrafficReplayer(file, objectMapper, 0, cbor))
+                .build();
+        MockApiPaymentDto.MockPayResponse replayed = replaying.post().uri("/api/mock/payment")
+                .bodyValue(request)
+                .retrieve().bodyToMono(MockApiPaymentDto.MockPayResponse.class).block(Duration.ofSeconds(1));
+
+        // then
+        assertThat(replayed).isEqualTo(recorded).isEqualTo(paid);
+    }
+
+    @Test
+    @DisplayName("🟢 같은 요청이 여러 번 기록되면 기록 순서대로 응답하고, 소진 후에는 마지막 응답을 반복한다")
+    void replayInRecordedOrder() {
+        // given
+        String pending = "{\"status\":\"PENDING\"}";
+        String success = "{\"status\":\"SUCCESS\"}";
+        WebClient client = client(new PgTrafficReplayer(List.of(
+                record("GET", "/api/mock/payment/MOCK-1", null, 200, pending, 0),
+                record("GET", "/api/mock/payment/MOCK-1", null, 200, success, 0)), 0));
+
+        // when
+        List<String> bodies = IntStream.range(0, 3)
+                .mapToObj(i -> client.get().uri("/api/mock/payment/MOCK-1")
+                        .retrieve().bodyToMono(String.class).block())
+                .toList();
+
+        // then
+        assertThat(bodies).containsExactly(pending, success, success);
+    }
+
+    @Test
+    @DisplayName("🟢 정확히 일치하는 기록이 없으면 같은 경로(숫자 구간 무시)의 기록으로 응답한다")
+    void replayByRoute() {
+        // given
+        WebClient client = client(new PgTrafficReplayer(List.of(
+                record("GET", "/api/mock/payment/MOCK-1001", null, 200, RESULT_BODY, 0)), 0));
+
+        // when
+        String body = client.get().uri("/api/mock/payment/MOCK-2002")
+                .retrieve().bodyToMono(String.class).block();
+
+        // then
+        assertThat(body).isEqualTo(RESULT_BODY);
+    }
+
+    @Test
+    @DisplayName("🔴 기록이 없는 API 는 501 로 응답한다")
+    void replayUnknownRoute() {
+        // given
+        WebClient client = client(new PgTrafficReplayer(List.of(
+                record("GET", "/api/mock/payment/MOCK-1001", null, 200, RESULT_BODY, 0)), 0));
+
+        // when
+        HttpStatusCode status = client.post().uri("/api/mock/cancel")
+                .exchangeToMono(response -> Mono.just(response.statusCode()))
+                .block();
+
+        // then
+        assertThat(status).isEqualTo(HttpStatus.NOT_IMPLEMENTED);
+    }
+
+    @Test
+    @DisplayName("🟢 기록된 지연에 time-scale 을 곱해 응답한다")
+    void replayHonoursLatency() {
+        // given
+        List<PgTrafficRecord> records = List.of(
+                record("GET", "/api/mock/payment/MOCK-1001", null, 200, RESULT_BODY, 400));
+        WebClient realTime = client(new PgTrafficReplayer(records, 1.0));
+        WebClient compressed = client(new PgTrafficReplayer(records, 0.1));
+
+        // when
+        long realStart = System.nanoTime();
+        realTime.get().uri("/api/mock/payment/MOCK-1001").retrieve().bodyToMono(String.class).block();
+        long realMs = Duration.ofNanos(System.nanoTime() - realStart).toMillis();
+
+        long compressedStart = System.nanoTime();
+        compressed.get().uri("/api/mock/payment/MOCK-1001").retrieve().bodyToMono(String.class).block();
+        long compressedMs = Duration.ofNanos(System.nanoTime() - compressedStart).toMillis();
+
+        // then
+        assertThat(realMs).isGreaterThanOrEqualTo(400);
+        assertThat(compressedMs).isLessThan(400);
+    }
+}
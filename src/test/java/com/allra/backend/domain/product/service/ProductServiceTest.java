@@ -19,6 +19,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 
+import com.allra.backend.domain.inventory.repository.ProductStockShardRepository;
 import com.allra.backend.domain.product.dto.ProductDto;
 import com.allra.backend.domain.product.entity.ProductEntity;
 import com.allra.backend.domain.product.repository.ProductRepository;
@@ -29,6 +30,9 @@ class ProductServiceTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private ProductStockShardRepository productStockShardRepository;
+
     @InjectMocks
     private ProductService productService;
 
@@ -0,0 +1,98 @@
+package com.allra.backend.global.config;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ✅ WebClientConfigTest
+ *
+ * PG 호출용 HttpClient 가 이름 있는 연결 풀을 사용하고,
+ * 연결 풀 / 엔드포인트(uri 태그)별 메트릭을 Micrometer 로 남기는지 검증합니다.
+ */
+public class WebClientConfigTest {
+
+    private SimpleMeterRegistry registry;
+    private ConnectionProvider connectionProvider;
+    private DisposableServer server;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        Metrics.addRegistry(registry);
+        connectionProvider = ConnectionProvider.builder("pg-test")
+                .maxConnections(4)
+                .pendingAcquireMaxCount(16)
+                .maxIdleTime(Duration.ofSeconds(5))
+                .metrics(true)
+                .build();
+        server = HttpServer.create()
+                .port(0)
+                .route(routes -> routes.get("/api/mock/payment/result/{orderId}",
+                        (request, response) -> response.sendString(Mono.just("{\"status\":\"PENDING\"}"))))
+                .bindNow();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.disposeNow();
+        connectionProvider.dispose();
+        Metrics.removeRegistry(registry);
+    }
+
+    @Test
+    @DisplayName("🟢 uri 태그 — 주문번호 / 숫자 구간은 {id} 로 치환, 쿼리 제거")
+    void uriTag_shouldTemplateIdentifiers() {
+        assertThat(WebClientConfig.uriTag("/api/mock/payment/result/ORD_034R1408C0C00"))
+                .isEqualTo("/api/mock/payment/result/{id}");
+        assertThat(WebClientConfig.uriTag("/api/orders/42/payment?retry=1"))
+                .isEqualTo("/api/orders/{id}/payment");
+        assertThat(WebClientConfig.uriTag("/api/mock/order/cancel"))
+                .isEqualTo("/api/mock/order/cancel");
+    }
+
+    @Test
+    @DisplayName("🟢 호출 후 엔드포인트별 응답 시간과 연결 풀 메트릭이 기록된다")
+    void metrics_shouldBeRecordedPerEndpointAndPool() {
+        // given
+        WebClient client = WebClient.builder()
+                .baseUrl("http://localhost:" + server.port())
+                .clientConnector(new ReactorClientHttpConnector(
+                        WebClientConfig.pgHttpClient(connectionProvider, HttpProtocol.HTTP11)))
+                .build();
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            String body = client.get().uri("/api/mock/payment/result/{orderId}", "ORD_TEST000000" + i)
+                    .retrieve().bodyToMono(String.class).block(Duration.ofSeconds(5));
+            assertThat(body).contains("PENDING");
+        }
+
+        // then
+        Timer responseTime = registry.find("reactor.netty.http.client.response.time")
+                .tag("uri", "/api/mock/payment/result/{id}")
+                .timer();
+        assertThat(responseTime).isNotNull();
+        assertThat(responseTime.count()).isEqualTo(3);
+        assertThat(registry.find("reactor.netty.connection.provider.total.connections")
+                .tag("name", "pg-test")
+                .gauge())
+                .isNotNull();
+    }
+}
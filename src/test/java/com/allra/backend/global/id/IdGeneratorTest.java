@@ -0,0 +1,195 @@
+package com.allra.backend.global.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ✅ IdGeneratorTest
+ *
+ * 주문번호 생성기(TIME_ORDERED / MONOTONIC)가 여러 스레드에서 동시에 생성해도
+ * 중복이 없고, 스레드별로 단조 증가하며, 문자열 정렬이 숫자 순서와 같은지 검증합니다.
+ */
+public class IdGeneratorTest {
+
+    private static final int THREADS = 8;
+    private static final int IDS_PER_THREAD = 200_000;
+
+    /** 테스트용 수동 시계 */
+    private static final class ManualClock extends Clock {
+        private volatile long millis;
+
+        ManualClock(long millis) {
+            this.millis = millis;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+    }
+
+    private static IdGenerator create(IdGeneratorMode mode, long nodeId) {
+        return switch (mode) {
+            case TIME_ORDERED -> new SnowflakeIdGenerator(nodeId);
+            case MONOTONIC -> new MonotonicIdGenerator(nodeId);
+        };
+    }
+
+    @ParameterizedTest
+    @EnumSource(IdGeneratorMode.class)
+    @DisplayName("🟢 여러 스레드에서 동시에 생성해도 중복이 없고 스레드별로 단조 증가한다")
+    void concurrentIdsAreUnique(IdGeneratorMode mode) throws Exception {
+        // given
+        IdGenerator generator = create(mode, 7);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<long[]>> futures = new ArrayList<>();
+
+        // when
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                long[] ids = new long[IDS_PER_THREAD];
+                start.await();
+                for (int i = 0; i < IDS_PER_THREAD; i++) {
+                    ids[i] = generator.nextId();
+                }
+                return ids;
+            }));
+        }
+        start.countDown();
+
+        long[] all = new long[THREADS * IDS_PER_THREAD];
+        int offset = 0;
+        for (Future<long[]> future : futures) {
+            long[] ids = future.get();
+            for (int i = 1; i < ids.length; i++) {
+                assertThat(ids[i]).isGreaterThan(ids[i - 1]);
+            }
+            System.arraycopy(ids, 0, all, offset, ids.length);
+            offset += ids.length;
+        }
+        executor.shutdown();
+
+        // then
+        Arrays.sort(all);
+        for (int i = 1; i < all.length; i++) {
+            assertThat(all[i]).as("중복 ID").isNotEqualTo(all[i - 1]);
+        }
+        assertThat(all[0]).isPositive();
+    }
+
+    @ParameterizedTest
+    @EnumSource(IdGeneratorMode.class)
+    @DisplayName("🟢 노드가 다르면 같은 시각에 생성해도 ID 가 겹치지 않는다")
+    void differentNodesNeverCollide(IdGeneratorMode mode) {
+        // given
+        IdGenerator node1 = create(mode, 1);
+        IdGenerator node2 = create(mode, 2);
+
+        // when
+        long[] ids = new long[20_000];
+        for (int i = 0; i < ids.length; i += 2) {
+            ids[i] = node1.nextId();
+            ids[i + 1] = node2.nextId();
+        }
+
+        // then
+        assertThat(Arrays.stream(ids).distinct().count()).isEqualTo(ids.length);
+    }
+
+    @Test
+    @DisplayName("🟢 같은 ms 에 순번(4096)을 넘기거나 시계가 뒤로 가도 ID 는 계속 증가한다")
+    void timeOrderedSurvivesSequenceOverflowAndClockRollback() {
+        // given
+        ManualClock clock = new ManualClock(Instant.parse("2025-11-10T00:00:00Z").toEpochMilli());
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(3, clock);
+
+        // when - 같은 ms 에 10,000개
+        long previous = generator.nextId();
+        for (int i = 0; i < 10_000; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(previous);
+            previous = id;
+        }
+        // 순번 소진분만큼 시각이 앞당겨짐
+        assertThat(SnowflakeIdGenerator.timestampOf(previous)).isAfter(clock.instant());
+
+        // when - 시계가 1초 뒤로
+        clock.millis -= 1000;
+        long afterRollback = generator.nextId();
+
+        // then
+        assertThat(afterRollback).isGreaterThan(previous);
+    }
+
+    @Test
+    @DisplayName("🟢 TIME_ORDERED ID 에서 생성 시각을 복원할 수 있다")
+    void timeOrderedEmbedsTimestamp() {
+        // given
+        Instant now = Instant.parse("2025-11-10T00:32:47.171Z");
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(3, new ManualClock(now.toEpochMilli()));
+
+        // when
+        long id = generator.nextId();
+
+        // then
+        assertThat(SnowflakeIdGenerator.timestampOf(id)).isEqualTo(now);
+    }
+
+    @Test
+    @DisplayName("🟢 문자열 ID 는 고정 길이이고, 문자열 정렬 순서가 숫자 순서와 같으며 역변환된다")
+    void formattedIdsSortLikeNumbers() {
+        // given
+        IdGenerator generator = new SnowflakeIdGenerator(5);
+        long[] ids = {0L, 31L, 32L, generator.nextId(), generator.nextId(), Long.MAX_VALUE};
+
+        // when
+        List<String> formatted = Arrays.stream(ids).mapToObj(id -> IdFormat.format("ORD_", id)).toList();
+
+        // then
+        assertThat(formatted).allSatisfy(text -> assertThat(text).hasSize("ORD_".length() + 13));
+        assertThat(formatted).isSorted();
+        for (int i = 0; i < ids.length; i++) {
+            assertThat(IdFormat.parse("ORD_", formatted.get(i))).isEqualTo(ids[i]);
+        }
+        assertThat(generator.next("ORD_")).matches("ORD_[0-9A-HJKMNP-TV-Z]{13}");
+    }
+
+    @Test
+    @DisplayName("🔴 노드 ID 가 0 ~ 1023 범위를 벗어나면 생성할 수 없다")
+    void invalidNodeId() {
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(1024)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new MonotonicIdGenerator(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,164 @@
+package com.allra.backend.support;
+
+import com.allra.backend.domain.cart.entity.CartEntity;
+import com.allra.backend.domain.cart.entity.CartItemEntity;
+import com.allra.backend.domain.inventory.entity.StockReservationEntity;
+import com.allra.backend.domain.order.entity.OrderEntity;
+import com.allra.backend.domain.order.service.OrderService;
+import com.allra.backend.domain.payment.dto.PaymentResultDto;
+import com.allra.backend.domain.payment.service.PaymentService;
+import com.allra.backend.domain.product.entity.ProductEntity;
+import com.allra.backend.domain.user.entity.UserEntity;
+
+import jakarta.persistence.EntityManager;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ✅ CheckoutTestSupport
+ *
+ * 주문 생성(체크아웃) 통합 테스트 공통 픽스처입니다.
+ * - PG 호출(PaymentService)은 Mock 으로 대체하고, 주문 생성 요청에는 CREATED 로 응답
+ * - 상품 / 장바구니를 가진 사용자 생성, 상품 / 재고 예약 / 주문 조회 도우미
+ * - 테스트가 만든 상품 / 사용자와 연결된 행(예약, 분할 행, 주문, 장바구니)은 테스트마다 정리
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public abstract class CheckoutTestSupport {
+
+    @Autowired
+    protected OrderService orderService;
+
+    @Autowired
+    protected EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    protected PaymentService paymentService;
+
+    protected TransactionTemplate transactionTemplate;
+    private final List<Long> userIds = new CopyOnWriteArrayList<>();
+    private final List<Long> productIds = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    protected void setUpCheckout() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        when(paymentService.createOrder(any(), any(), anyInt(), any(OrderEntity.class)))
+                .thenReturn(Mono.just(PaymentResultDto.OrderCreateResponse.builder()
+                        .status("CREATED")
+                        .build()));
+    }
+
+    @AfterEach
+    protected void cleanUpCheckout() {
+        transactionTemplate.executeWithoutResult(status -> {
+            deleteIn("delete from StockReservationEntity r where r.product.id in :ids", productIds);
+            deleteIn("delete from ProductStockShardEntity s where s.product.id in :ids", productIds);
+            deleteIn("delete from OrderItemEntity i where i.product.id in :ids", productIds);
+            deleteIn("delete from OrderEntity o where o.user.id in :ids", userIds);
+            deleteIn("delete from CartItemEntity i where i.product.id in :ids", productIds);
+            deleteIn("delete from CartEntity c where c.user.id in :ids", userIds);
+            deleteIn("delete from ProductEntity p where p.id in :ids", productIds);
+            deleteIn("delete from UserEntity u where u.id in :ids", userIds);
+        });
+        userIds.clear();
+        productIds.clear();
+    }
+
+    /** 비어 있는 IN 목록은 건너뜀 */
+    private void deleteIn(String jpql, List<Long> ids) {
+        if (!ids.isEmpty()) {
+            entityManager.createQuery(jpql).setParameter("ids", ids).executeUpdate();
+        }
+    }
+
+    /** 재고 stock 개 상품 생성 */
+    protected Long givenProduct(String name, int stock) {
+        Long id = transactionTemplate.execute(status -> {
+            ProductEntity product = ProductEntity.builder()
+                    .name(name)
+                    .category("체크아웃테스트")
+                    .price(10000)
+                    .stock(stock)
+                    .soldOut(false)
+                    .createdAt(LocalDateTime.now())
+                    .build();
+            entityManager.persist(product);
+            return product.getId();
+        });
+        productIds.add(id);
+        return id;
+    }
+
+    /** 상품 quantity 개를 장바구니에 담은 사용자 생성 */
+    protected Long userWithCart(Long productId, int quantity) {
+        return userWithCart(Map.of(productId, quantity));
+    }
+
+    /** 상품 id → 수량을 장바구니에 담은 사용자 생성 */
+    protected Long userWithCart(Map<Long, Integer> items) {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            UserEntity user = UserEntity.builder()
+                    .name("체크아웃테스트")
+                    .email("checkout-" + System.nanoTime() + "@test.com")
+                    .createdAt(now)
+                    .build();
+            entityManager.persist(user);
+            userIds.add(user.getId());
+
+            CartEntity cart = CartEntity.builder().user(user).createdAt(now).build();
+            entityManager.persist(cart);
+            items.forEach((productId, quantity) -> entityManager.persist(CartItemEntity.builder()
+                    .cart(cart)
+                    .product(entityManager.getReference(ProductEntity.class, productId))
+                    .quantity(quantity)
+                    .build()));
+            return user.getId();
+        });
+    }
+
+    protected void checkout(Long userId) {
+        orderService.createOrder(userId).block(Duration.ofSeconds(30));
+    }
+
+    protected ProductEntity product(Long productId) {
+        return transactionTemplate.execute(status -> entityManager.find(ProductEntity.class, productId));
+    }
+
+    protected List<StockReservationEntity> reservations(Long productId) {
+        return transactionTemplate.execute(status -> entityManager
+                .createQuery("select r from StockReservationEntity r where r.product.id = :productId order by r.id",
+                        StockReservationEntity.class)
+                .setParameter("productId", productId)
+                .getResultList());
+    }
+
+    /** 사용자의 주문에 대해 트랜잭션 안에서 작업 실행 */
+    protected void withOrder(Long userId, Consumer<OrderEntity> work) {
+        transactionTemplate.executeWithoutResult(status -> work.accept(entityManager
+                .createQuery("select o from OrderEntity o where o.user.id = :userId", OrderEntity.class)
+                .setParameter("userId", userId)
+                .getSingleResult()));
+    }
+}